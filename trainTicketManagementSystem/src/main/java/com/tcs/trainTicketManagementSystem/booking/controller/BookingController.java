@@ -1,8 +1,12 @@
 package com.tcs.trainTicketManagementSystem.booking.controller;
 
 import com.tcs.trainTicketManagementSystem.booking.dto.*;
+import com.tcs.trainTicketManagementSystem.booking.exception.BookingValidationException;
 import com.tcs.trainTicketManagementSystem.booking.model.BookingStatus;
 import com.tcs.trainTicketManagementSystem.booking.service.BookingService;
+import com.tcs.trainTicketManagementSystem.booking.service.BookingWaitingRoom;
+import com.tcs.trainTicketManagementSystem.booking.service.GroupCommitBookingPipeline;
+import com.tcs.trainTicketManagementSystem.booking.service.IdempotencyService;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -10,10 +14,15 @@ import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDate;
 import java.util.List;
 
 /**
@@ -21,27 +30,57 @@ import java.util.List;
  */
 @RestController
 @RequestMapping("/api/v1/bookings")
-@CrossOrigin(origins = "*")
+@CrossOrigin(origins = "*", exposedHeaders = {"X-Next-Cursor", "X-Queue-Token", "X-Queue-Position", "Retry-After"})
 @Tag(name = "Booking Management", description = "APIs for managing bookings and passengers")
 public class BookingController {
 
     private static final Logger logger = LoggerFactory.getLogger(BookingController.class);
 
+    // Optional header that makes create, cancel and add-passenger safe to retry
+    private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
+    // Token of a create request queued by the waiting room, sent back when retrying
+    private static final String QUEUE_TOKEN_HEADER = "X-Queue-Token";
+
+    // Keyset pagination of booking lists
+    private static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    private static final String DEFAULT_PAGE_LIMIT = "50";
+
     @Autowired
     private BookingService bookingService;
 
+    @Autowired(required = false)
+    private GroupCommitBookingPipeline groupCommitPipeline;
+
+    @Autowired(required = false)
+    private BookingWaitingRoom waitingRoom;
+
+    @Autowired
+    private IdempotencyService idempotencyService;
+
     // Booking Endpoints
 
     /**
      * Create a new booking with passengers.
      */
     @PostMapping
-    @Operation(summary = "Create a new booking", description = "Creates a new booking with passengers for a train journey. Validates seat availability, user existence, and passenger details.")
-    public ResponseEntity<BookingResponse> createBooking(@Valid @RequestBody BookingRequest request) {
+    @Operation(summary = "Create a new booking", description = "Creates a new booking with passengers for a train journey. Validates seat availability, user existence, and passenger details. While the train is busy the request is answered with 429, a queue position and Retry-After; retry with the X-Queue-Token header.")
+    public ResponseEntity<BookingResponse> createBooking(
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+            @RequestHeader(value = QUEUE_TOKEN_HEADER, required = false) String queueToken,
+            @Valid @RequestBody BookingRequest request) {
         logger.info("Creating booking for user: {}, train: {}", request.getUserId(), request.getTrainId());
         
-        BookingResponse response = bookingService.createBooking(request);
-        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+        return idempotencyService.execute(idempotencyKey, "createBooking", request, BookingResponse.class, () -> {
+            // Replays of a completed request are answered without waiting in the queue
+            if (waitingRoom != null) {
+                waitingRoom.admit(request.getTrainId(), queueToken);
+            }
+            BookingResponse response = groupCommitPipeline != null
+                    ? groupCommitPipeline.createBooking(request)
+                    : bookingService.createBooking(request);
+            return ResponseEntity.status(HttpStatus.CREATED).body(response);
+        });
     }
 
     /**
@@ -60,31 +99,38 @@ public class BookingController {
      * Get all bookings.
      */
     @GetMapping
-    @Operation(summary = "Get all bookings", description = "Retrieves all bookings in the system with complete details including passengers.")
-    public ResponseEntity<List<BookingResponse>> getAllBookings() {
+    @Operation(summary = "Get all bookings", description = "Retrieves bookings with complete details including passengers, newest first, one keyset page at a time. Returns up to limit (default 50) bookings with nextCursor and hasMore; pass nextCursor (also sent as the X-Next-Cursor header) as the after parameter to get the next page. Sort by bookingDate or journeyDate, asc or desc.")
+    public ResponseEntity<BookingCursorPage> getAllBookings(
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = DEFAULT_PAGE_LIMIT) int limit,
+            @RequestParam(required = false) String sort) {
         logger.info("Getting all bookings");
         
-        List<BookingResponse> response = bookingService.getAllBookings();
-        return ResponseEntity.ok(response);
+        BookingCursorPage page = bookingService.getAllBookings(after, limit, sort);
+        return toCursorResponse(page);
     }
 
     /**
      * Get bookings by user ID.
      */
     @GetMapping("/user/{userId}")
-    @Operation(summary = "Get bookings by user ID", description = "Retrieves all bookings for a specific user with complete booking and passenger details.")
-    public ResponseEntity<List<BookingResponse>> getBookingsByUserId(@PathVariable Long userId) {
+    @Operation(summary = "Get bookings by user ID", description = "Retrieves bookings for a specific user with complete booking and passenger details, newest first, one keyset page at a time. Returns up to limit (default 50) bookings with nextCursor and hasMore; pass nextCursor (also sent as the X-Next-Cursor header) as the after parameter to get the next page.")
+    public ResponseEntity<BookingCursorPage> getBookingsByUserId(
+            @PathVariable Long userId,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = DEFAULT_PAGE_LIMIT) int limit,
+            @RequestParam(required = false) String sort) {
         logger.info("Getting bookings for user ID: {}", userId);
         
-        List<BookingResponse> response = bookingService.getBookingsByUserId(userId);
-        return ResponseEntity.ok(response);
+        BookingCursorPage page = bookingService.getBookingsByUserId(userId, after, limit, sort);
+        return toCursorResponse(page);
     }
 
     /**
      * Get bookings by user ID and status.
      */
     @GetMapping("/user/{userId}/status/{status}")
-    @Operation(summary = "Get bookings by user ID and status", description = "Retrieves bookings for a specific user filtered by booking status (CONFIRMED or CANCELLED).")
+    @Operation(summary = "Get bookings by user ID and status", description = "Retrieves bookings for a specific user filtered by booking status (CONFIRMED, WAITLISTED or CANCELLED).")
     public ResponseEntity<List<BookingResponse>> getBookingsByUserIdAndStatus(
             @PathVariable Long userId, @PathVariable String status) {
         logger.info("Getting bookings for user ID: {} with status: {}", userId, status);
@@ -98,24 +144,44 @@ public class BookingController {
      * Get upcoming bookings for a user.
      */
     @GetMapping("/user/{userId}/upcoming")
-    @Operation(summary = "Get upcoming bookings for user", description = "Retrieves all future bookings (journey date >= today) for a specific user.")
-    public ResponseEntity<List<BookingResponse>> getUpcomingBookingsByUserId(@PathVariable Long userId) {
+    @Operation(summary = "Get upcoming bookings for user", description = "Retrieves future bookings (journey date >= today) for a specific user, one keyset page at a time, earliest journey first. Returns up to limit (default 50) bookings with nextCursor and hasMore; pass nextCursor (also sent as the X-Next-Cursor header) as the after parameter to get the next page.")
+    public ResponseEntity<BookingCursorPage> getUpcomingBookingsByUserId(
+            @PathVariable Long userId,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = DEFAULT_PAGE_LIMIT) int limit,
+            @RequestParam(required = false) String sort) {
         logger.info("Getting upcoming bookings for user ID: {}", userId);
         
-        List<BookingResponse> response = bookingService.getUpcomingBookingsByUserId(userId);
-        return ResponseEntity.ok(response);
+        BookingCursorPage page = bookingService.getUpcomingBookingsByUserId(userId, after, limit, sort);
+        return toCursorResponse(page);
     }
 
     /**
      * Get past bookings for a user.
      */
     @GetMapping("/user/{userId}/past")
-    @Operation(summary = "Get past bookings for user", description = "Retrieves all past bookings (journey date < today) for a specific user.")
-    public ResponseEntity<List<BookingResponse>> getPastBookingsByUserId(@PathVariable Long userId) {
+    @Operation(summary = "Get past bookings for user", description = "Retrieves past bookings (journey date < today) for a specific user, one keyset page at a time, latest journey first. Returns up to limit (default 50) bookings with nextCursor and hasMore; pass nextCursor (also sent as the X-Next-Cursor header) as the after parameter to get the next page.")
+    public ResponseEntity<BookingCursorPage> getPastBookingsByUserId(
+            @PathVariable Long userId,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = DEFAULT_PAGE_LIMIT) int limit,
+            @RequestParam(required = false) String sort) {
         logger.info("Getting past bookings for user ID: {}", userId);
         
-        List<BookingResponse> response = bookingService.getPastBookingsByUserId(userId);
-        return ResponseEntity.ok(response);
+        BookingCursorPage page = bookingService.getPastBookingsByUserId(userId, after, limit, sort);
+        return toCursorResponse(page);
+    }
+
+    /**
+     * Get booking statistics for a user.
+     */
+    @GetMapping("/user/{userId}/statistics")
+    @Operation(summary = "Get booking statistics for user", description = "Returns the total, confirmed, cancelled, upcoming and past booking counts of a user.")
+    public ResponseEntity<BookingService.BookingStatistics> getBookingStatisticsByUserId(@PathVariable Long userId) {
+        logger.info("Getting booking statistics for user ID: {}", userId);
+        
+        BookingService.BookingStatistics statistics = bookingService.getBookingStatisticsByUserId(userId);
+        return ResponseEntity.ok(statistics);
     }
 
     /**
@@ -123,11 +189,13 @@ public class BookingController {
      */
     @PutMapping("/{bookingId}/cancel")
     @Operation(summary = "Cancel booking", description = "Cancels a booking and updates the status to CANCELLED. Automatically restores seat availability.")
-    public ResponseEntity<BookingResponse> cancelBooking(@PathVariable Long bookingId) {
+    public ResponseEntity<BookingResponse> cancelBooking(
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+            @PathVariable Long bookingId) {
         logger.info("Cancelling booking with ID: {}", bookingId);
         
-        BookingResponse response = bookingService.cancelBooking(bookingId);
-        return ResponseEntity.ok(response);
+        return idempotencyService.execute(idempotencyKey, "cancelBooking", bookingId, BookingResponse.class,
+                () -> ResponseEntity.ok(bookingService.cancelBooking(bookingId)));
     }
 
     /**
@@ -142,6 +210,67 @@ public class BookingController {
         return ResponseEntity.ok(exists);
     }
 
+    /**
+     * Get seats available for a fare type on a journey date.
+     */
+    @GetMapping("/availability")
+    @Operation(summary = "Get seat availability", description = "Returns the number of seats still available for a fare type on a specific journey date, optionally between two stations of the train's route and under a seat quota.")
+    public ResponseEntity<Integer> getAvailableSeats(
+            @RequestParam Long fareTypeId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate journeyDate,
+            @RequestParam(required = false) String from,
+            @RequestParam(required = false) String to,
+            @RequestParam(required = false) String quota) {
+        logger.info("Getting seat availability for fare type ID: {} on {} from {} to {} under quota {}", fareTypeId, journeyDate, from, to, quota);
+        
+        int availableSeats = from == null && to == null && quota == null
+                ? bookingService.getAvailableSeats(fareTypeId, journeyDate)
+                : bookingService.getAvailableSeats(fareTypeId, journeyDate, from, to, quota);
+        return ResponseEntity.ok(availableSeats);
+    }
+
+    /**
+     * Search bookings with various criteria.
+     */
+    @PostMapping("/search")
+    @Operation(summary = "Search bookings", description = "Searches bookings by user, train, fare type, status, route, train name, username, journey date and booking date ranges. Returns one page of results with the total number of matches.")
+    public ResponseEntity<BookingPageResponse> searchBookings(
+            @RequestBody BookingSearchRequest searchRequest,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        logger.info("Searching bookings, page: {}, size: {}", page, size);
+        
+        BookingPageResponse response = bookingService.searchBookings(searchRequest, page, size);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Export bookings booked in a date range as NDJSON or CSV.
+     */
+    @GetMapping("/export")
+    @Operation(summary = "Export bookings", description = "Streams every booking booked between from and to (inclusive) with one row per passenger, as NDJSON or CSV. Defaults to all bookings up to today.")
+    public ResponseEntity<StreamingResponseBody> exportBookings(
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        logger.info("Exporting bookings from {} to {} as {}", from, to, format);
+        
+        // Validate up front: once streaming starts the status line has already been sent
+        BookingExportFormat exportFormat = BookingExportFormat.fromValue(format);
+        LocalDate fromDate = from != null ? from : LocalDate.EPOCH;
+        LocalDate toDate = to != null ? to : LocalDate.now();
+        if (fromDate.isAfter(toDate)) {
+            throw new BookingValidationException("Export 'from' date must not be after 'to' date");
+        }
+
+        StreamingResponseBody body = outputStream -> bookingService.exportBookings(fromDate, toDate, exportFormat, outputStream);
+        String fileName = "bookings-" + fromDate + "-" + toDate + "." + exportFormat.getFileExtension();
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + "\"")
+                .body(body);
+    }
+
     // Passenger Endpoints
 
     /**
@@ -186,11 +315,13 @@ public class BookingController {
     @PostMapping("/{bookingId}/passengers")
     @Operation(summary = "Add passenger to booking", description = "Adds a new passenger to an existing booking. Validates passenger details and ensures booking is not cancelled.")
     public ResponseEntity<PassengerResponse> addPassengerToBooking(
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
             @PathVariable Long bookingId, @Valid @RequestBody PassengerRequest passengerRequest) {
         logger.info("Adding passenger to booking ID: {}", bookingId);
         
-        PassengerResponse response = bookingService.addPassengerToBooking(bookingId, passengerRequest);
-        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+        return idempotencyService.execute(idempotencyKey, "addPassengerToBooking:" + bookingId, passengerRequest,
+                PassengerResponse.class, () -> ResponseEntity.status(HttpStatus.CREATED)
+                        .body(bookingService.addPassengerToBooking(bookingId, passengerRequest)));
     }
 
     /**
@@ -229,4 +360,25 @@ public class BookingController {
         boolean exists = bookingService.existsPassengerByIdProof(idProof);
         return ResponseEntity.ok(exists);
     }
-} 
\ No newline at end of file
+
+    /**
+     * Get passenger statistics.
+     */
+    @GetMapping("/passengers/statistics")
+    @Operation(summary = "Get passenger statistics", description = "Returns the number of passengers by gender and their average age.")
+    public ResponseEntity<BookingService.PassengerStatistics> getPassengerStatistics() {
+        logger.info("Getting passenger statistics");
+        
+        BookingService.PassengerStatistics statistics = bookingService.getPassengerStatistics();
+        return ResponseEntity.ok(statistics);
+    }
+
+    // Helper Methods
+    private ResponseEntity<BookingCursorPage> toCursorResponse(BookingCursorPage page) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.getNextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, page.getNextCursor());
+        }
+        return response.body(page);
+    }
+}
@@ -0,0 +1,81 @@
+package com.tcs.trainTicketManagementSystem.booking.controller;
+
+import com.tcs.trainTicketManagementSystem.booking.dto.BookingResponse;
+import com.tcs.trainTicketManagementSystem.booking.dto.SeatHoldConfirmRequest;
+import com.tcs.trainTicketManagementSystem.booking.dto.SeatHoldRequest;
+import com.tcs.trainTicketManagementSystem.booking.dto.SeatHoldResponse;
+import com.tcs.trainTicketManagementSystem.booking.service.SeatHoldService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * REST Controller for two-phase seat holds.
+ */
+@RestController
+@RequestMapping("/api/v1/bookings/holds")
+@CrossOrigin(origins = "*")
+@Tag(name = "Seat Holds", description = "APIs for holding seats before confirming a booking")
+public class SeatHoldController {
+
+    private static final Logger logger = LoggerFactory.getLogger(SeatHoldController.class);
+
+    @Autowired
+    private SeatHoldService seatHoldService;
+
+    /**
+     * Hold seats for a short time.
+     */
+    @PostMapping
+    @Operation(summary = "Hold seats", description = "Reserves seats on a fare type and journey date for a short time. The hold must be confirmed before it expires.")
+    public ResponseEntity<SeatHoldResponse> createHold(@Valid @RequestBody SeatHoldRequest request) {
+        logger.info("Creating seat hold for user: {}, fare type: {}", request.getUserId(), request.getFareTypeId());
+        
+        SeatHoldResponse response = seatHoldService.createHold(request);
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
+    /**
+     * Get seat hold by ID.
+     */
+    @GetMapping("/{holdId}")
+    @Operation(summary = "Get seat hold by ID", description = "Retrieves a seat hold including its status and expiry time.")
+    public ResponseEntity<SeatHoldResponse> getHoldById(@PathVariable Long holdId) {
+        logger.info("Getting seat hold by ID: {}", holdId);
+        
+        SeatHoldResponse response = seatHoldService.getHoldById(holdId);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Confirm a seat hold into a booking.
+     */
+    @PostMapping("/{holdId}/confirm")
+    @Operation(summary = "Confirm seat hold", description = "Turns a live seat hold into a booking with one passenger per held seat.")
+    public ResponseEntity<BookingResponse> confirmHold(
+            @PathVariable Long holdId, @Valid @RequestBody SeatHoldConfirmRequest request) {
+        logger.info("Confirming seat hold with ID: {}", holdId);
+        
+        BookingResponse response = seatHoldService.confirmHold(holdId, request);
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
+    /**
+     * Release a seat hold.
+     */
+    @DeleteMapping("/{holdId}")
+    @Operation(summary = "Release seat hold", description = "Releases a live seat hold and returns its seats to inventory.")
+    public ResponseEntity<SeatHoldResponse> releaseHold(@PathVariable Long holdId) {
+        logger.info("Releasing seat hold with ID: {}", holdId);
+        
+        SeatHoldResponse response = seatHoldService.releaseHold(holdId);
+        return ResponseEntity.ok(response);
+    }
+}
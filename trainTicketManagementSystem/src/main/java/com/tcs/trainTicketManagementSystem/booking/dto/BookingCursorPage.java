@@ -0,0 +1,51 @@
+package com.tcs.trainTicketManagementSystem.booking.dto;
+
+import java.util.List;
+
+/**
+ * DTO for one keyset page of bookings and the cursor of the next page (null on the last page).
+ * The cursor is also sent as the X-Next-Cursor header.
+ */
+public class BookingCursorPage {
+
+    private List<BookingResponse> content;
+    private String nextCursor;
+
+    // Default constructor
+    public BookingCursorPage() {}
+
+    // Constructor with fields
+    public BookingCursorPage(List<BookingResponse> content, String nextCursor) {
+        this.content = content;
+        this.nextCursor = nextCursor;
+    }
+
+    // Getters and Setters
+    public List<BookingResponse> getContent() {
+        return content;
+    }
+
+    public void setContent(List<BookingResponse> content) {
+        this.content = content;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+
+    public boolean isHasMore() {
+        return nextCursor != null;
+    }
+
+    @Override
+    public String toString() {
+        return "BookingCursorPage{" +
+                "size=" + (content != null ? content.size() : 0) +
+                ", nextCursor=" + nextCursor +
+                '}';
+    }
+}
@@ -0,0 +1,36 @@
+package com.tcs.trainTicketManagementSystem.booking.dto;
+
+import com.tcs.trainTicketManagementSystem.booking.exception.BookingValidationException;
+
+/**
+ * Enum representing the supported booking export formats.
+ */
+public enum BookingExportFormat {
+    NDJSON("application/x-ndjson", "ndjson"),
+    CSV("text/csv", "csv");
+
+    private final String contentType;
+    private final String fileExtension;
+
+    BookingExportFormat(String contentType, String fileExtension) {
+        this.contentType = contentType;
+        this.fileExtension = fileExtension;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getFileExtension() {
+        return fileExtension;
+    }
+
+    public static BookingExportFormat fromValue(String value) {
+        for (BookingExportFormat format : values()) {
+            if (format.name().equalsIgnoreCase(value)) {
+                return format;
+            }
+        }
+        throw new BookingValidationException("Unsupported export format: " + value + ". Supported formats: ndjson, csv");
+    }
+}
@@ -0,0 +1,216 @@
+package com.tcs.trainTicketManagementSystem.booking.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import com.tcs.trainTicketManagementSystem.booking.model.BookingStatus;
+import com.tcs.trainTicketManagementSystem.train.model.ClassType;
+
+/**
+ * DTO for one flat row of the booking export: a booking joined with one of its passengers.
+ * Bookings without passengers are exported as a single row with empty passenger columns.
+ */
+public class BookingExportRow {
+
+    private Long bookingId;
+    private LocalDate bookingDate;
+    private LocalDate journeyDate;
+    private BookingStatus status;
+    private BigDecimal totalFare;
+    private Long userId;
+    private String username;
+    private Long trainId;
+    private String trainName;
+    private String source;
+    private String destination;
+    private Long fareTypeId;
+    private ClassType classType;
+    private BigDecimal price;
+    private Long passengerId;
+    private String passengerName;
+    private Integer passengerAge;
+    private String passengerGender;
+
+    // Default constructor
+    public BookingExportRow() {}
+
+    // Constructor with fields (used by the JPQL constructor expression)
+    public BookingExportRow(Long bookingId, LocalDate bookingDate, LocalDate journeyDate, BookingStatus status,
+            BigDecimal totalFare, Long userId, String username, Long trainId, String trainName, String source,
+            String destination, Long fareTypeId, ClassType classType, BigDecimal price, Long passengerId,
+            String passengerName, Integer passengerAge, String passengerGender) {
+        this.bookingId = bookingId;
+        this.bookingDate = bookingDate;
+        this.journeyDate = journeyDate;
+        this.status = status;
+        this.totalFare = totalFare;
+        this.userId = userId;
+        this.username = username;
+        this.trainId = trainId;
+        this.trainName = trainName;
+        this.source = source;
+        this.destination = destination;
+        this.fareTypeId = fareTypeId;
+        this.classType = classType;
+        this.price = price;
+        this.passengerId = passengerId;
+        this.passengerName = passengerName;
+        this.passengerAge = passengerAge;
+        this.passengerGender = passengerGender;
+    }
+
+    // Getters and Setters
+    public Long getBookingId() {
+        return bookingId;
+    }
+
+    public void setBookingId(Long bookingId) {
+        this.bookingId = bookingId;
+    }
+
+    public LocalDate getBookingDate() {
+        return bookingDate;
+    }
+
+    public void setBookingDate(LocalDate bookingDate) {
+        this.bookingDate = bookingDate;
+    }
+
+    public LocalDate getJourneyDate() {
+        return journeyDate;
+    }
+
+    public void setJourneyDate(LocalDate journeyDate) {
+        this.journeyDate = journeyDate;
+    }
+
+    public BookingStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(BookingStatus status) {
+        this.status = status;
+    }
+
+    public BigDecimal getTotalFare() {
+        return totalFare;
+    }
+
+    public void setTotalFare(BigDecimal totalFare) {
+        this.totalFare = totalFare;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public void setUsername(String username) {
+        this.username = username;
+    }
+
+    public Long getTrainId() {
+        return trainId;
+    }
+
+    public void setTrainId(Long trainId) {
+        this.trainId = trainId;
+    }
+
+    public String getTrainName() {
+        return trainName;
+    }
+
+    public void setTrainName(String trainName) {
+        this.trainName = trainName;
+    }
+
+    public String getSource() {
+        return source;
+    }
+
+    public void setSource(String source) {
+        this.source = source;
+    }
+
+    public String getDestination() {
+        return destination;
+    }
+
+    public void setDestination(String destination) {
+        this.destination = destination;
+    }
+
+    public Long getFareTypeId() {
+        return fareTypeId;
+    }
+
+    public void setFareTypeId(Long fareTypeId) {
+        this.fareTypeId = fareTypeId;
+    }
+
+    public ClassType getClassType() {
+        return classType;
+    }
+
+    public void setClassType(ClassType classType) {
+        this.classType = classType;
+    }
+
+    public BigDecimal getPrice() {
+        return price;
+    }
+
+    public void setPrice(BigDecimal price) {
+        this.price = price;
+    }
+
+    public Long getPassengerId() {
+        return passengerId;
+    }
+
+    public void setPassengerId(Long passengerId) {
+        this.passengerId = passengerId;
+    }
+
+    public String getPassengerName() {
+        return passengerName;
+    }
+
+    public void setPassengerName(String passengerName) {
+        this.passengerName = passengerName;
+    }
+
+    public Integer getPassengerAge() {
+        return passengerAge;
+    }
+
+    public void setPassengerAge(Integer passengerAge) {
+        this.passengerAge = passengerAge;
+    }
+
+    public String getPassengerGender() {
+        return passengerGender;
+    }
+
+    public void setPassengerGender(String passengerGender) {
+        this.passengerGender = passengerGender;
+    }
+
+    @Override
+    public String toString() {
+        return "BookingExportRow{" +
+                "bookingId=" + bookingId +
+                ", passengerId=" + passengerId +
+                ", bookingDate=" + bookingDate +
+                ", status=" + status +
+                '}';
+    }
+}
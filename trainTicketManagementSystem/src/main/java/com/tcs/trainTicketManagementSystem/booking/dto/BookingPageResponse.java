@@ -0,0 +1,78 @@
+package com.tcs.trainTicketManagementSystem.booking.dto;
+
+import java.util.List;
+
+/**
+ * DTO for one page of bookings with the total number of matches.
+ */
+public class BookingPageResponse {
+
+    private List<BookingResponse> content;
+    private int page;
+    private int size;
+    private long totalElements;
+    private int totalPages;
+
+    // Default constructor
+    public BookingPageResponse() {}
+
+    // Constructor with fields
+    public BookingPageResponse(List<BookingResponse> content, int page, int size, long totalElements, int totalPages) {
+        this.content = content;
+        this.page = page;
+        this.size = size;
+        this.totalElements = totalElements;
+        this.totalPages = totalPages;
+    }
+
+    // Getters and Setters
+    public List<BookingResponse> getContent() {
+        return content;
+    }
+
+    public void setContent(List<BookingResponse> content) {
+        this.content = content;
+    }
+
+    public int getPage() {
+        return page;
+    }
+
+    public void setPage(int page) {
+        this.page = page;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public void setSize(int size) {
+        this.size = size;
+    }
+
+    public long getTotalElements() {
+        return totalElements;
+    }
+
+    public void setTotalElements(long totalElements) {
+        this.totalElements = totalElements;
+    }
+
+    public int getTotalPages() {
+        return totalPages;
+    }
+
+    public void setTotalPages(int totalPages) {
+        this.totalPages = totalPages;
+    }
+
+    @Override
+    public String toString() {
+        return "BookingPageResponse{" +
+                "page=" + page +
+                ", size=" + size +
+                ", totalElements=" + totalElements +
+                ", totalPages=" + totalPages +
+                '}';
+    }
+}
@@ -36,6 +36,17 @@ public class BookingRequest {
     @Size(max = 10, message = "Maximum 10 passengers allowed per booking")
     private List<PassengerRequest> passengers;
 
+    // Optional stops for a part-route journey (the train's source and destination when omitted)
+    @Size(max = 100, message = "Boarding station cannot exceed 100 characters")
+    private String boardingStation;
+
+    @Size(max = 100, message = "Alighting station cannot exceed 100 characters")
+    private String alightingStation;
+
+    // Optional quota the seats are booked under (GENERAL when omitted)
+    @Pattern(regexp = "^(GENERAL|TATKAL|LADIES|SENIOR)$", message = "Quota must be GENERAL, TATKAL, LADIES or SENIOR")
+    private String quota;
+
     // Default constructor
     public BookingRequest() {}
 
@@ -98,6 +109,30 @@ public class BookingRequest {
         this.passengers = passengers;
     }
 
+    public String getBoardingStation() {
+        return boardingStation;
+    }
+
+    public void setBoardingStation(String boardingStation) {
+        this.boardingStation = boardingStation;
+    }
+
+    public String getAlightingStation() {
+        return alightingStation;
+    }
+
+    public void setAlightingStation(String alightingStation) {
+        this.alightingStation = alightingStation;
+    }
+
+    public String getQuota() {
+        return quota;
+    }
+
+    public void setQuota(String quota) {
+        this.quota = quota;
+    }
+
     @Override
     public String toString() {
         return "BookingRequest{" +
@@ -106,6 +141,9 @@ public class BookingRequest {
                 ", fareTypeId=" + fareTypeId +
                 ", journeyDate=" + journeyDate +
                 ", totalFare=" + totalFare +
+                ", boardingStation='" + boardingStation + '\'' +
+                ", alightingStation='" + alightingStation + '\'' +
+                ", quota='" + quota + '\'' +
                 ", passengers=" + passengers +
                 '}';
     }
@@ -25,6 +25,9 @@ public class BookingResponse {
     private LocalDate bookingDate;
     private BigDecimal totalFare;
     private String status;
+    private Integer fromStop;
+    private Integer toStop;
+    private String quota;
     private List<PassengerResponse> passengers;
 
     // Default constructor
@@ -183,6 +186,22 @@ public class BookingResponse {
         this.status = status;
     }
 
+    public Integer getFromStop() {
+        return fromStop;
+    }
+
+    public void setFromStop(Integer fromStop) {
+        this.fromStop = fromStop;
+    }
+
+    public Integer getToStop() {
+        return toStop;
+    }
+
+    public void setToStop(Integer toStop) {
+        this.toStop = toStop;
+    }
+
     public List<PassengerResponse> getPassengers() {
         return passengers;
     }
@@ -191,6 +210,14 @@ public class BookingResponse {
         this.passengers = passengers;
     }
 
+    public String getQuota() {
+        return quota;
+    }
+
+    public void setQuota(String quota) {
+        this.quota = quota;
+    }
+
     @Override
     public String toString() {
         return "BookingResponse{" +
@@ -210,6 +237,9 @@ public class BookingResponse {
                 ", bookingDate=" + bookingDate +
                 ", totalFare=" + totalFare +
                 ", status='" + status + '\'' +
+                ", fromStop=" + fromStop +
+                ", toStop=" + toStop +
+                ", quota='" + quota + '\'' +
                 ", passengers=" + passengers +
                 '}';
     }
@@ -25,6 +25,9 @@ public class PassengerRequest {
     @Pattern(regexp = "^[0-9]{12}$", message = "Aadhar card number must be exactly 12 digits")
     private String idProof; // Aadhar card number (12 digits)
 
+    @Pattern(regexp = "^(LOWER|UPPER|WINDOW)$", message = "Berth preference must be LOWER, UPPER, or WINDOW")
+    private String berthPreference; // Optional, honoured when a matching berth is free
+
     // Default constructor
     public PassengerRequest() {}
 
@@ -69,6 +72,14 @@ public class PassengerRequest {
         this.idProof = idProof;
     }
 
+    public String getBerthPreference() {
+        return berthPreference;
+    }
+
+    public void setBerthPreference(String berthPreference) {
+        this.berthPreference = berthPreference;
+    }
+
     @Override
     public String toString() {
         return "PassengerRequest{" +
@@ -76,6 +87,7 @@ public class PassengerRequest {
                 ", age=" + age +
                 ", gender='" + gender + '\'' +
                 ", idProof='" + idProof + '\'' +
+                ", berthPreference='" + berthPreference + '\'' +
                 '}';
     }
 } 
\ No newline at end of file
@@ -1,5 +1,7 @@
 package com.tcs.trainTicketManagementSystem.booking.dto;
 
+import com.tcs.trainTicketManagementSystem.train.model.BerthType;
+
 /**
  * DTO for passenger information in responses.
  */
@@ -11,18 +13,27 @@ public class PassengerResponse {
     private Integer age;
     private String gender;
     private String idProof;
+    private Integer seatNumber;
+    private String coach;
+    private Integer berthNumber;
+    private String berthType;
 
     // Default constructor
     public PassengerResponse() {}
 
     // Constructor with fields
-    public PassengerResponse(Long passengerId, Long bookingId, String name, Integer age, String gender, String idProof) {
+    public PassengerResponse(Long passengerId, Long bookingId, String name, Integer age, String gender, String idProof,
+                             Integer seatNumber, String coach, Integer berthNumber, BerthType berthType) {
         this.passengerId = passengerId;
         this.bookingId = bookingId;
         this.name = name;
         this.age = age;
         this.gender = gender;
         this.idProof = idProof;
+        this.seatNumber = seatNumber;
+        this.coach = coach;
+        this.berthNumber = berthNumber;
+        this.berthType = berthType != null ? berthType.name() : null;
     }
 
     // Getters and Setters
@@ -74,6 +85,38 @@ public class PassengerResponse {
         this.idProof = idProof;
     }
 
+    public Integer getSeatNumber() {
+        return seatNumber;
+    }
+
+    public void setSeatNumber(Integer seatNumber) {
+        this.seatNumber = seatNumber;
+    }
+
+    public String getCoach() {
+        return coach;
+    }
+
+    public void setCoach(String coach) {
+        this.coach = coach;
+    }
+
+    public Integer getBerthNumber() {
+        return berthNumber;
+    }
+
+    public void setBerthNumber(Integer berthNumber) {
+        this.berthNumber = berthNumber;
+    }
+
+    public String getBerthType() {
+        return berthType;
+    }
+
+    public void setBerthType(String berthType) {
+        this.berthType = berthType;
+    }
+
     @Override
     public String toString() {
         return "PassengerResponse{" +
@@ -83,6 +126,10 @@ public class PassengerResponse {
                 ", age=" + age +
                 ", gender='" + gender + '\'' +
                 ", idProof='" + idProof + '\'' +
+                ", seatNumber=" + seatNumber +
+                ", coach='" + coach + '\'' +
+                ", berthNumber=" + berthNumber +
+                ", berthType='" + berthType + '\'' +
                 '}';
     }
 } 
\ No newline at end of file
@@ -0,0 +1,49 @@
+package com.tcs.trainTicketManagementSystem.booking.dto;
+
+import jakarta.validation.constraints.*;
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * DTO for confirming a seat hold into a booking.
+ */
+public class SeatHoldConfirmRequest {
+
+    @NotNull(message = "Total fare is required")
+    @DecimalMin(value = "0.01", message = "Total fare must be at least 0.01")
+    @DecimalMax(value = "999999.99", message = "Total fare cannot exceed 999999.99")
+    @Digits(integer = 8, fraction = 2, message = "Total fare must have at most 8 digits before decimal and 2 after")
+    private BigDecimal totalFare;
+
+    @NotEmpty(message = "At least one passenger is required")
+    @Size(max = 10, message = "Maximum 10 passengers allowed per booking")
+    private List<PassengerRequest> passengers;
+
+    // Default constructor
+    public SeatHoldConfirmRequest() {}
+
+    // Getters and Setters
+    public BigDecimal getTotalFare() {
+        return totalFare;
+    }
+
+    public void setTotalFare(BigDecimal totalFare) {
+        this.totalFare = totalFare;
+    }
+
+    public List<PassengerRequest> getPassengers() {
+        return passengers;
+    }
+
+    public void setPassengers(List<PassengerRequest> passengers) {
+        this.passengers = passengers;
+    }
+
+    @Override
+    public String toString() {
+        return "SeatHoldConfirmRequest{" +
+                "totalFare=" + totalFare +
+                ", passengers=" + passengers +
+                '}';
+    }
+}
@@ -0,0 +1,86 @@
+package com.tcs.trainTicketManagementSystem.booking.dto;
+
+import jakarta.validation.constraints.*;
+import java.time.LocalDate;
+
+/**
+ * DTO for holding seats ahead of a booking.
+ */
+public class SeatHoldRequest {
+
+    @NotNull(message = "User ID is required")
+    @Min(value = 1, message = "User ID must be a positive number")
+    private Long userId;
+
+    @NotNull(message = "Train ID is required")
+    @Min(value = 1, message = "Train ID must be a positive number")
+    private Long trainId;
+
+    @NotNull(message = "Fare type ID is required")
+    @Min(value = 1, message = "Fare type ID must be a positive number")
+    private Long fareTypeId;
+
+    @NotNull(message = "Journey date is required")
+    @Future(message = "Journey date must be in the future")
+    private LocalDate journeyDate;
+
+    @NotNull(message = "Number of seats is required")
+    @Min(value = 1, message = "At least one seat must be held")
+    @Max(value = 10, message = "Maximum 10 seats can be held")
+    private Integer seats;
+
+    // Default constructor
+    public SeatHoldRequest() {}
+
+    // Getters and Setters
+    public Long getUserId() {
+        return userId;
+    }
+
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+
+    public Long getTrainId() {
+        return trainId;
+    }
+
+    public void setTrainId(Long trainId) {
+        this.trainId = trainId;
+    }
+
+    public Long getFareTypeId() {
+        return fareTypeId;
+    }
+
+    public void setFareTypeId(Long fareTypeId) {
+        this.fareTypeId = fareTypeId;
+    }
+
+    public LocalDate getJourneyDate() {
+        return journeyDate;
+    }
+
+    public void setJourneyDate(LocalDate journeyDate) {
+        this.journeyDate = journeyDate;
+    }
+
+    public Integer getSeats() {
+        return seats;
+    }
+
+    public void setSeats(Integer seats) {
+        this.seats = seats;
+    }
+
+    @Override
+    public String toString() {
+        return "SeatHoldRequest{" +
+                "userId=" + userId +
+                ", trainId=" + trainId +
+                ", fareTypeId=" + fareTypeId +
+                ", journeyDate=" + journeyDate +
+                ", seats=" + seats +
+                '}';
+    }
+}
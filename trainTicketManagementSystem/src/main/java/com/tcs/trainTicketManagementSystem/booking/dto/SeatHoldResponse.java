@@ -0,0 +1,136 @@
+package com.tcs.trainTicketManagementSystem.booking.dto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * DTO for seat hold information in responses.
+ */
+public class SeatHoldResponse {
+
+    private Long holdId;
+    private Long userId;
+    private Long trainId;
+    private Long fareTypeId;
+    private LocalDate journeyDate;
+    private Integer seats;
+    private String status;
+    private LocalDateTime createdAt;
+    private LocalDateTime expiresAt;
+    private Long bookingId;
+
+    // Default constructor
+    public SeatHoldResponse() {}
+
+    // Constructor with fields
+    public SeatHoldResponse(Long holdId, Long userId, Long trainId, Long fareTypeId, LocalDate journeyDate, Integer seats,
+                            String status, LocalDateTime createdAt, LocalDateTime expiresAt, Long bookingId) {
+        this.holdId = holdId;
+        this.userId = userId;
+        this.trainId = trainId;
+        this.fareTypeId = fareTypeId;
+        this.journeyDate = journeyDate;
+        this.seats = seats;
+        this.status = status;
+        this.createdAt = createdAt;
+        this.expiresAt = expiresAt;
+        this.bookingId = bookingId;
+    }
+
+    // Getters and Setters
+    public Long getHoldId() {
+        return holdId;
+    }
+
+    public void setHoldId(Long holdId) {
+        this.holdId = holdId;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+
+    public Long getTrainId() {
+        return trainId;
+    }
+
+    public void setTrainId(Long trainId) {
+        this.trainId = trainId;
+    }
+
+    public Long getFareTypeId() {
+        return fareTypeId;
+    }
+
+    public void setFareTypeId(Long fareTypeId) {
+        this.fareTypeId = fareTypeId;
+    }
+
+    public LocalDate getJourneyDate() {
+        return journeyDate;
+    }
+
+    public void setJourneyDate(LocalDate journeyDate) {
+        this.journeyDate = journeyDate;
+    }
+
+    public Integer getSeats() {
+        return seats;
+    }
+
+    public void setSeats(Integer seats) {
+        this.seats = seats;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public LocalDateTime getExpiresAt() {
+        return expiresAt;
+    }
+
+    public void setExpiresAt(LocalDateTime expiresAt) {
+        this.expiresAt = expiresAt;
+    }
+
+    public Long getBookingId() {
+        return bookingId;
+    }
+
+    public void setBookingId(Long bookingId) {
+        this.bookingId = bookingId;
+    }
+
+    @Override
+    public String toString() {
+        return "SeatHoldResponse{" +
+                "holdId=" + holdId +
+                ", userId=" + userId +
+                ", trainId=" + trainId +
+                ", fareTypeId=" + fareTypeId +
+                ", journeyDate=" + journeyDate +
+                ", seats=" + seats +
+                ", status=" + status +
+                ", createdAt=" + createdAt +
+                ", expiresAt=" + expiresAt +
+                ", bookingId=" + bookingId +
+                '}';
+    }
+}
@@ -0,0 +1,31 @@
+package com.tcs.trainTicketManagementSystem.booking.exception;
+
+/**
+ * Exception thrown when a booking request is not admitted yet because its train is busy.
+ * Carries the queue token to retry with (null when the waiting room is full) and the seconds to wait.
+ */
+public class BookingQueuedException extends RuntimeException {
+
+    private final String queueToken;
+    private final long position;
+    private final long retryAfterSeconds;
+
+    public BookingQueuedException(String message, String queueToken, long position, long retryAfterSeconds) {
+        super(message);
+        this.queueToken = queueToken;
+        this.position = position;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public String getQueueToken() {
+        return queueToken;
+    }
+
+    public long getPosition() {
+        return position;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,15 @@
+package com.tcs.trainTicketManagementSystem.booking.exception;
+
+/**
+ * Exception thrown when an idempotency key is reused with a different request.
+ */
+public class IdempotencyKeyMismatchException extends RuntimeException {
+
+    public IdempotencyKeyMismatchException(String message) {
+        super(message);
+    }
+
+    public IdempotencyKeyMismatchException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,15 @@
+package com.tcs.trainTicketManagementSystem.booking.exception;
+
+/**
+ * Exception thrown when a seat hold is not found.
+ */
+public class SeatHoldNotFoundException extends RuntimeException {
+
+    public SeatHoldNotFoundException(String message) {
+        super(message);
+    }
+
+    public SeatHoldNotFoundException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
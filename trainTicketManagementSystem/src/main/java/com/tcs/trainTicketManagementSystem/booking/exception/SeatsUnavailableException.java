@@ -0,0 +1,11 @@
+package com.tcs.trainTicketManagementSystem.booking.exception;
+
+/**
+ * Exception thrown when not enough seats are left for a booking.
+ */
+public class SeatsUnavailableException extends BookingValidationException {
+
+    public SeatsUnavailableException(String message) {
+        super(message);
+    }
+}
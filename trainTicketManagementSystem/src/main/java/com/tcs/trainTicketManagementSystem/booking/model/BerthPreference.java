@@ -0,0 +1,21 @@
+package com.tcs.trainTicketManagementSystem.booking.model;
+
+import com.tcs.trainTicketManagementSystem.train.model.BerthType;
+
+/**
+ * Enum representing the berth a passenger would like; side berths run along the window.
+ */
+public enum BerthPreference {
+    LOWER,
+    UPPER,
+    WINDOW;
+
+    public boolean matches(BerthType berthType) {
+        return switch (this) {
+            case LOWER -> berthType == BerthType.LOWER || berthType == BerthType.SIDE_LOWER;
+            case UPPER -> berthType == BerthType.UPPER || berthType == BerthType.SIDE_UPPER;
+            case WINDOW -> berthType == BerthType.WINDOW || berthType == BerthType.SIDE_LOWER
+                    || berthType == BerthType.SIDE_UPPER;
+        };
+    }
+}
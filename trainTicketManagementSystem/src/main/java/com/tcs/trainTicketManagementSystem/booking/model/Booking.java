@@ -45,6 +45,17 @@ public class Booking {
     @Column(name = "status", length = 15)
     private BookingStatus status = BookingStatus.CONFIRMED;
 
+    // Boarding and alighting stop sequences of a part-route journey (null when the whole route is booked)
+    @Column(name = "from_stop")
+    private Integer fromStop;
+
+    @Column(name = "to_stop")
+    private Integer toStop;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "quota", nullable = false, length = 10)
+    private Quota quota = Quota.GENERAL;
+
     // Relationship with passengers
     @OneToMany(mappedBy = "booking", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     private List<Passenger> passengers;
@@ -130,6 +141,34 @@ public class Booking {
         this.status = status;
     }
 
+    public Integer getFromStop() {
+        return fromStop;
+    }
+
+    public void setFromStop(Integer fromStop) {
+        this.fromStop = fromStop;
+    }
+
+    public Integer getToStop() {
+        return toStop;
+    }
+
+    public void setToStop(Integer toStop) {
+        this.toStop = toStop;
+    }
+
+    public Quota getQuota() {
+        return quota;
+    }
+
+    public void setQuota(Quota quota) {
+        this.quota = quota;
+    }
+
+    public boolean isPartRoute() {
+        return fromStop != null;
+    }
+
     public List<Passenger> getPassengers() {
         return passengers;
     }
@@ -149,6 +188,9 @@ public class Booking {
                 ", bookingDate=" + bookingDate +
                 ", totalFare=" + totalFare +
                 ", status=" + status +
+                ", fromStop=" + fromStop +
+                ", toStop=" + toStop +
+                ", quota=" + quota +
                 '}';
     }
 } 
\ No newline at end of file
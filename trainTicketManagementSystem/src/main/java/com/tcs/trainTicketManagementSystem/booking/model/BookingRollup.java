@@ -0,0 +1,113 @@
+package com.tcs.trainTicketManagementSystem.booking.model;
+
+import jakarta.persistence.*;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Entity representing the bookings of one fare type made on one day with one status, pre-aggregated for reports.
+ * Rows are only ever adjusted by deltas of committed booking changes, so a report over a date range merges
+ * a few rows per day instead of scanning bookings.
+ */
+@Entity
+@Table(name = "booking_rollup",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"bucket_date", "fare_type_id", "status"}))
+public class BookingRollup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "rollup_id")
+    private Long rollupId;
+
+    @Column(name = "bucket_date", nullable = false)
+    private LocalDate bucketDate;
+
+    @Column(name = "fare_type_id", nullable = false)
+    private Long fareTypeId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 15)
+    private BookingStatus status;
+
+    @Column(name = "bookings", nullable = false)
+    private Integer bookings;
+
+    @Column(name = "passengers", nullable = false)
+    private Integer passengers;
+
+    @Column(name = "total_fare", nullable = false, precision = 14, scale = 2)
+    private BigDecimal totalFare;
+
+    // Default constructor
+    public BookingRollup() {}
+
+    // Getters and Setters
+    public Long getRollupId() {
+        return rollupId;
+    }
+
+    public void setRollupId(Long rollupId) {
+        this.rollupId = rollupId;
+    }
+
+    public LocalDate getBucketDate() {
+        return bucketDate;
+    }
+
+    public void setBucketDate(LocalDate bucketDate) {
+        this.bucketDate = bucketDate;
+    }
+
+    public Long getFareTypeId() {
+        return fareTypeId;
+    }
+
+    public void setFareTypeId(Long fareTypeId) {
+        this.fareTypeId = fareTypeId;
+    }
+
+    public BookingStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(BookingStatus status) {
+        this.status = status;
+    }
+
+    public Integer getBookings() {
+        return bookings;
+    }
+
+    public void setBookings(Integer bookings) {
+        this.bookings = bookings;
+    }
+
+    public Integer getPassengers() {
+        return passengers;
+    }
+
+    public void setPassengers(Integer passengers) {
+        this.passengers = passengers;
+    }
+
+    public BigDecimal getTotalFare() {
+        return totalFare;
+    }
+
+    public void setTotalFare(BigDecimal totalFare) {
+        this.totalFare = totalFare;
+    }
+
+    @Override
+    public String toString() {
+        return "BookingRollup{" +
+                "rollupId=" + rollupId +
+                ", bucketDate=" + bucketDate +
+                ", fareTypeId=" + fareTypeId +
+                ", status=" + status +
+                ", bookings=" + bookings +
+                ", passengers=" + passengers +
+                ", totalFare=" + totalFare +
+                '}';
+    }
+}
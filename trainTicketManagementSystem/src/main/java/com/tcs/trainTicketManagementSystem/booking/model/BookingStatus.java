@@ -5,5 +5,6 @@ package com.tcs.trainTicketManagementSystem.booking.model;
  */
 public enum BookingStatus {
     CONFIRMED,
+    WAITLISTED,
     CANCELLED
 } 
\ No newline at end of file
@@ -0,0 +1,11 @@
+package com.tcs.trainTicketManagementSystem.booking.model;
+
+/**
+ * Enum representing the status of a seat hold.
+ */
+public enum HoldStatus {
+    HELD,
+    CONFIRMED,
+    RELEASED,
+    EXPIRED
+}
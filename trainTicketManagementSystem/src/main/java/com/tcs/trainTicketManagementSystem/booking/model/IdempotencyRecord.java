@@ -0,0 +1,95 @@
+package com.tcs.trainTicketManagementSystem.booking.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * Entity storing the response of a write request made with an Idempotency-Key header.
+ */
+@Entity
+@Table(name = "idempotency_record")
+public class IdempotencyRecord {
+
+    @Id
+    @Column(name = "idempotency_key", length = 100)
+    private String idempotencyKey;
+
+    // SHA-256 of the operation and request body the key was first used with
+    @Column(name = "request_hash", nullable = false, length = 64)
+    private String requestHash;
+
+    @Column(name = "http_status", nullable = false)
+    private Integer httpStatus;
+
+    @Lob
+    @Column(name = "response_body")
+    private String responseBody;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    // Default constructor
+    public IdempotencyRecord() {
+        this.createdAt = LocalDateTime.now();
+    }
+
+    // Constructor with required fields
+    public IdempotencyRecord(String idempotencyKey, String requestHash, Integer httpStatus, String responseBody) {
+        this();
+        this.idempotencyKey = idempotencyKey;
+        this.requestHash = requestHash;
+        this.httpStatus = httpStatus;
+        this.responseBody = responseBody;
+    }
+
+    // Getters and Setters
+    public String getIdempotencyKey() {
+        return idempotencyKey;
+    }
+
+    public void setIdempotencyKey(String idempotencyKey) {
+        this.idempotencyKey = idempotencyKey;
+    }
+
+    public String getRequestHash() {
+        return requestHash;
+    }
+
+    public void setRequestHash(String requestHash) {
+        this.requestHash = requestHash;
+    }
+
+    public Integer getHttpStatus() {
+        return httpStatus;
+    }
+
+    public void setHttpStatus(Integer httpStatus) {
+        this.httpStatus = httpStatus;
+    }
+
+    public String getResponseBody() {
+        return responseBody;
+    }
+
+    public void setResponseBody(String responseBody) {
+        this.responseBody = responseBody;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    @Override
+    public String toString() {
+        return "IdempotencyRecord{" +
+                "idempotencyKey=" + idempotencyKey +
+                ", requestHash=" + requestHash +
+                ", httpStatus=" + httpStatus +
+                ", createdAt=" + createdAt +
+                '}';
+    }
+}
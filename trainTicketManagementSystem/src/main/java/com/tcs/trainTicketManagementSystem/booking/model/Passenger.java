@@ -2,6 +2,8 @@ package com.tcs.trainTicketManagementSystem.booking.model;
 
 import jakarta.persistence.*;
 
+import com.tcs.trainTicketManagementSystem.train.model.BerthType;
+
 /**
  * Entity representing a passenger in the system.
  */
@@ -30,6 +32,23 @@ public class Passenger {
     @Column(name = "id_proof", nullable = false, length = 50)
     private String idProof; // Aadhar card number (12 digits)
 
+    @Column(name = "seat_number")
+    private Integer seatNumber; // Numbered across the fare type's coaches
+
+    @Column(name = "coach", length = 5)
+    private String coach;
+
+    @Column(name = "berth_number")
+    private Integer berthNumber;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "berth_type", length = 12)
+    private BerthType berthType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "berth_preference", length = 10)
+    private BerthPreference berthPreference;
+
     // Default constructor
     public Passenger() {}
 
@@ -91,6 +110,46 @@ public class Passenger {
         this.idProof = idProof;
     }
 
+    public Integer getSeatNumber() {
+        return seatNumber;
+    }
+
+    public void setSeatNumber(Integer seatNumber) {
+        this.seatNumber = seatNumber;
+    }
+
+    public String getCoach() {
+        return coach;
+    }
+
+    public void setCoach(String coach) {
+        this.coach = coach;
+    }
+
+    public Integer getBerthNumber() {
+        return berthNumber;
+    }
+
+    public void setBerthNumber(Integer berthNumber) {
+        this.berthNumber = berthNumber;
+    }
+
+    public BerthType getBerthType() {
+        return berthType;
+    }
+
+    public void setBerthType(BerthType berthType) {
+        this.berthType = berthType;
+    }
+
+    public BerthPreference getBerthPreference() {
+        return berthPreference;
+    }
+
+    public void setBerthPreference(BerthPreference berthPreference) {
+        this.berthPreference = berthPreference;
+    }
+
     @Override
     public String toString() {
         return "Passenger{" +
@@ -100,6 +159,11 @@ public class Passenger {
                 ", age=" + age +
                 ", gender='" + gender + '\'' +
                 ", idProof='" + idProof + '\'' +
+                ", seatNumber=" + seatNumber +
+                ", coach='" + coach + '\'' +
+                ", berthNumber=" + berthNumber +
+                ", berthType=" + berthType +
+                ", berthPreference=" + berthPreference +
                 '}';
     }
 } 
\ No newline at end of file
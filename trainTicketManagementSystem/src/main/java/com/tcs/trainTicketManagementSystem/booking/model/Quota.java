@@ -0,0 +1,12 @@
+package com.tcs.trainTicketManagementSystem.booking.model;
+
+/**
+ * Enum representing the seat quota a booking is made under.
+ * GENERAL seats are the seat inventory itself; the other quotas are sub-pools carved out of it.
+ */
+public enum Quota {
+    GENERAL,
+    TATKAL,
+    LADIES,
+    SENIOR
+}
@@ -0,0 +1,166 @@
+package com.tcs.trainTicketManagementSystem.booking.model;
+
+import com.tcs.trainTicketManagementSystem.train.model.FareType;
+import com.tcs.trainTicketManagementSystem.train.model.Train;
+import com.tcs.trainTicketManagementSystem.users.model.User;
+import jakarta.persistence.*;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Entity representing seats held for a short time before a booking is confirmed.
+ */
+@Entity
+@Table(name = "seat_hold")
+public class SeatHold {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "hold_id")
+    private Long holdId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "train_id", nullable = false)
+    private Train train;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "fare_type_id", nullable = false)
+    private FareType fareType;
+
+    @Column(name = "journey_date", nullable = false)
+    private LocalDate journeyDate;
+
+    @Column(name = "seats", nullable = false)
+    private Integer seats;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", length = 15, nullable = false)
+    private HoldStatus status = HoldStatus.HELD;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    // Set once the hold is confirmed
+    @Column(name = "booking_id")
+    private Long bookingId;
+
+    // Default constructor
+    public SeatHold() {
+        this.createdAt = LocalDateTime.now();
+        this.status = HoldStatus.HELD;
+    }
+
+    // Constructor with required fields
+    public SeatHold(User user, Train train, FareType fareType, LocalDate journeyDate, Integer seats, LocalDateTime expiresAt) {
+        this();
+        this.user = user;
+        this.train = train;
+        this.fareType = fareType;
+        this.journeyDate = journeyDate;
+        this.seats = seats;
+        this.expiresAt = expiresAt;
+    }
+
+    // Getters and Setters
+    public Long getHoldId() {
+        return holdId;
+    }
+
+    public void setHoldId(Long holdId) {
+        this.holdId = holdId;
+    }
+
+    public User getUser() {
+        return user;
+    }
+
+    public void setUser(User user) {
+        this.user = user;
+    }
+
+    public Train getTrain() {
+        return train;
+    }
+
+    public void setTrain(Train train) {
+        this.train = train;
+    }
+
+    public FareType getFareType() {
+        return fareType;
+    }
+
+    public void setFareType(FareType fareType) {
+        this.fareType = fareType;
+    }
+
+    public LocalDate getJourneyDate() {
+        return journeyDate;
+    }
+
+    public void setJourneyDate(LocalDate journeyDate) {
+        this.journeyDate = journeyDate;
+    }
+
+    public Integer getSeats() {
+        return seats;
+    }
+
+    public void setSeats(Integer seats) {
+        this.seats = seats;
+    }
+
+    public HoldStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(HoldStatus status) {
+        this.status = status;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public LocalDateTime getExpiresAt() {
+        return expiresAt;
+    }
+
+    public void setExpiresAt(LocalDateTime expiresAt) {
+        this.expiresAt = expiresAt;
+    }
+
+    public Long getBookingId() {
+        return bookingId;
+    }
+
+    public void setBookingId(Long bookingId) {
+        this.bookingId = bookingId;
+    }
+
+    @Override
+    public String toString() {
+        return "SeatHold{" +
+                "holdId=" + holdId +
+                ", userId=" + (user != null ? user.getUserId() : null) +
+                ", trainId=" + (train != null ? train.getTrainId() : null) +
+                ", fareTypeId=" + (fareType != null ? fareType.getFareTypeId() : null) +
+                ", journeyDate=" + journeyDate +
+                ", seats=" + seats +
+                ", status=" + status +
+                ", expiresAt=" + expiresAt +
+                ", bookingId=" + bookingId +
+                '}';
+    }
+}
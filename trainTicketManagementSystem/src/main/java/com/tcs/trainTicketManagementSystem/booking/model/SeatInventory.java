@@ -0,0 +1,96 @@
+package com.tcs.trainTicketManagementSystem.booking.model;
+
+import com.tcs.trainTicketManagementSystem.train.model.FareType;
+import jakarta.persistence.*;
+import java.time.LocalDate;
+
+/**
+ * Entity representing the seat inventory of a fare type on a specific journey date.
+ * Seat counters are only changed through guarded bulk updates in SeatInventoryRepository.
+ */
+@Entity
+@Table(name = "seat_inventory",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"fare_type_id", "journey_date"}))
+public class SeatInventory {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "inventory_id")
+    private Long inventoryId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "fare_type_id", nullable = false)
+    private FareType fareType;
+
+    @Column(name = "journey_date", nullable = false)
+    private LocalDate journeyDate;
+
+    @Column(name = "total_seats", nullable = false)
+    private Integer totalSeats;
+
+    @Column(name = "seats_available", nullable = false)
+    private Integer seatsAvailable;
+
+    // Default constructor
+    public SeatInventory() {}
+
+    // Constructor with fields
+    public SeatInventory(FareType fareType, LocalDate journeyDate, Integer totalSeats, Integer seatsAvailable) {
+        this.fareType = fareType;
+        this.journeyDate = journeyDate;
+        this.totalSeats = totalSeats;
+        this.seatsAvailable = seatsAvailable;
+    }
+
+    // Getters and Setters
+    public Long getInventoryId() {
+        return inventoryId;
+    }
+
+    public void setInventoryId(Long inventoryId) {
+        this.inventoryId = inventoryId;
+    }
+
+    public FareType getFareType() {
+        return fareType;
+    }
+
+    public void setFareType(FareType fareType) {
+        this.fareType = fareType;
+    }
+
+    public LocalDate getJourneyDate() {
+        return journeyDate;
+    }
+
+    public void setJourneyDate(LocalDate journeyDate) {
+        this.journeyDate = journeyDate;
+    }
+
+    public Integer getTotalSeats() {
+        return totalSeats;
+    }
+
+    public void setTotalSeats(Integer totalSeats) {
+        this.totalSeats = totalSeats;
+    }
+
+    public Integer getSeatsAvailable() {
+        return seatsAvailable;
+    }
+
+    public void setSeatsAvailable(Integer seatsAvailable) {
+        this.seatsAvailable = seatsAvailable;
+    }
+
+    @Override
+    public String toString() {
+        return "SeatInventory{" +
+                "inventoryId=" + inventoryId +
+                ", fareTypeId=" + (fareType != null ? fareType.getFareTypeId() : null) +
+                ", journeyDate=" + journeyDate +
+                ", totalSeats=" + totalSeats +
+                ", seatsAvailable=" + seatsAvailable +
+                '}';
+    }
+}
@@ -0,0 +1,112 @@
+package com.tcs.trainTicketManagementSystem.booking.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDate;
+
+/**
+ * Entity representing the unsold seats of one quota of a fare type on a journey date.
+ * Each quota has its own row, so bookings under different quotas never update the same counter.
+ * A closed quota has been handed back to the general pool at its cut-off.
+ */
+@Entity
+@Table(name = "seat_quota",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"fare_type_id", "journey_date", "quota"}))
+public class SeatQuota {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "seat_quota_id")
+    private Long seatQuotaId;
+
+    @Column(name = "fare_type_id", nullable = false)
+    private Long fareTypeId;
+
+    @Column(name = "journey_date", nullable = false)
+    private LocalDate journeyDate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "quota", nullable = false, length = 10)
+    private Quota quota;
+
+    @Column(name = "total_seats", nullable = false)
+    private Integer totalSeats;
+
+    @Column(name = "seats_available", nullable = false)
+    private Integer seatsAvailable;
+
+    @Column(name = "closed", nullable = false)
+    private boolean closed;
+
+    // Default constructor
+    public SeatQuota() {}
+
+    // Getters and Setters
+    public Long getSeatQuotaId() {
+        return seatQuotaId;
+    }
+
+    public void setSeatQuotaId(Long seatQuotaId) {
+        this.seatQuotaId = seatQuotaId;
+    }
+
+    public Long getFareTypeId() {
+        return fareTypeId;
+    }
+
+    public void setFareTypeId(Long fareTypeId) {
+        this.fareTypeId = fareTypeId;
+    }
+
+    public LocalDate getJourneyDate() {
+        return journeyDate;
+    }
+
+    public void setJourneyDate(LocalDate journeyDate) {
+        this.journeyDate = journeyDate;
+    }
+
+    public Quota getQuota() {
+        return quota;
+    }
+
+    public void setQuota(Quota quota) {
+        this.quota = quota;
+    }
+
+    public Integer getTotalSeats() {
+        return totalSeats;
+    }
+
+    public void setTotalSeats(Integer totalSeats) {
+        this.totalSeats = totalSeats;
+    }
+
+    public Integer getSeatsAvailable() {
+        return seatsAvailable;
+    }
+
+    public void setSeatsAvailable(Integer seatsAvailable) {
+        this.seatsAvailable = seatsAvailable;
+    }
+
+    public boolean isClosed() {
+        return closed;
+    }
+
+    public void setClosed(boolean closed) {
+        this.closed = closed;
+    }
+
+    @Override
+    public String toString() {
+        return "SeatQuota{" +
+                "seatQuotaId=" + seatQuotaId +
+                ", fareTypeId=" + fareTypeId +
+                ", journeyDate=" + journeyDate +
+                ", quota=" + quota +
+                ", totalSeats=" + totalSeats +
+                ", seatsAvailable=" + seatsAvailable +
+                ", closed=" + closed +
+                '}';
+    }
+}
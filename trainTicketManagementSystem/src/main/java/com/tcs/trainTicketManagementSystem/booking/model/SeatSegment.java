@@ -0,0 +1,135 @@
+package com.tcs.trainTicketManagementSystem.booking.model;
+
+import jakarta.persistence.*;
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * Entity representing a seat of a fare type that is sold on a journey date, wholly or for part of the route.
+ * Bit i of the occupied segments is set while the seat is taken between stop i and stop i + 1,
+ * so a journey from stop i to stop j fits the seat when none of its mask bits are set.
+ * Seats with no row are fully free and counted by SeatInventory instead.
+ */
+@Entity
+@Table(name = "seat_segment")
+@IdClass(SeatSegment.SeatSegmentId.class)
+public class SeatSegment {
+
+    @Id
+    @Column(name = "fare_type_id")
+    private Long fareTypeId;
+
+    @Id
+    @Column(name = "journey_date")
+    private LocalDate journeyDate;
+
+    @Id
+    @Column(name = "seat_number")
+    private Integer seatNumber;
+
+    @Column(name = "occupied_segments", nullable = false)
+    private Long occupiedSegments;
+
+    // Default constructor
+    public SeatSegment() {}
+
+    // Constructor with fields
+    public SeatSegment(Long fareTypeId, LocalDate journeyDate, Integer seatNumber, Long occupiedSegments) {
+        this.fareTypeId = fareTypeId;
+        this.journeyDate = journeyDate;
+        this.seatNumber = seatNumber;
+        this.occupiedSegments = occupiedSegments;
+    }
+
+    /** Bitmap of a whole-route journey, which overlaps every segment. */
+    public static final long WHOLE_ROUTE = -1L;
+
+    /**
+     * Bitmap of the segments travelled from one stop to a later one (at most 64 stops per train).
+     */
+    public static long segmentMask(int fromStop, int toStop) {
+        return ((1L << toStop) - 1) & -(1L << fromStop);
+    }
+
+    // Getters and Setters
+    public Long getFareTypeId() {
+        return fareTypeId;
+    }
+
+    public void setFareTypeId(Long fareTypeId) {
+        this.fareTypeId = fareTypeId;
+    }
+
+    public LocalDate getJourneyDate() {
+        return journeyDate;
+    }
+
+    public void setJourneyDate(LocalDate journeyDate) {
+        this.journeyDate = journeyDate;
+    }
+
+    public Integer getSeatNumber() {
+        return seatNumber;
+    }
+
+    public void setSeatNumber(Integer seatNumber) {
+        this.seatNumber = seatNumber;
+    }
+
+    public Long getOccupiedSegments() {
+        return occupiedSegments;
+    }
+
+    public void setOccupiedSegments(Long occupiedSegments) {
+        this.occupiedSegments = occupiedSegments;
+    }
+
+    @Override
+    public String toString() {
+        return "SeatSegment{" +
+                "fareTypeId=" + fareTypeId +
+                ", journeyDate=" + journeyDate +
+                ", seatNumber=" + seatNumber +
+                ", occupiedSegments=" + Long.toBinaryString(occupiedSegments != null ? occupiedSegments : 0) +
+                '}';
+    }
+
+    /**
+     * Composite primary key of a seat segment row.
+     */
+    public static class SeatSegmentId implements Serializable {
+
+        private Long fareTypeId;
+        private LocalDate journeyDate;
+        private Integer seatNumber;
+
+        // Default constructor
+        public SeatSegmentId() {}
+
+        // Constructor with fields
+        public SeatSegmentId(Long fareTypeId, LocalDate journeyDate, Integer seatNumber) {
+            this.fareTypeId = fareTypeId;
+            this.journeyDate = journeyDate;
+            this.seatNumber = seatNumber;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof SeatSegmentId other)) {
+                return false;
+            }
+            return Objects.equals(fareTypeId, other.fareTypeId)
+                    && Objects.equals(journeyDate, other.journeyDate)
+                    && Objects.equals(seatNumber, other.seatNumber);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(fareTypeId, journeyDate, seatNumber);
+        }
+    }
+}
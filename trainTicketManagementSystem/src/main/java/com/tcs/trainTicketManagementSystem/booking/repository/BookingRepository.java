@@ -2,12 +2,24 @@ package com.tcs.trainTicketManagementSystem.booking.repository;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.stream.Stream;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import org.hibernate.jpa.HibernateHints;
+import jakarta.persistence.QueryHint;
+
+import com.tcs.trainTicketManagementSystem.booking.dto.BookingExportRow;
 import com.tcs.trainTicketManagementSystem.booking.model.Booking;
 import com.tcs.trainTicketManagementSystem.booking.model.BookingStatus;
 
@@ -15,69 +27,119 @@ import com.tcs.trainTicketManagementSystem.booking.model.BookingStatus;
  * Repository interface for Booking entity.
  */
 @Repository
-public interface BookingRepository extends JpaRepository<Booking, Long> {
+public interface BookingRepository extends JpaRepository<Booking, Long>, JpaSpecificationExecutor<Booking> {
+
+    // List queries fetch user, train and fare type in the same statement; passengers are loaded
+    // for the whole result in one projection query (see PassengerRepository.findResponsesByBookingIds)
+
+    // Find all bookings
+    @Override
+    @EntityGraph(attributePaths = {"user", "train", "fareType"})
+    List<Booking> findAll();
+
+    // Find bookings matching a specification
+    @Override
+    @EntityGraph(attributePaths = {"user", "train", "fareType"})
+    List<Booking> findAll(Specification<Booking> spec, Sort sort);
+
+    // Find one page of bookings matching a specification
+    @Override
+    @EntityGraph(attributePaths = {"user", "train", "fareType"})
+    Page<Booking> findAll(Specification<Booking> spec, Pageable pageable);
 
     // Find bookings by user ID
+    @EntityGraph(attributePaths = {"user", "train", "fareType"})
     @Query("SELECT b FROM Booking b WHERE b.user.userId = :userId ORDER BY b.bookingDate DESC")
     List<Booking> findByUserIdOrderByBookingDateDesc(@Param("userId") Long userId);
 
     // Find bookings by user ID and status
+    @EntityGraph(attributePaths = {"user", "train", "fareType"})
     @Query("SELECT b FROM Booking b WHERE b.user.userId = :userId AND b.status = :status ORDER BY b.bookingDate DESC")
     List<Booking> findByUserIdAndStatusOrderByBookingDateDesc(@Param("userId") Long userId, @Param("status") BookingStatus status);
 
     // Find bookings by train ID
+    @EntityGraph(attributePaths = {"user", "train", "fareType"})
     @Query("SELECT b FROM Booking b WHERE b.train.trainId = :trainId ORDER BY b.bookingDate DESC")
     List<Booking> findByTrainIdOrderByBookingDateDesc(@Param("trainId") Long trainId);
 
     // Find bookings by fare type ID
+    @EntityGraph(attributePaths = {"user", "train", "fareType"})
     @Query("SELECT b FROM Booking b WHERE b.fareType.fareTypeId = :fareTypeId ORDER BY b.bookingDate DESC")
     List<Booking> findByFareTypeIdOrderByBookingDateDesc(@Param("fareTypeId") Long fareTypeId);
 
     // Find bookings by status
+    @EntityGraph(attributePaths = {"user", "train", "fareType"})
     List<Booking> findByStatusOrderByBookingDateDesc(BookingStatus status);
 
     // Find bookings by journey date
+    @EntityGraph(attributePaths = {"user", "train", "fareType"})
     List<Booking> findByJourneyDateOrderByBookingDateDesc(LocalDate journeyDate);
 
     // Find bookings by journey date range
+    @EntityGraph(attributePaths = {"user", "train", "fareType"})
     List<Booking> findByJourneyDateBetweenOrderByJourneyDateAsc(LocalDate fromDate, LocalDate toDate);
 
     // Find bookings by booking date range
+    @EntityGraph(attributePaths = {"user", "train", "fareType"})
     List<Booking> findByBookingDateBetweenOrderByBookingDateDesc(LocalDate fromDate, LocalDate toDate);
 
     // Find bookings by user ID and journey date
+    @EntityGraph(attributePaths = {"user", "train", "fareType"})
     @Query("SELECT b FROM Booking b WHERE b.user.userId = :userId AND b.journeyDate = :journeyDate ORDER BY b.bookingDate DESC")
     List<Booking> findByUserIdAndJourneyDateOrderByBookingDateDesc(@Param("userId") Long userId, @Param("journeyDate") LocalDate journeyDate);
 
     // Find bookings by user ID and journey date range
+    @EntityGraph(attributePaths = {"user", "train", "fareType"})
     @Query("SELECT b FROM Booking b WHERE b.user.userId = :userId AND b.journeyDate BETWEEN :fromDate AND :toDate ORDER BY b.journeyDate ASC")
     List<Booking> findByUserIdAndJourneyDateBetweenOrderByJourneyDateAsc(@Param("userId") Long userId, @Param("fromDate") LocalDate fromDate, @Param("toDate") LocalDate toDate);
 
+    // Stream booking-passenger rows booked in a date range through a forward-only cursor (caller must close the stream
+    // inside a transaction); rows are DTOs, so nothing accumulates in the persistence context
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("SELECT new com.tcs.trainTicketManagementSystem.booking.dto.BookingExportRow("
+            + "b.bookingId, b.bookingDate, b.journeyDate, b.status, b.totalFare, u.userId, u.username, "
+            + "t.trainId, t.trainName, t.source, t.destination, f.fareTypeId, f.classType, f.price, "
+            + "p.passengerId, p.name, p.age, p.gender) "
+            + "FROM Booking b JOIN b.user u JOIN b.train t JOIN b.fareType f LEFT JOIN b.passengers p "
+            + "WHERE b.bookingDate BETWEEN :fromDate AND :toDate ORDER BY b.bookingId, p.passengerId")
+    Stream<BookingExportRow> streamExportRows(@Param("fromDate") LocalDate fromDate, @Param("toDate") LocalDate toDate);
+
     // Find upcoming bookings for a user (journey date >= today)
+    @EntityGraph(attributePaths = {"user", "train", "fareType"})
     @Query("SELECT b FROM Booking b WHERE b.user.userId = :userId AND b.journeyDate >= :today ORDER BY b.journeyDate ASC")
     List<Booking> findUpcomingBookingsByUserId(@Param("userId") Long userId, @Param("today") LocalDate today);
 
     // Find past bookings for a user (journey date < today)
+    @EntityGraph(attributePaths = {"user", "train", "fareType"})
     @Query("SELECT b FROM Booking b WHERE b.user.userId = :userId AND b.journeyDate < :today ORDER BY b.journeyDate DESC")
     List<Booking> findPastBookingsByUserId(@Param("userId") Long userId, @Param("today") LocalDate today);
 
     // Find bookings by source and destination (using train details)
+    @EntityGraph(attributePaths = {"user", "train", "fareType"})
     @Query("SELECT b FROM Booking b JOIN b.train t WHERE t.source = :source AND t.destination = :destination ORDER BY b.bookingDate DESC")
     List<Booking> findBySourceAndDestination(@Param("source") String source, @Param("destination") String destination);
 
     // Find bookings by train name (using train details)
+    @EntityGraph(attributePaths = {"user", "train", "fareType"})
     @Query("SELECT b FROM Booking b JOIN b.train t WHERE t.trainName LIKE %:trainName% ORDER BY b.bookingDate DESC")
     List<Booking> findByTrainNameContaining(@Param("trainName") String trainName);
 
     // Find bookings by username (using user details)
+    @EntityGraph(attributePaths = {"user", "train", "fareType"})
     @Query("SELECT b FROM Booking b JOIN b.user u WHERE u.username LIKE %:username% ORDER BY b.bookingDate DESC")
     List<Booking> findByUsernameContaining(@Param("username") String username);
 
     // Find bookings by source (using train details)
+    @EntityGraph(attributePaths = {"user", "train", "fareType"})
     @Query("SELECT b FROM Booking b JOIN b.train t WHERE t.source LIKE %:source% ORDER BY b.bookingDate DESC")
     List<Booking> findBySourceContaining(@Param("source") String source);
 
     // Find bookings by destination (using train details)
+    @EntityGraph(attributePaths = {"user", "train", "fareType"})
     @Query("SELECT b FROM Booking b JOIN b.train t WHERE t.destination LIKE %:destination% ORDER BY b.bookingDate DESC")
     List<Booking> findByDestinationContaining(@Param("destination") String destination);
 
@@ -103,10 +165,52 @@ public interface BookingRepository extends JpaRepository<Booking, Long> {
     @Query("SELECT CASE WHEN COUNT(b) > 0 THEN true ELSE false END FROM Booking b WHERE b.user.userId = :userId AND b.train.trainId = :trainId AND b.journeyDate = :journeyDate")
     boolean existsByUserIdAndTrainIdAndJourneyDate(@Param("userId") Long userId, @Param("trainId") Long trainId, @Param("journeyDate") LocalDate journeyDate);
 
+    // Check if a train has bookings that are not cancelled for a journey on or after the given date
+    @Query("SELECT CASE WHEN COUNT(b) > 0 THEN true ELSE false END FROM Booking b WHERE b.train.trainId = :trainId "
+            + "AND b.journeyDate >= :fromDate AND b.status <> com.tcs.trainTicketManagementSystem.booking.model.BookingStatus.CANCELLED")
+    boolean existsActiveByTrainIdFrom(@Param("trainId") Long trainId, @Param("fromDate") LocalDate fromDate);
+
     // Count bookings by status
     long countByStatus(BookingStatus status);
 
+    // Count a user's bookings by status and by journey date relative to today in a single pass
+    @Query("SELECT COUNT(b) AS totalBookings, "
+            + "COALESCE(SUM(CASE WHEN b.status = com.tcs.trainTicketManagementSystem.booking.model.BookingStatus.CONFIRMED THEN 1 ELSE 0 END), 0) AS confirmedBookings, "
+            + "COALESCE(SUM(CASE WHEN b.status = com.tcs.trainTicketManagementSystem.booking.model.BookingStatus.CANCELLED THEN 1 ELSE 0 END), 0) AS cancelledBookings, "
+            + "COALESCE(SUM(CASE WHEN b.journeyDate >= :today THEN 1 ELSE 0 END), 0) AS upcomingBookings, "
+            + "COALESCE(SUM(CASE WHEN b.journeyDate < :today THEN 1 ELSE 0 END), 0) AS pastBookings "
+            + "FROM Booking b WHERE b.user.userId = :userId")
+    BookingCounts countBookingsByUserId(@Param("userId") Long userId, @Param("today") LocalDate today);
+
     // Sum total fare by status
     @Query("SELECT SUM(b.totalFare) FROM Booking b WHERE b.status = :status")
     java.math.BigDecimal sumTotalFareByStatus(@Param("status") BookingStatus status);
-} 
\ No newline at end of file
+
+    // Find waitlisted bookings of upcoming journey dates with the seats they need, earliest first
+    @Query("SELECT b.bookingId AS bookingId, b.fareType.fareTypeId AS fareTypeId, b.journeyDate AS journeyDate, "
+            + "SIZE(b.passengers) AS passengers FROM Booking b "
+            + "WHERE b.status = com.tcs.trainTicketManagementSystem.booking.model.BookingStatus.WAITLISTED "
+            + "AND b.journeyDate >= :today ORDER BY b.bookingId")
+    List<WaitlistedBooking> findWaitlistedFrom(@Param("today") LocalDate today);
+
+    /**
+     * Projection of the per-user booking counters.
+     */
+    interface BookingCounts {
+        long getTotalBookings();
+        long getConfirmedBookings();
+        long getCancelledBookings();
+        long getUpcomingBookings();
+        long getPastBookings();
+    }
+
+    /**
+     * Projection of a waitlisted booking.
+     */
+    interface WaitlistedBooking {
+        Long getBookingId();
+        Long getFareTypeId();
+        LocalDate getJourneyDate();
+        int getPassengers();
+    }
+}
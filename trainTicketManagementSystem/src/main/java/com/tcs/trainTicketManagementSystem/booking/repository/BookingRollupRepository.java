@@ -0,0 +1,109 @@
+package com.tcs.trainTicketManagementSystem.booking.repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.tcs.trainTicketManagementSystem.booking.model.BookingRollup;
+import com.tcs.trainTicketManagementSystem.booking.model.BookingStatus;
+import com.tcs.trainTicketManagementSystem.train.model.ClassType;
+
+/**
+ * Repository interface for BookingRollup entity.
+ */
+@Repository
+public interface BookingRollupRepository extends JpaRepository<BookingRollup, Long> {
+
+    // Add a delta to one bucket, creating the bucket when it does not exist yet
+    @Modifying
+    @Query(value = "MERGE INTO booking_rollup r USING (VALUES (CAST(:bucketDate AS DATE), CAST(:fareTypeId AS INT), "
+            + "CAST(:status AS VARCHAR(15)), CAST(:bookings AS INT), CAST(:passengers AS INT), CAST(:totalFare AS DECIMAL(14,2)))) "
+            + "AS d (bucket_date, fare_type_id, status, bookings, passengers, total_fare) "
+            + "ON r.bucket_date = d.bucket_date AND r.fare_type_id = d.fare_type_id AND r.status = d.status "
+            + "WHEN MATCHED THEN UPDATE SET bookings = r.bookings + d.bookings, passengers = r.passengers + d.passengers, "
+            + "total_fare = r.total_fare + d.total_fare "
+            + "WHEN NOT MATCHED THEN INSERT (bucket_date, fare_type_id, status, bookings, passengers, total_fare) "
+            + "VALUES (d.bucket_date, d.fare_type_id, d.status, d.bookings, d.passengers, d.total_fare)",
+            nativeQuery = true)
+    int addToBucket(@Param("bucketDate") LocalDate bucketDate, @Param("fareTypeId") Long fareTypeId,
+            @Param("status") String status, @Param("bookings") int bookings, @Param("passengers") int passengers,
+            @Param("totalFare") BigDecimal totalFare);
+
+    // Drop every bucket ahead of a rebuild
+    @Modifying
+    @Query(value = "DELETE FROM booking_rollup", nativeQuery = true)
+    int deleteAllBuckets();
+
+    // Aggregate every booking into its bucket in one statement
+    @Modifying
+    @Query(value = "INSERT INTO booking_rollup (bucket_date, fare_type_id, status, bookings, passengers, total_fare) "
+            + "SELECT b.booking_date, b.fare_type_id, b.status, COUNT(*), COALESCE(SUM(p.passengers), 0), SUM(b.total_fare) "
+            + "FROM booking b LEFT JOIN (SELECT booking_id, COUNT(*) AS passengers FROM passenger GROUP BY booking_id) p "
+            + "ON p.booking_id = b.booking_id "
+            + "WHERE b.booking_date IS NOT NULL AND b.status IS NOT NULL "
+            + "GROUP BY b.booking_date, b.fare_type_id, b.status",
+            nativeQuery = true)
+    int rebuildFromBookings();
+
+    // Merge the buckets of a booking date range per train route and status
+    @Query("SELECT t.source AS source, t.destination AS destination, r.status AS status, SUM(r.bookings) AS bookings, "
+            + "SUM(r.passengers) AS passengers, SUM(r.totalFare) AS totalFare "
+            + "FROM BookingRollup r JOIN FareType f ON f.fareTypeId = r.fareTypeId JOIN f.train t "
+            + "WHERE r.bucketDate BETWEEN :fromDate AND :toDate "
+            + "GROUP BY t.source, t.destination, r.status ORDER BY t.source, t.destination")
+    List<RouteTotals> sumByRoute(@Param("fromDate") LocalDate fromDate, @Param("toDate") LocalDate toDate);
+
+    // Merge the buckets of a booking date range per class and status
+    @Query("SELECT f.classType AS classType, r.status AS status, SUM(r.bookings) AS bookings, "
+            + "SUM(r.passengers) AS passengers, SUM(r.totalFare) AS totalFare "
+            + "FROM BookingRollup r JOIN FareType f ON f.fareTypeId = r.fareTypeId "
+            + "WHERE r.bucketDate BETWEEN :fromDate AND :toDate "
+            + "GROUP BY f.classType, r.status ORDER BY f.classType")
+    List<ClassTotals> sumByClass(@Param("fromDate") LocalDate fromDate, @Param("toDate") LocalDate toDate);
+
+    // Merge the buckets of a booking date range per day and status
+    @Query("SELECT r.bucketDate AS bookingDate, r.status AS status, SUM(r.bookings) AS bookings, "
+            + "SUM(r.passengers) AS passengers, SUM(r.totalFare) AS totalFare "
+            + "FROM BookingRollup r "
+            + "WHERE r.bucketDate BETWEEN :fromDate AND :toDate "
+            + "GROUP BY r.bucketDate, r.status ORDER BY r.bucketDate")
+    List<DayTotals> sumByDay(@Param("fromDate") LocalDate fromDate, @Param("toDate") LocalDate toDate);
+
+    /**
+     * Projection of merged buckets with one status.
+     */
+    interface StatusTotals {
+        BookingStatus getStatus();
+        long getBookings();
+        long getPassengers();
+        BigDecimal getTotalFare();
+    }
+
+    /**
+     * Projection of merged buckets of one train route.
+     */
+    interface RouteTotals extends StatusTotals {
+        String getSource();
+        String getDestination();
+    }
+
+    /**
+     * Projection of merged buckets of one class.
+     */
+    interface ClassTotals extends StatusTotals {
+        ClassType getClassType();
+    }
+
+    /**
+     * Projection of merged buckets of one booking date.
+     */
+    interface DayTotals extends StatusTotals {
+        LocalDate getBookingDate();
+    }
+}
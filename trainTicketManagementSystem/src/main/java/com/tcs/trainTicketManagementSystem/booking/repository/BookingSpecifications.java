@@ -0,0 +1,86 @@
+package com.tcs.trainTicketManagementSystem.booking.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import com.tcs.trainTicketManagementSystem.booking.dto.BookingSearchRequest;
+import com.tcs.trainTicketManagementSystem.booking.model.Booking;
+import com.tcs.trainTicketManagementSystem.booking.model.BookingStatus;
+
+import jakarta.persistence.criteria.Predicate;
+
+/**
+ * Specifications for dynamic Booking queries.
+ */
+public final class BookingSpecifications {
+
+    private BookingSpecifications() {
+    }
+
+    // Build a query that applies every non-empty field of the search request
+    public static Specification<Booking> matching(BookingSearchRequest searchRequest) {
+        // Parsed up front so an unknown status fails before the query runs
+        BookingStatus status = hasText(searchRequest.getStatus())
+                ? BookingStatus.valueOf(searchRequest.getStatus().trim().toUpperCase())
+                : null;
+
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+
+            if (searchRequest.getUserId() != null) {
+                predicates.add(cb.equal(root.get("user").get("userId"), searchRequest.getUserId()));
+            }
+            if (searchRequest.getTrainId() != null) {
+                predicates.add(cb.equal(root.get("train").get("trainId"), searchRequest.getTrainId()));
+            }
+            if (searchRequest.getFareTypeId() != null) {
+                predicates.add(cb.equal(root.get("fareType").get("fareTypeId"), searchRequest.getFareTypeId()));
+            }
+            if (searchRequest.getJourneyDateFrom() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("journeyDate"), searchRequest.getJourneyDateFrom()));
+            }
+            if (searchRequest.getJourneyDateTo() != null) {
+                predicates.add(cb.lessThanOrEqualTo(root.get("journeyDate"), searchRequest.getJourneyDateTo()));
+            }
+            if (searchRequest.getBookingDateFrom() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("bookingDate"), searchRequest.getBookingDateFrom()));
+            }
+            if (searchRequest.getBookingDateTo() != null) {
+                predicates.add(cb.lessThanOrEqualTo(root.get("bookingDate"), searchRequest.getBookingDateTo()));
+            }
+            if (status != null) {
+                predicates.add(cb.equal(root.get("status"), status));
+            }
+
+            // Train and user columns are only joined when a field needs them
+            if (hasText(searchRequest.getSource()) || hasText(searchRequest.getDestination()) || hasText(searchRequest.getTrainName())) {
+                var train = root.join("train");
+                if (hasText(searchRequest.getSource())) {
+                    predicates.add(cb.like(train.get("source"), contains(searchRequest.getSource())));
+                }
+                if (hasText(searchRequest.getDestination())) {
+                    predicates.add(cb.like(train.get("destination"), contains(searchRequest.getDestination())));
+                }
+                if (hasText(searchRequest.getTrainName())) {
+                    predicates.add(cb.like(train.get("trainName"), contains(searchRequest.getTrainName())));
+                }
+            }
+            if (hasText(searchRequest.getUsername())) {
+                predicates.add(cb.like(root.join("user").get("username"), contains(searchRequest.getUsername())));
+            }
+
+            return cb.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.isBlank();
+    }
+
+    // Same containment semantics as the LIKE %:value% repository queries
+    private static String contains(String value) {
+        return "%" + value.trim() + "%";
+    }
+}
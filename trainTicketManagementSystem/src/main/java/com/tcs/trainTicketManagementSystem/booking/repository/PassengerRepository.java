@@ -1,11 +1,13 @@
 package com.tcs.trainTicketManagementSystem.booking.repository;
 
+import com.tcs.trainTicketManagementSystem.booking.dto.PassengerResponse;
 import com.tcs.trainTicketManagementSystem.booking.model.Passenger;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -45,6 +47,15 @@ public interface PassengerRepository extends JpaRepository<Passenger, Long> {
     // Count passengers by gender
     long countByGender(String gender);
 
+    // Count passengers by gender and average their age in a single pass
+    @Query("SELECT COUNT(p) AS totalPassengers, "
+            + "COALESCE(SUM(CASE WHEN p.gender = 'MALE' THEN 1 ELSE 0 END), 0) AS malePassengers, "
+            + "COALESCE(SUM(CASE WHEN p.gender = 'FEMALE' THEN 1 ELSE 0 END), 0) AS femalePassengers, "
+            + "COALESCE(SUM(CASE WHEN p.gender = 'OTHER' THEN 1 ELSE 0 END), 0) AS otherPassengers, "
+            + "COALESCE(AVG(p.age), 0.0) AS averageAge "
+            + "FROM Passenger p")
+    PassengerCounts countPassengers();
+
     // Count passengers by age range
     long countByAgeBetween(Integer minAge, Integer maxAge);
 
@@ -62,7 +73,24 @@ public interface PassengerRepository extends JpaRepository<Passenger, Long> {
     @Query("SELECT p FROM Passenger p JOIN FETCH p.booking b WHERE p.name LIKE %:name% ORDER BY p.name")
     List<Passenger> findByNamePatternWithBookingDetails(@Param("name") String name);
 
+    // Find passengers of several bookings as flat responses in one query
+    @Query("SELECT new com.tcs.trainTicketManagementSystem.booking.dto.PassengerResponse("
+            + "p.passengerId, p.booking.bookingId, p.name, p.age, p.gender, p.idProof, p.seatNumber, p.coach, p.berthNumber, p.berthType) "
+            + "FROM Passenger p WHERE p.booking.bookingId IN :bookingIds ORDER BY p.passengerId")
+    List<PassengerResponse> findResponsesByBookingIds(@Param("bookingIds") Collection<Long> bookingIds);
+
     // Find passengers by ID proof pattern
     @Query("SELECT p FROM Passenger p WHERE p.idProof LIKE %:idProof% ORDER BY p.idProof")
     List<Passenger> findByIdProofContaining(@Param("idProof") String idProof);
-} 
\ No newline at end of file
+
+    /**
+     * Projection of the passenger counters and average age.
+     */
+    interface PassengerCounts {
+        long getTotalPassengers();
+        long getMalePassengers();
+        long getFemalePassengers();
+        long getOtherPassengers();
+        double getAverageAge();
+    }
+}
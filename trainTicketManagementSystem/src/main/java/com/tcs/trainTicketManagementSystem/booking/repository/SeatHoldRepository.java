@@ -0,0 +1,43 @@
+package com.tcs.trainTicketManagementSystem.booking.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.tcs.trainTicketManagementSystem.booking.model.HoldStatus;
+import com.tcs.trainTicketManagementSystem.booking.model.SeatHold;
+
+/**
+ * Repository interface for SeatHold entity.
+ */
+@Repository
+public interface SeatHoldRepository extends JpaRepository<SeatHold, Long> {
+
+    // Find holds by status
+    List<SeatHold> findByStatus(HoldStatus status);
+
+    // Claim a live hold for confirmation (returns 0 when it is no longer held or has expired)
+    @Modifying
+    @Query("UPDATE SeatHold h SET h.status = com.tcs.trainTicketManagementSystem.booking.model.HoldStatus.CONFIRMED "
+            + "WHERE h.holdId = :holdId AND h.status = com.tcs.trainTicketManagementSystem.booking.model.HoldStatus.HELD "
+            + "AND h.expiresAt > :now")
+    int claimForConfirmation(@Param("holdId") Long holdId, @Param("now") LocalDateTime now);
+
+    // Release a hold that is still held
+    @Modifying
+    @Query("UPDATE SeatHold h SET h.status = com.tcs.trainTicketManagementSystem.booking.model.HoldStatus.RELEASED "
+            + "WHERE h.holdId = :holdId AND h.status = com.tcs.trainTicketManagementSystem.booking.model.HoldStatus.HELD")
+    int releaseHold(@Param("holdId") Long holdId);
+
+    // Expire a hold whose deadline has passed
+    @Modifying
+    @Query("UPDATE SeatHold h SET h.status = com.tcs.trainTicketManagementSystem.booking.model.HoldStatus.EXPIRED "
+            + "WHERE h.holdId = :holdId AND h.status = com.tcs.trainTicketManagementSystem.booking.model.HoldStatus.HELD "
+            + "AND h.expiresAt <= :now")
+    int expireHold(@Param("holdId") Long holdId, @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,139 @@
+package com.tcs.trainTicketManagementSystem.booking.repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.tcs.trainTicketManagementSystem.booking.model.SeatInventory;
+
+/**
+ * Repository interface for SeatInventory entity.
+ */
+@Repository
+public interface SeatInventoryRepository extends JpaRepository<SeatInventory, Long> {
+
+    // Find inventory by fare type ID and journey date
+    @Query("SELECT s FROM SeatInventory s WHERE s.fareType.fareTypeId = :fareTypeId AND s.journeyDate = :journeyDate")
+    Optional<SeatInventory> findByFareTypeIdAndJourneyDate(@Param("fareTypeId") Long fareTypeId, @Param("journeyDate") LocalDate journeyDate);
+
+    // Find the inventory rows of the given fare types on one journey date
+    @Query("SELECT s FROM SeatInventory s WHERE s.fareType.fareTypeId IN :fareTypeIds AND s.journeyDate = :journeyDate")
+    List<SeatInventory> findByFareTypeIdsAndJourneyDate(@Param("fareTypeIds") Collection<Long> fareTypeIds,
+            @Param("journeyDate") LocalDate journeyDate);
+
+    // Find the fare types with general seats left on any journey date from the given date onwards
+    @Query("SELECT DISTINCT s.fareType.fareTypeId FROM SeatInventory s WHERE s.journeyDate >= :journeyDate AND s.seatsAvailable > 0")
+    List<Long> findFareTypeIdsWithSeatsFrom(@Param("journeyDate") LocalDate journeyDate);
+
+    // Read the seat segment version of a fare type and date without locking its row
+    @Query(value = "SELECT segment_version FROM seat_inventory WHERE fare_type_id = :fareTypeId AND journey_date = :journeyDate",
+            nativeQuery = true)
+    Optional<Long> findSegmentVersion(@Param("fareTypeId") Long fareTypeId, @Param("journeyDate") LocalDate journeyDate);
+
+    // Replace the seat segment version only while it still has the expected value (returns 0 when another change won)
+    @Modifying
+    @Query(value = "UPDATE seat_inventory SET segment_version = :version "
+            + "WHERE fare_type_id = :fareTypeId AND journey_date = :journeyDate AND segment_version = :expectedVersion",
+            nativeQuery = true)
+    int compareAndSetSegmentVersion(@Param("fareTypeId") Long fareTypeId, @Param("journeyDate") LocalDate journeyDate,
+            @Param("expectedVersion") long expectedVersion, @Param("version") long version);
+
+    // Reserve seats in a single guarded update (returns 0 when capacity is gone or the row does not exist)
+    @Modifying
+    @Query("UPDATE SeatInventory s SET s.seatsAvailable = s.seatsAvailable - :seats "
+            + "WHERE s.fareType.fareTypeId = :fareTypeId AND s.journeyDate = :journeyDate AND s.seatsAvailable >= :seats")
+    int reserveSeats(@Param("fareTypeId") Long fareTypeId, @Param("journeyDate") LocalDate journeyDate, @Param("seats") int seats);
+
+    // Release seats in a single guarded update (never exceeds the total seats of the row)
+    @Modifying
+    @Query("UPDATE SeatInventory s SET s.seatsAvailable = s.seatsAvailable + :seats "
+            + "WHERE s.fareType.fareTypeId = :fareTypeId AND s.journeyDate = :journeyDate AND s.seatsAvailable + :seats <= s.totalSeats")
+    int releaseSeats(@Param("fareTypeId") Long fareTypeId, @Param("journeyDate") LocalDate journeyDate, @Param("seats") int seats);
+
+    // Find all inventory rows from the given journey date onwards
+    @Query("SELECT s FROM SeatInventory s WHERE s.journeyDate >= :journeyDate")
+    List<SeatInventory> findFromJourneyDate(@Param("journeyDate") LocalDate journeyDate);
+
+    // Apply a net seat delta flushed from the in-memory inventory (positive delta releases seats)
+    @Modifying
+    @Query("UPDATE SeatInventory s SET s.seatsAvailable = s.seatsAvailable + :delta "
+            + "WHERE s.fareType.fareTypeId = :fareTypeId AND s.journeyDate = :journeyDate")
+    int applySeatDelta(@Param("fareTypeId") Long fareTypeId, @Param("journeyDate") LocalDate journeyDate, @Param("delta") int delta);
+
+    // Recompute fully free general seats from unseated confirmed passengers, sold seats, held seats and unsold quota seats for all rows from the given journey date onwards
+    // (holds past their deadline still count: their expiry returns the seats)
+    @Modifying
+    @Query(value = "UPDATE seat_inventory s SET seats_available = GREATEST(0, s.total_seats - "
+            + "(SELECT COUNT(p.passenger_id) FROM passenger p JOIN booking b ON b.booking_id = p.booking_id "
+            + "WHERE b.fare_type_id = s.fare_type_id AND b.journey_date = s.journey_date AND b.status = 'CONFIRMED' AND p.seat_number IS NULL) - "
+            + "(SELECT COUNT(*) FROM seat_segment g WHERE g.fare_type_id = s.fare_type_id AND g.journey_date = s.journey_date) - "
+            + "(SELECT COALESCE(SUM(h.seats), 0) FROM seat_hold h WHERE h.fare_type_id = s.fare_type_id AND h.journey_date = s.journey_date AND h.status = 'HELD') - "
+            + "(SELECT COALESCE(SUM(q.seats_available), 0) FROM seat_quota q WHERE q.fare_type_id = s.fare_type_id AND q.journey_date = s.journey_date)) "
+            + "WHERE s.journey_date >= :journeyDate",
+            nativeQuery = true)
+    int resyncFromBookings(@Param("journeyDate") LocalDate journeyDate);
+
+    // Create the inventory row for one fare type and date, net of seats already booked or sold on that date
+    @Modifying
+    @Query(value = "INSERT INTO seat_inventory (fare_type_id, journey_date, total_seats, seats_available) "
+            + "SELECT f.fare_type_id, :journeyDate, f.seats_available, "
+            + "GREATEST(0, f.seats_available - (SELECT COUNT(p.passenger_id) FROM passenger p "
+            + "JOIN booking b ON b.booking_id = p.booking_id "
+            + "WHERE b.fare_type_id = f.fare_type_id AND b.journey_date = :journeyDate AND b.status = 'CONFIRMED' AND p.seat_number IS NULL) - "
+            + "(SELECT COUNT(*) FROM seat_segment g WHERE g.fare_type_id = f.fare_type_id AND g.journey_date = :journeyDate)) "
+            + "FROM fare_type f WHERE f.fare_type_id = :fareTypeId "
+            + "AND NOT EXISTS (SELECT 1 FROM seat_inventory s WHERE s.fare_type_id = f.fare_type_id AND s.journey_date = :journeyDate)",
+            nativeQuery = true)
+    int createInventory(@Param("fareTypeId") Long fareTypeId, @Param("journeyDate") LocalDate journeyDate);
+
+    // Create inventory rows for every fare type whose train runs on the given date (running-days mask bit, then run exceptions)
+    @Modifying
+    @Query(value = "INSERT INTO seat_inventory (fare_type_id, journey_date, total_seats, seats_available) "
+            + "SELECT f.fare_type_id, :journeyDate, f.seats_available, "
+            + "GREATEST(0, f.seats_available - (SELECT COUNT(p.passenger_id) FROM passenger p "
+            + "JOIN booking b ON b.booking_id = p.booking_id "
+            + "WHERE b.fare_type_id = f.fare_type_id AND b.journey_date = :journeyDate AND b.status = 'CONFIRMED' AND p.seat_number IS NULL) - "
+            + "(SELECT COUNT(*) FROM seat_segment g WHERE g.fare_type_id = f.fare_type_id AND g.journey_date = :journeyDate)) "
+            + "FROM fare_type f JOIN train t ON t.train_id = f.train_id "
+            + "WHERE t.status = 'ACTIVE' "
+            + "AND COALESCE((SELECT e.exception_type = 'ADDED' FROM train_run_exception e "
+            + "WHERE e.train_id = t.train_id AND e.run_date = :journeyDate), BITAND(t.running_days, CAST(:dayMask AS INT)) <> 0) "
+            + "AND NOT EXISTS (SELECT 1 FROM seat_inventory s WHERE s.fare_type_id = f.fare_type_id AND s.journey_date = :journeyDate)",
+            nativeQuery = true)
+    int materializeForDate(@Param("journeyDate") LocalDate journeyDate, @Param("dayMask") int dayMask);
+
+    // Create inventory rows for every fare type and date that already has bookings from the given journey date onwards
+    @Modifying
+    @Query(value = "INSERT INTO seat_inventory (fare_type_id, journey_date, total_seats, seats_available) "
+            + "SELECT f.fare_type_id, d.journey_date, f.seats_available, f.seats_available "
+            + "FROM (SELECT DISTINCT b.fare_type_id, b.journey_date FROM booking b WHERE b.journey_date >= :journeyDate) d "
+            + "JOIN fare_type f ON f.fare_type_id = d.fare_type_id "
+            + "WHERE NOT EXISTS (SELECT 1 FROM seat_inventory s WHERE s.fare_type_id = d.fare_type_id AND s.journey_date = d.journey_date)",
+            nativeQuery = true)
+    int materializeForBookedDates(@Param("journeyDate") LocalDate journeyDate);
+
+    // Take the seats of newly carved quota pools out of the general pool of every uncarved row from the given journey date
+    @Modifying
+    @Query(value = "UPDATE seat_inventory s SET quotas_carved = TRUE, seats_available = seats_available - "
+            + "(SELECT COALESCE(SUM(q.seats_available), 0) FROM seat_quota q WHERE q.fare_type_id = s.fare_type_id AND q.journey_date = s.journey_date) "
+            + "WHERE s.journey_date >= :journeyDate AND NOT s.quotas_carved",
+            nativeQuery = true)
+    int markQuotasCarved(@Param("journeyDate") LocalDate journeyDate);
+
+    // Add the unsold seats of the given open quota pools to the general pool of their fare type and date
+    @Modifying
+    @Query(value = "UPDATE seat_inventory s SET seats_available = seats_available + "
+            + "(SELECT COALESCE(SUM(q.seats_available), 0) FROM seat_quota q WHERE q.fare_type_id = s.fare_type_id "
+            + "AND q.journey_date = s.journey_date AND q.seat_quota_id IN (:ids) AND NOT q.closed) "
+            + "WHERE EXISTS (SELECT 1 FROM seat_quota q WHERE q.fare_type_id = s.fare_type_id AND q.journey_date = s.journey_date "
+            + "AND q.seat_quota_id IN (:ids) AND NOT q.closed)",
+            nativeQuery = true)
+    int returnQuotaSeats(@Param("ids") Collection<Long> ids);
+}
@@ -0,0 +1,66 @@
+package com.tcs.trainTicketManagementSystem.booking.repository;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.tcs.trainTicketManagementSystem.booking.model.Quota;
+import com.tcs.trainTicketManagementSystem.booking.model.SeatQuota;
+
+/**
+ * Repository interface for SeatQuota entity.
+ */
+@Repository
+public interface SeatQuotaRepository extends JpaRepository<SeatQuota, Long> {
+
+    /** Find the pool of one quota of a fare type on a journey date. */
+    Optional<SeatQuota> findByFareTypeIdAndJourneyDateAndQuota(Long fareTypeId, LocalDate journeyDate, Quota quota);
+
+    // Reserve seats of an open quota in a single guarded update (returns 0 when the quota is short, closed or missing)
+    @Modifying
+    @Query("UPDATE SeatQuota q SET q.seatsAvailable = q.seatsAvailable - :seats "
+            + "WHERE q.fareTypeId = :fareTypeId AND q.journeyDate = :journeyDate AND q.quota = :quota "
+            + "AND q.closed = false AND q.seatsAvailable >= :seats")
+    int reserveSeats(@Param("fareTypeId") Long fareTypeId, @Param("journeyDate") LocalDate journeyDate,
+            @Param("quota") Quota quota, @Param("seats") int seats);
+
+    // Release seats to an open quota in a single guarded update (returns 0 when the quota is closed or missing)
+    @Modifying
+    @Query("UPDATE SeatQuota q SET q.seatsAvailable = q.seatsAvailable + :seats "
+            + "WHERE q.fareTypeId = :fareTypeId AND q.journeyDate = :journeyDate AND q.quota = :quota "
+            + "AND q.closed = false AND q.seatsAvailable + :seats <= q.totalSeats")
+    int releaseSeats(@Param("fareTypeId") Long fareTypeId, @Param("journeyDate") LocalDate journeyDate,
+            @Param("quota") Quota quota, @Param("seats") int seats);
+
+    // Carve a quota out of every inventory row from the given journey date that has no quotas yet (seats already sold are shared pro rata)
+    @Modifying
+    @Query(value = "INSERT INTO seat_quota (fare_type_id, journey_date, quota, total_seats, seats_available) "
+            + "SELECT s.fare_type_id, s.journey_date, :quota, s.total_seats * :percent / 100, s.seats_available * :percent / 100 "
+            + "FROM seat_inventory s WHERE s.journey_date >= :journeyDate AND NOT s.quotas_carved",
+            nativeQuery = true)
+    int carveQuota(@Param("journeyDate") LocalDate journeyDate, @Param("quota") String quota, @Param("percent") int percent);
+
+    // Find the open pools of a quota whose trains depart at or before the cut-off
+    @Query("SELECT q.seatQuotaId FROM SeatQuota q, FareType f WHERE f.fareTypeId = q.fareTypeId AND q.quota = :quota "
+            + "AND q.closed = false AND (q.journeyDate < :cutoffDate "
+            + "OR (q.journeyDate = :cutoffDate AND f.train.departureTime <= :cutoffTime))")
+    List<Long> findDueQuotaIds(@Param("quota") Quota quota, @Param("cutoffDate") LocalDate cutoffDate,
+            @Param("cutoffTime") LocalTime cutoffTime);
+
+    // Lock the given open pools before handing their seats back
+    @Query(value = "SELECT * FROM seat_quota WHERE seat_quota_id IN (:ids) AND NOT closed FOR UPDATE", nativeQuery = true)
+    List<SeatQuota> lockOpenQuotas(@Param("ids") Collection<Long> ids);
+
+    // Close the given pools once their unsold seats are back in the general pool
+    @Modifying
+    @Query("UPDATE SeatQuota q SET q.closed = true, q.seatsAvailable = 0 WHERE q.seatQuotaId IN :ids")
+    int closeQuotas(@Param("ids") Collection<Long> ids);
+}
@@ -0,0 +1,54 @@
+package com.tcs.trainTicketManagementSystem.booking.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.tcs.trainTicketManagementSystem.booking.model.SeatSegment;
+import com.tcs.trainTicketManagementSystem.booking.model.SeatSegment.SeatSegmentId;
+
+/**
+ * Repository interface for SeatSegment entity.
+ */
+@Repository
+public interface SeatSegmentRepository extends JpaRepository<SeatSegment, SeatSegmentId> {
+
+    /** Find the sold seats of a fare type on a journey date. */
+    List<SeatSegment> findByFareTypeIdAndJourneyDate(Long fareTypeId, LocalDate journeyDate);
+
+    // Count the sold seats that are free on every segment of the mask
+    @Query(value = "SELECT COUNT(*) FROM seat_segment WHERE fare_type_id = :fareTypeId AND journey_date = :journeyDate "
+            + "AND BITAND(occupied_segments, CAST(:mask AS BIGINT)) = 0",
+            nativeQuery = true)
+    int countFreeSeats(@Param("fareTypeId") Long fareTypeId, @Param("journeyDate") LocalDate journeyDate, @Param("mask") long mask);
+
+    // Check if any fare type of a train has sold seats on or after the given date
+    @Query("SELECT CASE WHEN COUNT(s) > 0 THEN true ELSE false END FROM SeatSegment s WHERE s.journeyDate >= :fromDate "
+            + "AND s.fareTypeId IN (SELECT f.fareTypeId FROM FareType f WHERE f.train.trainId = :trainId)")
+    boolean existsByTrainIdFrom(@Param("trainId") Long trainId, @Param("fromDate") LocalDate fromDate);
+
+    // Insert a seat that has just been sold
+    @Modifying
+    @Query(value = "INSERT INTO seat_segment (fare_type_id, journey_date, seat_number, occupied_segments) "
+            + "VALUES (:fareTypeId, :journeyDate, :seatNumber, :occupiedSegments)",
+            nativeQuery = true)
+    int insertSeat(@Param("fareTypeId") Long fareTypeId, @Param("journeyDate") LocalDate journeyDate,
+            @Param("seatNumber") int seatNumber, @Param("occupiedSegments") long occupiedSegments);
+
+    // Overwrite the occupied segments of a sold seat
+    @Modifying
+    @Query("UPDATE SeatSegment s SET s.occupiedSegments = :occupiedSegments "
+            + "WHERE s.fareTypeId = :fareTypeId AND s.journeyDate = :journeyDate AND s.seatNumber = :seatNumber")
+    int updateSeat(@Param("fareTypeId") Long fareTypeId, @Param("journeyDate") LocalDate journeyDate,
+            @Param("seatNumber") int seatNumber, @Param("occupiedSegments") long occupiedSegments);
+
+    // Delete a seat that is no longer sold on any segment
+    @Modifying
+    @Query("DELETE FROM SeatSegment s WHERE s.fareTypeId = :fareTypeId AND s.journeyDate = :journeyDate AND s.seatNumber = :seatNumber")
+    int deleteSeat(@Param("fareTypeId") Long fareTypeId, @Param("journeyDate") LocalDate journeyDate, @Param("seatNumber") int seatNumber);
+}
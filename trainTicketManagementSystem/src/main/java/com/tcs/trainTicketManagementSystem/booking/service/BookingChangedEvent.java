@@ -0,0 +1,42 @@
+package com.tcs.trainTicketManagementSystem.booking.service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import com.tcs.trainTicketManagementSystem.booking.model.Booking;
+import com.tcs.trainTicketManagementSystem.booking.model.BookingStatus;
+
+/**
+ * Event published when a booking is created, changes status, gains or loses passengers, or is deleted.
+ * The previous status is null for a new booking and the status is null for a deleted one.
+ * Listeners should react after the publishing transaction commits.
+ */
+public record BookingChangedEvent(Long fareTypeId, LocalDate bookingDate, BigDecimal totalFare,
+        BookingStatus previousStatus, int previousPassengers, BookingStatus status, int passengers) {
+
+    public static BookingChangedEvent created(Booking booking, int passengers) {
+        return of(booking, null, 0, booking.getStatus(), passengers);
+    }
+
+    public static BookingChangedEvent statusChanged(Booking booking, BookingStatus previousStatus, int passengers) {
+        return of(booking, previousStatus, passengers, booking.getStatus(), passengers);
+    }
+
+    public static BookingChangedEvent passengersChanged(Booking booking, int previousPassengers, int passengers) {
+        return of(booking, booking.getStatus(), previousPassengers, booking.getStatus(), passengers);
+    }
+
+    public static BookingChangedEvent deleted(Booking booking, int passengers) {
+        return of(booking, booking.getStatus(), passengers, null, 0);
+    }
+
+    public int passengerDelta() {
+        return passengers - previousPassengers;
+    }
+
+    private static BookingChangedEvent of(Booking booking, BookingStatus previousStatus, int previousPassengers,
+            BookingStatus status, int passengers) {
+        return new BookingChangedEvent(booking.getFareType().getFareTypeId(), booking.getBookingDate(),
+                booking.getTotalFare(), previousStatus, previousPassengers, status, passengers);
+    }
+}
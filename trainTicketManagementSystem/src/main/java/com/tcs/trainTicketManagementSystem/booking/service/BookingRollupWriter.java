@@ -0,0 +1,139 @@
+package com.tcs.trainTicketManagementSystem.booking.service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.tcs.trainTicketManagementSystem.booking.model.BookingStatus;
+import com.tcs.trainTicketManagementSystem.booking.repository.BookingRollupRepository;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Keeps booking_rollup in step with committed booking changes.
+ * Every BookingChangedEvent moves the booking out of the bucket of its previous status and into the bucket of its
+ * new one. Deltas are collected in memory and written behind in one batch, so booking transactions never wait on
+ * the lock of a busy bucket row; reports lag by one flush interval, and a failed flush keeps its deltas for the
+ * next one. The rollup is rebuilt from bookings on startup and every reconcile interval (5 minutes by default),
+ * which corrects deltas lost with a crashed instance or a missed event; such drift lasts at most one interval.
+ * A booking committing in the moment between dropping the pending deltas and reading the bookings may be
+ * counted twice until the next reconcile.
+ */
+@Component
+public class BookingRollupWriter {
+
+    private static final Logger logger = LoggerFactory.getLogger(BookingRollupWriter.class);
+
+    private final BookingRollupRepository bookingRollupRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Map<BucketKey, BucketDelta> pendingDeltas = new ConcurrentHashMap<>();
+
+    public BookingRollupWriter(BookingRollupRepository bookingRollupRepository,
+            PlatformTransactionManager transactionManager) {
+        this.bookingRollupRepository = bookingRollupRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Rebuild every bucket from the booking table on startup.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        logger.info("Rebuilt booking rollup with {} buckets", rebuildBuckets());
+    }
+
+    /**
+     * Rebuild every bucket from the booking table to correct any drift.
+     */
+    @Scheduled(initialDelayString = "${booking.rollup.reconcile-interval-ms:300000}",
+            fixedDelayString = "${booking.rollup.reconcile-interval-ms:300000}")
+    public void reconcile() {
+        logger.debug("Booking rollup reconciled with {} buckets", rebuildBuckets());
+    }
+
+    @TransactionalEventListener
+    public void onBookingChanged(BookingChangedEvent event) {
+        long farePaise = event.totalFare() != null ? event.totalFare().movePointRight(2).longValue() : 0;
+        if (event.previousStatus() != null) {
+            recordDelta(new BucketKey(event.bookingDate(), event.fareTypeId(), event.previousStatus()),
+                    -1, -event.previousPassengers(), -farePaise);
+        }
+        if (event.status() != null) {
+            recordDelta(new BucketKey(event.bookingDate(), event.fareTypeId(), event.status()),
+                    1, event.passengers(), farePaise);
+        }
+    }
+
+    /**
+     * Write the collected deltas to booking_rollup in one batch.
+     */
+    @Scheduled(fixedDelayString = "${booking.rollup.flush-interval-ms:1000}")
+    @PreDestroy
+    public synchronized void flush() {
+        if (pendingDeltas.isEmpty()) {
+            return;
+        }
+
+        Map<BucketKey, long[]> batch = new HashMap<>();
+        pendingDeltas.forEach((key, delta) -> {
+            long[] values = {delta.bookings.getAndSet(0), delta.passengers.getAndSet(0), delta.farePaise.getAndSet(0)};
+            if (values[0] != 0 || values[1] != 0 || values[2] != 0) {
+                batch.put(key, values);
+            }
+        });
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> batch.forEach((key, values) ->
+                    bookingRollupRepository.addToBucket(key.bookingDate(), key.fareTypeId(), key.status().name(),
+                            (int) values[0], (int) values[1], BigDecimal.valueOf(values[2], 2))));
+            logger.debug("Flushed {} booking rollup deltas", batch.size());
+        } catch (RuntimeException e) {
+            logger.error("Booking rollup flush failed, retrying {} deltas on next run", batch.size(), e);
+            batch.forEach((key, values) -> recordDelta(key, values[0], values[1], values[2]));
+        }
+    }
+
+    // Helper Methods
+    private synchronized int rebuildBuckets() {
+        // Pending deltas are all of committed bookings, which the rebuild counts
+        pendingDeltas.clear();
+        return transactionTemplate.execute(status -> {
+            bookingRollupRepository.deleteAllBuckets();
+            return bookingRollupRepository.rebuildFromBookings();
+        });
+    }
+
+    private void recordDelta(BucketKey key, long bookings, long passengers, long farePaise) {
+        BucketDelta delta = pendingDeltas.computeIfAbsent(key, k -> new BucketDelta());
+        delta.bookings.addAndGet(bookings);
+        delta.passengers.addAndGet(passengers);
+        delta.farePaise.addAndGet(farePaise);
+    }
+
+    private record BucketKey(LocalDate bookingDate, Long fareTypeId, BookingStatus status) {
+    }
+
+    // Each figure is flushed on its own, so a delta split across two flushes still adds up
+    private static final class BucketDelta {
+        private final AtomicLong bookings = new AtomicLong();
+        private final AtomicLong passengers = new AtomicLong();
+        private final AtomicLong farePaise = new AtomicLong();
+    }
+}
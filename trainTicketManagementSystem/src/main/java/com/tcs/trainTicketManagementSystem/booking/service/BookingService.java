@@ -1,5 +1,8 @@
 package com.tcs.trainTicketManagementSystem.booking.service;
 
+import com.tcs.trainTicketManagementSystem.booking.dto.BookingCursorPage;
+import com.tcs.trainTicketManagementSystem.booking.dto.BookingExportFormat;
+import com.tcs.trainTicketManagementSystem.booking.dto.BookingPageResponse;
 import com.tcs.trainTicketManagementSystem.booking.dto.BookingRequest;
 import com.tcs.trainTicketManagementSystem.booking.dto.BookingResponse;
 import com.tcs.trainTicketManagementSystem.booking.dto.BookingSearchRequest;
@@ -7,6 +10,8 @@ import com.tcs.trainTicketManagementSystem.booking.dto.PassengerRequest;
 import com.tcs.trainTicketManagementSystem.booking.dto.PassengerResponse;
 import com.tcs.trainTicketManagementSystem.booking.model.BookingStatus;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.time.LocalDate;
 import java.util.List;
 
@@ -22,6 +27,11 @@ public interface BookingService {
      */
     BookingResponse createBooking(BookingRequest request);
 
+    /**
+     * Create a booking for seats already reserved by a seat hold.
+     */
+    BookingResponse createBookingForHeldSeats(BookingRequest request);
+
     /**
      * Get booking by ID.
      */
@@ -32,11 +42,21 @@ public interface BookingService {
      */
     List<BookingResponse> getAllBookings();
 
+    /**
+     * Get one keyset page of all bookings.
+     */
+    BookingCursorPage getAllBookings(String after, int limit, String sort);
+
     /**
      * Get bookings by user ID.
      */
     List<BookingResponse> getBookingsByUserId(Long userId);
 
+    /**
+     * Get one keyset page of bookings by user ID.
+     */
+    BookingCursorPage getBookingsByUserId(Long userId, String after, int limit, String sort);
+
     /**
      * Get bookings by user ID and status.
      */
@@ -47,11 +67,21 @@ public interface BookingService {
      */
     List<BookingResponse> getUpcomingBookingsByUserId(Long userId);
 
+    /**
+     * Get one keyset page of upcoming bookings for a user.
+     */
+    BookingCursorPage getUpcomingBookingsByUserId(Long userId, String after, int limit, String sort);
+
     /**
      * Get past bookings for a user.
      */
     List<BookingResponse> getPastBookingsByUserId(Long userId);
 
+    /**
+     * Get one keyset page of past bookings for a user.
+     */
+    BookingCursorPage getPastBookingsByUserId(Long userId, String after, int limit, String sort);
+
     /**
      * Get bookings by train ID.
      */
@@ -112,6 +142,18 @@ public interface BookingService {
      */
     List<BookingResponse> searchBookings(BookingSearchRequest searchRequest);
 
+    /**
+     * Search bookings with various criteria, one page at a time.
+     */
+    BookingPageResponse searchBookings(BookingSearchRequest searchRequest, int page, int size);
+
+    /**
+     * Stream bookings booked in a date range, one row per passenger, to the output stream.
+     *
+     * @return number of rows written
+     */
+    long exportBookings(LocalDate fromDate, LocalDate toDate, BookingExportFormat format, OutputStream outputStream) throws IOException;
+
     /**
      * Update booking status.
      */
@@ -127,6 +169,12 @@ public interface BookingService {
      */
     void deleteBooking(Long bookingId);
 
+    /**
+     * Confirm a waitlisted booking on seats that have come back.
+     * Returns false when the booking is no longer waitlisted; throws SeatsUnavailableException when its seats do not fit.
+     */
+    boolean confirmWaitlistedBooking(Long bookingId);
+
     /**
      * Check if booking exists by ID.
      */
@@ -137,6 +185,17 @@ public interface BookingService {
      */
     boolean existsByUserIdAndTrainIdAndJourneyDate(Long userId, Long trainId, LocalDate journeyDate);
 
+    /**
+     * Get seats available for a fare type on a journey date.
+     */
+    int getAvailableSeats(Long fareTypeId, LocalDate journeyDate);
+
+    /**
+     * Get seats available under a quota for a fare type on a journey date between two stations of the train's route.
+     * A missing station stands for the train's source or destination, a missing quota for GENERAL.
+     */
+    int getAvailableSeats(Long fareTypeId, LocalDate journeyDate, String boardingStation, String alightingStation, String quota);
+
     /**
      * Get booking statistics for a user.
      */
@@ -1,15 +1,38 @@
 package com.tcs.trainTicketManagementSystem.booking.service;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Duration;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+
+import com.tcs.trainTicketManagementSystem.booking.dto.BookingCursorPage;
+import com.tcs.trainTicketManagementSystem.booking.dto.BookingExportFormat;
+import com.tcs.trainTicketManagementSystem.booking.dto.BookingExportRow;
+import com.tcs.trainTicketManagementSystem.booking.dto.BookingPageResponse;
 import com.tcs.trainTicketManagementSystem.booking.dto.BookingRequest;
 import com.tcs.trainTicketManagementSystem.booking.dto.BookingResponse;
 import com.tcs.trainTicketManagementSystem.booking.dto.BookingSearchRequest;
@@ -18,13 +41,24 @@ import com.tcs.trainTicketManagementSystem.booking.dto.PassengerResponse;
 import com.tcs.trainTicketManagementSystem.booking.exception.BookingNotFoundException;
 import com.tcs.trainTicketManagementSystem.booking.exception.BookingValidationException;
 import com.tcs.trainTicketManagementSystem.booking.exception.PassengerNotFoundException;
+import com.tcs.trainTicketManagementSystem.booking.exception.SeatsUnavailableException;
+import com.tcs.trainTicketManagementSystem.booking.model.BerthPreference;
 import com.tcs.trainTicketManagementSystem.booking.model.Booking;
 import com.tcs.trainTicketManagementSystem.booking.model.BookingStatus;
 import com.tcs.trainTicketManagementSystem.booking.model.Passenger;
+import com.tcs.trainTicketManagementSystem.booking.model.Quota;
 import com.tcs.trainTicketManagementSystem.booking.repository.BookingRepository;
+import com.tcs.trainTicketManagementSystem.booking.repository.BookingRepository.BookingCounts;
+import com.tcs.trainTicketManagementSystem.booking.repository.BookingSpecifications;
 import com.tcs.trainTicketManagementSystem.booking.repository.PassengerRepository;
+import com.tcs.trainTicketManagementSystem.booking.repository.PassengerRepository.PassengerCounts;
+import com.tcs.trainTicketManagementSystem.booking.service.SeatAllocationService.SeatAssignment;
+import com.tcs.trainTicketManagementSystem.booking.util.BookingCursor;
+import com.tcs.trainTicketManagementSystem.booking.util.BookingExportWriter;
+import com.tcs.trainTicketManagementSystem.booking.util.ExpiringCache;
 import com.tcs.trainTicketManagementSystem.train.model.FareType;
 import com.tcs.trainTicketManagementSystem.train.model.Train;
+import com.tcs.trainTicketManagementSystem.train.model.TrainStop;
 import com.tcs.trainTicketManagementSystem.train.repository.FareTypeRepository;
 import com.tcs.trainTicketManagementSystem.train.repository.TrainRepository;
 import com.tcs.trainTicketManagementSystem.users.model.User;
@@ -39,6 +73,9 @@ public class BookingServiceImpl implements BookingService {
 
     private static final Logger logger = LoggerFactory.getLogger(BookingServiceImpl.class);
 
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final Sort SEARCH_SORT = Sort.by(Sort.Order.desc("bookingDate"), Sort.Order.desc("bookingId"));
+
     @Autowired
     private BookingRepository bookingRepository;
 
@@ -54,55 +91,51 @@ public class BookingServiceImpl implements BookingService {
     @Autowired
     private FareTypeRepository fareTypeRepository;
 
-    // Basic Booking Operations
-    @Override
-    public BookingResponse createBooking(BookingRequest request) {
-        logger.info("Creating booking for user: {}, train: {}", request.getUserId(), request.getTrainId());
+    @Autowired
+    private SeatInventoryService seatInventoryService;
 
-        // Validate request
-        validateBookingRequest(request);
+    @Autowired
+    private SeatAllocationService seatAllocationService;
 
-        // Get related entities
-        User user = userRepository.findById(request.getUserId())
-                .orElseThrow(() -> new BookingValidationException("User with ID " + request.getUserId() + " not found"));
+    @Autowired
+    private QuotaPolicy quotaPolicy;
 
-        Train train = trainRepository.findById(request.getTrainId())
-                .orElseThrow(() -> new BookingValidationException("Train with ID " + request.getTrainId() + " not found"));
+    @Autowired
+    private ObjectMapper objectMapper;
 
-        FareType fareType = fareTypeRepository.findById(request.getFareTypeId())
-                .orElseThrow(() -> new BookingValidationException("Fare type with ID " + request.getFareTypeId() + " not found"));
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
 
-        // Validate fare type belongs to the train
-        if (!fareType.getTrain().getTrainId().equals(train.getTrainId())) {
-            throw new BookingValidationException("Fare type does not belong to the specified train");
-        }
+    // Statistics are served from a short-lived cache when a TTL is configured (0 disables caching)
+    @Value("${booking.statistics.cache-ttl-ms:0}")
+    private long statisticsCacheTtlMs;
 
-        // Check seat availability
-        if (fareType.getSeatsAvailable() < request.getPassengers().size()) {
-            throw new BookingValidationException("Not enough seats available. Available: "
-                    + fareType.getSeatsAvailable() + ", Required: " + request.getPassengers().size());
-        }
+    @Value("${booking.statistics.cache-size:1000}")
+    private int statisticsCacheSize;
 
-        // Create booking
-        final Booking booking = new Booking(user, train, fareType, request.getJourneyDate(), request.getTotalFare());
-        final Booking savedBooking = bookingRepository.save(booking);
-
-        // Create passengers
-        List<Passenger> passengers = request.getPassengers().stream()
-                .map(passengerRequest -> new Passenger(savedBooking, passengerRequest.getName(),
-                passengerRequest.getAge(), passengerRequest.getGender(),
-                passengerRequest.getIdProof()))
-                .collect(Collectors.toList());
+    private ExpiringCache<Long, BookingStatistics> bookingStatisticsCache;
+    private ExpiringCache<String, PassengerStatistics> passengerStatisticsCache;
 
-        passengers = passengerRepository.saveAll(passengers);
-        savedBooking.setPassengers(passengers);
+    @PostConstruct
+    void initStatisticsCaches() {
+        if (statisticsCacheTtlMs > 0) {
+            Duration ttl = Duration.ofMillis(statisticsCacheTtlMs);
+            bookingStatisticsCache = new ExpiringCache<>(ttl, statisticsCacheSize);
+            passengerStatisticsCache = new ExpiringCache<>(ttl, 1);
+        }
+    }
 
-        // Update seat availability
-        fareType.setSeatsAvailable(fareType.getSeatsAvailable() - passengers.size());
-        fareTypeRepository.save(fareType);
+    // Basic Booking Operations
+    @Override
+    public BookingResponse createBooking(BookingRequest request) {
+        logger.info("Creating booking for user: {}, train: {}", request.getUserId(), request.getTrainId());
+        return createBooking(request, true);
+    }
 
-        logger.info("Booking created successfully with ID: {}", savedBooking.getBookingId());
-        return convertToBookingResponse(savedBooking);
+    @Override
+    public BookingResponse createBookingForHeldSeats(BookingRequest request) {
+        logger.info("Creating booking from held seats for user: {}, train: {}", request.getUserId(), request.getTrainId());
+        return createBooking(request, false);
     }
 
     @Override
@@ -120,9 +153,14 @@ public class BookingServiceImpl implements BookingService {
         logger.info("Getting all bookings");
 
         List<Booking> bookings = bookingRepository.findAll();
-        return bookings.stream()
-                .map(this::convertToBookingResponse)
-                .collect(Collectors.toList());
+        return convertToBookingResponses(bookings);
+    }
+
+    @Override
+    public BookingCursorPage getAllBookings(String after, int limit, String sort) {
+        logger.info("Getting bookings page of {} after cursor: {}", limit, after);
+
+        return scrollBookings(new BookingSearchRequest(), after, limit, sort, "bookingDate,desc");
     }
 
     @Override
@@ -130,9 +168,16 @@ public class BookingServiceImpl implements BookingService {
         logger.info("Getting bookings for user ID: {}", userId);
 
         List<Booking> bookings = bookingRepository.findByUserIdOrderByBookingDateDesc(userId);
-        return bookings.stream()
-                .map(this::convertToBookingResponse)
-                .collect(Collectors.toList());
+        return convertToBookingResponses(bookings);
+    }
+
+    @Override
+    public BookingCursorPage getBookingsByUserId(Long userId, String after, int limit, String sort) {
+        logger.info("Getting bookings page of {} for user ID: {} after cursor: {}", limit, userId, after);
+
+        BookingSearchRequest criteria = new BookingSearchRequest();
+        criteria.setUserId(userId);
+        return scrollBookings(criteria, after, limit, sort, "bookingDate,desc");
     }
 
     @Override
@@ -140,9 +185,7 @@ public class BookingServiceImpl implements BookingService {
         logger.info("Getting bookings for user ID: {} with status: {}", userId, status);
 
         List<Booking> bookings = bookingRepository.findByUserIdAndStatusOrderByBookingDateDesc(userId, status);
-        return bookings.stream()
-                .map(this::convertToBookingResponse)
-                .collect(Collectors.toList());
+        return convertToBookingResponses(bookings);
     }
 
     @Override
@@ -150,9 +193,17 @@ public class BookingServiceImpl implements BookingService {
         logger.info("Getting upcoming bookings for user ID: {}", userId);
 
         List<Booking> bookings = bookingRepository.findUpcomingBookingsByUserId(userId, LocalDate.now());
-        return bookings.stream()
-                .map(this::convertToBookingResponse)
-                .collect(Collectors.toList());
+        return convertToBookingResponses(bookings);
+    }
+
+    @Override
+    public BookingCursorPage getUpcomingBookingsByUserId(Long userId, String after, int limit, String sort) {
+        logger.info("Getting upcoming bookings page of {} for user ID: {} after cursor: {}", limit, userId, after);
+
+        BookingSearchRequest criteria = new BookingSearchRequest();
+        criteria.setUserId(userId);
+        criteria.setJourneyDateFrom(LocalDate.now());
+        return scrollBookings(criteria, after, limit, sort, "journeyDate,asc");
     }
 
     @Override
@@ -160,9 +211,17 @@ public class BookingServiceImpl implements BookingService {
         logger.info("Getting past bookings for user ID: {}", userId);
 
         List<Booking> bookings = bookingRepository.findPastBookingsByUserId(userId, LocalDate.now());
-        return bookings.stream()
-                .map(this::convertToBookingResponse)
-                .collect(Collectors.toList());
+        return convertToBookingResponses(bookings);
+    }
+
+    @Override
+    public BookingCursorPage getPastBookingsByUserId(Long userId, String after, int limit, String sort) {
+        logger.info("Getting past bookings page of {} for user ID: {} after cursor: {}", limit, userId, after);
+
+        BookingSearchRequest criteria = new BookingSearchRequest();
+        criteria.setUserId(userId);
+        criteria.setJourneyDateTo(LocalDate.now().minusDays(1));
+        return scrollBookings(criteria, after, limit, sort, "journeyDate,desc");
     }
 
     @Override
@@ -176,13 +235,16 @@ public class BookingServiceImpl implements BookingService {
             throw new BookingValidationException("Booking is already cancelled");
         }
 
-        // Update seat availability
-        FareType fareType = booking.getFareType();
-        fareType.setSeatsAvailable(fareType.getSeatsAvailable() + booking.getPassengers().size());
-        fareTypeRepository.save(fareType);
+        // Return seats to the journey date inventory; waitlisted bookings hold none
+        if (booking.getStatus() == BookingStatus.CONFIRMED) {
+            releaseSeats(booking, booking.getPassengers());
+        }
 
+        BookingStatus previousStatus = booking.getStatus();
         booking.setStatus(BookingStatus.CANCELLED);
         booking = bookingRepository.save(booking);
+        eventPublisher.publishEvent(BookingChangedEvent.statusChanged(booking, previousStatus,
+                booking.getPassengers().size()));
 
         return convertToBookingResponse(booking);
     }
@@ -224,6 +286,118 @@ public class BookingServiceImpl implements BookingService {
     }
 
     // Helper Methods
+    private BookingStatistics loadBookingStatistics(Long userId) {
+        BookingCounts counts = bookingRepository.countBookingsByUserId(userId, LocalDate.now());
+        return new BookingStatistics(counts.getTotalBookings(), counts.getConfirmedBookings(), counts.getCancelledBookings(),
+                counts.getUpcomingBookings(), counts.getPastBookings());
+    }
+
+    private PassengerStatistics loadPassengerStatistics() {
+        PassengerCounts counts = passengerRepository.countPassengers();
+        return new PassengerStatistics(counts.getTotalPassengers(), counts.getMalePassengers(), counts.getFemalePassengers(),
+                counts.getOtherPassengers(), counts.getAverageAge());
+    }
+
+    private BookingResponse createBooking(BookingRequest request, boolean reserveSeats) {
+        // Validate request
+        validateBookingRequest(request);
+
+        // Get related entities
+        User user = userRepository.findById(request.getUserId())
+                .orElseThrow(() -> new BookingValidationException("User with ID " + request.getUserId() + " not found"));
+
+        Train train = trainRepository.findById(request.getTrainId())
+                .orElseThrow(() -> new BookingValidationException("Train with ID " + request.getTrainId() + " not found"));
+
+        FareType fareType = fareTypeRepository.findById(request.getFareTypeId())
+                .orElseThrow(() -> new BookingValidationException("Fare type with ID " + request.getFareTypeId() + " not found"));
+
+        // Validate fare type belongs to the train
+        if (!fareType.getTrain().getTrainId().equals(train.getTrainId())) {
+            throw new BookingValidationException("Fare type does not belong to the specified train");
+        }
+
+        // Part-route journeys sell seats per segment; held seats always cover the whole route
+        RouteStops routeStops = resolveStops(train, request.getBoardingStation(), request.getAlightingStation());
+        if (routeStops != null && !reserveSeats) {
+            throw new BookingValidationException("Held seats cover the whole route of the train");
+        }
+
+        // Held seats come from the general pool
+        Quota quota = toQuota(request.getQuota());
+        if (quota != Quota.GENERAL && !reserveSeats) {
+            throw new BookingValidationException("Held seats are booked under the GENERAL quota");
+        }
+
+        // Create booking
+        final Booking booking = new Booking(user, train, fareType, request.getJourneyDate(), request.getTotalFare());
+        if (routeStops != null) {
+            booking.setFromStop(routeStops.fromStop());
+            booking.setToStop(routeStops.toStop());
+        }
+        booking.setQuota(quota);
+
+        // Create passengers
+        List<Passenger> passengers = request.getPassengers().stream()
+                .map(passengerRequest -> toPassenger(booking, passengerRequest))
+                .collect(Collectors.toList());
+        quotaPolicy.checkEligible(quota, passengers);
+
+        // Assign seats for the journey date; held seats are already counted
+        try {
+            reserveSeats(booking, passengers, !reserveSeats);
+        } catch (SeatsUnavailableException e) {
+            // Whole-route general demand waits for cancellations instead of failing
+            if (!reserveSeats || booking.isPartRoute() || quota != Quota.GENERAL) {
+                throw e;
+            }
+            booking.setStatus(BookingStatus.WAITLISTED);
+        }
+
+        final Booking savedBooking = bookingRepository.save(booking);
+        passengers = passengerRepository.saveAll(passengers);
+        savedBooking.setPassengers(passengers);
+        eventPublisher.publishEvent(BookingChangedEvent.created(savedBooking, passengers.size()));
+
+        if (savedBooking.getStatus() == BookingStatus.WAITLISTED) {
+            eventPublisher.publishEvent(new BookingWaitlistedEvent(savedBooking.getBookingId(),
+                    fareType.getFareTypeId(), savedBooking.getJourneyDate(), passengers.size()));
+            logger.info("Booking waitlisted with ID: {}", savedBooking.getBookingId());
+        } else {
+            logger.info("Booking created successfully with ID: {}", savedBooking.getBookingId());
+        }
+        return convertToBookingResponse(savedBooking);
+    }
+
+    // Seeks past the cursor with a keyset predicate instead of an OFFSET, so every page costs the same
+    private BookingCursorPage scrollBookings(BookingSearchRequest criteria, String after, int limit, String sort, String defaultSort) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new BookingValidationException("Limit must be between 1 and " + MAX_PAGE_SIZE);
+        }
+
+        Sort keysetSort = BookingCursor.toSort(sort, defaultSort);
+        ScrollPosition position = BookingCursor.decode(after, keysetSort);
+        Window<Booking> window = bookingRepository.findBy(toSpecification(criteria), query -> query
+                .sortBy(keysetSort)
+                .limit(limit)
+                .project("user", "train", "fareType")
+                .scroll(position));
+
+        List<Booking> bookings = window.getContent();
+        String nextCursor = window.hasNext() && !bookings.isEmpty()
+                ? BookingCursor.encode(bookings.get(bookings.size() - 1), keysetSort)
+                : null;
+        return new BookingCursorPage(convertToBookingResponses(bookings), nextCursor);
+    }
+
+    private Specification<Booking> toSpecification(BookingSearchRequest searchRequest) {
+        try {
+            return BookingSpecifications.matching(searchRequest);
+        } catch (IllegalArgumentException e) {
+            throw new BookingValidationException("Invalid booking status: " + searchRequest.getStatus());
+        }
+    }
+
     private void validateBookingRequest(BookingRequest request) {
         if (request.getJourneyDate().isBefore(LocalDate.now())) {
             throw new BookingValidationException("Journey date cannot be in the past");
@@ -240,7 +414,30 @@ public class BookingServiceImpl implements BookingService {
                         .map(this::convertToPassengerResponse)
                         .collect(Collectors.toList()) : null;
 
-        return new BookingResponse(
+        return convertToBookingResponse(booking, passengerResponses);
+    }
+
+    // Converts a list with one extra query for all passengers; list queries already fetch user, train and fare type
+    private List<BookingResponse> convertToBookingResponses(List<Booking> bookings) {
+        if (bookings.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        List<Long> bookingIds = bookings.stream()
+                .map(Booking::getBookingId)
+                .collect(Collectors.toList());
+        Map<Long, List<PassengerResponse>> passengersByBooking = passengerRepository.findResponsesByBookingIds(bookingIds)
+                .stream()
+                .collect(Collectors.groupingBy(PassengerResponse::getBookingId));
+
+        return bookings.stream()
+                .map(booking -> convertToBookingResponse(booking,
+                        passengersByBooking.getOrDefault(booking.getBookingId(), new ArrayList<>())))
+                .collect(Collectors.toList());
+    }
+
+    private BookingResponse convertToBookingResponse(Booking booking, List<PassengerResponse> passengerResponses) {
+        BookingResponse response = new BookingResponse(
                 booking.getBookingId(),
                 booking.getUser().getUserId(),
                 booking.getUser().getUsername(),
@@ -259,6 +456,10 @@ public class BookingServiceImpl implements BookingService {
                 booking.getStatus().toString(),
                 passengerResponses
         );
+        response.setFromStop(booking.getFromStop());
+        response.setToStop(booking.getToStop());
+        response.setQuota(booking.getQuota().toString());
+        return response;
     }
 
     private PassengerResponse convertToPassengerResponse(Passenger passenger) {
@@ -268,94 +469,232 @@ public class BookingServiceImpl implements BookingService {
                 passenger.getName(),
                 passenger.getAge(),
                 passenger.getGender(),
-                passenger.getIdProof()
+                passenger.getIdProof(),
+                passenger.getSeatNumber(),
+                passenger.getCoach(),
+                passenger.getBerthNumber(),
+                passenger.getBerthType()
         );
     }
 
-    // Stub implementations for remaining methods
-    // These can be implemented as needed
+    private Passenger toPassenger(Booking booking, PassengerRequest passengerRequest) {
+        Passenger passenger = new Passenger(booking, passengerRequest.getName(),
+                passengerRequest.getAge(), passengerRequest.getGender(),
+                passengerRequest.getIdProof());
+        passenger.setBerthPreference(toBerthPreference(passengerRequest.getBerthPreference()));
+        return passenger;
+    }
+
+    private BerthPreference toBerthPreference(String berthPreference) {
+        return berthPreference != null ? BerthPreference.valueOf(berthPreference) : null;
+    }
+
+    private Quota toQuota(String quota) {
+        if (quota == null) {
+            return Quota.GENERAL;
+        }
+        try {
+            return Quota.valueOf(quota);
+        } catch (IllegalArgumentException e) {
+            throw new BookingValidationException("Quota must be GENERAL, TATKAL, LADIES or SENIOR");
+        }
+    }
+
+    private void reserveSeats(Booking booking, List<Passenger> passengers) {
+        reserveSeats(booking, passengers, false);
+    }
+
+    private void reserveSeats(Booking booking, List<Passenger> passengers, boolean seatsReserved) {
+        List<BerthPreference> preferences = passengers.stream()
+                .map(Passenger::getBerthPreference)
+                .collect(Collectors.toList());
+        List<SeatAssignment> seats = seatAllocationService.allocateSeats(booking.getFareType().getFareTypeId(),
+                booking.getJourneyDate(), booking.getFromStop(), booking.getToStop(), booking.getQuota(), preferences, seatsReserved);
+        for (int i = 0; i < passengers.size(); i++) {
+            Passenger passenger = passengers.get(i);
+            SeatAssignment seat = seats.get(i);
+            passenger.setSeatNumber(seat.seatNumber());
+            passenger.setCoach(seat.coach());
+            passenger.setBerthNumber(seat.berthNumber());
+            passenger.setBerthType(seat.berthType());
+        }
+    }
+
+    // Passengers booked before seat allocation hold a seat count in the inventory but no seat
+    private void releaseSeats(Booking booking, List<Passenger> passengers) {
+        Long fareTypeId = booking.getFareType().getFareTypeId();
+        List<Integer> seatNumbers = passengers.stream()
+                .map(Passenger::getSeatNumber)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+        int unseated = passengers.size() - seatNumbers.size();
+        if (unseated > 0) {
+            seatInventoryService.releaseSeats(fareTypeId, booking.getJourneyDate(), unseated);
+        }
+        seatAllocationService.releaseSeats(fareTypeId, booking.getJourneyDate(), booking.getFromStop(), booking.getToStop(),
+                booking.getQuota(), seatNumbers);
+        eventPublisher.publishEvent(new SeatsReleasedEvent(fareTypeId, booking.getJourneyDate()));
+    }
+
+    // Stop sequences of the given stations along the train's route, or null when they span the whole route
+    private RouteStops resolveStops(Train train, String boardingStation, String alightingStation) {
+        if (boardingStation == null && alightingStation == null) {
+            return null;
+        }
+
+        List<String> stations = train.getStops() != null && train.getStops().size() >= 2
+                ? train.getStops().stream().map(TrainStop::getStation).collect(Collectors.toList())
+                : List.of(train.getSource(), train.getDestination());
+        int lastStop = stations.size() - 1;
+        int fromStop = boardingStation == null ? 0 : stopIndex(train, stations, boardingStation);
+        int toStop = alightingStation == null ? lastStop : stopIndex(train, stations, alightingStation);
+        if (fromStop >= toStop) {
+            throw new BookingValidationException("Train " + train.getTrainName() + " does not run from "
+                    + stations.get(fromStop) + " to " + stations.get(toStop));
+        }
+        return fromStop == 0 && toStop == lastStop ? null : new RouteStops(fromStop, toStop);
+    }
+
+    private int stopIndex(Train train, List<String> stations, String station) {
+        for (int i = 0; i < stations.size(); i++) {
+            if (stations.get(i).equalsIgnoreCase(station.trim())) {
+                return i;
+            }
+        }
+        throw new BookingValidationException("Train " + train.getTrainName() + " does not stop at " + station);
+    }
+
+    // Boarding and alighting stop sequences of a part-route journey
+    private record RouteStops(int fromStop, int toStop) {}
+
     @Override
     public List<BookingResponse> getBookingsByTrainId(Long trainId) {
         List<Booking> bookings = bookingRepository.findByTrainIdOrderByBookingDateDesc(trainId);
-        return bookings.stream().map(this::convertToBookingResponse).collect(Collectors.toList());
+        return convertToBookingResponses(bookings);
     }
 
     @Override
     public List<BookingResponse> getBookingsByFareTypeId(Long fareTypeId) {
         List<Booking> bookings = bookingRepository.findByFareTypeIdOrderByBookingDateDesc(fareTypeId);
-        return bookings.stream().map(this::convertToBookingResponse).collect(Collectors.toList());
+        return convertToBookingResponses(bookings);
     }
 
     @Override
     public List<BookingResponse> getBookingsByStatus(BookingStatus status) {
         List<Booking> bookings = bookingRepository.findByStatusOrderByBookingDateDesc(status);
-        return bookings.stream().map(this::convertToBookingResponse).collect(Collectors.toList());
+        return convertToBookingResponses(bookings);
     }
 
     @Override
     public List<BookingResponse> getBookingsByJourneyDate(LocalDate journeyDate) {
         List<Booking> bookings = bookingRepository.findByJourneyDateOrderByBookingDateDesc(journeyDate);
-        return bookings.stream().map(this::convertToBookingResponse).collect(Collectors.toList());
+        return convertToBookingResponses(bookings);
     }
 
     @Override
     public List<BookingResponse> getBookingsByJourneyDateRange(LocalDate fromDate, LocalDate toDate) {
         List<Booking> bookings = bookingRepository.findByJourneyDateBetweenOrderByJourneyDateAsc(fromDate, toDate);
-        return bookings.stream().map(this::convertToBookingResponse).collect(Collectors.toList());
+        return convertToBookingResponses(bookings);
     }
 
     @Override
     public List<BookingResponse> getBookingsByBookingDateRange(LocalDate fromDate, LocalDate toDate) {
         List<Booking> bookings = bookingRepository.findByBookingDateBetweenOrderByBookingDateDesc(fromDate, toDate);
-        return bookings.stream().map(this::convertToBookingResponse).collect(Collectors.toList());
+        return convertToBookingResponses(bookings);
     }
 
     @Override
     public List<BookingResponse> getBookingsByRoute(String source, String destination) {
         List<Booking> bookings = bookingRepository.findBySourceAndDestination(source, destination);
-        return bookings.stream().map(this::convertToBookingResponse).collect(Collectors.toList());
+        return convertToBookingResponses(bookings);
     }
 
     @Override
     public List<BookingResponse> searchBookingsByTrainName(String trainName) {
         List<Booking> bookings = bookingRepository.findByTrainNameContaining(trainName);
-        return bookings.stream().map(this::convertToBookingResponse).collect(Collectors.toList());
+        return convertToBookingResponses(bookings);
     }
 
     @Override
     public List<BookingResponse> searchBookingsByUsername(String username) {
         List<Booking> bookings = bookingRepository.findByUsernameContaining(username);
-        return bookings.stream().map(this::convertToBookingResponse).collect(Collectors.toList());
+        return convertToBookingResponses(bookings);
     }
 
     @Override
     public List<BookingResponse> searchBookingsBySource(String source) {
         List<Booking> bookings = bookingRepository.findBySourceContaining(source);
-        return bookings.stream().map(this::convertToBookingResponse).collect(Collectors.toList());
+        return convertToBookingResponses(bookings);
     }
 
     @Override
     public List<BookingResponse> searchBookingsByDestination(String destination) {
         List<Booking> bookings = bookingRepository.findByDestinationContaining(destination);
-        return bookings.stream().map(this::convertToBookingResponse).collect(Collectors.toList());
+        return convertToBookingResponses(bookings);
     }
 
     @Override
     public List<BookingResponse> searchBookings(BookingSearchRequest searchRequest) {
-        // Simplified implementation
-        List<Booking> allBookings = bookingRepository.findAll();
-        return allBookings.stream()
-                .filter(booking -> matchesSearchCriteria(booking, searchRequest))
-                .map(this::convertToBookingResponse)
-                .collect(Collectors.toList());
+        List<Booking> bookings = bookingRepository.findAll(toSpecification(searchRequest), SEARCH_SORT);
+        return convertToBookingResponses(bookings);
+    }
+
+    @Override
+    public BookingPageResponse searchBookings(BookingSearchRequest searchRequest, int page, int size) {
+        logger.info("Searching bookings (page {}, size {}): {}", page, size, searchRequest);
+        if (page < 0 || size < 1 || size > MAX_PAGE_SIZE) {
+            throw new BookingValidationException("Page must be 0 or greater and size between 1 and " + MAX_PAGE_SIZE);
+        }
+
+        Page<Booking> bookings = bookingRepository.findAll(toSpecification(searchRequest), PageRequest.of(page, size, SEARCH_SORT));
+        List<BookingResponse> content = convertToBookingResponses(bookings.getContent());
+        return new BookingPageResponse(content, bookings.getNumber(), bookings.getSize(),
+                bookings.getTotalElements(), bookings.getTotalPages());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long exportBookings(LocalDate fromDate, LocalDate toDate, BookingExportFormat format, OutputStream outputStream) throws IOException {
+        logger.info("Exporting bookings booked from {} to {} as {}", fromDate, toDate, format);
+        long started = System.nanoTime();
+        long rows = 0;
+
+        // Rows are pulled from the open cursor and written straight through, never collected
+        try (Stream<BookingExportRow> stream = bookingRepository.streamExportRows(fromDate, toDate);
+                BookingExportWriter writer = new BookingExportWriter(format, outputStream, objectMapper)) {
+            Iterator<BookingExportRow> iterator = stream.iterator();
+            while (iterator.hasNext()) {
+                writer.write(iterator.next());
+                rows++;
+            }
+        }
+
+        logger.info("Exported {} booking rows in {} ms", rows, (System.nanoTime() - started) / 1_000_000);
+        return rows;
     }
 
     @Override
     public BookingResponse updateBookingStatus(Long bookingId, BookingStatus status) {
         Booking booking = bookingRepository.findById(bookingId)
                 .orElseThrow(() -> new BookingNotFoundException("Booking with ID " + bookingId + " not found"));
+
+        // Keep the journey date inventory in step with the status change; only confirmed bookings hold seats
+        if (booking.getStatus() == BookingStatus.CONFIRMED && status != BookingStatus.CONFIRMED) {
+            releaseSeats(booking, booking.getPassengers());
+        } else if (booking.getStatus() != BookingStatus.CONFIRMED && status == BookingStatus.CONFIRMED) {
+            reserveSeats(booking, booking.getPassengers());
+        }
+
+        BookingStatus previousStatus = booking.getStatus();
         booking.setStatus(status);
         booking = bookingRepository.save(booking);
+        int passengers = booking.getPassengers().size();
+        eventPublisher.publishEvent(BookingChangedEvent.statusChanged(booking, previousStatus, passengers));
+        if (status == BookingStatus.WAITLISTED && previousStatus != BookingStatus.WAITLISTED) {
+            // Queue it for promotion like a booking waitlisted at creation
+            eventPublisher.publishEvent(new BookingWaitlistedEvent(booking.getBookingId(),
+                    booking.getFareType().getFareTypeId(), booking.getJourneyDate(), passengers));
+        }
         return convertToBookingResponse(booking);
     }
 
@@ -366,7 +705,28 @@ public class BookingServiceImpl implements BookingService {
         if (booking.getStatus() == BookingStatus.CANCELLED) {
             throw new BookingValidationException("Cannot delete a cancelled booking");
         }
+        if (booking.getStatus() == BookingStatus.CONFIRMED) {
+            releaseSeats(booking, booking.getPassengers());
+        }
         bookingRepository.deleteById(bookingId);
+        eventPublisher.publishEvent(BookingChangedEvent.deleted(booking, booking.getPassengers().size()));
+    }
+
+    @Override
+    public boolean confirmWaitlistedBooking(Long bookingId) {
+        Booking booking = bookingRepository.findById(bookingId).orElse(null);
+        if (booking == null || booking.getStatus() != BookingStatus.WAITLISTED) {
+            return false;
+        }
+
+        reserveSeats(booking, booking.getPassengers());
+        booking.setStatus(BookingStatus.CONFIRMED);
+        bookingRepository.save(booking);
+        eventPublisher.publishEvent(BookingChangedEvent.statusChanged(booking, BookingStatus.WAITLISTED,
+                booking.getPassengers().size()));
+
+        logger.info("Waitlisted booking {} confirmed", bookingId);
+        return true;
     }
 
     @Override
@@ -375,13 +735,33 @@ public class BookingServiceImpl implements BookingService {
     }
 
     @Override
+    public int getAvailableSeats(Long fareTypeId, LocalDate journeyDate) {
+        if (!fareTypeRepository.existsById(fareTypeId)) {
+            throw new BookingValidationException("Fare type with ID " + fareTypeId + " not found");
+        }
+        return seatInventoryService.getAvailableSeats(fareTypeId, journeyDate);
+    }
+
+    @Override
+    public int getAvailableSeats(Long fareTypeId, LocalDate journeyDate, String boardingStation, String alightingStation,
+            String quota) {
+        FareType fareType = fareTypeRepository.findById(fareTypeId)
+                .orElseThrow(() -> new BookingValidationException("Fare type with ID " + fareTypeId + " not found"));
+        RouteStops routeStops = resolveStops(fareType.getTrain(), boardingStation, alightingStation);
+        if (routeStops == null) {
+            return seatInventoryService.getAvailableSeats(fareTypeId, journeyDate, toQuota(quota));
+        }
+        return seatAllocationService.getAvailableSeats(fareTypeId, journeyDate, routeStops.fromStop(), routeStops.toStop(),
+                toQuota(quota));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public BookingStatistics getBookingStatisticsByUserId(Long userId) {
-        long totalBookings = bookingRepository.countByUserId(userId);
-        long confirmedBookings = bookingRepository.countByUserIdAndStatus(userId, BookingStatus.CONFIRMED);
-        long cancelledBookings = bookingRepository.countByUserIdAndStatus(userId, BookingStatus.CANCELLED);
-        List<Booking> upcomingBookings = bookingRepository.findUpcomingBookingsByUserId(userId, LocalDate.now());
-        List<Booking> pastBookings = bookingRepository.findPastBookingsByUserId(userId, LocalDate.now());
-        return new BookingStatistics(totalBookings, confirmedBookings, cancelledBookings, upcomingBookings.size(), pastBookings.size());
+        if (bookingStatisticsCache != null) {
+            return bookingStatisticsCache.get(userId, () -> loadBookingStatistics(userId));
+        }
+        return loadBookingStatistics(userId);
     }
 
     @Override
@@ -417,22 +797,20 @@ public class BookingServiceImpl implements BookingService {
             throw new BookingValidationException("Cannot add passenger to cancelled booking");
         }
 
-        if (booking.getFareType().getSeatsAvailable() < 1) {
-            throw new BookingValidationException("No seats available for this booking");
+        if (booking.getStatus() == BookingStatus.WAITLISTED) {
+            throw new BookingValidationException("Cannot add passenger to waitlisted booking");
         }
 
         if (passengerRepository.existsByBooking_BookingIdAndIdProof(bookingId, passengerRequest.getIdProof())) {
             throw new BookingValidationException("Passenger with ID proof " + passengerRequest.getIdProof() + " already exists in this booking");
         }
 
-        Passenger passenger = new Passenger(booking, passengerRequest.getName(),
-                passengerRequest.getAge(), passengerRequest.getGender(),
-                passengerRequest.getIdProof());
+        Passenger passenger = toPassenger(booking, passengerRequest);
+        quotaPolicy.checkEligible(booking.getQuota(), List.of(passenger));
+        reserveSeats(booking, List.of(passenger));
+        int passengers = (int) passengerRepository.countByBooking_BookingId(bookingId);
         passenger = passengerRepository.save(passenger);
-
-        FareType fareType = booking.getFareType();
-        fareType.setSeatsAvailable(fareType.getSeatsAvailable() - 1);
-        fareTypeRepository.save(fareType);
+        eventPublisher.publishEvent(BookingChangedEvent.passengersChanged(booking, passengers, passengers + 1));
 
         return convertToPassengerResponse(passenger);
     }
@@ -455,6 +833,8 @@ public class BookingServiceImpl implements BookingService {
         passenger.setAge(passengerRequest.getAge());
         passenger.setGender(passengerRequest.getGender());
         passenger.setIdProof(passengerRequest.getIdProof());
+        quotaPolicy.checkEligible(passenger.getBooking().getQuota(), List.of(passenger));
+        passenger.setBerthPreference(toBerthPreference(passengerRequest.getBerthPreference()));
         passenger = passengerRepository.save(passenger);
 
         return convertToPassengerResponse(passenger);
@@ -469,11 +849,16 @@ public class BookingServiceImpl implements BookingService {
             throw new BookingValidationException("Cannot delete passenger from cancelled booking");
         }
 
+        // Counted rather than read from booking.getPassengers(): loading that cascaded collection would re-persist
+        // the passenger at flush and cancel the delete
+        int passengers = (int) passengerRepository.countByBooking_BookingId(passenger.getBooking().getBookingId());
         passengerRepository.deleteById(passengerId);
+        eventPublisher.publishEvent(BookingChangedEvent.passengersChanged(passenger.getBooking(), passengers,
+                passengers - 1));
 
-        FareType fareType = passenger.getBooking().getFareType();
-        fareType.setSeatsAvailable(fareType.getSeatsAvailable() + 1);
-        fareTypeRepository.save(fareType);
+        if (passenger.getBooking().getStatus() == BookingStatus.CONFIRMED) {
+            releaseSeats(passenger.getBooking(), List.of(passenger));
+        }
     }
 
     @Override
@@ -487,22 +872,11 @@ public class BookingServiceImpl implements BookingService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public PassengerStatistics getPassengerStatistics() {
-        List<Passenger> allPassengers = passengerRepository.findAll();
-        long totalPassengers = allPassengers.size();
-        long malePassengers = passengerRepository.countByGender("MALE");
-        long femalePassengers = passengerRepository.countByGender("FEMALE");
-        long otherPassengers = passengerRepository.countByGender("OTHER");
-        double averageAge = allPassengers.stream().mapToInt(Passenger::getAge).average().orElse(0.0);
-        return new PassengerStatistics(totalPassengers, malePassengers, femalePassengers, otherPassengers, averageAge);
-    }
-
-    private boolean matchesSearchCriteria(Booking booking, BookingSearchRequest searchRequest) {
-        return (searchRequest.getUserId() == null || booking.getUser().getUserId().equals(searchRequest.getUserId())) &&
-               (searchRequest.getTrainId() == null || booking.getTrain().getTrainId().equals(searchRequest.getTrainId())) &&
-               (searchRequest.getFareTypeId() == null || booking.getFareType().getFareTypeId().equals(searchRequest.getFareTypeId())) &&
-               (searchRequest.getJourneyDateFrom() == null || !booking.getJourneyDate().isBefore(searchRequest.getJourneyDateFrom())) &&
-               (searchRequest.getJourneyDateTo() == null || !booking.getJourneyDate().isAfter(searchRequest.getJourneyDateTo())) &&
-               (searchRequest.getStatus() == null || booking.getStatus().toString().equals(searchRequest.getStatus()));
+        if (passengerStatisticsCache != null) {
+            return passengerStatisticsCache.get("all", this::loadPassengerStatistics);
+        }
+        return loadPassengerStatistics();
     }
 }
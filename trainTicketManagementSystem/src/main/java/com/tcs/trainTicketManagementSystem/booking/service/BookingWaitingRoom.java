@@ -0,0 +1,253 @@
+package com.tcs.trainTicketManagementSystem.booking.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.tcs.trainTicketManagementSystem.booking.exception.BookingQueuedException;
+import com.tcs.trainTicketManagementSystem.booking.exception.BookingValidationException;
+import com.tcs.trainTicketManagementSystem.train.service.TrainCatalog;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Virtual waiting room in front of booking creation.
+ * Every train has a gate that admits booking requests at a fixed rate (with a small burst). A request
+ * arriving while the gate is busy takes the next ticket and is answered straight away with a signed
+ * queue token, its position and when to retry, instead of waiting on a servlet thread for database locks.
+ * Retrying with the token is admitted once the gate reaches its ticket. Gates are only opened for
+ * trains in the catalog, and dropped once no ticket is waiting and every token has expired.
+ * Enabled with booking.admission.enabled=true.
+ */
+@Component
+@ConditionalOnProperty(name = "booking.admission.enabled", havingValue = "true")
+public class BookingWaitingRoom {
+
+    private static final Logger logger = LoggerFactory.getLogger(BookingWaitingRoom.class);
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+
+    private final double ratePerSecond;
+    private final int burst;
+    private final long maxQueue;
+    private final double redeemWindowTickets;
+    private final long redeemWindowNanos;
+    private final TrainCatalog trainCatalog;
+
+    // Tokens are signed with a key of this instance, so a restart simply sends waiting clients to the back
+    private final SecretKeySpec tokenKey;
+
+    private final Map<Long, Gate> gates = new ConcurrentHashMap<>();
+    private final AtomicLong gateIds = new AtomicLong();
+
+    private final Counter admitted;
+    private final Counter queued;
+    private final Counter rejected;
+
+    public BookingWaitingRoom(MeterRegistry meterRegistry,
+            TrainCatalog trainCatalog,
+            @Value("${booking.admission.rate-per-second:30}") double ratePerSecond,
+            @Value("${booking.admission.burst:30}") int burst,
+            @Value("${booking.admission.max-queue:5000}") long maxQueue,
+            @Value("${booking.admission.redeem-window-seconds:30}") int redeemWindowSeconds) {
+        this.ratePerSecond = ratePerSecond;
+        this.burst = burst;
+        this.maxQueue = maxQueue;
+        this.redeemWindowTickets = ratePerSecond * redeemWindowSeconds;
+        this.redeemWindowNanos = TimeUnit.SECONDS.toNanos(redeemWindowSeconds);
+        this.trainCatalog = trainCatalog;
+        byte[] key = new byte[32];
+        new SecureRandom().nextBytes(key);
+        this.tokenKey = new SecretKeySpec(key, HMAC_ALGORITHM);
+        this.admitted = Counter.builder("booking.admission.admitted")
+                .description("Booking requests let through the waiting room")
+                .register(meterRegistry);
+        this.queued = Counter.builder("booking.admission.queued")
+                .description("Booking requests answered with a queue position")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("booking.admission.rejected")
+                .description("Booking requests turned away by a full waiting room")
+                .register(meterRegistry);
+        Gauge.builder("booking.admission.queue.depth", gates, BookingWaitingRoom::queueDepth)
+                .description("Tickets issued but not yet admitted across all trains")
+                .register(meterRegistry);
+        Gauge.builder("booking.admission.gates", gates, Map::size)
+                .description("Trains with an open waiting room gate")
+                .register(meterRegistry);
+        Gauge.builder("booking.admission.rate", () -> ratePerSecond)
+                .description("Booking requests admitted per second and train")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Admit a booking request for a train, or throw BookingQueuedException telling the client when to retry.
+     *
+     * @param queueToken token from an earlier queued response, or null on the first attempt
+     */
+    public void admit(Long trainId, String queueToken) {
+        QueueTicket ticket = queueToken != null ? parseToken(trainId, queueToken) : null;
+        if (trainCatalog.snapshot().findById(trainId).isEmpty()) {
+            throw new BookingValidationException("Train with ID " + trainId + " not found");
+        }
+        while (true) {
+            Gate gate = gates.computeIfAbsent(trainId, id -> new Gate(System.nanoTime()));
+            synchronized (gate) {
+                // A gate dropped while this request looked it up is replaced by a fresh one
+                if (!gate.evicted) {
+                    admit(trainId, gate, ticket, queueToken);
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Drop the gates no ticket is waiting at and whose tokens have all expired.
+     */
+    @Scheduled(fixedDelayString = "${booking.admission.evict-interval-ms:60000}")
+    public void evictIdleGates() {
+        long now = System.nanoTime();
+        gates.forEach((trainId, gate) -> {
+            synchronized (gate) {
+                // Every ticket had its turn over a redeem window ago, so no token can still be used
+                if (now - gate.lastTurnAt > redeemWindowNanos) {
+                    gate.evicted = true;
+                    gates.remove(trainId, gate);
+                }
+            }
+        });
+    }
+
+    // Helper Methods
+    private void admit(Long trainId, Gate gate, QueueTicket queueTicket, String queueToken) {
+        long now = System.nanoTime();
+        gate.refill(now);
+        // Tickets of a gate that has since been dropped expired with it
+        if (queueTicket != null && queueTicket.gateId() == gate.id) {
+            long ticket = queueTicket.ticket();
+            if (ticket + 1 > gate.boundary) {
+                queued.increment();
+                throw queuedAt(trainId, gate, ticket, queueToken);
+            }
+            // Each ticket is admitted once, within the redeem window after its turn
+            if (ticket + 1 > gate.boundary - redeemWindowTickets && gate.redeemed.add(ticket)) {
+                gate.redeemed.headSet((long) (gate.boundary - redeemWindowTickets)).clear();
+                admitted.increment();
+                return;
+            }
+            logger.debug("Queue token for ticket {} of train {} expired or reused; rejoining", ticket, trainId);
+        } else if (queueTicket != null) {
+            logger.debug("Queue token of an expired gate of train {}; rejoining", trainId);
+        }
+
+        if (gate.issued + 1 <= gate.boundary) {
+            gate.issued++;
+            gate.lastTurnAt = now;
+            admitted.increment();
+            return;
+        }
+        double waiting = gate.issued - Math.floor(gate.boundary);
+        if (waiting >= maxQueue) {
+            rejected.increment();
+            throw new BookingQueuedException("Booking queue for train " + trainId + " is full, please try again later",
+                    null, 0, retryAfterSeconds(waiting));
+        }
+        long issued = gate.issued++;
+        gate.lastTurnAt = now + (long) ((issued + 1 - gate.boundary) / ratePerSecond * 1e9);
+        queued.increment();
+        throw queuedAt(trainId, gate, issued, token(trainId, gate.id, issued));
+    }
+
+    private BookingQueuedException queuedAt(Long trainId, Gate gate, long ticket, String queueToken) {
+        long position = ticket - (long) Math.floor(gate.boundary) + 1;
+        return new BookingQueuedException("Train " + trainId + " is busy; you are number " + position
+                + " in the booking queue", queueToken, position, retryAfterSeconds(ticket + 1 - gate.boundary));
+    }
+
+    private long retryAfterSeconds(double tickets) {
+        return Math.max(1, (long) Math.ceil(tickets / ratePerSecond));
+    }
+
+    private String token(Long trainId, long gateId, long ticket) {
+        String payload = trainId + "-" + gateId + "-" + ticket;
+        return payload + "-" + sign(payload);
+    }
+
+    private QueueTicket parseToken(Long trainId, String queueToken) {
+        int signatureStart = queueToken.lastIndexOf('-');
+        if (signatureStart > 0) {
+            String payload = queueToken.substring(0, signatureStart);
+            byte[] signature = queueToken.substring(signatureStart + 1).getBytes(StandardCharsets.UTF_8);
+            String[] parts = payload.split("-");
+            if (parts.length == 3 && parts[0].equals(String.valueOf(trainId))
+                    && MessageDigest.isEqual(signature, sign(payload).getBytes(StandardCharsets.UTF_8))) {
+                return new QueueTicket(Long.parseLong(parts[1]), Long.parseLong(parts[2]));
+            }
+        }
+        throw new BookingValidationException("Invalid queue token for train " + trainId);
+    }
+
+    private String sign(String payload) {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(tokenKey);
+            byte[] signature = mac.doFinal(payload.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(signature, 0, 16);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(HMAC_ALGORITHM + " is not available", e);
+        }
+    }
+
+    private static double queueDepth(Map<Long, Gate> gates) {
+        double depth = 0;
+        for (Gate gate : gates.values()) {
+            synchronized (gate) {
+                depth += Math.max(0, gate.issued - gate.boundary);
+            }
+        }
+        return depth;
+    }
+
+    private record QueueTicket(long gateId, long ticket) {}
+
+    // A ticket has had its turn once the boundary has passed all of it; the boundary advances at the admit rate
+    private final class Gate {
+        private final long id = gateIds.incrementAndGet();
+        private long issued;
+        private double boundary = burst;
+        private long refilledAt;
+        // When the boundary passes the last ticket issued
+        private long lastTurnAt;
+        private final TreeSet<Long> redeemed = new TreeSet<>();
+        private boolean evicted;
+
+        private Gate(long now) {
+            this.refilledAt = now;
+            this.lastTurnAt = now;
+        }
+
+        private void refill(long now) {
+            boundary = Math.min(boundary + (now - refilledAt) / 1e9 * ratePerSecond, issued + burst);
+            refilledAt = now;
+        }
+    }
+}
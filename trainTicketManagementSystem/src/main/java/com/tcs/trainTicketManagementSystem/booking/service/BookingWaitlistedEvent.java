@@ -0,0 +1,10 @@
+package com.tcs.trainTicketManagementSystem.booking.service;
+
+import java.time.LocalDate;
+
+/**
+ * Event published when a booking is waitlisted because not enough seats were left.
+ * Listeners should react after the publishing transaction commits.
+ */
+public record BookingWaitlistedEvent(Long bookingId, Long fareTypeId, LocalDate journeyDate, int seats) {
+}
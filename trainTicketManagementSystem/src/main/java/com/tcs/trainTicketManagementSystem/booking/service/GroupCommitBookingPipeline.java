@@ -0,0 +1,209 @@
+package com.tcs.trainTicketManagementSystem.booking.service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.tcs.trainTicketManagementSystem.booking.dto.BookingRequest;
+import com.tcs.trainTicketManagementSystem.booking.dto.BookingResponse;
+import com.tcs.trainTicketManagementSystem.booking.exception.BookingValidationException;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Group-commit pipeline for booking creation.
+ * Concurrent create requests are queued per fare type and committed in small batches
+ * (bounded by a time window and a maximum size) inside one transaction. Each caller
+ * still receives its own response or validation error: a member rejected with a validation
+ * error rolls the batch back and the rest is committed again without it, and any other
+ * failure falls back to committing the remaining members one by one.
+ * Enabled with booking.group-commit.enabled=true.
+ */
+@Component
+@ConditionalOnProperty(name = "booking.group-commit.enabled", havingValue = "true")
+public class GroupCommitBookingPipeline {
+
+    private static final Logger logger = LoggerFactory.getLogger(GroupCommitBookingPipeline.class);
+
+    private final BookingService bookingService;
+    private final TransactionTemplate transactionTemplate;
+    private final ScheduledExecutorService executor;
+    private final long windowMicros;
+    private final int maxBatchSize;
+
+    private final Map<Long, Lane> lanes = new ConcurrentHashMap<>();
+
+    private final Timer latency;
+    private final DistributionSummary batchSize;
+
+    public GroupCommitBookingPipeline(BookingService bookingService,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${booking.group-commit.window-ms:5}") long windowMs,
+            @Value("${booking.group-commit.max-batch-size:64}") int maxBatchSize,
+            @Value("${booking.group-commit.workers:4}") int workers) {
+        this.bookingService = bookingService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.windowMicros = TimeUnit.MILLISECONDS.toMicros(windowMs);
+        this.maxBatchSize = maxBatchSize;
+        this.executor = Executors.newScheduledThreadPool(workers, runnable -> {
+            Thread thread = new Thread(runnable, "booking-group-commit");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.latency = Timer.builder("booking.group-commit.latency")
+                .description("Time from enqueue to commit of a grouped booking")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.batchSize = DistributionSummary.builder("booking.group-commit.batch.size")
+                .description("Number of bookings committed per transaction")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    /**
+     * Queue a booking for the next group commit of its fare type and wait for the result.
+     */
+    public BookingResponse createBooking(BookingRequest request) {
+        PendingBooking pending = new PendingBooking(request);
+        Lane lane = lanes.computeIfAbsent(request.getFareTypeId(), fareTypeId -> new Lane());
+        lane.queue.add(pending);
+
+        if (lane.size.incrementAndGet() >= maxBatchSize) {
+            executor.execute(() -> drain(lane));
+        } else if (lane.scheduled.compareAndSet(false, true)) {
+            executor.schedule(() -> drain(lane), windowMicros, TimeUnit.MICROSECONDS);
+        }
+
+        try {
+            return pending.result.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    // Helper Methods
+    private void drain(Lane lane) {
+        synchronized (lane) {
+            lane.scheduled.set(false);
+            List<PendingBooking> batch = new ArrayList<>(maxBatchSize);
+            PendingBooking pending;
+            while (batch.size() < maxBatchSize && (pending = lane.queue.poll()) != null) {
+                batch.add(pending);
+            }
+            lane.size.addAndGet(-batch.size());
+
+            if (!batch.isEmpty()) {
+                commit(batch);
+            }
+
+            // Requests that arrived while this batch was committing get their own window
+            if (!lane.queue.isEmpty() && lane.scheduled.compareAndSet(false, true)) {
+                executor.schedule(() -> drain(lane), windowMicros, TimeUnit.MICROSECONDS);
+            }
+        }
+    }
+
+    private void commit(List<PendingBooking> batch) {
+        Map<PendingBooking, Object> outcomes = new LinkedHashMap<>();
+        List<PendingBooking> members = new ArrayList<>(batch);
+        try {
+            PendingBooking rejected;
+            while (!members.isEmpty() && (rejected = commitTogether(members, outcomes)) != null) {
+                members.remove(rejected);
+            }
+        } catch (RuntimeException e) {
+            logger.warn("Group commit of {} bookings failed, retrying individually: {}", members.size(), e.getMessage());
+            for (PendingBooking pending : members) {
+                try {
+                    outcomes.put(pending, bookingService.createBooking(pending.request));
+                    batchSize.record(1);
+                } catch (RuntimeException individual) {
+                    outcomes.put(pending, individual);
+                }
+            }
+        }
+
+        outcomes.forEach((pending, outcome) -> {
+            latency.record(System.nanoTime() - pending.enqueuedAt, TimeUnit.NANOSECONDS);
+            if (outcome instanceof BookingResponse response) {
+                pending.result.complete(response);
+            } else {
+                pending.result.completeExceptionally((Throwable) outcome);
+            }
+        });
+    }
+
+    /**
+     * Commit the members in one transaction; a member rejected with a validation error rolls the whole
+     * transaction back and is returned, so the others can be committed again without it.
+     */
+    private PendingBooking commitTogether(List<PendingBooking> members, Map<PendingBooking, Object> outcomes) {
+        Map<PendingBooking, BookingResponse> created = new LinkedHashMap<>();
+        PendingBooking rejected = transactionTemplate.execute(status -> {
+            for (PendingBooking pending : members) {
+                try {
+                    created.put(pending, bookingService.createBooking(pending.request));
+                } catch (BookingValidationException e) {
+                    // The member may have written seats before it was rejected, so nothing of this round is kept
+                    status.setRollbackOnly();
+                    outcomes.put(pending, e);
+                    return pending;
+                }
+            }
+            return null;
+        });
+        if (rejected == null) {
+            outcomes.putAll(created);
+            batchSize.record(created.size());
+        }
+        return rejected;
+    }
+
+    private static final class Lane {
+        private final Queue<PendingBooking> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger size = new AtomicInteger();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+    }
+
+    private static final class PendingBooking {
+        private final BookingRequest request;
+        private final long enqueuedAt = System.nanoTime();
+        private final CompletableFuture<BookingResponse> result = new CompletableFuture<>();
+
+        private PendingBooking(BookingRequest request) {
+            this.request = request;
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.tcs.trainTicketManagementSystem.booking.service;
+
+import java.util.function.Supplier;
+
+import org.springframework.http.ResponseEntity;
+
+/**
+ * Service interface for idempotent handling of write requests.
+ */
+public interface IdempotencyService {
+
+    /**
+     * Run a write at most once per idempotency key and replay its stored response for retries.
+     * Without a key the action simply runs.
+     */
+    <T> ResponseEntity<T> execute(String idempotencyKey, String operation, Object request,
+            Class<T> responseType, Supplier<ResponseEntity<T>> action);
+}
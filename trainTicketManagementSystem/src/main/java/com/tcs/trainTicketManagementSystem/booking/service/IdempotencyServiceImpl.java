@@ -0,0 +1,196 @@
+package com.tcs.trainTicketManagementSystem.booking.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tcs.trainTicketManagementSystem.booking.exception.BookingValidationException;
+import com.tcs.trainTicketManagementSystem.booking.exception.IdempotencyKeyMismatchException;
+import com.tcs.trainTicketManagementSystem.booking.model.IdempotencyRecord;
+import com.tcs.trainTicketManagementSystem.booking.repository.IdempotencyRecordRepository;
+
+/**
+ * Service implementation for idempotent write requests.
+ * Successful responses are kept in a bounded LRU cache backed by the idempotency_record
+ * table, so retries are answered without running the service again. Concurrent retries
+ * of a request that is still running wait for its result instead of executing twice.
+ */
+@Service
+public class IdempotencyServiceImpl implements IdempotencyService {
+
+    private static final Logger logger = LoggerFactory.getLogger(IdempotencyServiceImpl.class);
+
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final int MAX_KEY_LENGTH = 100;
+
+    private final IdempotencyRecordRepository idempotencyRecordRepository;
+    private final ObjectMapper objectMapper;
+    private final Map<String, StoredResponse> cache;
+    private final Map<String, CompletableFuture<StoredResponse>> inFlight = new ConcurrentHashMap<>();
+
+    @Value("${booking.idempotency.retention-hours:24}")
+    private long retentionHours;
+
+    public IdempotencyServiceImpl(IdempotencyRecordRepository idempotencyRecordRepository, ObjectMapper objectMapper,
+            @Value("${booking.idempotency.cache-size:10000}") int cacheSize) {
+        this.idempotencyRecordRepository = idempotencyRecordRepository;
+        this.objectMapper = objectMapper;
+        this.cache = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, StoredResponse> eldest) {
+                return size() > cacheSize;
+            }
+        });
+    }
+
+    @Override
+    public <T> ResponseEntity<T> execute(String idempotencyKey, String operation, Object request,
+            Class<T> responseType, Supplier<ResponseEntity<T>> action) {
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            return action.get();
+        }
+        if (idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new BookingValidationException("Idempotency key must be at most " + MAX_KEY_LENGTH + " characters");
+        }
+
+        String requestHash = hash(operation, request);
+        StoredResponse stored = lookup(idempotencyKey);
+        if (stored != null) {
+            return replay(idempotencyKey, requestHash, stored, responseType);
+        }
+
+        CompletableFuture<StoredResponse> execution = new CompletableFuture<>();
+        CompletableFuture<StoredResponse> running = inFlight.putIfAbsent(idempotencyKey, execution);
+        if (running != null) {
+            stored = running.join();
+            // The original attempt failed, so this retry runs the request itself
+            return stored != null
+                    ? replay(idempotencyKey, requestHash, stored, responseType)
+                    : execute(idempotencyKey, operation, request, responseType, action);
+        }
+
+        try {
+            // The original may have completed between the lookup and claiming the key
+            stored = lookup(idempotencyKey);
+            if (stored != null) {
+                execution.complete(stored);
+                return replay(idempotencyKey, requestHash, stored, responseType);
+            }
+
+            ResponseEntity<T> response = action.get();
+            execution.complete(response.getStatusCode().is2xxSuccessful()
+                    ? store(idempotencyKey, requestHash, response)
+                    : null);
+            return response;
+        } catch (RuntimeException e) {
+            execution.complete(null);
+            throw e;
+        } finally {
+            inFlight.remove(idempotencyKey, execution);
+        }
+    }
+
+    /**
+     * Remove idempotency records older than the retention period.
+     */
+    @Scheduled(cron = "${booking.idempotency.cleanup-cron:0 0 * * * *}")
+    @Transactional
+    public void purgeExpired() {
+        LocalDateTime cutoff = LocalDateTime.now().minusHours(retentionHours);
+        int removed = idempotencyRecordRepository.deleteCreatedBefore(cutoff);
+        synchronized (cache) {
+            cache.values().removeIf(stored -> stored.createdAt().isBefore(cutoff));
+        }
+        logger.info("Purged {} idempotency records older than {}", removed, cutoff);
+    }
+
+    // Helper Methods
+    private StoredResponse lookup(String idempotencyKey) {
+        StoredResponse stored = cache.get(idempotencyKey);
+        if (stored != null) {
+            return stored;
+        }
+        return idempotencyRecordRepository.findById(idempotencyKey)
+                .map(record -> {
+                    StoredResponse loaded = new StoredResponse(record.getRequestHash(), record.getHttpStatus(),
+                            record.getResponseBody(), record.getCreatedAt());
+                    cache.put(idempotencyKey, loaded);
+                    return loaded;
+                })
+                .orElse(null);
+    }
+
+    private StoredResponse store(String idempotencyKey, String requestHash, ResponseEntity<?> response) {
+        String body = response.getBody() != null ? toJson(response.getBody()) : null;
+        IdempotencyRecord record = new IdempotencyRecord(idempotencyKey, requestHash, response.getStatusCode().value(), body);
+        try {
+            idempotencyRecordRepository.save(record);
+        } catch (DataIntegrityViolationException e) {
+            logger.warn("Idempotency key {} was stored concurrently", idempotencyKey);
+        }
+
+        StoredResponse stored = new StoredResponse(requestHash, record.getHttpStatus(), body, record.getCreatedAt());
+        cache.put(idempotencyKey, stored);
+        return stored;
+    }
+
+    private <T> ResponseEntity<T> replay(String idempotencyKey, String requestHash, StoredResponse stored, Class<T> responseType) {
+        if (!stored.requestHash().equals(requestHash)) {
+            throw new IdempotencyKeyMismatchException("Idempotency key " + idempotencyKey
+                    + " was already used for a different request");
+        }
+
+        logger.info("Replaying stored response for idempotency key: {}", idempotencyKey);
+        try {
+            T body = stored.body() != null ? objectMapper.readValue(stored.body(), responseType) : null;
+            return ResponseEntity.status(stored.status()).header(REPLAYED_HEADER, "true").body(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Stored response for idempotency key " + idempotencyKey + " is unreadable", e);
+        }
+    }
+
+    private String hash(String operation, Object request) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(operation.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            if (request != null) {
+                digest.update(toJson(request).getBytes(StandardCharsets.UTF_8));
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private String toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize " + value.getClass().getSimpleName(), e);
+        }
+    }
+
+    private record StoredResponse(String requestHash, int status, String body, LocalDateTime createdAt) {
+    }
+}
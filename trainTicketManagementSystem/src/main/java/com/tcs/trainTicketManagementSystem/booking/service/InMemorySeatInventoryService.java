@@ -0,0 +1,354 @@
+package com.tcs.trainTicketManagementSystem.booking.service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.tcs.trainTicketManagementSystem.booking.exception.BookingValidationException;
+import com.tcs.trainTicketManagementSystem.booking.model.Quota;
+import com.tcs.trainTicketManagementSystem.booking.model.SeatInventory;
+import com.tcs.trainTicketManagementSystem.booking.model.SeatQuota;
+import com.tcs.trainTicketManagementSystem.booking.repository.SeatInventoryRepository;
+import com.tcs.trainTicketManagementSystem.booking.repository.SeatQuotaRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * In-memory seat inventory keyed by (fare type, journey date).
+ * Reservations are lock-free compare-and-set loops on a per-key counter; committed
+ * changes are written behind to seat_inventory in batches by a scheduled flush.
+ * Quota pools stay in seat_quota; only the general pool is held in memory. Counters of journey
+ * dates that have passed are dropped daily with the horizon refresh.
+ * Enabled with booking.inventory.in-memory.enabled=true (single instance only).
+ */
+@Service
+@Primary
+@ConditionalOnProperty(name = "booking.inventory.in-memory.enabled", havingValue = "true")
+public class InMemorySeatInventoryService implements SeatInventoryService {
+
+    private static final Logger logger = LoggerFactory.getLogger(InMemorySeatInventoryService.class);
+
+    private final SeatInventoryServiceImpl databaseInventory;
+    private final SeatInventoryRepository seatInventoryRepository;
+    private final SeatQuotaRepository seatQuotaRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Map<InventoryKey, SeatCounter> counters = new ConcurrentHashMap<>();
+    private final Map<InventoryKey, AtomicInteger> pendingDeltas = new ConcurrentHashMap<>();
+    // Held by the flush and the rebuild, so a batch taken before a rebuild cannot be written after its resync
+    private final ReentrantLock writeBehindLock = new ReentrantLock();
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter casRetries;
+    private final Counter rejections;
+
+    public InMemorySeatInventoryService(SeatInventoryServiceImpl databaseInventory,
+            SeatInventoryRepository seatInventoryRepository,
+            SeatQuotaRepository seatQuotaRepository,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry) {
+        this.databaseInventory = databaseInventory;
+        this.seatInventoryRepository = seatInventoryRepository;
+        this.seatQuotaRepository = seatQuotaRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.hits = meterRegistry.counter("booking.inventory.memory.hits");
+        this.misses = meterRegistry.counter("booking.inventory.memory.misses");
+        this.casRetries = meterRegistry.counter("booking.inventory.memory.cas.retries");
+        this.rejections = meterRegistry.counter("booking.inventory.memory.rejections");
+        meterRegistry.gaugeMapSize("booking.inventory.memory.keys", Tags.empty(), counters);
+        meterRegistry.gaugeMapSize("booking.inventory.memory.pending", Tags.empty(), pendingDeltas);
+    }
+
+    @Override
+    public void reserveSeats(Long fareTypeId, LocalDate journeyDate, int seats) {
+        InventoryKey key = new InventoryKey(fareTypeId, journeyDate);
+        SeatCounter counter = counterFor(key);
+
+        int available = counter.available.get();
+        while (available >= seats) {
+            if (counter.available.compareAndSet(available, available - seats)) {
+                afterCompletion(key, counter, -seats);
+                return;
+            }
+            casRetries.increment();
+            available = counter.available.get();
+        }
+
+        rejections.increment();
+        throw new BookingValidationException("Not enough seats available on " + journeyDate
+                + ". Available: " + available + ", Required: " + seats);
+    }
+
+    @Override
+    public void releaseSeats(Long fareTypeId, LocalDate journeyDate, int seats) {
+        if (seats <= 0) {
+            return;
+        }
+        InventoryKey key = new InventoryKey(fareTypeId, journeyDate);
+        SeatCounter counter = counterFor(key);
+
+        int available = counter.available.get();
+        while (available + seats <= counter.totalSeats) {
+            if (counter.available.compareAndSet(available, available + seats)) {
+                afterCompletion(key, counter, seats);
+                return;
+            }
+            casRetries.increment();
+            available = counter.available.get();
+        }
+        logger.warn("No seats released for fare type {} on {} (requested {})", fareTypeId, journeyDate, seats);
+    }
+
+    @Override
+    public int getAvailableSeats(Long fareTypeId, LocalDate journeyDate) {
+        return counterFor(new InventoryKey(fareTypeId, journeyDate)).available.get();
+    }
+
+    @Override
+    public Map<Long, Integer> getAvailableSeats(Collection<Long> fareTypeIds, LocalDate journeyDate) {
+        Map<Long, Integer> available = new HashMap<>();
+        for (Long fareTypeId : fareTypeIds) {
+            available.put(fareTypeId, getAvailableSeats(fareTypeId, journeyDate));
+        }
+        return available;
+    }
+
+    @Override
+    public Set<Long> findFareTypesWithSeats(LocalDate fromDate) {
+        // Seats released in memory count at once; seats sold in memory count once flushed
+        Set<Long> withSeats = databaseInventory.findFareTypesWithSeats(fromDate);
+        counters.forEach((key, counter) -> {
+            if (!key.journeyDate().isBefore(fromDate) && counter.available.get() > 0) {
+                withSeats.add(key.fareTypeId());
+            }
+        });
+        return withSeats;
+    }
+
+    @Override
+    public void reserveSeats(Long fareTypeId, LocalDate journeyDate, Quota quota, int seats) {
+        if (!databaseInventory.reserveQuotaSeats(fareTypeId, journeyDate, quota, seats)) {
+            reserveSeats(fareTypeId, journeyDate, seats);
+        }
+    }
+
+    @Override
+    public void releaseSeats(Long fareTypeId, LocalDate journeyDate, Quota quota, int seats) {
+        if (!databaseInventory.releaseQuotaSeats(fareTypeId, journeyDate, quota, seats)) {
+            releaseSeats(fareTypeId, journeyDate, seats);
+        }
+    }
+
+    @Override
+    public int getAvailableSeats(Long fareTypeId, LocalDate journeyDate, Quota quota) {
+        if (quota == Quota.GENERAL) {
+            return getAvailableSeats(fareTypeId, journeyDate);
+        }
+        return seatQuotaRepository.findByFareTypeIdAndJourneyDateAndQuota(fareTypeId, journeyDate, quota)
+                .filter(pool -> !pool.isClosed())
+                .map(SeatQuota::getSeatsAvailable)
+                .orElseGet(() -> getAvailableSeats(fareTypeId, journeyDate));
+    }
+
+    @Override
+    public List<SeatQuota> rebalanceQuotas() {
+        LocalDateTime now = LocalDateTime.now();
+        List<SeatQuota> closed = transactionTemplate.execute(status -> {
+            List<SeatQuota> pools = new ArrayList<>();
+            for (Quota quota : Quota.values()) {
+                List<Long> due = databaseInventory.findDueQuotaIds(quota, now);
+                if (due.isEmpty()) {
+                    continue;
+                }
+                // Locked pools cannot be booked from; their seats reach seat_inventory with the next flush
+                for (SeatQuota pool : seatQuotaRepository.lockOpenQuotas(due)) {
+                    releaseSeats(pool.getFareTypeId(), pool.getJourneyDate(), pool.getSeatsAvailable());
+                    pools.add(pool);
+                }
+                seatQuotaRepository.closeQuotas(due);
+            }
+            return pools;
+        });
+        if (!closed.isEmpty()) {
+            logger.info("Returned {} quota pools past their cut-off to the general pool", closed.size());
+        }
+        return closed;
+    }
+
+    @Override
+    public int materializeHorizon() {
+        return databaseInventory.materializeHorizon();
+    }
+
+    /**
+     * Rebuild the in-memory counters from confirmed bookings on startup, once the horizon is materialized.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE + 1)
+    public void rebuild() {
+        writeBehindLock.lock();
+        try {
+            LocalDate today = LocalDate.now();
+            transactionTemplate.executeWithoutResult(status -> {
+                seatInventoryRepository.materializeForBookedDates(today);
+                databaseInventory.carveQuotas(today);
+                seatInventoryRepository.resyncFromBookings(today);
+            });
+
+            counters.clear();
+            pendingDeltas.clear();
+            for (SeatInventory inventory : seatInventoryRepository.findFromJourneyDate(today)) {
+                InventoryKey key = new InventoryKey(inventory.getFareType().getFareTypeId(), inventory.getJourneyDate());
+                counters.put(key, new SeatCounter(inventory.getTotalSeats(), inventory.getSeatsAvailable()));
+            }
+            logger.info("Rebuilt in-memory seat inventory with {} train-dates", counters.size());
+        } finally {
+            writeBehindLock.unlock();
+        }
+    }
+
+    /**
+     * Drop the counters of journey dates that have passed, after writing their last changes behind.
+     */
+    @Scheduled(cron = "${booking.inventory.materialize-cron:0 0 2 * * *}")
+    public void evictPastDates() {
+        flush();
+        LocalDate today = LocalDate.now();
+        int before = counters.size();
+        counters.keySet().removeIf(key -> key.journeyDate().isBefore(today));
+        pendingDeltas.keySet().forEach(key -> {
+            if (key.journeyDate().isBefore(today)) {
+                pendingDeltas.computeIfPresent(key, (k, delta) -> delta.get() == 0 ? null : delta);
+            }
+        });
+        logger.info("Evicted {} in-memory seat counters of past journey dates", before - counters.size());
+    }
+
+    /**
+     * Write committed seat changes behind to seat_inventory in one batch.
+     */
+    @Scheduled(fixedDelayString = "${booking.inventory.in-memory.flush-interval-ms:500}")
+    @PreDestroy
+    public void flush() {
+        if (pendingDeltas.isEmpty()) {
+            return;
+        }
+
+        writeBehindLock.lock();
+        try {
+            Map<InventoryKey, Integer> batch = new HashMap<>();
+            pendingDeltas.forEach((key, delta) -> {
+                int value = delta.getAndSet(0);
+                if (value != 0) {
+                    batch.put(key, value);
+                }
+            });
+            if (batch.isEmpty()) {
+                return;
+            }
+
+            try {
+                transactionTemplate.executeWithoutResult(status -> batch.forEach((key, delta) -> {
+                    if (seatInventoryRepository.applySeatDelta(key.fareTypeId(), key.journeyDate(), delta) == 0) {
+                        // A row created now is already net of the committed bookings behind this delta
+                        databaseInventory.getAvailableSeats(key.fareTypeId(), key.journeyDate());
+                    }
+                }));
+                logger.debug("Flushed {} seat inventory deltas", batch.size());
+            } catch (RuntimeException e) {
+                logger.error("Seat inventory flush failed, retrying {} deltas on next run", batch.size(), e);
+                batch.forEach(this::recordDelta);
+            }
+        } finally {
+            writeBehindLock.unlock();
+        }
+    }
+
+    // Helper Methods
+    private SeatCounter counterFor(InventoryKey key) {
+        SeatCounter counter = counters.get(key);
+        if (counter != null) {
+            hits.increment();
+            return counter;
+        }
+
+        misses.increment();
+        // Load outside the map lock; the database row already reflects every committed change for an unloaded key
+        int available = databaseInventory.getAvailableSeats(key.fareTypeId(), key.journeyDate());
+        int totalSeats = seatInventoryRepository.findByFareTypeIdAndJourneyDate(key.fareTypeId(), key.journeyDate())
+                .map(SeatInventory::getTotalSeats)
+                .orElse(available);
+        SeatCounter loaded = new SeatCounter(totalSeats, available);
+        SeatCounter existing = counters.putIfAbsent(key, loaded);
+        return existing != null ? existing : loaded;
+    }
+
+    private void afterCompletion(InventoryKey key, SeatCounter counter, int delta) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            recordDelta(key, delta);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    recordDelta(key, delta);
+                } else {
+                    // Undo the in-memory change of a booking that never committed
+                    counter.available.addAndGet(-delta);
+                }
+            }
+        });
+    }
+
+    // Added under the map lock, so an eviction of the emptied delta cannot drop it
+    private void recordDelta(InventoryKey key, int delta) {
+        pendingDeltas.compute(key, (k, pending) -> {
+            AtomicInteger value = pending != null ? pending : new AtomicInteger();
+            value.addAndGet(delta);
+            return value;
+        });
+    }
+
+    private record InventoryKey(Long fareTypeId, LocalDate journeyDate) {
+    }
+
+    private static final class SeatCounter {
+        private final int totalSeats;
+        private final AtomicInteger available;
+
+        private SeatCounter(int totalSeats, int available) {
+            this.totalSeats = totalSeats;
+            this.available = new AtomicInteger(available);
+        }
+    }
+}
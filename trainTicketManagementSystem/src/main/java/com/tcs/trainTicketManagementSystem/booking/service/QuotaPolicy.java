@@ -0,0 +1,80 @@
+package com.tcs.trainTicketManagementSystem.booking.service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.tcs.trainTicketManagementSystem.booking.exception.BookingValidationException;
+import com.tcs.trainTicketManagementSystem.booking.model.Passenger;
+import com.tcs.trainTicketManagementSystem.booking.model.Quota;
+
+/**
+ * Configured size and cut-off of each seat quota, and who may book under it.
+ * A quota holds a percentage of every fare type's seats until the configured number of hours
+ * before departure, when its unsold seats go back to the general pool.
+ */
+@Component
+public class QuotaPolicy {
+
+    @Value("${booking.quota.tatkal.percent:10}")
+    private int tatkalPercent;
+
+    @Value("${booking.quota.ladies.percent:4}")
+    private int ladiesPercent;
+
+    @Value("${booking.quota.senior.percent:6}")
+    private int seniorPercent;
+
+    @Value("${booking.quota.tatkal.cutoff-hours:4}")
+    private int tatkalCutoffHours;
+
+    @Value("${booking.quota.ladies.cutoff-hours:24}")
+    private int ladiesCutoffHours;
+
+    @Value("${booking.quota.senior.cutoff-hours:24}")
+    private int seniorCutoffHours;
+
+    @Value("${booking.quota.senior.min-age:60}")
+    private int seniorMinAge;
+
+    /**
+     * Percentage of a fare type's seats carved out for the quota (0 for GENERAL).
+     */
+    public int percent(Quota quota) {
+        return switch (quota) {
+            case GENERAL -> 0;
+            case TATKAL -> tatkalPercent;
+            case LADIES -> ladiesPercent;
+            case SENIOR -> seniorPercent;
+        };
+    }
+
+    /**
+     * Latest departure whose quota pools are due to go back to general at the given time.
+     */
+    public LocalDateTime cutoff(Quota quota, LocalDateTime now) {
+        int hours = switch (quota) {
+            case GENERAL -> 0;
+            case TATKAL -> tatkalCutoffHours;
+            case LADIES -> ladiesCutoffHours;
+            case SENIOR -> seniorCutoffHours;
+        };
+        return now.plusHours(hours);
+    }
+
+    /**
+     * Check that every passenger may travel under the quota.
+     */
+    public void checkEligible(Quota quota, List<Passenger> passengers) {
+        if (quota == Quota.LADIES && passengers.stream().anyMatch(passenger -> !"FEMALE".equals(passenger.getGender()))) {
+            throw new BookingValidationException("Only female passengers can book under the LADIES quota");
+        }
+        if (quota == Quota.SENIOR && passengers.stream()
+                .anyMatch(passenger -> passenger.getAge() == null || passenger.getAge() < seniorMinAge)) {
+            throw new BookingValidationException("Only passengers aged " + seniorMinAge
+                    + " or over can book under the SENIOR quota");
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.tcs.trainTicketManagementSystem.booking.service;
+
+import java.util.List;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.tcs.trainTicketManagementSystem.booking.model.SeatQuota;
+
+/**
+ * Periodically hands the unsold seats of quota pools past their cut-off back to the general pool,
+ * with one set-based pass per quota across all trains and dates.
+ */
+@Component
+public class QuotaRebalanceJob {
+
+    private final SeatInventoryService seatInventoryService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public QuotaRebalanceJob(SeatInventoryService seatInventoryService, ApplicationEventPublisher eventPublisher) {
+        this.seatInventoryService = seatInventoryService;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Scheduled(cron = "${booking.quota.rebalance-cron:0 */10 * * * *}")
+    @Transactional
+    public void rebalance() {
+        List<SeatQuota> closed = seatInventoryService.rebalanceQuotas();
+        // Returned seats may confirm waitlisted bookings once this transaction commits
+        closed.stream()
+                .filter(pool -> pool.getSeatsAvailable() > 0)
+                .map(pool -> new SeatsReleasedEvent(pool.getFareTypeId(), pool.getJourneyDate()))
+                .distinct()
+                .forEach(eventPublisher::publishEvent);
+    }
+}
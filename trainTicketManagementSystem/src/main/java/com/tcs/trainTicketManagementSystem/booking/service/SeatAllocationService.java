@@ -0,0 +1,44 @@
+package com.tcs.trainTicketManagementSystem.booking.service;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+import com.tcs.trainTicketManagementSystem.booking.model.BerthPreference;
+import com.tcs.trainTicketManagementSystem.booking.model.Quota;
+import com.tcs.trainTicketManagementSystem.train.model.BerthType;
+
+/**
+ * Service interface for assigning concrete seats on per-seat segment bitmaps.
+ * Stops are sequence numbers along the train's route; a journey covers the segments from one stop to a later one,
+ * and null stops stand for the whole route.
+ */
+public interface SeatAllocationService {
+
+    /**
+     * Assign one seat per preference (null for no preference) free on every segment of the journey.
+     * A group is seated together in one coach where possible and preferences are matched on a best effort basis.
+     * Fully free seats are taken from the quota's pool of the seat inventory unless they were already reserved there (held seats).
+     * Throws SeatsUnavailableException when not enough seats are left.
+     *
+     * @return the assigned seats, in the order of the preferences
+     */
+    List<SeatAssignment> allocateSeats(Long fareTypeId, LocalDate journeyDate, Integer fromStop, Integer toStop,
+            Quota quota, List<BerthPreference> preferences, boolean seatsReserved);
+
+    /**
+     * Release seats previously assigned for a journey; seats left fully free go back to the quota's pool.
+     */
+    void releaseSeats(Long fareTypeId, LocalDate journeyDate, Integer fromStop, Integer toStop, Quota quota,
+            Collection<Integer> seatNumbers);
+
+    /**
+     * Get the seats bookable under a quota on every segment between two stops.
+     */
+    int getAvailableSeats(Long fareTypeId, LocalDate journeyDate, int fromStop, int toStop, Quota quota);
+
+    /**
+     * Seat assigned to a passenger.
+     */
+    record SeatAssignment(int seatNumber, String coach, int berthNumber, BerthType berthType) {}
+}
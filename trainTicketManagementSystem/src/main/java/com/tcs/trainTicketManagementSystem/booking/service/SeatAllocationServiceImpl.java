@@ -0,0 +1,475 @@
+package com.tcs.trainTicketManagementSystem.booking.service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.tcs.trainTicketManagementSystem.booking.exception.BookingValidationException;
+import com.tcs.trainTicketManagementSystem.booking.exception.SeatsUnavailableException;
+import com.tcs.trainTicketManagementSystem.booking.model.BerthPreference;
+import com.tcs.trainTicketManagementSystem.booking.model.Quota;
+import com.tcs.trainTicketManagementSystem.booking.model.SeatSegment;
+import com.tcs.trainTicketManagementSystem.booking.repository.SeatInventoryRepository;
+import com.tcs.trainTicketManagementSystem.booking.repository.SeatSegmentRepository;
+import com.tcs.trainTicketManagementSystem.booking.util.SeatMap;
+import com.tcs.trainTicketManagementSystem.train.model.Coach;
+import com.tcs.trainTicketManagementSystem.train.model.CoachLayout;
+import com.tcs.trainTicketManagementSystem.train.model.FareType;
+import com.tcs.trainTicketManagementSystem.train.repository.CoachRepository;
+import com.tcs.trainTicketManagementSystem.train.repository.FareTypeRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+
+/**
+ * Seat assignment keyed by (fare type, journey date).
+ * Only sold seats have a seat_segment row; fully free seats stay a counter in the seat inventory,
+ * and a seat moves between the two when its first segment is sold or its last segment is released.
+ * Seats are picked from a cached in-memory seat map without any database lock. The map is labelled with
+ * the segment version of the seat inventory row it matches, and a change is only written once a
+ * compare-and-set moves that version from the map's label to a fresh random token; when another change
+ * (another instance, or a rolled back transaction) got there first, the map is reloaded and the change
+ * retried. Transactions of this instance chain their changes on the shared map, so they do not conflict
+ * with each other; as the version update only matches a committed version, a chained change waits for the
+ * one before it to commit, so writes to one train-date still commit one after another, but seat selection
+ * and the rest of each transaction run without holding the row. A map is only dropped once no change of
+ * this instance is in flight on it, after it went unused for a while or its journey date has passed.
+ */
+@Service
+@Transactional
+public class SeatAllocationServiceImpl implements SeatAllocationService {
+
+    private static final Logger logger = LoggerFactory.getLogger(SeatAllocationServiceImpl.class);
+
+    private static final long SEAT_MAP_IDLE_NANOS = Duration.ofMinutes(30).toNanos();
+    private static final int MAX_ATTEMPTS = 5;
+    // How long a change waits for the change it was chained on to commit before trying its version update anyway
+    private static final long COMMIT_WAIT_NANOS = TimeUnit.MILLISECONDS.toNanos(500);
+
+    private final SeatSegmentRepository seatSegmentRepository;
+    private final SeatInventoryRepository seatInventoryRepository;
+    private final SeatInventoryService seatInventoryService;
+    private final FareTypeRepository fareTypeRepository;
+    private final CoachRepository coachRepository;
+    private final int cacheSize;
+    private final Map<InventoryKey, CachedSeatMap> seatMaps = new ConcurrentHashMap<>();
+
+    public SeatAllocationServiceImpl(SeatSegmentRepository seatSegmentRepository,
+            SeatInventoryRepository seatInventoryRepository, SeatInventoryService seatInventoryService,
+            FareTypeRepository fareTypeRepository, CoachRepository coachRepository, MeterRegistry meterRegistry,
+            @Value("${booking.segments.cache-size:10000}") int cacheSize) {
+        this.seatSegmentRepository = seatSegmentRepository;
+        this.seatInventoryRepository = seatInventoryRepository;
+        this.seatInventoryService = seatInventoryService;
+        this.fareTypeRepository = fareTypeRepository;
+        this.coachRepository = coachRepository;
+        this.cacheSize = cacheSize;
+        meterRegistry.gaugeMapSize("booking.segments.cached", Tags.empty(), seatMaps);
+    }
+
+    @Override
+    @Transactional(noRollbackFor = BookingValidationException.class)
+    public List<SeatAssignment> allocateSeats(Long fareTypeId, LocalDate journeyDate, Integer fromStop, Integer toStop,
+            Quota quota, List<BerthPreference> preferences, boolean seatsReserved) {
+        long mask = segmentMask(fromStop, toStop);
+        int count = preferences.size();
+        for (int attempt = 1; ; attempt++) {
+            long committedVersion = readSegmentVersion(fareTypeId, journeyDate);
+            InventoryKey key = new InventoryKey(fareTypeId, journeyDate);
+            CachedSeatMap cached = seatMaps.computeIfAbsent(key, k -> new CachedSeatMap());
+            SeatMap seatMap;
+            SeatChange change;
+            int[] seats;
+            boolean[] free;
+            long[] occupied;
+            int fresh = 0;
+            synchronized (cached) {
+                if (cached.evicted) {
+                    continue;
+                }
+                seatMap = cached.current(committedVersion, claimedVersion(key),
+                        () -> readSegmentVersion(fareTypeId, journeyDate), () -> loadSeatMap(fareTypeId, journeyDate));
+                seats = seatMap.allocate(mask, preferences.toArray(new BerthPreference[0]));
+                if (seats == null) {
+                    throw notEnoughSeats(journeyDate, fromStop, toStop, quota, seatMap.fittingSeats(mask), count);
+                }
+                free = new boolean[count];
+                occupied = new long[count];
+                for (int i = 0; i < count; i++) {
+                    free[i] = seatMap.isFree(seats[i]);
+                    fresh += free[i] ? 1 : 0;
+                    occupied[i] = seatMap.occupy(seats[i], mask);
+                }
+                change = cached.begin();
+            }
+
+            if (!claimVersion(key, cached, change, attempt)) {
+                continue;
+            }
+            // Fully free seats are counted off the inventory once the version is ours; a shortfall leaves the
+            // claimed version behind with nothing written, and the map, which assumed the seats, is dropped
+            if (!seatsReserved && fresh > 0) {
+                try {
+                    seatInventoryService.reserveSeats(fareTypeId, journeyDate, quota, fresh);
+                } catch (BookingValidationException e) {
+                    cached.discard(change);
+                    int available = count - fresh + seatInventoryService.getAvailableSeats(fareTypeId, journeyDate, quota);
+                    throw notEnoughSeats(journeyDate, fromStop, toStop, quota, available, count);
+                }
+            }
+            if (seatsReserved) {
+                // Held seats reserved one per passenger; partly sold seats reused instead go back
+                seatInventoryService.releaseSeats(fareTypeId, journeyDate, count - fresh);
+            }
+
+            List<SeatAssignment> assignments = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                int seat = seats[i];
+                if (free[i]) {
+                    seatSegmentRepository.insertSeat(fareTypeId, journeyDate, seat + 1, occupied[i]);
+                } else {
+                    seatSegmentRepository.updateSeat(fareTypeId, journeyDate, seat + 1, occupied[i]);
+                }
+                assignments.add(new SeatAssignment(seat + 1, seatMap.coachNumber(seat), seatMap.berthNumber(seat),
+                        seatMap.berthType(seat)));
+            }
+
+            logger.debug("Allocated seats {} for fare type {} on {} between stops {} and {}",
+                    assignments, fareTypeId, journeyDate, fromStop, toStop);
+            return assignments;
+        }
+    }
+
+    @Override
+    public void releaseSeats(Long fareTypeId, LocalDate journeyDate, Integer fromStop, Integer toStop, Quota quota,
+            Collection<Integer> seatNumbers) {
+        if (seatNumbers.isEmpty()) {
+            return;
+        }
+        long mask = segmentMask(fromStop, toStop);
+        for (int attempt = 1; ; attempt++) {
+            long committedVersion = readSegmentVersion(fareTypeId, journeyDate);
+            InventoryKey key = new InventoryKey(fareTypeId, journeyDate);
+            CachedSeatMap cached = seatMaps.computeIfAbsent(key, k -> new CachedSeatMap());
+            SeatChange change;
+            List<Integer> vacated = new ArrayList<>(seatNumbers.size());
+            List<Long> remaining = new ArrayList<>(seatNumbers.size());
+            synchronized (cached) {
+                if (cached.evicted) {
+                    continue;
+                }
+                SeatMap seatMap = cached.current(committedVersion, claimedVersion(key),
+                        () -> readSegmentVersion(fareTypeId, journeyDate), () -> loadSeatMap(fareTypeId, journeyDate));
+                for (int seatNumber : seatNumbers) {
+                    int seat = seatNumber - 1;
+                    if (seat >= seatMap.seats() || seatMap.isFree(seat)) {
+                        continue;
+                    }
+                    vacated.add(seatNumber);
+                    remaining.add(seatMap.vacate(seat, mask));
+                }
+                if (vacated.isEmpty()) {
+                    return;
+                }
+                change = cached.begin();
+            }
+            if (!claimVersion(key, cached, change, attempt)) {
+                continue;
+            }
+
+            // Seats left with no sold segment become fully free again
+            int freed = 0;
+            for (int i = 0; i < vacated.size(); i++) {
+                if (remaining.get(i) == 0) {
+                    seatSegmentRepository.deleteSeat(fareTypeId, journeyDate, vacated.get(i));
+                    freed++;
+                } else {
+                    seatSegmentRepository.updateSeat(fareTypeId, journeyDate, vacated.get(i), remaining.get(i));
+                }
+            }
+            seatInventoryService.releaseSeats(fareTypeId, journeyDate, quota, freed);
+            return;
+        }
+    }
+
+    @Override
+    public int getAvailableSeats(Long fareTypeId, LocalDate journeyDate, int fromStop, int toStop, Quota quota) {
+        return seatInventoryService.getAvailableSeats(fareTypeId, journeyDate, quota)
+                + seatSegmentRepository.countFreeSeats(fareTypeId, journeyDate, SeatSegment.segmentMask(fromStop, toStop));
+    }
+
+    /**
+     * Drop the seat maps of past journey dates and those unused for a while, then the least recently used ones
+     * while more than the configured number are kept; maps with changes in flight are always kept.
+     */
+    @Scheduled(fixedDelayString = "${booking.segments.evict-interval-ms:60000}")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void evictIdleSeatMaps() {
+        LocalDate today = LocalDate.now();
+        long now = System.nanoTime();
+        seatMaps.forEach((key, cached) -> {
+            if (key.journeyDate().isBefore(today) || now - cached.lastUsed > SEAT_MAP_IDLE_NANOS) {
+                evict(key, cached);
+            }
+        });
+
+        int excess = seatMaps.size() - cacheSize;
+        if (excess > 0) {
+            seatMaps.entrySet().stream()
+                    .sorted(Comparator.comparingLong(entry -> entry.getValue().lastUsed))
+                    .limit(excess)
+                    .forEach(entry -> evict(entry.getKey(), entry.getValue()));
+        }
+    }
+
+    // Helper Methods
+    private void evict(InventoryKey key, CachedSeatMap cached) {
+        synchronized (cached) {
+            if (cached.pending == 0) {
+                // Changes that looked the map up before it was dropped plan again on a fresh one
+                cached.evicted = true;
+                seatMaps.remove(key, cached);
+            }
+        }
+    }
+
+    private long segmentMask(Integer fromStop, Integer toStop) {
+        return fromStop == null ? SeatSegment.WHOLE_ROUTE : SeatSegment.segmentMask(fromStop, toStop);
+    }
+
+    private SeatsUnavailableException notEnoughSeats(LocalDate journeyDate, Integer fromStop, Integer toStop,
+            Quota quota, int available, int required) {
+        String journey = fromStop == null ? "" : " between stops " + fromStop + " and " + toStop;
+        String pool = quota == Quota.GENERAL ? "" : " " + quota + " quota";
+        return new SeatsUnavailableException("Not enough" + pool + " seats available" + journey + " on " + journeyDate
+                + ". Available: " + available + ", Required: " + required);
+    }
+
+    private long readSegmentVersion(Long fareTypeId, LocalDate journeyDate) {
+        Long version = seatInventoryRepository.findSegmentVersion(fareTypeId, journeyDate).orElse(null);
+        if (version == null) {
+            // Reading the availability materializes a missing inventory row
+            seatInventoryService.getAvailableSeats(fareTypeId, journeyDate);
+            version = seatInventoryRepository.findSegmentVersion(fareTypeId, journeyDate)
+                    .orElseThrow(() -> new BookingValidationException("No seat inventory for fare type " + fareTypeId
+                            + " on " + journeyDate));
+        }
+        return version;
+    }
+
+    // Move the row's segment version from the one the change was planned on to the change's own; false to retry
+    private boolean claimVersion(InventoryKey key, CachedSeatMap cached, SeatChange change, int attempt) {
+        if (claimedVersion(key) == null) {
+            // The update only matches a committed version, so a chained change first lets its predecessor commit
+            cached.awaitCommitted(change.expectedVersion());
+        }
+        boolean claimed = false;
+        try {
+            claimed = seatInventoryRepository.compareAndSetSegmentVersion(key.fareTypeId(), key.journeyDate(),
+                    change.expectedVersion(), change.version()) > 0;
+        } finally {
+            if (!claimed) {
+                cached.fail(change);
+            }
+        }
+        if (!claimed) {
+            if (attempt >= MAX_ATTEMPTS) {
+                throw new OptimisticLockingFailureException("Seats of fare type " + key.fareTypeId() + " on "
+                        + key.journeyDate() + " keep changing, please retry");
+            }
+            logger.debug("Seat map of fare type {} on {} changed concurrently, retrying", key.fareTypeId(), key.journeyDate());
+            return false;
+        }
+        markClaimed(key, change.version());
+        afterCompletion(cached, change);
+        return true;
+    }
+
+    // The version this transaction gave the train-date's row, or null when it has not claimed it; a transaction
+    // that claimed the row holds it, and other claims wait on it
+    private Long claimedVersion(InventoryKey key) {
+        TransactionClaim claim = (TransactionClaim) TransactionSynchronizationManager.getResource(key);
+        return claim != null ? claim.version : null;
+    }
+
+    private void markClaimed(InventoryKey key, long version) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        TransactionClaim claim = (TransactionClaim) TransactionSynchronizationManager.getResource(key);
+        if (claim == null) {
+            claim = new TransactionClaim();
+            TransactionSynchronizationManager.bindResource(key, claim);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(key);
+                }
+            });
+        }
+        claim.version = version;
+    }
+
+    private void afterCompletion(CachedSeatMap cached, SeatChange change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            cached.complete(change, true);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                cached.complete(change, status == STATUS_COMMITTED);
+            }
+        });
+    }
+
+    private SeatMap loadSeatMap(Long fareTypeId, LocalDate journeyDate) {
+        FareType fareType = fareTypeRepository.findById(fareTypeId)
+                .orElseThrow(() -> new BookingValidationException("Fare type with ID " + fareTypeId + " not found"));
+        CoachLayout layout = CoachLayout.of(fareType.getClassType());
+        List<Coach> coaches = coachRepository.findByFareTypeFareTypeIdOrderByCoachSequence(fareTypeId);
+        SeatMap seatMap = new SeatMap(coaches.isEmpty() ? layout.coachesFor(fareType) : coaches, layout);
+
+        for (SeatSegment row : seatSegmentRepository.findByFareTypeIdAndJourneyDate(fareTypeId, journeyDate)) {
+            if (row.getSeatNumber() > seatMap.seats()) {
+                logger.warn("Seat {} of fare type {} on {} is outside its coaches", row.getSeatNumber(), fareTypeId, journeyDate);
+                continue;
+            }
+            seatMap.occupy(row.getSeatNumber() - 1, row.getOccupiedSegments());
+        }
+        return seatMap;
+    }
+
+    private record InventoryKey(Long fareTypeId, LocalDate journeyDate) {}
+
+    // Latest segment version a transaction wrote to a train-date's row
+    private static final class TransactionClaim {
+        private long version;
+    }
+
+    // A change planned on the seat map: the version it was planned on and the version it writes
+    private record SeatChange(SeatMap seatMap, long expectedVersion, long version) {}
+
+    // Seat map of one train-date: the committed seats plus the changes of this instance not yet completed,
+    // labelled with the segment version the row will have once those changes commit
+    private static final class CachedSeatMap {
+
+        private SeatMap seatMap;
+        private long version;
+        private int pending;
+        private boolean evicted;
+        private volatile long lastUsed = System.nanoTime();
+        private final Set<Long> uncommitted = new HashSet<>();
+
+        /**
+         * The map to plan a change on; reloaded when another change committed and none of ours is in flight.
+         */
+        SeatMap current(long committedVersion, Long claimedVersion, LongSupplier latestVersion,
+                Supplier<SeatMap> loader) {
+            lastUsed = System.nanoTime();
+            if (claimedVersion != null) {
+                // Chaining would wait on changes that wait on this transaction's row; it holds the row, so nothing
+                // else can commit to the train-date. The map still labelled with the transaction's own version is
+                // what it sees; once another change was planned on top, it is read again
+                if (seatMap == null || version != claimedVersion) {
+                    seatMap = loader.get();
+                    version = latestVersion.getAsLong();
+                }
+            } else if (seatMap == null || (pending == 0 && version != committedVersion)) {
+                // The version read before waiting for the map may predate a change of ours that has since committed
+                long latest = latestVersion.getAsLong();
+                if (seatMap == null || version != latest) {
+                    seatMap = loader.get();
+                    version = latest;
+                }
+            }
+            return seatMap;
+        }
+
+        /**
+         * Record a change just applied to the map.
+         */
+        SeatChange begin() {
+            SeatChange change = new SeatChange(seatMap, version, ThreadLocalRandom.current().nextLong());
+            version = change.version();
+            pending++;
+            uncommitted.add(change.version());
+            return change;
+        }
+
+        /**
+         * Wait, for a bounded time, until the change that wrote the given version has completed.
+         */
+        synchronized void awaitCommitted(long version) {
+            long deadline = System.nanoTime() + COMMIT_WAIT_NANOS;
+            try {
+                while (uncommitted.contains(version)) {
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) {
+                        return;
+                    }
+                    TimeUnit.NANOSECONDS.timedWait(this, remaining);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        /**
+         * Drop a change whose version update failed, together with the map it was applied to.
+         */
+        synchronized void fail(SeatChange change) {
+            complete(change, false);
+        }
+
+        /**
+         * Drop the map a claimed change was applied to but then not written.
+         */
+        synchronized void discard(SeatChange change) {
+            invalidate(change);
+        }
+
+        /**
+         * Finish a claimed change; a rolled back one leaves the map ahead of the database.
+         */
+        synchronized void complete(SeatChange change, boolean committed) {
+            pending--;
+            uncommitted.remove(change.version());
+            if (!committed) {
+                invalidate(change);
+            }
+            notifyAll();
+        }
+
+        private void invalidate(SeatChange change) {
+            // Changes chained on this map fail their version update and retry on a reloaded one
+            if (seatMap == change.seatMap()) {
+                seatMap = null;
+            }
+        }
+    }
+}
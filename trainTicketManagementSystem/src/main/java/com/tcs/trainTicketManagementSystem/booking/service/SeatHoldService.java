@@ -0,0 +1,32 @@
+package com.tcs.trainTicketManagementSystem.booking.service;
+
+import com.tcs.trainTicketManagementSystem.booking.dto.BookingResponse;
+import com.tcs.trainTicketManagementSystem.booking.dto.SeatHoldConfirmRequest;
+import com.tcs.trainTicketManagementSystem.booking.dto.SeatHoldRequest;
+import com.tcs.trainTicketManagementSystem.booking.dto.SeatHoldResponse;
+
+/**
+ * Service interface for two-phase seat holds.
+ */
+public interface SeatHoldService {
+
+    /**
+     * Reserve seats for a short time ahead of a booking.
+     */
+    SeatHoldResponse createHold(SeatHoldRequest request);
+
+    /**
+     * Get seat hold by ID.
+     */
+    SeatHoldResponse getHoldById(Long holdId);
+
+    /**
+     * Turn a live hold into a booking with passengers.
+     */
+    BookingResponse confirmHold(Long holdId, SeatHoldConfirmRequest request);
+
+    /**
+     * Release a live hold and return its seats to inventory.
+     */
+    SeatHoldResponse releaseHold(Long holdId);
+}
@@ -0,0 +1,263 @@
+package com.tcs.trainTicketManagementSystem.booking.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.tcs.trainTicketManagementSystem.booking.dto.BookingRequest;
+import com.tcs.trainTicketManagementSystem.booking.dto.BookingResponse;
+import com.tcs.trainTicketManagementSystem.booking.dto.SeatHoldConfirmRequest;
+import com.tcs.trainTicketManagementSystem.booking.dto.SeatHoldRequest;
+import com.tcs.trainTicketManagementSystem.booking.dto.SeatHoldResponse;
+import com.tcs.trainTicketManagementSystem.booking.exception.BookingValidationException;
+import com.tcs.trainTicketManagementSystem.booking.exception.SeatHoldNotFoundException;
+import com.tcs.trainTicketManagementSystem.booking.model.HoldStatus;
+import com.tcs.trainTicketManagementSystem.booking.model.SeatHold;
+import com.tcs.trainTicketManagementSystem.booking.repository.SeatHoldRepository;
+import com.tcs.trainTicketManagementSystem.booking.util.HashedTimerWheel;
+import com.tcs.trainTicketManagementSystem.train.model.FareType;
+import com.tcs.trainTicketManagementSystem.train.model.Train;
+import com.tcs.trainTicketManagementSystem.train.repository.FareTypeRepository;
+import com.tcs.trainTicketManagementSystem.train.repository.TrainRepository;
+import com.tcs.trainTicketManagementSystem.users.model.User;
+import com.tcs.trainTicketManagementSystem.users.repository.UserRepository;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Service implementation for two-phase seat holds.
+ * Seats are reserved when the hold is created, so confirming only inserts the booking.
+ * Holds that are neither confirmed nor released are expired by a hashed timer wheel.
+ */
+@Service
+@Transactional
+public class SeatHoldServiceImpl implements SeatHoldService {
+
+    private static final Logger logger = LoggerFactory.getLogger(SeatHoldServiceImpl.class);
+
+    private final SeatHoldRepository seatHoldRepository;
+    private final UserRepository userRepository;
+    private final TrainRepository trainRepository;
+    private final FareTypeRepository fareTypeRepository;
+    private final SeatInventoryService seatInventoryService;
+    private final BookingService bookingService;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final ExecutorService expiryExecutor;
+    private final HashedTimerWheel expiryWheel;
+    private final Map<Long, HashedTimerWheel.Timeout> expiryTimeouts = new ConcurrentHashMap<>();
+
+    @Value("${booking.hold.ttl-seconds:600}")
+    private long ttlSeconds;
+
+    public SeatHoldServiceImpl(SeatHoldRepository seatHoldRepository, UserRepository userRepository,
+            TrainRepository trainRepository, FareTypeRepository fareTypeRepository,
+            SeatInventoryService seatInventoryService, BookingService bookingService,
+            PlatformTransactionManager transactionManager, ApplicationEventPublisher eventPublisher) {
+        this.seatHoldRepository = seatHoldRepository;
+        this.userRepository = userRepository;
+        this.trainRepository = trainRepository;
+        this.fareTypeRepository = fareTypeRepository;
+        this.seatInventoryService = seatInventoryService;
+        this.bookingService = bookingService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.expiryExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "seat-hold-expiry");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // 100 ms ticks over 1024 buckets: one wheel revolution is about 100 seconds
+        this.expiryWheel = new HashedTimerWheel("seat-hold-wheel", 100, TimeUnit.MILLISECONDS, 1024, expiryExecutor);
+    }
+
+    @Override
+    public SeatHoldResponse createHold(SeatHoldRequest request) {
+        logger.info("Creating seat hold for user: {}, fare type: {}, seats: {}",
+                request.getUserId(), request.getFareTypeId(), request.getSeats());
+
+        User user = userRepository.findById(request.getUserId())
+                .orElseThrow(() -> new BookingValidationException("User with ID " + request.getUserId() + " not found"));
+
+        Train train = trainRepository.findById(request.getTrainId())
+                .orElseThrow(() -> new BookingValidationException("Train with ID " + request.getTrainId() + " not found"));
+
+        FareType fareType = fareTypeRepository.findById(request.getFareTypeId())
+                .orElseThrow(() -> new BookingValidationException("Fare type with ID " + request.getFareTypeId() + " not found"));
+
+        if (!fareType.getTrain().getTrainId().equals(train.getTrainId())) {
+            throw new BookingValidationException("Fare type does not belong to the specified train");
+        }
+
+        seatInventoryService.reserveSeats(fareType.getFareTypeId(), request.getJourneyDate(), request.getSeats());
+
+        SeatHold hold = new SeatHold(user, train, fareType, request.getJourneyDate(), request.getSeats(),
+                LocalDateTime.now().plusSeconds(ttlSeconds));
+        SeatHold savedHold = seatHoldRepository.save(hold);
+
+        afterCommit(() -> scheduleExpiry(savedHold.getHoldId(), savedHold.getExpiresAt()));
+
+        logger.info("Seat hold created with ID: {}, expires at {}", savedHold.getHoldId(), savedHold.getExpiresAt());
+        return convertToSeatHoldResponse(savedHold);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public SeatHoldResponse getHoldById(Long holdId) {
+        logger.info("Getting seat hold by ID: {}", holdId);
+        return convertToSeatHoldResponse(findHold(holdId));
+    }
+
+    @Override
+    public BookingResponse confirmHold(Long holdId, SeatHoldConfirmRequest request) {
+        logger.info("Confirming seat hold with ID: {}", holdId);
+
+        SeatHold hold = findHold(holdId);
+        if (request.getPassengers().size() != hold.getSeats()) {
+            throw new BookingValidationException("Seat hold is for " + hold.getSeats()
+                    + " seats but " + request.getPassengers().size() + " passengers were given");
+        }
+
+        // Claim the hold; fails if it was released, confirmed or expired in the meantime
+        if (seatHoldRepository.claimForConfirmation(holdId, LocalDateTime.now()) == 0) {
+            throw new BookingValidationException("Seat hold with ID " + holdId + " is no longer active");
+        }
+
+        BookingRequest bookingRequest = new BookingRequest(hold.getUser().getUserId(), hold.getTrain().getTrainId(),
+                hold.getFareType().getFareTypeId(), hold.getJourneyDate(), request.getTotalFare(), request.getPassengers());
+        BookingResponse booking = bookingService.createBookingForHeldSeats(bookingRequest);
+
+        hold.setStatus(HoldStatus.CONFIRMED);
+        hold.setBookingId(booking.getBookingId());
+        afterCommit(() -> cancelExpiry(holdId));
+
+        logger.info("Seat hold {} confirmed as booking {}", holdId, booking.getBookingId());
+        return booking;
+    }
+
+    @Override
+    public SeatHoldResponse releaseHold(Long holdId) {
+        logger.info("Releasing seat hold with ID: {}", holdId);
+
+        SeatHold hold = findHold(holdId);
+        if (seatHoldRepository.releaseHold(holdId) == 0) {
+            throw new BookingValidationException("Seat hold with ID " + holdId + " is already " + hold.getStatus());
+        }
+
+        seatInventoryService.releaseSeats(hold.getFareType().getFareTypeId(), hold.getJourneyDate(), hold.getSeats());
+        eventPublisher.publishEvent(new SeatsReleasedEvent(hold.getFareType().getFareTypeId(), hold.getJourneyDate()));
+        hold.setStatus(HoldStatus.RELEASED);
+        afterCommit(() -> cancelExpiry(holdId));
+
+        logger.info("Seat hold {} released", holdId);
+        return convertToSeatHoldResponse(hold);
+    }
+
+    /**
+     * Put live holds back on the expiry wheel after a restart.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rescheduleLiveHolds() {
+        List<SeatHold> liveHolds = seatHoldRepository.findByStatus(HoldStatus.HELD);
+        liveHolds.forEach(hold -> scheduleExpiry(hold.getHoldId(), hold.getExpiresAt()));
+        logger.info("Rescheduled {} live seat holds", liveHolds.size());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        expiryWheel.stop();
+        expiryExecutor.shutdown();
+    }
+
+    // Helper Methods
+    private void expire(Long holdId) {
+        expiryTimeouts.remove(holdId);
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                SeatHold hold = seatHoldRepository.findById(holdId).orElse(null);
+                if (hold == null || hold.getStatus() != HoldStatus.HELD) {
+                    return;
+                }
+                if (seatHoldRepository.expireHold(holdId, LocalDateTime.now()) == 0) {
+                    // Fired a tick early; try again at the real deadline
+                    afterCommit(() -> scheduleExpiry(holdId, hold.getExpiresAt()));
+                    return;
+                }
+                seatInventoryService.releaseSeats(hold.getFareType().getFareTypeId(), hold.getJourneyDate(), hold.getSeats());
+                eventPublisher.publishEvent(new SeatsReleasedEvent(hold.getFareType().getFareTypeId(), hold.getJourneyDate()));
+                logger.info("Seat hold {} expired, {} seats returned to inventory", holdId, hold.getSeats());
+            });
+        } catch (RuntimeException e) {
+            logger.error("Failed to expire seat hold {}", holdId, e);
+        }
+    }
+
+    private void scheduleExpiry(Long holdId, LocalDateTime expiresAt) {
+        long delayMillis = Math.max(0, Duration.between(LocalDateTime.now(), expiresAt).toMillis());
+        HashedTimerWheel.Timeout timeout = expiryWheel.schedule(() -> expire(holdId), delayMillis, TimeUnit.MILLISECONDS);
+        HashedTimerWheel.Timeout previous = expiryTimeouts.put(holdId, timeout);
+        if (previous != null) {
+            previous.cancel();
+        }
+    }
+
+    private void cancelExpiry(Long holdId) {
+        HashedTimerWheel.Timeout timeout = expiryTimeouts.remove(holdId);
+        if (timeout != null) {
+            timeout.cancel();
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private SeatHold findHold(Long holdId) {
+        return seatHoldRepository.findById(holdId)
+                .orElseThrow(() -> new SeatHoldNotFoundException("Seat hold with ID " + holdId + " not found"));
+    }
+
+    private SeatHoldResponse convertToSeatHoldResponse(SeatHold hold) {
+        return new SeatHoldResponse(
+                hold.getHoldId(),
+                hold.getUser().getUserId(),
+                hold.getTrain().getTrainId(),
+                hold.getFareType().getFareTypeId(),
+                hold.getJourneyDate(),
+                hold.getSeats(),
+                hold.getStatus().name(),
+                hold.getCreatedAt(),
+                hold.getExpiresAt(),
+                hold.getBookingId()
+        );
+    }
+}
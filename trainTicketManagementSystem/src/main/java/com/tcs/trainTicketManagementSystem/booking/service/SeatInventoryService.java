@@ -0,0 +1,72 @@
+package com.tcs.trainTicketManagementSystem.booking.service;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.tcs.trainTicketManagementSystem.booking.model.Quota;
+import com.tcs.trainTicketManagementSystem.booking.model.SeatQuota;
+
+/**
+ * Service interface for per-journey-date seat inventory operations.
+ */
+public interface SeatInventoryService {
+
+    /**
+     * Reserve seats for a fare type on a journey date.
+     * Throws BookingValidationException when not enough seats are left.
+     */
+    void reserveSeats(Long fareTypeId, LocalDate journeyDate, int seats);
+
+    /**
+     * Release previously reserved seats for a fare type on a journey date.
+     */
+    void releaseSeats(Long fareTypeId, LocalDate journeyDate, int seats);
+
+    /**
+     * Get the seats available for a fare type on a journey date.
+     */
+    int getAvailableSeats(Long fareTypeId, LocalDate journeyDate);
+
+    /**
+     * Get the seats available for each of the given fare types on a journey date, keyed by fare type ID.
+     */
+    Map<Long, Integer> getAvailableSeats(Collection<Long> fareTypeIds, LocalDate journeyDate);
+
+    /**
+     * Find the fare types with seats available on any journey date from the given date onwards.
+     */
+    Set<Long> findFareTypesWithSeats(LocalDate fromDate);
+
+    /**
+     * Reserve seats from a quota's pool, or from the general pool when the quota has no open pool
+     * on that date. Throws BookingValidationException when the open pool is short.
+     */
+    void reserveSeats(Long fareTypeId, LocalDate journeyDate, Quota quota, int seats);
+
+    /**
+     * Release seats to a quota's pool, or to the general pool once the quota has closed.
+     */
+    void releaseSeats(Long fareTypeId, LocalDate journeyDate, Quota quota, int seats);
+
+    /**
+     * Get the seats available under a quota for a fare type on a journey date.
+     */
+    int getAvailableSeats(Long fareTypeId, LocalDate journeyDate, Quota quota);
+
+    /**
+     * Hand the unsold seats of every quota pool past its cut-off back to the general pool.
+     *
+     * @return the closed pools with the seats they handed back
+     */
+    List<SeatQuota> rebalanceQuotas();
+
+    /**
+     * Materialize inventory rows for all scheduled train-dates in the rolling horizon.
+     *
+     * @return number of inventory rows created
+     */
+    int materializeHorizon();
+}
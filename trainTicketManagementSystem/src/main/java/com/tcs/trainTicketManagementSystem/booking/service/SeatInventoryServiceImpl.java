@@ -0,0 +1,281 @@
+package com.tcs.trainTicketManagementSystem.booking.service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.tcs.trainTicketManagementSystem.booking.exception.BookingValidationException;
+import com.tcs.trainTicketManagementSystem.booking.model.Quota;
+import com.tcs.trainTicketManagementSystem.booking.model.SeatInventory;
+import com.tcs.trainTicketManagementSystem.booking.model.SeatQuota;
+import com.tcs.trainTicketManagementSystem.booking.repository.SeatInventoryRepository;
+import com.tcs.trainTicketManagementSystem.booking.repository.SeatQuotaRepository;
+import com.tcs.trainTicketManagementSystem.train.model.DayOfWeek;
+
+/**
+ * Database-backed seat inventory keyed by (fare type, journey date).
+ * Every reservation and release is one guarded UPDATE, so concurrent bookings
+ * only contend on the row of the train-date they actually book. Quota seats are
+ * carved out into their own seat_quota rows, leaving seats_available as the general pool.
+ */
+@Service
+@Transactional
+public class SeatInventoryServiceImpl implements SeatInventoryService {
+
+    private static final Logger logger = LoggerFactory.getLogger(SeatInventoryServiceImpl.class);
+
+    private final SeatInventoryRepository seatInventoryRepository;
+    private final SeatQuotaRepository seatQuotaRepository;
+    private final QuotaPolicy quotaPolicy;
+    private final TransactionTemplate requiresNewTransaction;
+
+    @Value("${booking.inventory.horizon-days:120}")
+    private int horizonDays;
+
+    public SeatInventoryServiceImpl(SeatInventoryRepository seatInventoryRepository,
+            SeatQuotaRepository seatQuotaRepository, QuotaPolicy quotaPolicy,
+            PlatformTransactionManager transactionManager) {
+        this.seatInventoryRepository = seatInventoryRepository;
+        this.seatQuotaRepository = seatQuotaRepository;
+        this.quotaPolicy = quotaPolicy;
+        this.requiresNewTransaction = new TransactionTemplate(transactionManager);
+        this.requiresNewTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @Override
+    @Transactional(noRollbackFor = BookingValidationException.class)
+    public void reserveSeats(Long fareTypeId, LocalDate journeyDate, int seats) {
+        if (seatInventoryRepository.reserveSeats(fareTypeId, journeyDate, seats) == 1) {
+            return;
+        }
+
+        // The row may simply not be materialized yet (new fare type or date beyond the horizon)
+        if (ensureInventory(fareTypeId, journeyDate)
+                && seatInventoryRepository.reserveSeats(fareTypeId, journeyDate, seats) == 1) {
+            return;
+        }
+
+        int available = getAvailableSeats(fareTypeId, journeyDate);
+        throw new BookingValidationException("Not enough seats available on " + journeyDate
+                + ". Available: " + available + ", Required: " + seats);
+    }
+
+    @Override
+    public void releaseSeats(Long fareTypeId, LocalDate journeyDate, int seats) {
+        if (seats <= 0) {
+            return;
+        }
+        if (seatInventoryRepository.releaseSeats(fareTypeId, journeyDate, seats) == 0) {
+            // Missing rows are created net of confirmed bookings, so nothing is lost here
+            logger.warn("No seats released for fare type {} on {} (requested {})", fareTypeId, journeyDate, seats);
+        }
+    }
+
+    @Override
+    public int getAvailableSeats(Long fareTypeId, LocalDate journeyDate) {
+        Optional<SeatInventory> inventory = seatInventoryRepository.findByFareTypeIdAndJourneyDate(fareTypeId, journeyDate);
+        if (inventory.isEmpty() && ensureInventory(fareTypeId, journeyDate)) {
+            inventory = seatInventoryRepository.findByFareTypeIdAndJourneyDate(fareTypeId, journeyDate);
+        }
+        return inventory.map(SeatInventory::getSeatsAvailable).orElse(0);
+    }
+
+    @Override
+    public Map<Long, Integer> getAvailableSeats(Collection<Long> fareTypeIds, LocalDate journeyDate) {
+        if (fareTypeIds.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<Long, Integer> available = new HashMap<>();
+        for (SeatInventory inventory : seatInventoryRepository.findByFareTypeIdsAndJourneyDate(fareTypeIds, journeyDate)) {
+            available.put(inventory.getFareType().getFareTypeId(), inventory.getSeatsAvailable());
+        }
+        // Rows not materialized yet are created one by one, as for a single fare type
+        for (Long fareTypeId : fareTypeIds) {
+            available.computeIfAbsent(fareTypeId, missing -> getAvailableSeats(missing, journeyDate));
+        }
+        return available;
+    }
+
+    @Override
+    public Set<Long> findFareTypesWithSeats(LocalDate fromDate) {
+        return new HashSet<>(seatInventoryRepository.findFareTypeIdsWithSeatsFrom(fromDate));
+    }
+
+    @Override
+    @Transactional(noRollbackFor = BookingValidationException.class)
+    public void reserveSeats(Long fareTypeId, LocalDate journeyDate, Quota quota, int seats) {
+        if (!reserveQuotaSeats(fareTypeId, journeyDate, quota, seats)) {
+            reserveSeats(fareTypeId, journeyDate, seats);
+        }
+    }
+
+    @Override
+    public void releaseSeats(Long fareTypeId, LocalDate journeyDate, Quota quota, int seats) {
+        if (!releaseQuotaSeats(fareTypeId, journeyDate, quota, seats)) {
+            releaseSeats(fareTypeId, journeyDate, seats);
+        }
+    }
+
+    @Override
+    public int getAvailableSeats(Long fareTypeId, LocalDate journeyDate, Quota quota) {
+        Optional<SeatQuota> pool = openQuota(fareTypeId, journeyDate, quota);
+        return pool.isPresent() ? pool.get().getSeatsAvailable() : getAvailableSeats(fareTypeId, journeyDate);
+    }
+
+    @Override
+    public List<SeatQuota> rebalanceQuotas() {
+        LocalDateTime now = LocalDateTime.now();
+        List<SeatQuota> closed = new ArrayList<>();
+        for (Quota quota : Quota.values()) {
+            List<Long> due = findDueQuotaIds(quota, now);
+            if (due.isEmpty()) {
+                continue;
+            }
+            // Inventory rows are locked before quota rows, as in seat allocation, so the pools cannot change underneath
+            seatInventoryRepository.returnQuotaSeats(due);
+            List<SeatQuota> pools = seatQuotaRepository.lockOpenQuotas(due);
+            seatQuotaRepository.closeQuotas(due);
+            closed.addAll(pools);
+        }
+        if (!closed.isEmpty()) {
+            logger.info("Returned {} quota pools past their cut-off to the general pool", closed.size());
+        }
+        return closed;
+    }
+
+    @Override
+    public int materializeHorizon() {
+        LocalDate today = LocalDate.now();
+        int created = 0;
+        for (int day = 0; day < horizonDays; day++) {
+            LocalDate journeyDate = today.plusDays(day);
+            created += seatInventoryRepository.materializeForDate(journeyDate, DayOfWeek.from(journeyDate).mask());
+        }
+        carveQuotas(today);
+        logger.info("Materialized {} seat inventory rows for the next {} days", created, horizonDays);
+        return created;
+    }
+
+    /**
+     * Roll the inventory horizon forward on startup and once a day.
+     * On startup this runs first, so listeners reading seat_inventory see the whole horizon.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @Scheduled(cron = "${booking.inventory.materialize-cron:0 0 2 * * *}")
+    public void refreshHorizon() {
+        materializeHorizon();
+    }
+
+    /**
+     * Reserve seats from the quota's open pool on a journey date.
+     *
+     * @return false when the quota has no open pool on that date, so the general pool applies
+     */
+    public boolean reserveQuotaSeats(Long fareTypeId, LocalDate journeyDate, Quota quota, int seats) {
+        if (quota == Quota.GENERAL) {
+            return false;
+        }
+        if (seatQuotaRepository.reserveSeats(fareTypeId, journeyDate, quota, seats) == 1) {
+            return true;
+        }
+
+        Optional<SeatQuota> pool = openQuota(fareTypeId, journeyDate, quota);
+        if (pool.isEmpty()) {
+            return false;
+        }
+        // The pool may have just been carved with the inventory row
+        if (pool.get().getSeatsAvailable() >= seats
+                && seatQuotaRepository.reserveSeats(fareTypeId, journeyDate, quota, seats) == 1) {
+            return true;
+        }
+        throw new BookingValidationException("Not enough " + quota + " quota seats available on " + journeyDate
+                + ". Available: " + pool.get().getSeatsAvailable() + ", Required: " + seats);
+    }
+
+    /**
+     * Release seats to the quota's open pool on a journey date.
+     *
+     * @return false when the quota has closed (or never had a pool), so the general pool applies
+     */
+    public boolean releaseQuotaSeats(Long fareTypeId, LocalDate journeyDate, Quota quota, int seats) {
+        return quota != Quota.GENERAL && seats > 0
+                && seatQuotaRepository.releaseSeats(fareTypeId, journeyDate, quota, seats) == 1;
+    }
+
+    /**
+     * Find the open pools of a quota whose trains depart before the quota's cut-off.
+     */
+    public List<Long> findDueQuotaIds(Quota quota, LocalDateTime now) {
+        if (quota == Quota.GENERAL) {
+            return List.of();
+        }
+        LocalDateTime cutoff = quotaPolicy.cutoff(quota, now);
+        return seatQuotaRepository.findDueQuotaIds(quota, cutoff.toLocalDate(), cutoff.toLocalTime());
+    }
+
+    /**
+     * Carve the quota pools out of every inventory row from the given journey date that has none yet.
+     */
+    public void carveQuotas(LocalDate journeyDate) {
+        for (Quota quota : Quota.values()) {
+            int percent = quotaPolicy.percent(quota);
+            if (percent > 0) {
+                seatQuotaRepository.carveQuota(journeyDate, quota.name(), percent);
+            }
+        }
+        seatInventoryRepository.markQuotasCarved(journeyDate);
+    }
+
+    // Helper Methods
+    private Optional<SeatQuota> openQuota(Long fareTypeId, LocalDate journeyDate, Quota quota) {
+        if (quota == Quota.GENERAL) {
+            return Optional.empty();
+        }
+        Optional<SeatQuota> pool = seatQuotaRepository.findByFareTypeIdAndJourneyDateAndQuota(fareTypeId, journeyDate, quota);
+        if (pool.isEmpty() && ensureInventory(fareTypeId, journeyDate)) {
+            pool = seatQuotaRepository.findByFareTypeIdAndJourneyDateAndQuota(fareTypeId, journeyDate, quota);
+        }
+        return pool.filter(seatQuota -> !seatQuota.isClosed());
+    }
+
+    private boolean ensureInventory(Long fareTypeId, LocalDate journeyDate) {
+        try {
+            // Separate transaction so a concurrent insert of the same row cannot poison the booking
+            Integer created = requiresNewTransaction.execute(status -> {
+                int rows = seatInventoryRepository.createInventory(fareTypeId, journeyDate);
+                if (rows > 0) {
+                    carveQuotas(journeyDate);
+                }
+                return rows;
+            });
+            return created != null && created > 0;
+        } catch (DataIntegrityViolationException e) {
+            logger.debug("Seat inventory for fare type {} on {} was created concurrently", fareTypeId, journeyDate);
+            return true;
+        }
+    }
+}
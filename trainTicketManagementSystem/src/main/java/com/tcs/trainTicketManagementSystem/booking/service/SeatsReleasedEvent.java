@@ -0,0 +1,11 @@
+package com.tcs.trainTicketManagementSystem.booking.service;
+
+import java.time.LocalDate;
+
+/**
+ * Event published when seats of a fare type on a journey date are given back, by a cancellation,
+ * a deleted booking or passenger, a released or expired seat hold, or a quota pool closing at its cut-off.
+ * Listeners should react after the publishing transaction commits.
+ */
+public record SeatsReleasedEvent(Long fareTypeId, LocalDate journeyDate) {
+}
@@ -0,0 +1,154 @@
+package com.tcs.trainTicketManagementSystem.booking.service;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.tcs.trainTicketManagementSystem.booking.exception.SeatsUnavailableException;
+import com.tcs.trainTicketManagementSystem.booking.repository.BookingRepository;
+import com.tcs.trainTicketManagementSystem.booking.repository.BookingRepository.WaitlistedBooking;
+import com.tcs.trainTicketManagementSystem.booking.util.WaitlistQueue;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Confirms waitlisted bookings when seats of their fare type and journey date come back.
+ * Releases only mark the train-date for promotion once their transaction commits; a single worker
+ * thread then confirms the earliest waitlisted bookings that fit, so cancelling never waits for the
+ * waitlist. Repeated releases of a train-date coalesce into one pending promotion.
+ */
+@Component
+public class WaitlistPromotionWorker {
+
+    private static final Logger logger = LoggerFactory.getLogger(WaitlistPromotionWorker.class);
+
+    private final BookingService bookingService;
+    private final BookingRepository bookingRepository;
+    private final SeatInventoryService seatInventoryService;
+    private final TransactionTemplate readTransaction;
+
+    private final Map<WaitlistKey, WaitlistQueue> waitlists = new ConcurrentHashMap<>();
+    private final Set<WaitlistKey> pendingPromotions = ConcurrentHashMap.newKeySet();
+    private final ExecutorService promotionExecutor;
+
+    public WaitlistPromotionWorker(BookingService bookingService, BookingRepository bookingRepository,
+            SeatInventoryService seatInventoryService, PlatformTransactionManager transactionManager) {
+        this.bookingService = bookingService;
+        this.bookingRepository = bookingRepository;
+        this.seatInventoryService = seatInventoryService;
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+        this.promotionExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "waitlist-promotion");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Rebuild the waitlists of upcoming journey dates after a restart.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadWaitlists() {
+        List<WaitlistedBooking> bookings = readTransaction.execute(status -> bookingRepository.findWaitlistedFrom(LocalDate.now()));
+        for (WaitlistedBooking booking : bookings) {
+            waitlist(new WaitlistKey(booking.getFareTypeId(), booking.getJourneyDate()))
+                    .add(booking.getBookingId(), booking.getPassengers());
+        }
+        waitlists.keySet().forEach(this::schedulePromotion);
+        logger.info("Loaded {} waitlisted bookings", bookings.size());
+    }
+
+    /**
+     * Queue a booking once the transaction that waitlisted it has committed.
+     */
+    @TransactionalEventListener
+    public void onBookingWaitlisted(BookingWaitlistedEvent event) {
+        WaitlistKey key = new WaitlistKey(event.fareTypeId(), event.journeyDate());
+        waitlist(key).add(event.bookingId(), event.seats());
+        // Seats may have come back between the failed booking and its commit
+        schedulePromotion(key);
+    }
+
+    /**
+     * Schedule a promotion once the transaction that released seats has committed.
+     */
+    @TransactionalEventListener
+    public void onSeatsReleased(SeatsReleasedEvent event) {
+        WaitlistKey key = new WaitlistKey(event.fareTypeId(), event.journeyDate());
+        if (waitlists.containsKey(key)) {
+            schedulePromotion(key);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        promotionExecutor.shutdown();
+    }
+
+    // Helper Methods
+    private WaitlistQueue waitlist(WaitlistKey key) {
+        return waitlists.computeIfAbsent(key, k -> new WaitlistQueue());
+    }
+
+    private void schedulePromotion(WaitlistKey key) {
+        if (pendingPromotions.add(key)) {
+            promotionExecutor.execute(() -> {
+                // Cleared before running, so releases during this promotion schedule another one
+                pendingPromotions.remove(key);
+                promote(key);
+            });
+        }
+    }
+
+    private void promote(WaitlistKey key) {
+        WaitlistQueue waitlist = waitlists.get(key);
+        if (waitlist == null || key.journeyDate().isBefore(LocalDate.now())) {
+            waitlists.remove(key);
+            return;
+        }
+
+        int promoted = 0;
+        try {
+            WaitlistQueue.Entry entry;
+            while ((entry = waitlist.pollFitting(seatInventoryService.getAvailableSeats(key.fareTypeId(), key.journeyDate()))) != null) {
+                try {
+                    // Bookings cancelled while waitlisted are skipped
+                    if (bookingService.confirmWaitlistedBooking(entry.bookingId())) {
+                        promoted++;
+                    }
+                } catch (SeatsUnavailableException e) {
+                    // Taken by a concurrent booking; the next release tries again
+                    waitlist.add(entry.bookingId(), entry.seats());
+                    break;
+                } catch (RuntimeException e) {
+                    logger.error("Failed to promote waitlisted booking {}", entry.bookingId(), e);
+                    waitlist.add(entry.bookingId(), entry.seats());
+                    break;
+                }
+            }
+        } catch (RuntimeException e) {
+            logger.error("Failed to promote waitlist of fare type {} on {}", key.fareTypeId(), key.journeyDate(), e);
+        }
+
+        if (promoted > 0) {
+            logger.info("Promoted {} waitlisted bookings for fare type {} on {}, {} still waiting",
+                    promoted, key.fareTypeId(), key.journeyDate(), waitlist.size());
+        }
+    }
+
+    private record WaitlistKey(Long fareTypeId, LocalDate journeyDate) {}
+}
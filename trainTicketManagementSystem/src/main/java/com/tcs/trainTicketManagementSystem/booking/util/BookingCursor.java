@@ -0,0 +1,80 @@
+package com.tcs.trainTicketManagementSystem.booking.util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+
+import com.tcs.trainTicketManagementSystem.booking.exception.BookingValidationException;
+import com.tcs.trainTicketManagementSystem.booking.model.Booking;
+
+/**
+ * Opaque keyset cursor for booking lists ordered by (bookingDate, bookingId) or (journeyDate, bookingId).
+ * The cursor carries the sort it was issued for, so it cannot be replayed against a different order.
+ */
+public final class BookingCursor {
+
+    private static final Set<String> SORT_PROPERTIES = Set.of("bookingDate", "journeyDate");
+    private static final String TIE_BREAKER = "bookingId";
+
+    private BookingCursor() {
+    }
+
+    /**
+     * Parse a "property,direction" sort parameter into a keyset sort with bookingId as tie-breaker.
+     */
+    public static Sort toSort(String sort, String defaultSort) {
+        String value = sort == null || sort.isBlank() ? defaultSort : sort;
+        String[] parts = value.split(",");
+        String property = parts[0].trim();
+        if (!SORT_PROPERTIES.contains(property) || parts.length > 2) {
+            throw new BookingValidationException("Invalid sort: " + value + ". Use bookingDate or journeyDate with asc or desc");
+        }
+
+        Sort.Direction direction = parts.length == 2
+                ? Sort.Direction.fromOptionalString(parts[1].trim())
+                        .orElseThrow(() -> new BookingValidationException("Invalid sort direction: " + parts[1].trim()))
+                : Sort.Direction.ASC;
+        return Sort.by(direction, property).and(Sort.by(direction, TIE_BREAKER));
+    }
+
+    /**
+     * Decode a cursor issued for the given sort into a scroll position (start of the list when empty).
+     */
+    public static ScrollPosition decode(String cursor, Sort sort) {
+        if (cursor == null || cursor.isBlank()) {
+            return ScrollPosition.keyset();
+        }
+
+        Sort.Order order = sort.iterator().next();
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split(":");
+            if (parts.length != 4 || !parts[0].equals(order.getProperty()) || !parts[1].equals(order.getDirection().name())) {
+                throw new BookingValidationException("Cursor does not match the requested sort");
+            }
+
+            Map<String, Object> keys = new LinkedHashMap<>();
+            keys.put(order.getProperty(), LocalDate.parse(parts[2]));
+            keys.put(TIE_BREAKER, Long.valueOf(parts[3]));
+            return ScrollPosition.forward(keys);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BookingValidationException("Invalid cursor: " + cursor);
+        }
+    }
+
+    /**
+     * Encode the position after the given booking for the given sort.
+     */
+    public static String encode(Booking last, Sort sort) {
+        Sort.Order order = sort.iterator().next();
+        LocalDate key = "journeyDate".equals(order.getProperty()) ? last.getJourneyDate() : last.getBookingDate();
+        String raw = order.getProperty() + ":" + order.getDirection().name() + ":" + key + ":" + last.getBookingId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,112 @@
+package com.tcs.trainTicketManagementSystem.booking.util;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tcs.trainTicketManagementSystem.booking.dto.BookingExportFormat;
+import com.tcs.trainTicketManagementSystem.booking.dto.BookingExportRow;
+
+/**
+ * Writes booking export rows one at a time as NDJSON or CSV.
+ * Only the output buffer is held in memory, so the export size does not affect heap usage.
+ * Closing the writer flushes it but leaves the underlying stream open.
+ */
+public final class BookingExportWriter implements Closeable {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private static final String CSV_HEADER = "bookingId,bookingDate,journeyDate,status,totalFare,userId,username,"
+            + "trainId,trainName,source,destination,fareTypeId,classType,price,"
+            + "passengerId,passengerName,passengerAge,passengerGender";
+
+    private final BookingExportFormat format;
+    private final Writer writer;
+    private final JsonGenerator jsonGenerator;
+
+    public BookingExportWriter(BookingExportFormat format, OutputStream outputStream, ObjectMapper objectMapper) throws IOException {
+        this.format = format;
+        this.writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), BUFFER_SIZE);
+        if (format == BookingExportFormat.NDJSON) {
+            this.jsonGenerator = objectMapper.getFactory().createGenerator(writer)
+                    .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                    .disable(JsonGenerator.Feature.FLUSH_PASSED_TO_STREAM);
+            // Rows are separated by the line break written after each one
+            this.jsonGenerator.setRootValueSeparator(null);
+        } else {
+            this.jsonGenerator = null;
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+    }
+
+    /**
+     * Write one row followed by a line break.
+     */
+    public void write(BookingExportRow row) throws IOException {
+        if (format == BookingExportFormat.NDJSON) {
+            jsonGenerator.writeObject(row);
+            jsonGenerator.writeRaw('\n');
+        } else {
+            writeCsvRow(row);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (jsonGenerator != null) {
+            jsonGenerator.close();
+        }
+        writer.flush();
+    }
+
+    // Helper Methods
+    private void writeCsvRow(BookingExportRow row) throws IOException {
+        writeCsvValue(row.getBookingId(), false);
+        writeCsvValue(row.getBookingDate(), false);
+        writeCsvValue(row.getJourneyDate(), false);
+        writeCsvValue(row.getStatus(), false);
+        writeCsvValue(row.getTotalFare() != null ? row.getTotalFare().toPlainString() : null, false);
+        writeCsvValue(row.getUserId(), false);
+        writeCsvValue(row.getUsername(), true);
+        writeCsvValue(row.getTrainId(), false);
+        writeCsvValue(row.getTrainName(), true);
+        writeCsvValue(row.getSource(), true);
+        writeCsvValue(row.getDestination(), true);
+        writeCsvValue(row.getFareTypeId(), false);
+        writeCsvValue(row.getClassType(), true);
+        writeCsvValue(row.getPrice() != null ? row.getPrice().toPlainString() : null, false);
+        writeCsvValue(row.getPassengerId(), false);
+        writeCsvValue(row.getPassengerName(), true);
+        writeCsvValue(row.getPassengerAge(), false);
+        writer.write(escapeCsv(row.getPassengerGender()));
+        writer.write('\n');
+    }
+
+    private void writeCsvValue(Object value, boolean text) throws IOException {
+        if (value != null) {
+            writer.write(text ? escapeCsv(value.toString()) : value.toString());
+        }
+        writer.write(',');
+    }
+
+    // Quote values containing separators, quotes or line breaks (RFC 4180)
+    private static String escapeCsv(String value) {
+        if (value == null) {
+            return "";
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == ',' || c == '"' || c == '\n' || c == '\r') {
+                return '"' + value.replace("\"", "\"\"") + '"';
+            }
+        }
+        return value;
+    }
+}
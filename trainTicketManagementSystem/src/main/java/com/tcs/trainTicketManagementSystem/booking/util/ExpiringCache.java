@@ -0,0 +1,59 @@
+package com.tcs.trainTicketManagementSystem.booking.util;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Small bounded cache whose entries expire a fixed time after they were loaded.
+ * Least recently used entries are evicted once the cache is full.
+ * Concurrent misses on the same key may both load the value; the last one wins.
+ */
+public final class ExpiringCache<K, V> {
+
+    private final long ttlNanos;
+    private final Map<K, Entry<V>> entries;
+
+    public ExpiringCache(Duration ttl, int maxSize) {
+        this.ttlNanos = ttl.toNanos();
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * Return the cached value for the key, loading it when missing or expired.
+     */
+    public V get(K key, Supplier<V> loader) {
+        long now = System.nanoTime();
+        synchronized (entries) {
+            Entry<V> entry = entries.get(key);
+            if (entry != null && now - entry.loadedAt() < ttlNanos) {
+                return entry.value();
+            }
+        }
+
+        // Load outside the lock so a slow query does not block other keys
+        V value = loader.get();
+        synchronized (entries) {
+            entries.put(key, new Entry<>(value, now));
+        }
+        return value;
+    }
+
+    /**
+     * Drop every cached entry.
+     */
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    private record Entry<V>(V value, long loadedAt) {
+    }
+}
@@ -0,0 +1,144 @@
+package com.tcs.trainTicketManagementSystem.booking.util;
+
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Hashed timer wheel for large numbers of short, mostly cancelled timeouts.
+ * Scheduling and cancelling are O(1); a single ticker thread advances one bucket per
+ * tick and hands expired tasks to the given executor.
+ */
+public class HashedTimerWheel {
+
+    private static final Logger logger = LoggerFactory.getLogger(HashedTimerWheel.class);
+
+    private final long tickNanos;
+    private final Queue<Timeout>[] buckets;
+    private final Queue<Timeout> pending = new ConcurrentLinkedQueue<>();
+    private final Executor taskExecutor;
+    private final AtomicBoolean started = new AtomicBoolean();
+    private final Thread ticker;
+
+    private volatile long startNanos;
+    private long tick;
+
+    @SuppressWarnings("unchecked")
+    public HashedTimerWheel(String name, long tickDuration, TimeUnit unit, int wheelSize, Executor taskExecutor) {
+        if (wheelSize <= 0 || (wheelSize & (wheelSize - 1)) != 0) {
+            throw new IllegalArgumentException("Wheel size must be a power of two: " + wheelSize);
+        }
+        this.tickNanos = unit.toNanos(tickDuration);
+        this.buckets = new Queue[wheelSize];
+        for (int i = 0; i < wheelSize; i++) {
+            buckets[i] = new LinkedList<>();
+        }
+        this.taskExecutor = taskExecutor;
+        this.ticker = new Thread(this::run, name);
+        this.ticker.setDaemon(true);
+    }
+
+    /**
+     * Schedule a task to run once after the given delay.
+     */
+    public Timeout schedule(Runnable task, long delay, TimeUnit unit) {
+        if (started.compareAndSet(false, true)) {
+            startNanos = System.nanoTime();
+            ticker.start();
+        }
+        Timeout timeout = new Timeout(task, System.nanoTime() - startNanos + unit.toNanos(Math.max(0, delay)));
+        pending.add(timeout);
+        return timeout;
+    }
+
+    /**
+     * Stop the ticker thread; tasks that have not fired are dropped.
+     */
+    public void stop() {
+        ticker.interrupt();
+    }
+
+    // Helper Methods
+    private void run() {
+        int mask = buckets.length - 1;
+        while (!Thread.currentThread().isInterrupted()) {
+            long deadline = tickNanos * (tick + 1);
+            long sleepNanos = deadline - (System.nanoTime() - startNanos);
+            if (sleepNanos > 0) {
+                try {
+                    TimeUnit.NANOSECONDS.sleep(sleepNanos);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+
+            transferPending();
+            Queue<Timeout> bucket = buckets[(int) (tick & mask)];
+            Iterator<Timeout> iterator = bucket.iterator();
+            while (iterator.hasNext()) {
+                Timeout timeout = iterator.next();
+                if (timeout.cancelled) {
+                    iterator.remove();
+                } else if (timeout.remainingRounds <= 0) {
+                    iterator.remove();
+                    fire(timeout);
+                } else {
+                    timeout.remainingRounds--;
+                }
+            }
+            tick++;
+        }
+    }
+
+    private void transferPending() {
+        int mask = buckets.length - 1;
+        Timeout timeout;
+        while ((timeout = pending.poll()) != null) {
+            if (timeout.cancelled) {
+                continue;
+            }
+            long targetTick = Math.max(timeout.deadlineNanos / tickNanos, tick);
+            timeout.remainingRounds = (targetTick - tick) / buckets.length;
+            buckets[(int) (targetTick & mask)].add(timeout);
+        }
+    }
+
+    private void fire(Timeout timeout) {
+        try {
+            taskExecutor.execute(timeout.task);
+        } catch (RuntimeException e) {
+            logger.error("Failed to dispatch timer task", e);
+        }
+    }
+
+    /**
+     * Handle for a scheduled task.
+     */
+    public static final class Timeout {
+        private final Runnable task;
+        private final long deadlineNanos;
+        private long remainingRounds;
+        private volatile boolean cancelled;
+
+        private Timeout(Runnable task, long deadlineNanos) {
+            this.task = task;
+            this.deadlineNanos = deadlineNanos;
+        }
+
+        public void cancel() {
+            cancelled = true;
+        }
+
+        public boolean isCancelled() {
+            return cancelled;
+        }
+    }
+}
@@ -0,0 +1,291 @@
+package com.tcs.trainTicketManagementSystem.booking.util;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
+import com.tcs.trainTicketManagementSystem.booking.model.BerthPreference;
+import com.tcs.trainTicketManagementSystem.booking.model.SeatSegment;
+import com.tcs.trainTicketManagementSystem.train.model.BerthType;
+import com.tcs.trainTicketManagementSystem.train.model.Coach;
+import com.tcs.trainTicketManagementSystem.train.model.CoachLayout;
+
+/**
+ * Seat map of one fare type on one journey date.
+ * Every coach keeps a bitset of its fully free berths and of the berths matching each preference, so
+ * candidates are found with word-level bitset operations; sold berths also carry the bitmap of their
+ * sold segments. Seats are numbered from 1 across the coaches in sequence order.
+ * Not thread-safe: callers serialize access per journey date.
+ */
+public final class SeatMap {
+
+    private final String[] coachNumbers;
+    private final int[] firstSeats;
+    private final BerthType[] berthTypes;
+    private final BitSet[] free;
+    private final BitSet[][] preferred;
+    private final long[] occupied;
+
+    public SeatMap(List<Coach> coaches, CoachLayout layout) {
+        coachNumbers = new String[coaches.size()];
+        firstSeats = new int[coaches.size() + 1];
+        free = new BitSet[coaches.size()];
+        preferred = new BitSet[coaches.size()][BerthPreference.values().length];
+        for (int coach = 0; coach < coaches.size(); coach++) {
+            int berths = coaches.get(coach).getBerthCount();
+            coachNumbers[coach] = coaches.get(coach).getCoachNumber();
+            firstSeats[coach + 1] = firstSeats[coach] + berths;
+            free[coach] = new BitSet(berths);
+            free[coach].set(0, berths);
+        }
+
+        berthTypes = new BerthType[firstSeats[coaches.size()]];
+        occupied = new long[berthTypes.length];
+        for (int coach = 0; coach < coaches.size(); coach++) {
+            for (BerthPreference preference : BerthPreference.values()) {
+                preferred[coach][preference.ordinal()] = new BitSet();
+            }
+            for (int berth = 0; berth < berths(coach); berth++) {
+                BerthType berthType = layout.berthType(berth + 1);
+                berthTypes[firstSeats[coach] + berth] = berthType;
+                for (BerthPreference preference : BerthPreference.values()) {
+                    if (preference.matches(berthType)) {
+                        preferred[coach][preference.ordinal()].set(berth);
+                    }
+                }
+            }
+        }
+    }
+
+    public int seats() {
+        return occupied.length;
+    }
+
+    public int freeSeats() {
+        return Arrays.stream(free).mapToInt(BitSet::cardinality).sum();
+    }
+
+    /**
+     * Count the seats free on every segment of the mask.
+     */
+    public int fittingSeats(long mask) {
+        int fitting = 0;
+        for (int coach = 0; coach < free.length; coach++) {
+            fitting += fitting(coach, mask).cardinality();
+        }
+        return fitting;
+    }
+
+    public boolean isFree(int seat) {
+        return occupied[seat] == 0;
+    }
+
+    public String coachNumber(int seat) {
+        return coachNumbers[coachOf(seat)];
+    }
+
+    public int berthNumber(int seat) {
+        return seat - firstSeats[coachOf(seat)] + 1;
+    }
+
+    public BerthType berthType(int seat) {
+        return berthTypes[seat];
+    }
+
+    /**
+     * Mark the segments of the mask as sold on a seat and return its sold segments.
+     */
+    public long occupy(int seat, long mask) {
+        int coach = coachOf(seat);
+        free[coach].clear(seat - firstSeats[coach]);
+        return occupied[seat] |= mask;
+    }
+
+    /**
+     * Mark the segments of the mask as free on a seat and return its sold segments.
+     */
+    public long vacate(int seat, long mask) {
+        occupied[seat] &= ~mask;
+        if (occupied[seat] == 0) {
+            int coach = coachOf(seat);
+            free[coach].set(seat - firstSeats[coach]);
+        }
+        return occupied[seat];
+    }
+
+    /**
+     * Pick one seat per passenger for a journey over the segments of the mask, or null when fewer seats fit.
+     * A group goes into the shortest run of adjacent fitting berths of one coach that holds it (best fit,
+     * so long runs stay free for later groups), at whichever end of the run matches more preferences.
+     * Otherwise passengers are seated one by one, staying in the first passenger's coach where possible;
+     * each takes a partly sold berth first (fullest first), then a berth from the shortest free run,
+     * preferring berths that match the passenger's preference. Nothing is marked as sold.
+     */
+    public int[] allocate(long mask, BerthPreference[] preferences) {
+        BitSet[] fits = new BitSet[free.length];
+        int fitting = 0;
+        for (int coach = 0; coach < free.length; coach++) {
+            fits[coach] = fitting(coach, mask);
+            fitting += fits[coach].cardinality();
+        }
+        if (fitting < preferences.length) {
+            return null;
+        }
+
+        int[] seats = preferences.length > 1 ? allocateRun(fits, preferences) : null;
+        return seats != null ? seats : allocateEach(fits, preferences);
+    }
+
+    // Helper methods
+    private int berths(int coach) {
+        return firstSeats[coach + 1] - firstSeats[coach];
+    }
+
+    private int coachOf(int seat) {
+        int coach = Arrays.binarySearch(firstSeats, seat);
+        return coach >= 0 ? coach : -coach - 2;
+    }
+
+    private BitSet fitting(int coach, long mask) {
+        BitSet fits = (BitSet) free[coach].clone();
+        if (mask != SeatSegment.WHOLE_ROUTE) {
+            // Partly sold berths fit when none of their sold segments overlap the journey
+            int first = firstSeats[coach];
+            for (int berth = fits.nextClearBit(0); berth < berths(coach); berth = fits.nextClearBit(berth + 1)) {
+                if ((occupied[first + berth] & mask) == 0) {
+                    fits.set(berth);
+                }
+            }
+        }
+        return fits;
+    }
+
+    private int[] allocateRun(BitSet[] fits, BerthPreference[] preferences) {
+        int count = preferences.length;
+        int bestCoach = -1;
+        int bestStart = 0;
+        int bestLength = Integer.MAX_VALUE;
+        int bestMatches = -1;
+        for (int coach = 0; coach < fits.length; coach++) {
+            BitSet coachFits = fits[coach];
+            for (int start = coachFits.nextSetBit(0); start >= 0; ) {
+                int end = coachFits.nextClearBit(start);
+                int length = end - start;
+                if (length >= count && length <= bestLength) {
+                    // Either end of the run leaves the rest of it in one piece
+                    for (int window = start; window >= 0; window = window == start && end - count != start ? end - count : -1) {
+                        int matches = assign(coach, window, preferences, null);
+                        if (length < bestLength || matches > bestMatches) {
+                            bestCoach = coach;
+                            bestStart = window;
+                            bestLength = length;
+                            bestMatches = matches;
+                        }
+                    }
+                }
+                start = coachFits.nextSetBit(end);
+            }
+        }
+        if (bestCoach < 0) {
+            return null;
+        }
+
+        int[] seats = new int[count];
+        assign(bestCoach, bestStart, preferences, seats);
+        return seats;
+    }
+
+    // Seats the passengers on the berths of a window, matching preferences first; returns the number matched
+    private int assign(int coach, int window, BerthPreference[] preferences, int[] seats) {
+        int first = firstSeats[coach] + window;
+        int count = preferences.length;
+        int[] assigned = new int[count];
+        boolean[] taken = new boolean[count];
+        int matches = 0;
+        Arrays.fill(assigned, -1);
+        for (int passenger = 0; passenger < count; passenger++) {
+            BerthPreference preference = preferences[passenger];
+            for (int berth = 0; preference != null && berth < count; berth++) {
+                if (!taken[berth] && preference.matches(berthTypes[first + berth])) {
+                    taken[berth] = true;
+                    assigned[passenger] = first + berth;
+                    matches++;
+                    break;
+                }
+            }
+        }
+        for (int passenger = 0, berth = 0; passenger < count; passenger++) {
+            if (assigned[passenger] < 0) {
+                while (taken[berth]) {
+                    berth++;
+                }
+                taken[berth] = true;
+                assigned[passenger] = first + berth;
+            }
+        }
+        if (seats != null) {
+            System.arraycopy(assigned, 0, seats, 0, count);
+        }
+        return matches;
+    }
+
+    private int[] allocateEach(BitSet[] fits, BerthPreference[] preferences) {
+        int[] seats = new int[preferences.length];
+        int anchor = -1;
+        for (int passenger = 0; passenger < preferences.length; passenger++) {
+            int seat = pick(fits, preferences[passenger], anchor);
+            int coach = coachOf(seat);
+            fits[coach].clear(seat - firstSeats[coach]);
+            seats[passenger] = seat;
+            if (anchor < 0) {
+                anchor = coach;
+            }
+        }
+        return seats;
+    }
+
+    // Tries the group's coach before the others, and berths matching the preference before any berth
+    private int pick(BitSet[] fits, BerthPreference preference, int anchor) {
+        for (BerthPreference wanted : preference != null ? new BerthPreference[] {preference, null} : new BerthPreference[] {null}) {
+            if (anchor >= 0) {
+                int seat = bestSeat(fits, anchor, anchor + 1, wanted);
+                if (seat >= 0) {
+                    return seat;
+                }
+            }
+            int seat = bestSeat(fits, 0, fits.length, wanted);
+            if (seat >= 0) {
+                return seat;
+            }
+        }
+        throw new IllegalStateException("No fitting seat left");
+    }
+
+    private int bestSeat(BitSet[] fits, int fromCoach, int toCoach, BerthPreference preference) {
+        int bestSeat = -1;
+        int bestScore = Integer.MIN_VALUE;
+        for (int coach = fromCoach; coach < toCoach; coach++) {
+            BitSet candidates = fits[coach];
+            if (preference != null) {
+                candidates = (BitSet) candidates.clone();
+                candidates.and(preferred[coach][preference.ordinal()]);
+            }
+            for (int berth = candidates.nextSetBit(0); berth >= 0; berth = candidates.nextSetBit(berth + 1)) {
+                int score = score(coach, fits[coach], berth);
+                if (score > bestScore) {
+                    bestScore = score;
+                    bestSeat = firstSeats[coach] + berth;
+                }
+            }
+        }
+        return bestSeat;
+    }
+
+    // Partly sold berths score by their sold segments; free berths by the shortness of their free run
+    private int score(int coach, BitSet coachFits, int berth) {
+        if (!free[coach].get(berth)) {
+            return 1 + Long.bitCount(occupied[firstSeats[coach] + berth]);
+        }
+        return coachFits.previousClearBit(berth) - coachFits.nextClearBit(berth) + 1;
+    }
+}
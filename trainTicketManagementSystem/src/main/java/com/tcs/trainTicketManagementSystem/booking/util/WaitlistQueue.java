@@ -0,0 +1,49 @@
+package com.tcs.trainTicketManagementSystem.booking.util;
+
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+
+/**
+ * Waitlist of one fare type on one journey date, earliest booking first.
+ * Bookings are kept in one heap per party size, so the earliest booking that fits a number of free
+ * seats is found by comparing the heads of at most one heap per party size, however long the list is.
+ * Thread-safe.
+ */
+public final class WaitlistQueue {
+
+    private final TreeMap<Integer, PriorityQueue<Long>> bookingsBySeats = new TreeMap<>();
+    private int size;
+
+    public synchronized void add(long bookingId, int seats) {
+        bookingsBySeats.computeIfAbsent(seats, key -> new PriorityQueue<>()).add(bookingId);
+        size++;
+    }
+
+    /**
+     * Remove and return the earliest booking needing at most the given seats, or null when none fits.
+     */
+    public synchronized Entry pollFitting(int seats) {
+        Map.Entry<Integer, PriorityQueue<Long>> best = null;
+        for (Map.Entry<Integer, PriorityQueue<Long>> candidate : bookingsBySeats.headMap(seats, true).entrySet()) {
+            Long head = candidate.getValue().peek();
+            if (head != null && (best == null || head < best.getValue().peek())) {
+                best = candidate;
+            }
+        }
+        if (best == null) {
+            return null;
+        }
+        size--;
+        return new Entry(best.getValue().poll(), best.getKey());
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * Waitlisted booking and the seats it needs.
+     */
+    public record Entry(long bookingId, int seats) {}
+}
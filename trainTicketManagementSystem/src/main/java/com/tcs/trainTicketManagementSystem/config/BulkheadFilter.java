@@ -0,0 +1,254 @@
+package com.tcs.trainTicketManagementSystem.config;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Bulkheads separating booking writes, browsing and admin/reporting traffic.
+ * Each traffic class may run a limited number of requests at once; further requests wait in a bounded queue
+ * for up to a timeout and are then answered with 503 and Retry-After. Because the browse and admin bulkheads
+ * together stay below the connection pool size, the rest of the pool is left to booking writes however many
+ * reports are running.
+ * Enabled with api.bulkhead.enabled=true.
+ */
+@Component
+@ConditionalOnProperty(name = "api.bulkhead.enabled", havingValue = "true")
+@Order(Ordered.LOWEST_PRECEDENCE)
+public class BulkheadFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(BulkheadFilter.class);
+
+    private static final List<String> GUARDED_PATHS = List.of(
+            "/api/v1/trains/**", "/api/v1/bookings/**", "/api/v1/users/**", "/api/v1/admin/**");
+
+    // Reports and scans over all bookings, whoever calls them
+    private static final List<String> ADMIN_PATHS = List.of(
+            "/api/v1/admin/**", "/api/v1/bookings/export", "/api/v1/bookings/search",
+            "/api/v1/bookings/passengers/statistics");
+
+    // Creating a booking may open a second connection to materialize missing seat inventory
+    private static final int BOOKING_CONNECTIONS_PER_REQUEST = 2;
+
+    /**
+     * Traffic classes with a bulkhead each.
+     */
+    enum TrafficClass {
+        BOOKING, BROWSE, ADMIN;
+
+        String propertyName() {
+            return name().toLowerCase();
+        }
+    }
+
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final ObjectMapper objectMapper;
+    private final Map<TrafficClass, Bulkhead> bulkheads = new EnumMap<>(TrafficClass.class);
+
+    public BulkheadFilter(Environment environment, ObjectMapper objectMapper, MeterRegistry meterRegistry,
+            @Value("${spring.datasource.hikari.maximum-pool-size:10}") int connectionPoolSize) {
+        this.objectMapper = objectMapper;
+        for (TrafficClass trafficClass : TrafficClass.values()) {
+            String prefix = "api.bulkhead." + trafficClass.propertyName();
+            Bulkhead bulkhead = new Bulkhead(trafficClass,
+                    environment.getProperty(prefix + ".max-concurrent", Integer.class, 4),
+                    environment.getProperty(prefix + ".max-queue", Integer.class, 50),
+                    environment.getProperty(prefix + ".timeout-ms", Long.class, 1000L),
+                    meterRegistry);
+            bulkheads.put(trafficClass, bulkhead);
+        }
+
+        int connectionsNeeded = BOOKING_CONNECTIONS_PER_REQUEST * bulkheads.get(TrafficClass.BOOKING).maxConcurrent
+                + bulkheads.get(TrafficClass.BROWSE).maxConcurrent + bulkheads.get(TrafficClass.ADMIN).maxConcurrent;
+        if (connectionsNeeded > connectionPoolSize) {
+            logger.warn("Bulkheads may use {} connections but the pool has only {}; booking writes are not isolated",
+                    connectionsNeeded, connectionPoolSize);
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (HttpMethod.OPTIONS.matches(request.getMethod())) {
+            return true;
+        }
+        String path = request.getRequestURI();
+        return GUARDED_PATHS.stream().noneMatch(pattern -> pathMatcher.match(pattern, path));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        Bulkhead bulkhead = bulkheads.get(classify(request));
+        if (!bulkhead.tryEnter()) {
+            logger.debug("Bulkhead {} saturated; rejected {} {}", bulkhead.trafficClass, request.getMethod(),
+                    request.getRequestURI());
+            FilterErrorResponses.writeRetryLater(objectMapper, request, response, HttpStatus.SERVICE_UNAVAILABLE,
+                    "Too many " + bulkhead.trafficClass.propertyName() + " requests in progress, please retry shortly",
+                    1);
+            return;
+        }
+
+        AtomicBoolean released = new AtomicBoolean();
+        Runnable release = () -> {
+            if (released.compareAndSet(false, true)) {
+                bulkhead.exit();
+            }
+        };
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            if (request.isAsyncStarted()) {
+                // Streamed exports keep their permit until the response is complete
+                request.getAsyncContext().addListener(new ReleasingAsyncListener(release));
+            } else {
+                release.run();
+            }
+        }
+    }
+
+    // Helper Methods
+    private TrafficClass classify(HttpServletRequest request) {
+        String path = request.getRequestURI();
+        if (ADMIN_PATHS.stream().anyMatch(pattern -> pathMatcher.match(pattern, path))) {
+            return TrafficClass.ADMIN;
+        }
+        boolean read = HttpMethod.GET.matches(request.getMethod());
+        if (path.startsWith("/api/v1/bookings")) {
+            // Listing every booking is a report; a single user's bookings are not
+            if (read && path.equals("/api/v1/bookings")) {
+                return TrafficClass.ADMIN;
+            }
+            return read ? TrafficClass.BROWSE : TrafficClass.BOOKING;
+        }
+        // Changing trains and run exceptions is administration
+        if (path.startsWith("/api/v1/trains") && !read && !path.equals("/api/v1/trains/search")) {
+            return TrafficClass.ADMIN;
+        }
+        return TrafficClass.BROWSE;
+    }
+
+    private static final class Bulkhead {
+        private final TrafficClass trafficClass;
+        private final int maxConcurrent;
+        private final int maxQueue;
+        private final long timeoutNanos;
+        private final Semaphore permits;
+        private final AtomicInteger waiting = new AtomicInteger();
+        private final Counter queueFull;
+        private final Counter timedOut;
+        private final Timer waitTime;
+
+        private Bulkhead(TrafficClass trafficClass, int maxConcurrent, int maxQueue, long timeoutMs,
+                MeterRegistry meterRegistry) {
+            this.trafficClass = trafficClass;
+            this.maxConcurrent = maxConcurrent;
+            this.maxQueue = maxQueue;
+            this.timeoutNanos = TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+            this.permits = new Semaphore(maxConcurrent, true);
+            String name = trafficClass.propertyName();
+            this.queueFull = Counter.builder("api.bulkhead.rejected")
+                    .description("Requests turned away by a saturated bulkhead")
+                    .tags("bulkhead", name, "reason", "queue-full")
+                    .register(meterRegistry);
+            this.timedOut = Counter.builder("api.bulkhead.rejected")
+                    .description("Requests turned away by a saturated bulkhead")
+                    .tags("bulkhead", name, "reason", "timeout")
+                    .register(meterRegistry);
+            this.waitTime = Timer.builder("api.bulkhead.wait")
+                    .description("Time requests waited for a bulkhead permit")
+                    .tag("bulkhead", name)
+                    .register(meterRegistry);
+            Gauge.builder("api.bulkhead.active", permits, p -> maxConcurrent - p.availablePermits())
+                    .description("Requests running inside the bulkhead")
+                    .tag("bulkhead", name)
+                    .register(meterRegistry);
+            Gauge.builder("api.bulkhead.queued", waiting, AtomicInteger::get)
+                    .description("Requests waiting for a bulkhead permit")
+                    .tag("bulkhead", name)
+                    .register(meterRegistry);
+        }
+
+        /**
+         * Take a permit, waiting in the queue for up to the timeout; false when the request should be rejected.
+         */
+        private boolean tryEnter() {
+            if (waiting.incrementAndGet() > maxQueue) {
+                waiting.decrementAndGet();
+                queueFull.increment();
+                return false;
+            }
+            long start = System.nanoTime();
+            try {
+                if (permits.tryAcquire(timeoutNanos, TimeUnit.NANOSECONDS)) {
+                    return true;
+                }
+                timedOut.increment();
+                return false;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                timedOut.increment();
+                return false;
+            } finally {
+                waiting.decrementAndGet();
+                waitTime.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+        }
+
+        private void exit() {
+            permits.release();
+        }
+    }
+
+    private record ReleasingAsyncListener(Runnable release) implements AsyncListener {
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            release.run();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            release.run();
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            release.run();
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+    }
+}
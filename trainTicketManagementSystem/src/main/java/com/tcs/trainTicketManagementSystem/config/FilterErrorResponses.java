@@ -0,0 +1,43 @@
+package com.tcs.trainTicketManagementSystem.config;
+
+import java.io.IOException;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tcs.trainTicketManagementSystem.exception.GlobalExceptionHandler.ErrorResponse;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Writes the usual error body for requests turned away by a servlet filter, before any controller
+ * (and so before GlobalExceptionHandler and the controllers' CORS handling) is involved.
+ */
+final class FilterErrorResponses {
+
+    private FilterErrorResponses() {
+    }
+
+    /**
+     * Answer the request with the given status, a Retry-After header and an ErrorResponse body.
+     */
+    static void writeRetryLater(ObjectMapper objectMapper, HttpServletRequest request, HttpServletResponse response,
+            HttpStatus status, String message, long retryAfterSeconds) throws IOException {
+        ErrorResponse errorResponse = new ErrorResponse(
+                status.value(),
+                status.getReasonPhrase(),
+                message,
+                request.getRequestURI()
+        );
+        response.setStatus(status.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        // The controllers allow any origin, but this response never reaches their CORS handling
+        response.setHeader(HttpHeaders.ACCESS_CONTROL_ALLOW_ORIGIN, "*");
+        response.setHeader(HttpHeaders.ACCESS_CONTROL_EXPOSE_HEADERS, HttpHeaders.RETRY_AFTER);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), errorResponse);
+    }
+}
@@ -0,0 +1,231 @@
+package com.tcs.trainTicketManagementSystem.config;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Per-client rate limiting in front of the train, booking and user APIs.
+ * Every client gets a token bucket per endpoint class, keyed by the X-User-Id header when present and the
+ * client address otherwise. A request finding its bucket empty is answered with 429 and Retry-After before
+ * it reaches a controller, so a scraper cannot tie up servlet threads or database connections.
+ * Enabled with api.rate-limit.enabled=true.
+ */
+@Component
+@ConditionalOnProperty(name = "api.rate-limit.enabled", havingValue = "true")
+@Order(RateLimitFilter.ORDER)
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(RateLimitFilter.class);
+
+    public static final String USER_ID_HEADER = "X-User-Id";
+
+    // Ahead of the bulkheads, so rejected clients never take a bulkhead permit
+    static final int ORDER = Ordered.LOWEST_PRECEDENCE - 10;
+
+    private static final List<String> LIMITED_PATHS = List.of(
+            "/api/v1/trains/**", "/api/v1/bookings/**", "/api/v1/users/**");
+
+    // Queries that scan schedules, routes or bookings rather than load a single row
+    private static final List<String> SEARCH_PATHS = List.of(
+            "/api/v1/trains/available", "/api/v1/trains/available-seats/**", "/api/v1/trains/search/**",
+            "/api/v1/trains/route", "/api/v1/trains/schedule/**", "/api/v1/trains/journeys",
+            "/api/v1/bookings/availability", "/api/v1/bookings/search", "/api/v1/bookings/export");
+
+    private static final List<String> LOGIN_PATHS = List.of(
+            "/api/v1/users/login", "/api/v1/users/register");
+
+    private static final long SWEEP_INTERVAL_NANOS = 1_000_000_000L;
+
+    /**
+     * Endpoint classes with separate limits.
+     */
+    enum EndpointClass {
+        SEARCH, READ, WRITE, LOGIN;
+
+        String propertyName() {
+            return name().toLowerCase();
+        }
+    }
+
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final ObjectMapper objectMapper;
+    private final int maxClients;
+    private final Map<EndpointClass, Limit> limits = new EnumMap<>(EndpointClass.class);
+    private final Map<EndpointClass, Bucket> overflow = new EnumMap<>(EndpointClass.class);
+    private final Map<String, Bucket> buckets = new ConcurrentHashMap<>();
+    private final AtomicLong nextSweepAt = new AtomicLong(System.nanoTime());
+
+    public RateLimitFilter(Environment environment, ObjectMapper objectMapper, MeterRegistry meterRegistry,
+            @Value("${api.rate-limit.max-clients:100000}") int maxClients) {
+        this.objectMapper = objectMapper;
+        this.maxClients = maxClients;
+        for (EndpointClass endpointClass : EndpointClass.values()) {
+            String prefix = "api.rate-limit." + endpointClass.propertyName();
+            double capacity = environment.getProperty(prefix + ".capacity", Double.class, 60.0);
+            double refillPerSecond = environment.getProperty(prefix + ".refill-per-second", Double.class, 20.0);
+            Counter allowed = Counter.builder("api.rate-limit.allowed")
+                    .description("Requests let through the rate limiter")
+                    .tag("class", endpointClass.propertyName())
+                    .register(meterRegistry);
+            Counter rejected = Counter.builder("api.rate-limit.rejected")
+                    .description("Requests rejected by the rate limiter")
+                    .tag("class", endpointClass.propertyName())
+                    .register(meterRegistry);
+            Limit limit = new Limit(capacity, refillPerSecond, allowed, rejected);
+            limits.put(endpointClass, limit);
+            overflow.put(endpointClass, new Bucket(limit, System.nanoTime()));
+        }
+        Gauge.builder("api.rate-limit.clients", buckets, Map::size)
+                .description("Client buckets currently tracked by the rate limiter")
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (HttpMethod.OPTIONS.matches(request.getMethod())) {
+            return true;
+        }
+        String path = request.getRequestURI();
+        return LIMITED_PATHS.stream().noneMatch(pattern -> pathMatcher.match(pattern, path));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        EndpointClass endpointClass = classify(request);
+        Limit limit = limits.get(endpointClass);
+        String client = clientKey(request);
+        long now = System.nanoTime();
+
+        double waitSeconds = bucketFor(endpointClass, client, limit, now).tryConsume(now);
+        if (waitSeconds == 0) {
+            limit.allowed().increment();
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        limit.rejected().increment();
+        long retryAfter = Math.max(1, (long) Math.ceil(waitSeconds));
+        logger.debug("Rate limited {} on {} {}; retry after {}s", client, request.getMethod(),
+                request.getRequestURI(), retryAfter);
+        FilterErrorResponses.writeRetryLater(objectMapper, request, response, HttpStatus.TOO_MANY_REQUESTS,
+                "Rate limit exceeded, please retry after " + retryAfter + " seconds", retryAfter);
+    }
+
+    // Helper Methods
+    private EndpointClass classify(HttpServletRequest request) {
+        String path = request.getRequestURI();
+        if (LOGIN_PATHS.contains(path)) {
+            return EndpointClass.LOGIN;
+        }
+        if (SEARCH_PATHS.stream().anyMatch(pattern -> pathMatcher.match(pattern, path))) {
+            return EndpointClass.SEARCH;
+        }
+        return HttpMethod.GET.matches(request.getMethod()) ? EndpointClass.READ : EndpointClass.WRITE;
+    }
+
+    private String clientKey(HttpServletRequest request) {
+        String userId = request.getHeader(USER_ID_HEADER);
+        if (userId != null && !userId.isBlank()) {
+            return "user:" + userId.trim();
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    private Bucket bucketFor(EndpointClass endpointClass, String client, Limit limit, long now) {
+        String key = endpointClass + "|" + client;
+        Bucket bucket = buckets.get(key);
+        if (bucket != null) {
+            return bucket;
+        }
+        if (buckets.size() >= maxClients) {
+            sweep(now);
+            if (buckets.size() >= maxClients) {
+                // Clients arriving while the map is full share one bucket until idle entries are swept
+                return overflow.get(endpointClass);
+            }
+        }
+        return buckets.computeIfAbsent(key, k -> new Bucket(limit, now));
+    }
+
+    /**
+     * Drop buckets that have refilled completely; they hold no state a fresh bucket would not.
+     * Runs at most once a second so a flood of new clients does not turn every request into a scan.
+     */
+    private void sweep(long now) {
+        long due = nextSweepAt.get();
+        if (now - due < 0 || !nextSweepAt.compareAndSet(due, now + SWEEP_INTERVAL_NANOS)) {
+            return;
+        }
+        int before = buckets.size();
+        buckets.values().removeIf(bucket -> bucket.isFull(now));
+        logger.info("Rate limiter swept {} idle client buckets, {} remain", before - buckets.size(), buckets.size());
+    }
+
+    private record Limit(double capacity, double refillPerSecond, Counter allowed, Counter rejected) {
+    }
+
+    private static final class Bucket {
+        private final Limit limit;
+        private double tokens;
+        private long refilledAt;
+
+        private Bucket(Limit limit, long now) {
+            this.limit = limit;
+            this.tokens = limit.capacity();
+            this.refilledAt = now;
+        }
+
+        /**
+         * Take one token, returning 0 when allowed or the seconds until a token is available.
+         */
+        private synchronized double tryConsume(long now) {
+            refill(now);
+            if (tokens >= 1) {
+                tokens--;
+                return 0;
+            }
+            return (1 - tokens) / limit.refillPerSecond();
+        }
+
+        private synchronized boolean isFull(long now) {
+            refill(now);
+            return tokens >= limit.capacity();
+        }
+
+        private void refill(long now) {
+            // Another thread may have refilled with a later timestamp
+            if (now - refilledAt > 0) {
+                tokens = Math.min(limit.capacity(), tokens + (now - refilledAt) / 1e9 * limit.refillPerSecond());
+                refilledAt = now;
+            }
+        }
+    }
+}
@@ -1,14 +1,19 @@
 package com.tcs.trainTicketManagementSystem.exception;
 
 import com.tcs.trainTicketManagementSystem.booking.exception.BookingNotFoundException;
+import com.tcs.trainTicketManagementSystem.booking.exception.BookingQueuedException;
 import com.tcs.trainTicketManagementSystem.booking.exception.BookingValidationException;
+import com.tcs.trainTicketManagementSystem.booking.exception.IdempotencyKeyMismatchException;
 import com.tcs.trainTicketManagementSystem.booking.exception.PassengerNotFoundException;
+import com.tcs.trainTicketManagementSystem.booking.exception.SeatHoldNotFoundException;
 import com.tcs.trainTicketManagementSystem.train.exception.TrainAlreadyExistsException;
 import com.tcs.trainTicketManagementSystem.train.exception.TrainNotFoundException;
 import com.tcs.trainTicketManagementSystem.users.exception.UserAlreadyExistsException;
 import com.tcs.trainTicketManagementSystem.users.exception.UserNotFoundException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -227,6 +232,80 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
     }
 
+    /**
+     * Handle SeatHoldNotFoundException.
+     */
+    @ExceptionHandler(SeatHoldNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleSeatHoldNotFoundException(SeatHoldNotFoundException ex) {
+        logger.error("Seat hold not found exception: {}", ex.getMessage());
+        
+        ErrorResponse errorResponse = new ErrorResponse(
+            HttpStatus.NOT_FOUND.value(),
+            "Seat Hold Not Found",
+            ex.getMessage(),
+            "Booking API"
+        );
+        
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
+    }
+
+    /**
+     * Handle IdempotencyKeyMismatchException.
+     */
+    @ExceptionHandler(IdempotencyKeyMismatchException.class)
+    public ResponseEntity<ErrorResponse> handleIdempotencyKeyMismatchException(IdempotencyKeyMismatchException ex) {
+        logger.error("Idempotency key mismatch exception: {}", ex.getMessage());
+        
+        ErrorResponse errorResponse = new ErrorResponse(
+            HttpStatus.UNPROCESSABLE_ENTITY.value(),
+            "Idempotency Key Reused",
+            ex.getMessage(),
+            "Booking API"
+        );
+        
+        return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY).body(errorResponse);
+    }
+
+    /**
+     * Handle BookingQueuedException with the queue token, position and Retry-After headers.
+     */
+    @ExceptionHandler(BookingQueuedException.class)
+    public ResponseEntity<ErrorResponse> handleBookingQueuedException(BookingQueuedException ex) {
+        logger.debug("Booking queued exception: {}", ex.getMessage());
+        
+        ErrorResponse errorResponse = new ErrorResponse(
+            HttpStatus.TOO_MANY_REQUESTS.value(),
+            "Booking Queued",
+            ex.getMessage(),
+            "Booking API"
+        );
+        
+        ResponseEntity.BodyBuilder response = ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()));
+        if (ex.getQueueToken() != null) {
+            response.header("X-Queue-Token", ex.getQueueToken())
+                    .header("X-Queue-Position", String.valueOf(ex.getPosition()));
+        }
+        return response.body(errorResponse);
+    }
+
+    /**
+     * Handle OptimisticLockingFailureException when concurrent changes kept winning.
+     */
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorResponse> handleOptimisticLockingFailureException(OptimisticLockingFailureException ex) {
+        logger.warn("Optimistic locking failure: {}", ex.getMessage());
+        
+        ErrorResponse errorResponse = new ErrorResponse(
+            HttpStatus.CONFLICT.value(),
+            "Concurrent Update",
+            ex.getMessage(),
+            "Booking API"
+        );
+        
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
+    }
+
     // Common Exceptions
 
     /**
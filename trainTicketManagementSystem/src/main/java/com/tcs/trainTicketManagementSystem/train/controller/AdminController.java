@@ -1,22 +1,28 @@
 package com.tcs.trainTicketManagementSystem.train.controller;
 
 import com.tcs.trainTicketManagementSystem.train.dto.AdminDashboardResponse;
+import com.tcs.trainTicketManagementSystem.train.dto.RevenueReportResponse;
 import com.tcs.trainTicketManagementSystem.train.service.AdminService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 
+import java.time.LocalDate;
+
 /**
  * REST Controller for Admin operations.
  * This controller provides admin-only endpoints for dashboard and administrative functions.
@@ -56,4 +62,26 @@ public class AdminController {
             throw e;
         }
     }
-} 
\ No newline at end of file
+
+    @GetMapping("/reports/revenue")
+    @Operation(summary = "Get revenue report",
+               description = "Retrieves bookings, passengers and confirmed revenue for a booking date range grouped by route, class or day. Defaults to the last 30 days up to today, grouped by day.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Revenue report retrieved successfully",
+            content = @Content(schema = @Schema(implementation = RevenueReportResponse.class))),
+        @ApiResponse(responseCode = "400", description = "Invalid date range or grouping")
+    })
+    public ResponseEntity<RevenueReportResponse> getRevenueReport(
+            @Parameter(description = "First booking date (inclusive)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "Last booking date (inclusive)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @Parameter(description = "Grouping: route, class or day")
+            @RequestParam(defaultValue = "day") String groupBy) {
+        LocalDate toDate = to != null ? to : LocalDate.now();
+        LocalDate fromDate = from != null ? from : toDate.minusDays(29);
+        logger.info("Admin revenue report requested from {} to {} by {}", fromDate, toDate, groupBy);
+
+        return ResponseEntity.ok(adminService.getRevenueReport(fromDate, toDate, groupBy));
+    }
+}
@@ -20,8 +20,13 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.tcs.trainTicketManagementSystem.train.dto.BulkRunExceptionRequest;
+import com.tcs.trainTicketManagementSystem.train.dto.BulkRunExceptionResponse;
+import com.tcs.trainTicketManagementSystem.train.dto.JourneyResponse;
 import com.tcs.trainTicketManagementSystem.train.dto.TrainRequest;
 import com.tcs.trainTicketManagementSystem.train.dto.TrainResponse;
+import com.tcs.trainTicketManagementSystem.train.dto.TrainRunExceptionRequest;
+import com.tcs.trainTicketManagementSystem.train.dto.TrainRunExceptionResponse;
 import com.tcs.trainTicketManagementSystem.train.dto.TrainSearchRequest;
 import com.tcs.trainTicketManagementSystem.train.dto.StationListResponse;
 import com.tcs.trainTicketManagementSystem.train.model.TrainStatus;
@@ -397,4 +402,127 @@ public class TrainController {
         StationListResponse response = trainService.getDistinctStations();
         return ResponseEntity.ok(response);
     }
-} 
\ No newline at end of file
+
+    @GetMapping("/journeys")
+    @Operation(summary = "Plan journeys", description = "Finds direct and connecting journeys of up to maxLegs trains starting on a date, respecting minimum transfer times; returns the fastest journey for each number of legs that beats every journey with fewer legs")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Journeys planned successfully",
+            content = @Content(schema = @Schema(implementation = JourneyResponse.class))),
+        @ApiResponse(responseCode = "400", description = "Invalid search parameters")
+    })
+    public ResponseEntity<List<JourneyResponse>> planJourneys(
+            @Parameter(description = "Source station", required = true)
+            @RequestParam String from,
+            @Parameter(description = "Destination station", required = true)
+            @RequestParam String to,
+            @Parameter(description = "Journey date (defaults to today)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @Parameter(description = "Maximum number of trains")
+            @RequestParam(defaultValue = "3") int maxLegs) {
+        LocalDate journeyDate = date != null ? date : LocalDate.now();
+        logger.debug("Planning journeys from {} to {} on {}", from, to, journeyDate);
+        List<JourneyResponse> journeys = trainService.planJourneys(from, to, journeyDate, maxLegs);
+        return ResponseEntity.ok(journeys);
+    }
+
+    @GetMapping("/{trainId}/run-dates")
+    @Operation(summary = "Get train run dates", description = "Retrieves the dates a train runs on within a range of at most 366 days, run exceptions included")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Run dates retrieved successfully"),
+        @ApiResponse(responseCode = "400", description = "Invalid date range"),
+        @ApiResponse(responseCode = "404", description = "Train not found")
+    })
+    public ResponseEntity<List<LocalDate>> getRunDates(
+            @Parameter(description = "Train ID", required = true)
+            @PathVariable Long trainId,
+            @Parameter(description = "First date (defaults to today)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "Last date (defaults to 30 days after the first date)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        LocalDate fromDate = from != null ? from : LocalDate.now();
+        LocalDate toDate = to != null ? to : fromDate.plusDays(30);
+        logger.debug("Fetching run dates for train ID: {} from {} to {}", trainId, fromDate, toDate);
+        List<LocalDate> runDates = trainService.getRunDates(trainId, fromDate, toDate);
+        return ResponseEntity.ok(runDates);
+    }
+
+    @GetMapping("/{trainId}/run-exceptions")
+    @Operation(summary = "Get train run exceptions", description = "Retrieves the dated runs added to or cancelled from a train's weekly schedule")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Run exceptions retrieved successfully",
+            content = @Content(schema = @Schema(implementation = TrainRunExceptionResponse.class))),
+        @ApiResponse(responseCode = "404", description = "Train not found")
+    })
+    public ResponseEntity<List<TrainRunExceptionResponse>> getRunExceptions(
+            @Parameter(description = "Train ID", required = true)
+            @PathVariable Long trainId) {
+        logger.debug("Fetching run exceptions for train ID: {}", trainId);
+        List<TrainRunExceptionResponse> exceptions = trainService.getRunExceptions(trainId);
+        return ResponseEntity.ok(exceptions);
+    }
+
+    @PutMapping("/{trainId}/run-exceptions")
+    @Operation(summary = "Add train run exception", description = "Adds or replaces the run exception of a train on a date (ADDED runs the train, CANCELLED does not)")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Run exception saved successfully",
+            content = @Content(schema = @Schema(implementation = TrainRunExceptionResponse.class))),
+        @ApiResponse(responseCode = "400", description = "Invalid input data"),
+        @ApiResponse(responseCode = "404", description = "Train not found")
+    })
+    public ResponseEntity<TrainRunExceptionResponse> addRunException(
+            @Parameter(description = "Train ID", required = true)
+            @PathVariable Long trainId,
+            @Parameter(description = "Run exception details", required = true)
+            @Valid @RequestBody TrainRunExceptionRequest request) {
+        logger.info("Adding run exception for train ID: {} on {}", trainId, request.getRunDate());
+        TrainRunExceptionResponse response = trainService.addRunException(trainId, request);
+        return ResponseEntity.ok(response);
+    }
+
+    @DeleteMapping("/{trainId}/run-exceptions/{runDate}")
+    @Operation(summary = "Remove train run exception", description = "Removes the run exception of a train on a date, restoring its weekly schedule for that date")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "204", description = "Run exception removed successfully"),
+        @ApiResponse(responseCode = "404", description = "Train not found")
+    })
+    public ResponseEntity<Void> removeRunException(
+            @Parameter(description = "Train ID", required = true)
+            @PathVariable Long trainId,
+            @Parameter(description = "Run date", required = true)
+            @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate runDate) {
+        logger.info("Removing run exception for train ID: {} on {}", trainId, runDate);
+        trainService.removeRunException(trainId, runDate);
+        return ResponseEntity.noContent().build();
+    }
+
+    @PostMapping("/run-exceptions/bulk")
+    @Operation(summary = "Apply run exceptions in bulk", description = "Adds or replaces the same run exception for every given train and date in one transaction, e.g. a holiday")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Run exceptions applied successfully",
+            content = @Content(schema = @Schema(implementation = BulkRunExceptionResponse.class))),
+        @ApiResponse(responseCode = "400", description = "Invalid input data"),
+        @ApiResponse(responseCode = "404", description = "One or more trains not found")
+    })
+    public ResponseEntity<BulkRunExceptionResponse> applyRunExceptions(
+            @Parameter(description = "Bulk run exception details", required = true)
+            @Valid @RequestBody BulkRunExceptionRequest request) {
+        logger.info("Applying {} run exceptions for {} trains", request.getExceptionType(), request.getTrainIds().size());
+        BulkRunExceptionResponse response = trainService.applyRunExceptions(request);
+        return ResponseEntity.ok(response);
+    }
+
+    @DeleteMapping("/run-exceptions/{runDate}")
+    @Operation(summary = "Clear run exceptions for a date", description = "Removes the run exceptions on a date for the given trains, or for all trains if none are given, and returns how many were removed")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Run exceptions cleared successfully")
+    })
+    public ResponseEntity<Integer> clearRunExceptions(
+            @Parameter(description = "Run date", required = true)
+            @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate runDate,
+            @Parameter(description = "Train IDs (all trains if omitted)")
+            @RequestParam(required = false) List<Long> trainIds) {
+        logger.info("Clearing run exceptions on {}", runDate);
+        int removed = trainService.clearRunExceptions(runDate, trainIds);
+        return ResponseEntity.ok(removed);
+    }
+}
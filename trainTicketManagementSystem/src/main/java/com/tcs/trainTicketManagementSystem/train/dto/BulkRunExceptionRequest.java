@@ -0,0 +1,82 @@
+package com.tcs.trainTicketManagementSystem.train.dto;
+
+import com.tcs.trainTicketManagementSystem.train.model.RunExceptionType;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * DTO for applying the same run exception to many trains and dates in one call, e.g. a holiday.
+ */
+public class BulkRunExceptionRequest {
+
+    @NotEmpty(message = "At least one train ID is required")
+    @Size(max = 1000, message = "At most 1000 trains can be updated in one call")
+    private List<@NotNull(message = "Train ID cannot be null") Long> trainIds;
+
+    @NotEmpty(message = "At least one run date is required")
+    @Size(max = 366, message = "At most 366 run dates can be updated in one call")
+    private List<@NotNull(message = "Run date cannot be null") LocalDate> runDates;
+
+    @NotNull(message = "Exception type is required")
+    private RunExceptionType exceptionType;
+
+    @Size(max = 200, message = "Reason cannot exceed 200 characters")
+    private String reason;
+
+    // Default constructor
+    public BulkRunExceptionRequest() {}
+
+    // Constructor with all fields
+    public BulkRunExceptionRequest(List<Long> trainIds, List<LocalDate> runDates, RunExceptionType exceptionType, String reason) {
+        this.trainIds = trainIds;
+        this.runDates = runDates;
+        this.exceptionType = exceptionType;
+        this.reason = reason;
+    }
+
+    // Getters and Setters
+    public List<Long> getTrainIds() {
+        return trainIds;
+    }
+
+    public void setTrainIds(List<Long> trainIds) {
+        this.trainIds = trainIds;
+    }
+
+    public List<LocalDate> getRunDates() {
+        return runDates;
+    }
+
+    public void setRunDates(List<LocalDate> runDates) {
+        this.runDates = runDates;
+    }
+
+    public RunExceptionType getExceptionType() {
+        return exceptionType;
+    }
+
+    public void setExceptionType(RunExceptionType exceptionType) {
+        this.exceptionType = exceptionType;
+    }
+
+    public String getReason() {
+        return reason;
+    }
+
+    public void setReason(String reason) {
+        this.reason = reason;
+    }
+
+    @Override
+    public String toString() {
+        return "BulkRunExceptionRequest{" +
+                "trainIds=" + trainIds +
+                ", runDates=" + runDates +
+                ", exceptionType=" + exceptionType +
+                ", reason='" + reason + '\'' +
+                '}';
+    }
+}
@@ -0,0 +1,55 @@
+package com.tcs.trainTicketManagementSystem.train.dto;
+
+/**
+ * DTO for the result of a bulk run exception update.
+ */
+public class BulkRunExceptionResponse {
+
+    private int trainCount;
+    private int dateCount;
+    private int exceptionsApplied;
+
+    // Default constructor
+    public BulkRunExceptionResponse() {}
+
+    // Constructor with all fields
+    public BulkRunExceptionResponse(int trainCount, int dateCount, int exceptionsApplied) {
+        this.trainCount = trainCount;
+        this.dateCount = dateCount;
+        this.exceptionsApplied = exceptionsApplied;
+    }
+
+    // Getters and Setters
+    public int getTrainCount() {
+        return trainCount;
+    }
+
+    public void setTrainCount(int trainCount) {
+        this.trainCount = trainCount;
+    }
+
+    public int getDateCount() {
+        return dateCount;
+    }
+
+    public void setDateCount(int dateCount) {
+        this.dateCount = dateCount;
+    }
+
+    public int getExceptionsApplied() {
+        return exceptionsApplied;
+    }
+
+    public void setExceptionsApplied(int exceptionsApplied) {
+        this.exceptionsApplied = exceptionsApplied;
+    }
+
+    @Override
+    public String toString() {
+        return "BulkRunExceptionResponse{" +
+                "trainCount=" + trainCount +
+                ", dateCount=" + dateCount +
+                ", exceptionsApplied=" + exceptionsApplied +
+                '}';
+    }
+}
@@ -0,0 +1,101 @@
+package com.tcs.trainTicketManagementSystem.train.dto;
+
+import com.tcs.trainTicketManagementSystem.train.service.JourneyGraph;
+import java.time.LocalDateTime;
+
+/**
+ * DTO for one train leg of a planned journey.
+ */
+public class JourneyLegResponse {
+
+    private Long trainId;
+    private String trainName;
+    private String source;
+    private String destination;
+    private LocalDateTime departureTime;
+    private LocalDateTime arrivalTime;
+
+    // Default constructor
+    public JourneyLegResponse() {}
+
+    // Constructor with all fields
+    public JourneyLegResponse(Long trainId, String trainName, String source, String destination, LocalDateTime departureTime, LocalDateTime arrivalTime) {
+        this.trainId = trainId;
+        this.trainName = trainName;
+        this.source = source;
+        this.destination = destination;
+        this.departureTime = departureTime;
+        this.arrivalTime = arrivalTime;
+    }
+
+    // Constructor from a planned leg
+    public JourneyLegResponse(JourneyGraph.Leg leg) {
+        this.trainId = leg.train().trainId();
+        this.trainName = leg.train().trainName();
+        this.source = leg.source();
+        this.destination = leg.destination();
+        this.departureTime = leg.departure();
+        this.arrivalTime = leg.arrival();
+    }
+
+    // Getters and Setters
+    public Long getTrainId() {
+        return trainId;
+    }
+
+    public void setTrainId(Long trainId) {
+        this.trainId = trainId;
+    }
+
+    public String getTrainName() {
+        return trainName;
+    }
+
+    public void setTrainName(String trainName) {
+        this.trainName = trainName;
+    }
+
+    public String getSource() {
+        return source;
+    }
+
+    public void setSource(String source) {
+        this.source = source;
+    }
+
+    public String getDestination() {
+        return destination;
+    }
+
+    public void setDestination(String destination) {
+        this.destination = destination;
+    }
+
+    public LocalDateTime getDepartureTime() {
+        return departureTime;
+    }
+
+    public void setDepartureTime(LocalDateTime departureTime) {
+        this.departureTime = departureTime;
+    }
+
+    public LocalDateTime getArrivalTime() {
+        return arrivalTime;
+    }
+
+    public void setArrivalTime(LocalDateTime arrivalTime) {
+        this.arrivalTime = arrivalTime;
+    }
+
+    @Override
+    public String toString() {
+        return "JourneyLegResponse{" +
+                "trainId=" + trainId +
+                ", trainName='" + trainName + '\'' +
+                ", source='" + source + '\'' +
+                ", destination='" + destination + '\'' +
+                ", departureTime=" + departureTime +
+                ", arrivalTime=" + arrivalTime +
+                '}';
+    }
+}
@@ -0,0 +1,92 @@
+package com.tcs.trainTicketManagementSystem.train.dto;
+
+import com.tcs.trainTicketManagementSystem.train.service.JourneyGraph;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * DTO for a planned journey of one or more train legs.
+ */
+public class JourneyResponse {
+
+    private LocalDateTime departureTime;
+    private LocalDateTime arrivalTime;
+    private long durationMinutes;
+    private int transfers;
+    private List<JourneyLegResponse> legs;
+
+    // Default constructor
+    public JourneyResponse() {}
+
+    // Constructor with all fields
+    public JourneyResponse(LocalDateTime departureTime, LocalDateTime arrivalTime, long durationMinutes, int transfers, List<JourneyLegResponse> legs) {
+        this.departureTime = departureTime;
+        this.arrivalTime = arrivalTime;
+        this.durationMinutes = durationMinutes;
+        this.transfers = transfers;
+        this.legs = legs;
+    }
+
+    // Constructor from a planned journey
+    public JourneyResponse(JourneyGraph.Journey journey) {
+        this.departureTime = journey.departure();
+        this.arrivalTime = journey.arrival();
+        this.durationMinutes = Duration.between(journey.departure(), journey.arrival()).toMinutes();
+        this.transfers = journey.legs().size() - 1;
+        this.legs = journey.legs().stream().map(JourneyLegResponse::new).collect(Collectors.toList());
+    }
+
+    // Getters and Setters
+    public LocalDateTime getDepartureTime() {
+        return departureTime;
+    }
+
+    public void setDepartureTime(LocalDateTime departureTime) {
+        this.departureTime = departureTime;
+    }
+
+    public LocalDateTime getArrivalTime() {
+        return arrivalTime;
+    }
+
+    public void setArrivalTime(LocalDateTime arrivalTime) {
+        this.arrivalTime = arrivalTime;
+    }
+
+    public long getDurationMinutes() {
+        return durationMinutes;
+    }
+
+    public void setDurationMinutes(long durationMinutes) {
+        this.durationMinutes = durationMinutes;
+    }
+
+    public int getTransfers() {
+        return transfers;
+    }
+
+    public void setTransfers(int transfers) {
+        this.transfers = transfers;
+    }
+
+    public List<JourneyLegResponse> getLegs() {
+        return legs;
+    }
+
+    public void setLegs(List<JourneyLegResponse> legs) {
+        this.legs = legs;
+    }
+
+    @Override
+    public String toString() {
+        return "JourneyResponse{" +
+                "departureTime=" + departureTime +
+                ", arrivalTime=" + arrivalTime +
+                ", durationMinutes=" + durationMinutes +
+                ", transfers=" + transfers +
+                ", legs=" + legs +
+                '}';
+    }
+}
@@ -0,0 +1,19 @@
+package com.tcs.trainTicketManagementSystem.train.dto;
+
+/**
+ * Enum representing how a revenue report groups its rows.
+ */
+public enum RevenueReportGroupBy {
+    ROUTE,
+    CLASS,
+    DAY;
+
+    public static RevenueReportGroupBy fromValue(String value) {
+        for (RevenueReportGroupBy groupBy : values()) {
+            if (groupBy.name().equalsIgnoreCase(value)) {
+                return groupBy;
+            }
+        }
+        throw new IllegalArgumentException("Unsupported groupBy: " + value + ". Supported values: route, class, day");
+    }
+}
@@ -0,0 +1,81 @@
+package com.tcs.trainTicketManagementSystem.train.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * DTO for a revenue report over a booking date range, one row per group plus the total over all groups.
+ */
+public class RevenueReportResponse {
+
+    private LocalDate fromDate;
+    private LocalDate toDate;
+    private String groupBy;
+    private List<RevenueReportRow> rows;
+    private RevenueReportRow total;
+
+    // Default constructor
+    public RevenueReportResponse() {}
+
+    // Constructor with all fields
+    public RevenueReportResponse(LocalDate fromDate, LocalDate toDate, String groupBy, List<RevenueReportRow> rows,
+            RevenueReportRow total) {
+        this.fromDate = fromDate;
+        this.toDate = toDate;
+        this.groupBy = groupBy;
+        this.rows = rows;
+        this.total = total;
+    }
+
+    // Getters and Setters
+    public LocalDate getFromDate() {
+        return fromDate;
+    }
+
+    public void setFromDate(LocalDate fromDate) {
+        this.fromDate = fromDate;
+    }
+
+    public LocalDate getToDate() {
+        return toDate;
+    }
+
+    public void setToDate(LocalDate toDate) {
+        this.toDate = toDate;
+    }
+
+    public String getGroupBy() {
+        return groupBy;
+    }
+
+    public void setGroupBy(String groupBy) {
+        this.groupBy = groupBy;
+    }
+
+    public List<RevenueReportRow> getRows() {
+        return rows;
+    }
+
+    public void setRows(List<RevenueReportRow> rows) {
+        this.rows = rows;
+    }
+
+    public RevenueReportRow getTotal() {
+        return total;
+    }
+
+    public void setTotal(RevenueReportRow total) {
+        this.total = total;
+    }
+
+    @Override
+    public String toString() {
+        return "RevenueReportResponse{" +
+                "fromDate=" + fromDate +
+                ", toDate=" + toDate +
+                ", groupBy=" + groupBy +
+                ", rows=" + rows +
+                ", total=" + total +
+                '}';
+    }
+}
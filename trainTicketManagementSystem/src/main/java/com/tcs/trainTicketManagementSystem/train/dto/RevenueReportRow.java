@@ -0,0 +1,101 @@
+package com.tcs.trainTicketManagementSystem.train.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * DTO for one group of a revenue report. Passengers and revenue count confirmed bookings only.
+ */
+public class RevenueReportRow {
+
+    private String group;
+    private Long totalBookings;
+    private Long confirmedBookings;
+    private Long waitlistedBookings;
+    private Long cancelledBookings;
+    private Long passengers;
+    private BigDecimal revenue;
+
+    // Default constructor
+    public RevenueReportRow() {}
+
+    // Constructor with group, all figures starting at zero
+    public RevenueReportRow(String group) {
+        this.group = group;
+        this.totalBookings = 0L;
+        this.confirmedBookings = 0L;
+        this.waitlistedBookings = 0L;
+        this.cancelledBookings = 0L;
+        this.passengers = 0L;
+        this.revenue = BigDecimal.ZERO;
+    }
+
+    // Getters and Setters
+    public String getGroup() {
+        return group;
+    }
+
+    public void setGroup(String group) {
+        this.group = group;
+    }
+
+    public Long getTotalBookings() {
+        return totalBookings;
+    }
+
+    public void setTotalBookings(Long totalBookings) {
+        this.totalBookings = totalBookings;
+    }
+
+    public Long getConfirmedBookings() {
+        return confirmedBookings;
+    }
+
+    public void setConfirmedBookings(Long confirmedBookings) {
+        this.confirmedBookings = confirmedBookings;
+    }
+
+    public Long getWaitlistedBookings() {
+        return waitlistedBookings;
+    }
+
+    public void setWaitlistedBookings(Long waitlistedBookings) {
+        this.waitlistedBookings = waitlistedBookings;
+    }
+
+    public Long getCancelledBookings() {
+        return cancelledBookings;
+    }
+
+    public void setCancelledBookings(Long cancelledBookings) {
+        this.cancelledBookings = cancelledBookings;
+    }
+
+    public Long getPassengers() {
+        return passengers;
+    }
+
+    public void setPassengers(Long passengers) {
+        this.passengers = passengers;
+    }
+
+    public BigDecimal getRevenue() {
+        return revenue;
+    }
+
+    public void setRevenue(BigDecimal revenue) {
+        this.revenue = revenue;
+    }
+
+    @Override
+    public String toString() {
+        return "RevenueReportRow{" +
+                "group=" + group +
+                ", totalBookings=" + totalBookings +
+                ", confirmedBookings=" + confirmedBookings +
+                ", waitlistedBookings=" + waitlistedBookings +
+                ", cancelledBookings=" + cancelledBookings +
+                ", passengers=" + passengers +
+                ", revenue=" + revenue +
+                '}';
+    }
+}
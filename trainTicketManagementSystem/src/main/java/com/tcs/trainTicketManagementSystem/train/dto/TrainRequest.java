@@ -5,6 +5,7 @@ import java.util.List;
 
 import com.tcs.trainTicketManagementSystem.train.model.TrainStatus;
 
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
@@ -45,6 +46,11 @@ public class TrainRequest {
 
     private List<FareTypeRequest> fareTypes;
 
+    // Intermediate stops between source and destination, in route order
+    @Valid
+    @Size(max = 62, message = "A train can have at most 62 intermediate stops")
+    private List<TrainStopRequest> stops;
+
     // Default constructor
     public TrainRequest() {
     }
@@ -133,6 +139,14 @@ public class TrainRequest {
         this.fareTypes = fareTypes;
     }
 
+    public List<TrainStopRequest> getStops() {
+        return stops;
+    }
+
+    public void setStops(List<TrainStopRequest> stops) {
+        this.stops = stops;
+    }
+
     /**
      * Validates that the journey duration is positive and reasonable.
      */
@@ -161,6 +175,7 @@ public class TrainRequest {
                 + ", status=" + status
                 + ", scheduleDays=" + scheduleDays
                 + ", fareTypes=" + fareTypes
+                + ", stops=" + stops
                 + '}';
     }
 }
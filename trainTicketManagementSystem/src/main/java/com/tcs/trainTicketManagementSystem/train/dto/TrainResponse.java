@@ -22,6 +22,7 @@ public class TrainResponse {
     private TrainStatus status;
     private List<String> scheduleDays;
     private List<FareTypeResponse> fareTypes;
+    private List<TrainStopResponse> stops;
 
     // Default constructor
     public TrainResponse() {
@@ -38,12 +39,10 @@ public class TrainResponse {
         this.journeyMinutes = train.getJourneyMinutes();
         this.status = train.getStatus();
 
-        // Convert schedules to day strings
-        if (train.getSchedules() != null) {
-            this.scheduleDays = train.getSchedules().stream()
-                    .map(schedule -> schedule.getDayOfWeek().name())
-                    .collect(Collectors.toList());
-        }
+        // Convert running days to day strings
+        this.scheduleDays = train.getRunningDays().stream()
+                .map(Enum::name)
+                .collect(Collectors.toList());
 
         // Convert fare types to response DTOs
         if (train.getFareTypes() != null) {
@@ -51,6 +50,13 @@ public class TrainResponse {
                     .map(FareTypeResponse::new)
                     .collect(Collectors.toList());
         }
+
+        // Convert stops to response DTOs
+        if (train.getStops() != null) {
+            this.stops = train.getStops().stream()
+                    .map(TrainStopResponse::new)
+                    .collect(Collectors.toList());
+        }
     }
 
     // Constructor with all fields
@@ -147,6 +153,14 @@ public class TrainResponse {
         this.fareTypes = fareTypes;
     }
 
+    public List<TrainStopResponse> getStops() {
+        return stops;
+    }
+
+    public void setStops(List<TrainStopResponse> stops) {
+        this.stops = stops;
+    }
+
     /**
      * Computes the arrival time based on departure time and journey duration.
      */
@@ -182,6 +196,7 @@ public class TrainResponse {
                 + ", status=" + status
                 + ", scheduleDays=" + scheduleDays
                 + ", fareTypes=" + fareTypes
+                + ", stops=" + stops
                 + '}';
     }
 }
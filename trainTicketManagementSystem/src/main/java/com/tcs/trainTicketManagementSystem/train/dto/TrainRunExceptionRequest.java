@@ -0,0 +1,65 @@
+package com.tcs.trainTicketManagementSystem.train.dto;
+
+import com.tcs.trainTicketManagementSystem.train.model.RunExceptionType;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.time.LocalDate;
+
+/**
+ * DTO for adding a dated run exception to one train with validation.
+ */
+public class TrainRunExceptionRequest {
+
+    @NotNull(message = "Run date is required")
+    private LocalDate runDate;
+
+    @NotNull(message = "Exception type is required")
+    private RunExceptionType exceptionType;
+
+    @Size(max = 200, message = "Reason cannot exceed 200 characters")
+    private String reason;
+
+    // Default constructor
+    public TrainRunExceptionRequest() {}
+
+    // Constructor with all fields
+    public TrainRunExceptionRequest(LocalDate runDate, RunExceptionType exceptionType, String reason) {
+        this.runDate = runDate;
+        this.exceptionType = exceptionType;
+        this.reason = reason;
+    }
+
+    // Getters and Setters
+    public LocalDate getRunDate() {
+        return runDate;
+    }
+
+    public void setRunDate(LocalDate runDate) {
+        this.runDate = runDate;
+    }
+
+    public RunExceptionType getExceptionType() {
+        return exceptionType;
+    }
+
+    public void setExceptionType(RunExceptionType exceptionType) {
+        this.exceptionType = exceptionType;
+    }
+
+    public String getReason() {
+        return reason;
+    }
+
+    public void setReason(String reason) {
+        this.reason = reason;
+    }
+
+    @Override
+    public String toString() {
+        return "TrainRunExceptionRequest{" +
+                "runDate=" + runDate +
+                ", exceptionType=" + exceptionType +
+                ", reason='" + reason + '\'' +
+                '}';
+    }
+}
@@ -0,0 +1,90 @@
+package com.tcs.trainTicketManagementSystem.train.dto;
+
+import com.tcs.trainTicketManagementSystem.train.model.RunExceptionType;
+import com.tcs.trainTicketManagementSystem.train.model.TrainRunException;
+import java.time.LocalDate;
+
+/**
+ * DTO for dated run exception responses.
+ */
+public class TrainRunExceptionResponse {
+
+    private Long exceptionId;
+    private Long trainId;
+    private LocalDate runDate;
+    private RunExceptionType exceptionType;
+    private String reason;
+
+    // Default constructor
+    public TrainRunExceptionResponse() {}
+
+    // Constructor with all fields
+    public TrainRunExceptionResponse(Long exceptionId, Long trainId, LocalDate runDate, RunExceptionType exceptionType, String reason) {
+        this.exceptionId = exceptionId;
+        this.trainId = trainId;
+        this.runDate = runDate;
+        this.exceptionType = exceptionType;
+        this.reason = reason;
+    }
+
+    // Constructor from entity
+    public TrainRunExceptionResponse(TrainRunException exception) {
+        this.exceptionId = exception.getExceptionId();
+        this.trainId = exception.getTrain().getTrainId();
+        this.runDate = exception.getRunDate();
+        this.exceptionType = exception.getExceptionType();
+        this.reason = exception.getReason();
+    }
+
+    // Getters and Setters
+    public Long getExceptionId() {
+        return exceptionId;
+    }
+
+    public void setExceptionId(Long exceptionId) {
+        this.exceptionId = exceptionId;
+    }
+
+    public Long getTrainId() {
+        return trainId;
+    }
+
+    public void setTrainId(Long trainId) {
+        this.trainId = trainId;
+    }
+
+    public LocalDate getRunDate() {
+        return runDate;
+    }
+
+    public void setRunDate(LocalDate runDate) {
+        this.runDate = runDate;
+    }
+
+    public RunExceptionType getExceptionType() {
+        return exceptionType;
+    }
+
+    public void setExceptionType(RunExceptionType exceptionType) {
+        this.exceptionType = exceptionType;
+    }
+
+    public String getReason() {
+        return reason;
+    }
+
+    public void setReason(String reason) {
+        this.reason = reason;
+    }
+
+    @Override
+    public String toString() {
+        return "TrainRunExceptionResponse{" +
+                "exceptionId=" + exceptionId +
+                ", trainId=" + trainId +
+                ", runDate=" + runDate +
+                ", exceptionType=" + exceptionType +
+                ", reason='" + reason + '\'' +
+                '}';
+    }
+}
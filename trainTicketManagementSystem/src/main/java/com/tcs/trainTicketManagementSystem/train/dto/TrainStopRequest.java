@@ -0,0 +1,65 @@
+package com.tcs.trainTicketManagementSystem.train.dto;
+
+import jakarta.validation.constraints.*;
+
+/**
+ * DTO for an intermediate train stop with validation; offsets are minutes after the train's departure.
+ */
+public class TrainStopRequest {
+
+    @NotBlank(message = "Stop station is required")
+    @Size(min = 2, max = 100, message = "Stop station must be between 2 and 100 characters")
+    private String station;
+
+    @NotNull(message = "Arrival offset is required")
+    @Min(value = 1, message = "Arrival offset must be at least 1 minute")
+    private Integer arrivalOffsetMinutes;
+
+    @NotNull(message = "Departure offset is required")
+    @Min(value = 1, message = "Departure offset must be at least 1 minute")
+    private Integer departureOffsetMinutes;
+
+    // Default constructor
+    public TrainStopRequest() {}
+
+    // Constructor with all fields
+    public TrainStopRequest(String station, Integer arrivalOffsetMinutes, Integer departureOffsetMinutes) {
+        this.station = station;
+        this.arrivalOffsetMinutes = arrivalOffsetMinutes;
+        this.departureOffsetMinutes = departureOffsetMinutes;
+    }
+
+    // Getters and Setters
+    public String getStation() {
+        return station;
+    }
+
+    public void setStation(String station) {
+        this.station = station;
+    }
+
+    public Integer getArrivalOffsetMinutes() {
+        return arrivalOffsetMinutes;
+    }
+
+    public void setArrivalOffsetMinutes(Integer arrivalOffsetMinutes) {
+        this.arrivalOffsetMinutes = arrivalOffsetMinutes;
+    }
+
+    public Integer getDepartureOffsetMinutes() {
+        return departureOffsetMinutes;
+    }
+
+    public void setDepartureOffsetMinutes(Integer departureOffsetMinutes) {
+        this.departureOffsetMinutes = departureOffsetMinutes;
+    }
+
+    @Override
+    public String toString() {
+        return "TrainStopRequest{" +
+                "station='" + station + '\'' +
+                ", arrivalOffsetMinutes=" + arrivalOffsetMinutes +
+                ", departureOffsetMinutes=" + departureOffsetMinutes +
+                '}';
+    }
+}
@@ -0,0 +1,76 @@
+package com.tcs.trainTicketManagementSystem.train.dto;
+
+import com.tcs.trainTicketManagementSystem.train.model.TrainStop;
+
+/**
+ * DTO for train stop responses; offsets are minutes after the train's departure.
+ */
+public class TrainStopResponse {
+
+    private int stopSequence;
+    private String station;
+    private int arrivalOffsetMinutes;
+    private int departureOffsetMinutes;
+
+    // Default constructor
+    public TrainStopResponse() {}
+
+    // Constructor with all fields
+    public TrainStopResponse(int stopSequence, String station, int arrivalOffsetMinutes, int departureOffsetMinutes) {
+        this.stopSequence = stopSequence;
+        this.station = station;
+        this.arrivalOffsetMinutes = arrivalOffsetMinutes;
+        this.departureOffsetMinutes = departureOffsetMinutes;
+    }
+
+    // Constructor from entity
+    public TrainStopResponse(TrainStop stop) {
+        this.stopSequence = stop.getStopSequence();
+        this.station = stop.getStation();
+        this.arrivalOffsetMinutes = stop.getArrivalOffsetMinutes();
+        this.departureOffsetMinutes = stop.getDepartureOffsetMinutes();
+    }
+
+    // Getters and Setters
+    public int getStopSequence() {
+        return stopSequence;
+    }
+
+    public void setStopSequence(int stopSequence) {
+        this.stopSequence = stopSequence;
+    }
+
+    public String getStation() {
+        return station;
+    }
+
+    public void setStation(String station) {
+        this.station = station;
+    }
+
+    public int getArrivalOffsetMinutes() {
+        return arrivalOffsetMinutes;
+    }
+
+    public void setArrivalOffsetMinutes(int arrivalOffsetMinutes) {
+        this.arrivalOffsetMinutes = arrivalOffsetMinutes;
+    }
+
+    public int getDepartureOffsetMinutes() {
+        return departureOffsetMinutes;
+    }
+
+    public void setDepartureOffsetMinutes(int departureOffsetMinutes) {
+        this.departureOffsetMinutes = departureOffsetMinutes;
+    }
+
+    @Override
+    public String toString() {
+        return "TrainStopResponse{" +
+                "stopSequence=" + stopSequence +
+                ", station='" + station + '\'' +
+                ", arrivalOffsetMinutes=" + arrivalOffsetMinutes +
+                ", departureOffsetMinutes=" + departureOffsetMinutes +
+                '}';
+    }
+}
@@ -1,5 +1,7 @@
 package com.tcs.trainTicketManagementSystem.train.exception;
 
+import java.util.Collection;
+
 /**
  * Exception thrown when a train is not found.
  */
@@ -17,6 +19,10 @@ public class TrainNotFoundException extends RuntimeException {
         return new TrainNotFoundException("Train with ID " + trainId + " not found");
     }
 
+    public static TrainNotFoundException withIds(Collection<Long> trainIds) {
+        return new TrainNotFoundException("Trains with IDs " + trainIds + " not found");
+    }
+
     public static TrainNotFoundException withName(String trainName) {
         return new TrainNotFoundException("Train with name '" + trainName + "' not found");
     }
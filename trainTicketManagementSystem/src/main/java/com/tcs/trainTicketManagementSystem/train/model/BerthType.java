@@ -0,0 +1,14 @@
+package com.tcs.trainTicketManagementSystem.train.model;
+
+/**
+ * Enum representing the kind of berth or seat at a position in a coach.
+ */
+public enum BerthType {
+    LOWER,
+    MIDDLE,
+    UPPER,
+    SIDE_LOWER,
+    SIDE_UPPER,
+    WINDOW,
+    AISLE
+}
@@ -0,0 +1,93 @@
+package com.tcs.trainTicketManagementSystem.train.model;
+
+import jakarta.persistence.*;
+
+/**
+ * Entity representing one coach of a fare type. Berths are numbered from 1 within the coach and take
+ * their type from the class's CoachLayout; seat numbers run across the coaches in sequence order.
+ */
+@Entity
+@Table(name = "coach")
+public class Coach {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "coach_id")
+    private Long coachId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "fare_type_id", nullable = false)
+    private FareType fareType;
+
+    @Column(name = "coach_sequence", nullable = false)
+    private int coachSequence;
+
+    @Column(name = "coach_number", nullable = false, length = 5)
+    private String coachNumber;
+
+    @Column(name = "berth_count", nullable = false)
+    private int berthCount;
+
+    // Default constructor
+    public Coach() {}
+
+    // Constructor with fields
+    public Coach(FareType fareType, int coachSequence, String coachNumber, int berthCount) {
+        this.fareType = fareType;
+        this.coachSequence = coachSequence;
+        this.coachNumber = coachNumber;
+        this.berthCount = berthCount;
+    }
+
+    // Getters and Setters
+    public Long getCoachId() {
+        return coachId;
+    }
+
+    public void setCoachId(Long coachId) {
+        this.coachId = coachId;
+    }
+
+    public FareType getFareType() {
+        return fareType;
+    }
+
+    public void setFareType(FareType fareType) {
+        this.fareType = fareType;
+    }
+
+    public int getCoachSequence() {
+        return coachSequence;
+    }
+
+    public void setCoachSequence(int coachSequence) {
+        this.coachSequence = coachSequence;
+    }
+
+    public String getCoachNumber() {
+        return coachNumber;
+    }
+
+    public void setCoachNumber(String coachNumber) {
+        this.coachNumber = coachNumber;
+    }
+
+    public int getBerthCount() {
+        return berthCount;
+    }
+
+    public void setBerthCount(int berthCount) {
+        this.berthCount = berthCount;
+    }
+
+    @Override
+    public String toString() {
+        return "Coach{" +
+                "coachId=" + coachId +
+                ", fareTypeId=" + (fareType != null ? fareType.getFareTypeId() : null) +
+                ", coachSequence=" + coachSequence +
+                ", coachNumber='" + coachNumber + '\'' +
+                ", berthCount=" + berthCount +
+                '}';
+    }
+}
@@ -0,0 +1,74 @@
+package com.tcs.trainTicketManagementSystem.train.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Enum representing the standard coach layout of each class: the coach number prefix, the berths per
+ * coach and the berth types of one bay (or seat row), which repeat along the coach.
+ */
+public enum CoachLayout {
+    FIRST_AC("H", 24, BerthType.LOWER, BerthType.UPPER, BerthType.LOWER, BerthType.UPPER),
+    SECOND_AC("A", 48, BerthType.LOWER, BerthType.UPPER, BerthType.LOWER, BerthType.UPPER,
+            BerthType.SIDE_LOWER, BerthType.SIDE_UPPER),
+    THIRD_AC("B", 64, BerthType.LOWER, BerthType.MIDDLE, BerthType.UPPER, BerthType.LOWER, BerthType.MIDDLE,
+            BerthType.UPPER, BerthType.SIDE_LOWER, BerthType.SIDE_UPPER),
+    SLEEPER("S", 72, BerthType.LOWER, BerthType.MIDDLE, BerthType.UPPER, BerthType.LOWER, BerthType.MIDDLE,
+            BerthType.UPPER, BerthType.SIDE_LOWER, BerthType.SIDE_UPPER),
+    SLEEPER_AC("M", 72, BerthType.LOWER, BerthType.MIDDLE, BerthType.UPPER, BerthType.LOWER, BerthType.MIDDLE,
+            BerthType.UPPER, BerthType.SIDE_LOWER, BerthType.SIDE_UPPER),
+    SLEEPER_NON_AC("N", 72, BerthType.LOWER, BerthType.MIDDLE, BerthType.UPPER, BerthType.LOWER, BerthType.MIDDLE,
+            BerthType.UPPER, BerthType.SIDE_LOWER, BerthType.SIDE_UPPER),
+    SEATER("D", 108, BerthType.WINDOW, BerthType.MIDDLE, BerthType.AISLE, BerthType.AISLE, BerthType.MIDDLE,
+            BerthType.WINDOW);
+
+    private final String prefix;
+    private final int berthsPerCoach;
+    private final BerthType[] bay;
+
+    CoachLayout(String prefix, int berthsPerCoach, BerthType... bay) {
+        this.prefix = prefix;
+        this.berthsPerCoach = berthsPerCoach;
+        this.bay = bay;
+    }
+
+    public static CoachLayout of(ClassType classType) {
+        return switch (classType) {
+            case _1AC -> FIRST_AC;
+            case _2AC -> SECOND_AC;
+            case _3AC -> THIRD_AC;
+            case SL -> SLEEPER;
+            case Sleeper_AC -> SLEEPER_AC;
+            case Sleeper_NonAC -> SLEEPER_NON_AC;
+            case Seat -> SEATER;
+        };
+    }
+
+    /**
+     * Berth type of a berth (1-based) in a coach of this layout.
+     */
+    public BerthType berthType(int berthNumber) {
+        return bay[(berthNumber - 1) % bay.length];
+    }
+
+    /**
+     * Full coaches of this layout for the fare type's seats, the last one holding the remainder.
+     */
+    public List<Coach> coachesFor(FareType fareType) {
+        List<Coach> coaches = new ArrayList<>();
+        int seats = fareType.getSeatsAvailable();
+        for (int sequence = 1; (sequence - 1) * berthsPerCoach < seats; sequence++) {
+            int berths = Math.min(berthsPerCoach, seats - (sequence - 1) * berthsPerCoach);
+            coaches.add(new Coach(fareType, sequence, prefix + sequence, berths));
+        }
+        return coaches;
+    }
+
+    public String getPrefix() {
+        return prefix;
+    }
+
+    public int getBerthsPerCoach() {
+        return berthsPerCoach;
+    }
+}
@@ -1,5 +1,9 @@
 package com.tcs.trainTicketManagementSystem.train.model;
 
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.EnumSet;
+
 /**
  * Enum representing the days of the week for train schedules.
  */
@@ -10,5 +14,43 @@ public enum DayOfWeek {
     THU,
     FRI,
     SAT,
-    SUN
-} 
\ No newline at end of file
+    SUN;
+
+    /**
+     * Gets the schedule day on which the given date falls.
+     */
+    public static DayOfWeek from(LocalDate date) {
+        return values()[date.getDayOfWeek().getValue() - 1];
+    }
+
+    /**
+     * Gets the bit of this day in a 7-bit running-days mask (Monday is bit 0).
+     */
+    public int mask() {
+        return 1 << ordinal();
+    }
+
+    /**
+     * Builds the running-days mask of a set of days.
+     */
+    public static int toMask(Collection<DayOfWeek> days) {
+        int mask = 0;
+        for (DayOfWeek day : days) {
+            mask |= day.mask();
+        }
+        return mask;
+    }
+
+    /**
+     * Expands a running-days mask into the set of days it contains.
+     */
+    public static EnumSet<DayOfWeek> fromMask(int mask) {
+        EnumSet<DayOfWeek> days = EnumSet.noneOf(DayOfWeek.class);
+        for (DayOfWeek day : values()) {
+            if ((mask & day.mask()) != 0) {
+                days.add(day);
+            }
+        }
+        return days;
+    }
+}
@@ -0,0 +1,9 @@
+package com.tcs.trainTicketManagementSystem.train.model;
+
+/**
+ * Enum representing how a dated run differs from the weekly schedule.
+ */
+public enum RunExceptionType {
+    ADDED,
+    CANCELLED
+}
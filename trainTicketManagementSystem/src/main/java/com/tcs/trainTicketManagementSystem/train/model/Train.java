@@ -1,7 +1,9 @@
 package com.tcs.trainTicketManagementSystem.train.model;
 
 import java.time.LocalTime;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
@@ -13,6 +15,7 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.OrderBy;
 import jakarta.persistence.Table;
 
 /**
@@ -49,6 +52,10 @@ public class Train {
     @Column(name = "status", length = 10)
     private TrainStatus status = TrainStatus.ACTIVE;
 
+    // Days the train runs on as a 7-bit mask (Monday is bit 0, see DayOfWeek.mask())
+    @Column(name = "running_days", nullable = false)
+    private int runningDays;
+
     // Relationships
     @OneToMany(mappedBy = "train", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     private List<TrainSchedule> schedules;
@@ -56,6 +63,11 @@ public class Train {
     @OneToMany(mappedBy = "train", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     private List<FareType> fareTypes;
 
+    // Stops are written through TrainStopRepository and removed by the database when the train is deleted
+    @OneToMany(mappedBy = "train", fetch = FetchType.LAZY)
+    @OrderBy("stopSequence")
+    private List<TrainStop> stops;
+
     // Default constructor
     public Train() {
     }
@@ -136,6 +148,18 @@ public class Train {
         this.status = status;
     }
 
+    public EnumSet<DayOfWeek> getRunningDays() {
+        return DayOfWeek.fromMask(runningDays);
+    }
+
+    public void setRunningDays(Set<DayOfWeek> runningDays) {
+        this.runningDays = DayOfWeek.toMask(runningDays);
+    }
+
+    public int getRunningDaysMask() {
+        return runningDays;
+    }
+
     public List<TrainSchedule> getSchedules() {
         return schedules;
     }
@@ -152,6 +176,14 @@ public class Train {
         this.fareTypes = fareTypes;
     }
 
+    public List<TrainStop> getStops() {
+        return stops;
+    }
+
+    public void setStops(List<TrainStop> stops) {
+        this.stops = stops;
+    }
+
     /**
      * Computes the arrival time based on departure time and journey duration.
      */
@@ -0,0 +1,95 @@
+package com.tcs.trainTicketManagementSystem.train.model;
+
+import java.time.LocalDate;
+
+import jakarta.persistence.*;
+
+/**
+ * Entity representing a run added to or cancelled from a train's weekly schedule on one date.
+ */
+@Entity
+@Table(name = "train_run_exception")
+public class TrainRunException {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "exception_id")
+    private Long exceptionId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "train_id", nullable = false)
+    private Train train;
+
+    @Column(name = "run_date", nullable = false)
+    private LocalDate runDate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "exception_type", nullable = false, length = 10)
+    private RunExceptionType exceptionType;
+
+    @Column(name = "reason", length = 200)
+    private String reason;
+
+    // Default constructor
+    public TrainRunException() {}
+
+    // Constructor with fields
+    public TrainRunException(Train train, LocalDate runDate, RunExceptionType exceptionType, String reason) {
+        this.train = train;
+        this.runDate = runDate;
+        this.exceptionType = exceptionType;
+        this.reason = reason;
+    }
+
+    // Getters and Setters
+    public Long getExceptionId() {
+        return exceptionId;
+    }
+
+    public void setExceptionId(Long exceptionId) {
+        this.exceptionId = exceptionId;
+    }
+
+    public Train getTrain() {
+        return train;
+    }
+
+    public void setTrain(Train train) {
+        this.train = train;
+    }
+
+    public LocalDate getRunDate() {
+        return runDate;
+    }
+
+    public void setRunDate(LocalDate runDate) {
+        this.runDate = runDate;
+    }
+
+    public RunExceptionType getExceptionType() {
+        return exceptionType;
+    }
+
+    public void setExceptionType(RunExceptionType exceptionType) {
+        this.exceptionType = exceptionType;
+    }
+
+    public String getReason() {
+        return reason;
+    }
+
+    public void setReason(String reason) {
+        this.reason = reason;
+    }
+
+    @Override
+    public String toString() {
+        return "TrainRunException{" +
+                "exceptionId=" + exceptionId +
+                ", trainId=" + (train != null ? train.getTrainId() : null) +
+                ", runDate=" + runDate +
+                ", exceptionType=" + exceptionType +
+                ", reason='" + reason + '\'' +
+                '}';
+    }
+}
@@ -0,0 +1,106 @@
+package com.tcs.trainTicketManagementSystem.train.model;
+
+import jakarta.persistence.*;
+
+/**
+ * Entity representing one stop of a train. Stops are ordered by sequence, starting with the source
+ * at 0 and ending with the destination; offsets are minutes after the train's departure.
+ */
+@Entity
+@Table(name = "train_stop")
+public class TrainStop {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "stop_id")
+    private Long stopId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "train_id", nullable = false)
+    private Train train;
+
+    @Column(name = "stop_sequence", nullable = false)
+    private int stopSequence;
+
+    @Column(name = "station", nullable = false, length = 100)
+    private String station;
+
+    @Column(name = "arrival_offset_minutes", nullable = false)
+    private int arrivalOffsetMinutes;
+
+    @Column(name = "departure_offset_minutes", nullable = false)
+    private int departureOffsetMinutes;
+
+    // Default constructor
+    public TrainStop() {}
+
+    // Constructor with fields
+    public TrainStop(Train train, int stopSequence, String station, int arrivalOffsetMinutes, int departureOffsetMinutes) {
+        this.train = train;
+        this.stopSequence = stopSequence;
+        this.station = station;
+        this.arrivalOffsetMinutes = arrivalOffsetMinutes;
+        this.departureOffsetMinutes = departureOffsetMinutes;
+    }
+
+    // Getters and Setters
+    public Long getStopId() {
+        return stopId;
+    }
+
+    public void setStopId(Long stopId) {
+        this.stopId = stopId;
+    }
+
+    public Train getTrain() {
+        return train;
+    }
+
+    public void setTrain(Train train) {
+        this.train = train;
+    }
+
+    public int getStopSequence() {
+        return stopSequence;
+    }
+
+    public void setStopSequence(int stopSequence) {
+        this.stopSequence = stopSequence;
+    }
+
+    public String getStation() {
+        return station;
+    }
+
+    public void setStation(String station) {
+        this.station = station;
+    }
+
+    public int getArrivalOffsetMinutes() {
+        return arrivalOffsetMinutes;
+    }
+
+    public void setArrivalOffsetMinutes(int arrivalOffsetMinutes) {
+        this.arrivalOffsetMinutes = arrivalOffsetMinutes;
+    }
+
+    public int getDepartureOffsetMinutes() {
+        return departureOffsetMinutes;
+    }
+
+    public void setDepartureOffsetMinutes(int departureOffsetMinutes) {
+        this.departureOffsetMinutes = departureOffsetMinutes;
+    }
+
+    @Override
+    public String toString() {
+        return "TrainStop{" +
+                "stopId=" + stopId +
+                ", trainId=" + (train != null ? train.getTrainId() : null) +
+                ", stopSequence=" + stopSequence +
+                ", station='" + station + '\'' +
+                ", arrivalOffsetMinutes=" + arrivalOffsetMinutes +
+                ", departureOffsetMinutes=" + departureOffsetMinutes +
+                '}';
+    }
+}
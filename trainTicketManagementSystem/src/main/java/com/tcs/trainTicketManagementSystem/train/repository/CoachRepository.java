@@ -0,0 +1,20 @@
+package com.tcs.trainTicketManagementSystem.train.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.tcs.trainTicketManagementSystem.train.model.Coach;
+
+/**
+ * Repository interface for Coach entity operations.
+ */
+@Repository
+public interface CoachRepository extends JpaRepository<Coach, Long> {
+
+    /**
+     * Find coaches by fare type ID in sequence order.
+     */
+    List<Coach> findByFareTypeFareTypeIdOrderByCoachSequence(Long fareTypeId);
+}
@@ -8,6 +8,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -22,6 +23,11 @@ public interface FareTypeRepository extends JpaRepository<FareType, Long> {
      */
     List<FareType> findByTrainTrainId(Long trainId);
 
+    /**
+     * Find fare types of the given trains.
+     */
+    List<FareType> findByTrainTrainIdIn(Collection<Long> trainIds);
+
     /**
      * Find fare type by train ID and class type.
      */
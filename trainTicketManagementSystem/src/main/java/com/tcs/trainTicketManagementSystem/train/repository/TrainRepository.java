@@ -9,7 +9,6 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
-import com.tcs.trainTicketManagementSystem.train.model.DayOfWeek;
 import com.tcs.trainTicketManagementSystem.train.model.Train;
 import com.tcs.trainTicketManagementSystem.train.model.TrainStatus;
 
@@ -118,20 +117,6 @@ public interface TrainRepository extends JpaRepository<Train, Long> {
      */
     boolean existsBySourceAndDestination(String source, String destination);
 
-    /**
-     * Find trains with schedules for specific day of week.
-     */
-    @Query("SELECT DISTINCT t FROM Train t JOIN t.schedules s WHERE s.dayOfWeek = :dayOfWeek")
-    List<Train> findTrainsByScheduleDay(@Param("dayOfWeek") DayOfWeek dayOfWeek);
-
-    /**
-     * Find trains with schedules for specific day and route (case-insensitive).
-     */
-    @Query("SELECT DISTINCT t FROM Train t JOIN t.schedules s WHERE s.dayOfWeek = :dayOfWeek AND LOWER(t.source) = LOWER(:source) AND LOWER(t.destination) = LOWER(:destination)")
-    List<Train> findTrainsByScheduleDayAndRoute(@Param("dayOfWeek") DayOfWeek dayOfWeek,
-            @Param("source") String source,
-            @Param("destination") String destination);
-
     /**
      * Find trains with available seats.
      */
@@ -0,0 +1,56 @@
+package com.tcs.trainTicketManagementSystem.train.repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.tcs.trainTicketManagementSystem.train.model.TrainRunException;
+
+/**
+ * Repository interface for TrainRunException entity operations.
+ */
+@Repository
+public interface TrainRunExceptionRepository extends JpaRepository<TrainRunException, Long> {
+
+    /**
+     * Find run exceptions by train ID, ordered by date.
+     */
+    List<TrainRunException> findByTrainTrainIdOrderByRunDate(Long trainId);
+
+    /**
+     * Find the run exception of a train on a date.
+     */
+    Optional<TrainRunException> findByTrainTrainIdAndRunDate(Long trainId, LocalDate runDate);
+
+    /**
+     * Find run exceptions for the given trains, ordered by date.
+     */
+    List<TrainRunException> findByTrainTrainIdInOrderByRunDate(Collection<Long> trainIds);
+
+    /**
+     * Find train IDs that have a run exception on the given date.
+     */
+    @Query("SELECT e.train.trainId FROM TrainRunException e WHERE e.runDate = :runDate")
+    List<Long> findTrainIdsByRunDate(@Param("runDate") LocalDate runDate);
+
+    // Insert or replace the run exception on the given date for every existing train in the list
+    @Modifying
+    @Query(value = "MERGE INTO train_run_exception (train_id, run_date, exception_type, reason) KEY (train_id, run_date) "
+            + "SELECT t.train_id, CAST(:runDate AS DATE), CAST(:exceptionType AS VARCHAR(10)), CAST(:reason AS VARCHAR(200)) "
+            + "FROM train t WHERE t.train_id IN (:trainIds)",
+            nativeQuery = true)
+    int upsertForTrains(@Param("trainIds") Collection<Long> trainIds, @Param("runDate") LocalDate runDate,
+            @Param("exceptionType") String exceptionType, @Param("reason") String reason);
+
+    // Delete the run exceptions of the given trains on the given date
+    @Modifying
+    @Query("DELETE FROM TrainRunException e WHERE e.train.trainId IN :trainIds AND e.runDate = :runDate")
+    int deleteForTrains(@Param("trainIds") Collection<Long> trainIds, @Param("runDate") LocalDate runDate);
+}
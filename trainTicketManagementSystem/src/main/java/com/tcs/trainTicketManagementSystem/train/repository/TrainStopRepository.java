@@ -0,0 +1,34 @@
+package com.tcs.trainTicketManagementSystem.train.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.tcs.trainTicketManagementSystem.train.model.TrainStop;
+
+/**
+ * Repository interface for TrainStop entity operations.
+ */
+@Repository
+public interface TrainStopRepository extends JpaRepository<TrainStop, Long> {
+
+    /**
+     * Find stops by train ID in route order.
+     */
+    List<TrainStop> findByTrainTrainIdOrderByStopSequence(Long trainId);
+
+    /**
+     * Find stops of the given trains in route order.
+     */
+    List<TrainStop> findByTrainTrainIdInOrderByStopSequence(Collection<Long> trainIds);
+
+    // Delete all stops of a train before its stop list is rewritten
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM TrainStop s WHERE s.train.trainId = :trainId")
+    void deleteByTrainId(@Param("trainId") Long trainId);
+}
@@ -0,0 +1,275 @@
+package com.tcs.trainTicketManagementSystem.train.service;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.tcs.trainTicketManagementSystem.booking.model.BookingStatus;
+import com.tcs.trainTicketManagementSystem.booking.repository.BookingRepository;
+import com.tcs.trainTicketManagementSystem.booking.repository.PassengerRepository;
+import com.tcs.trainTicketManagementSystem.booking.service.BookingChangedEvent;
+import com.tcs.trainTicketManagementSystem.train.dto.AdminDashboardResponse;
+import com.tcs.trainTicketManagementSystem.train.model.TrainStatus;
+import com.tcs.trainTicketManagementSystem.train.repository.TrainRepository;
+import com.tcs.trainTicketManagementSystem.users.model.UserRole;
+import com.tcs.trainTicketManagementSystem.users.repository.UserRepository;
+import com.tcs.trainTicketManagementSystem.users.service.UserChangedEvent;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Admin dashboard figures kept in striped counters.
+ * Booking and user figures move with the committed BookingChangedEvent and UserChangedEvent; train figures are
+ * recounted after a TrainChangedEvent, since that event does not carry statuses. A group of figures that is
+ * not known yet (or was invalidated) is loaded with its queries running in parallel on a small dedicated pool,
+ * and every group is reconciled against the database periodically to correct any drift.
+ */
+@Component
+public class AdminDashboardCounters {
+
+    private static final Logger logger = LoggerFactory.getLogger(AdminDashboardCounters.class);
+
+    /**
+     * Figures that are loaded from the database together.
+     */
+    enum Group {
+        TRAINS, BOOKINGS, USERS
+    }
+
+    private final TrainRepository trainRepository;
+    private final BookingRepository bookingRepository;
+    private final PassengerRepository passengerRepository;
+    private final UserRepository userRepository;
+    private final TransactionTemplate readTransaction;
+    private final ExecutorService queryExecutor;
+
+    private final LongAdder totalTrains = new LongAdder();
+    private final LongAdder activeTrains = new LongAdder();
+    private final LongAdder inactiveTrains = new LongAdder();
+    private final LongAdder totalBookings = new LongAdder();
+    private final LongAdder confirmedBookings = new LongAdder();
+    private final LongAdder cancelledBookings = new LongAdder();
+    // Confirmed sales in paise, so fares can be added without BigDecimal contention
+    private final LongAdder confirmedSalesPaise = new LongAdder();
+    private final LongAdder totalUsers = new LongAdder();
+    private final LongAdder totalPassengers = new LongAdder();
+
+    private final Map<Group, Validity> validity = new EnumMap<>(Group.class);
+
+    public AdminDashboardCounters(TrainRepository trainRepository,
+            BookingRepository bookingRepository,
+            PassengerRepository passengerRepository,
+            UserRepository userRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${admin.dashboard.query-threads:4}") int queryThreads) {
+        this.trainRepository = trainRepository;
+        this.bookingRepository = bookingRepository;
+        this.passengerRepository = passengerRepository;
+        this.userRepository = userRepository;
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+        this.queryExecutor = Executors.newFixedThreadPool(queryThreads, runnable -> {
+            Thread thread = new Thread(runnable, "admin-dashboard-query");
+            thread.setDaemon(true);
+            return thread;
+        });
+        for (Group group : Group.values()) {
+            validity.put(group, new Validity());
+        }
+    }
+
+    /**
+     * Current dashboard figures, loading any group that is not known yet.
+     */
+    public AdminDashboardResponse snapshot() {
+        List<CompletableFuture<Void>> loads = new ArrayList<>();
+        for (Group group : Group.values()) {
+            if (!validity.get(group).isValid()) {
+                loads.add(load(group));
+            }
+        }
+        if (!loads.isEmpty()) {
+            logger.debug("Loading {} dashboard counter groups from the database", loads.size());
+            await(loads);
+        }
+
+        return new AdminDashboardResponse(
+                totalBookings.sum(),
+                BigDecimal.valueOf(confirmedSalesPaise.sum(), 2),
+                confirmedBookings.sum(),
+                cancelledBookings.sum(),
+                activeTrains.sum(),
+                inactiveTrains.sum(),
+                totalTrains.sum(),
+                totalUsers.sum(),
+                totalPassengers.sum()
+        );
+    }
+
+    /**
+     * Recount every group against the database.
+     */
+    @Scheduled(initialDelayString = "${admin.dashboard.reconcile-interval-ms:300000}",
+            fixedDelayString = "${admin.dashboard.reconcile-interval-ms:300000}")
+    public void reconcile() {
+        List<CompletableFuture<Void>> loads = new ArrayList<>();
+        for (Group group : Group.values()) {
+            loads.add(load(group));
+        }
+        await(loads);
+        logger.debug("Dashboard counters reconciled: {} bookings, {} passengers, {} users, {} trains",
+                totalBookings.sum(), totalPassengers.sum(), totalUsers.sum(), totalTrains.sum());
+    }
+
+    @TransactionalEventListener
+    public void onBookingChanged(BookingChangedEvent event) {
+        long farePaise = toPaise(event.totalFare());
+        if (event.previousStatus() == null) {
+            totalBookings.increment();
+        } else {
+            statusCounter(event.previousStatus(), -1, farePaise);
+        }
+        if (event.status() == null) {
+            totalBookings.decrement();
+        } else {
+            statusCounter(event.status(), 1, farePaise);
+        }
+        totalPassengers.add(event.passengerDelta());
+    }
+
+    @TransactionalEventListener
+    public void onUserChanged(UserChangedEvent event) {
+        if (event.previousRole() == UserRole.USER) {
+            totalUsers.decrement();
+        }
+        if (event.role() == UserRole.USER) {
+            totalUsers.increment();
+        }
+    }
+
+    @TransactionalEventListener
+    public void onTrainChanged(TrainChangedEvent event) {
+        validity.get(Group.TRAINS).invalidate();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        queryExecutor.shutdown();
+    }
+
+    // Helper Methods
+    private void statusCounter(BookingStatus status, int delta, long farePaise) {
+        // Only confirmed and cancelled bookings have figures of their own
+        if (status == BookingStatus.CONFIRMED) {
+            confirmedBookings.add(delta);
+            confirmedSalesPaise.add(delta * farePaise);
+        } else if (status == BookingStatus.CANCELLED) {
+            cancelledBookings.add(delta);
+        }
+    }
+
+    private CompletableFuture<Void> load(Group group) {
+        Validity groupValidity = validity.get(group);
+        long version = groupValidity.version();
+        switch (group) {
+            case TRAINS: {
+                CompletableFuture<Long> total = query(trainRepository::count);
+                CompletableFuture<Long> active = query(() -> trainRepository.countByStatus(TrainStatus.ACTIVE));
+                CompletableFuture<Long> inactive = query(() -> trainRepository.countByStatus(TrainStatus.INACTIVE));
+                return CompletableFuture.allOf(total, active, inactive).thenRun(() -> {
+                    set(totalTrains, total.join());
+                    set(activeTrains, active.join());
+                    set(inactiveTrains, inactive.join());
+                    groupValidity.validate(version);
+                });
+            }
+            case BOOKINGS: {
+                CompletableFuture<Long> total = query(bookingRepository::count);
+                CompletableFuture<Long> confirmed = query(() -> bookingRepository.countByStatus(BookingStatus.CONFIRMED));
+                CompletableFuture<Long> cancelled = query(() -> bookingRepository.countByStatus(BookingStatus.CANCELLED));
+                CompletableFuture<BigDecimal> sales = query(() -> bookingRepository.sumTotalFareByStatus(BookingStatus.CONFIRMED));
+                CompletableFuture<Long> passengers = query(passengerRepository::count);
+                return CompletableFuture.allOf(total, confirmed, cancelled, sales, passengers).thenRun(() -> {
+                    set(totalBookings, total.join());
+                    set(confirmedBookings, confirmed.join());
+                    set(cancelledBookings, cancelled.join());
+                    set(confirmedSalesPaise, toPaise(sales.join()));
+                    set(totalPassengers, passengers.join());
+                    groupValidity.validate(version);
+                });
+            }
+            default: {
+                CompletableFuture<Long> users = query(() -> userRepository.countByRole(UserRole.USER));
+                return users.thenAccept(count -> {
+                    set(totalUsers, count);
+                    groupValidity.validate(version);
+                });
+            }
+        }
+    }
+
+    private <T> CompletableFuture<T> query(Supplier<T> query) {
+        return CompletableFuture.supplyAsync(() -> readTransaction.execute(status -> query.get()), queryExecutor);
+    }
+
+    private static void await(List<CompletableFuture<Void>> loads) {
+        try {
+            CompletableFuture.allOf(loads.toArray(CompletableFuture[]::new)).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static void set(LongAdder adder, Long value) {
+        // Not atomic: an event applied between the two calls is lost until the next reconciliation
+        adder.reset();
+        adder.add(value != null ? value : 0);
+    }
+
+    private static long toPaise(BigDecimal amount) {
+        return amount != null ? amount.movePointRight(2).longValue() : 0;
+    }
+
+    // A group is valid once loaded, until invalidated; a load that raced an invalidation does not count
+    private static final class Validity {
+        private final AtomicLong invalidations = new AtomicLong();
+        private volatile long validVersion = -1;
+
+        private long version() {
+            return invalidations.get();
+        }
+
+        private boolean isValid() {
+            return validVersion == invalidations.get();
+        }
+
+        private void validate(long version) {
+            validVersion = version;
+        }
+
+        private void invalidate() {
+            invalidations.incrementAndGet();
+        }
+    }
+}
@@ -1,6 +1,9 @@
 package com.tcs.trainTicketManagementSystem.train.service;
 
 import com.tcs.trainTicketManagementSystem.train.dto.AdminDashboardResponse;
+import com.tcs.trainTicketManagementSystem.train.dto.RevenueReportResponse;
+
+import java.time.LocalDate;
 
 /**
  * Service interface for Admin operations.
@@ -14,4 +17,13 @@ public interface AdminService {
      * @return AdminDashboardResponse containing all dashboard statistics
      */
     AdminDashboardResponse getDashboardStatistics();
-} 
\ No newline at end of file
+
+    /**
+     * Get bookings and revenue for a booking date range, grouped by route, class or day.
+     * The report merges pre-aggregated daily buckets instead of scanning bookings.
+     *
+     * @param groupBy route, class or day
+     * @return RevenueReportResponse with one row per group and the total
+     */
+    RevenueReportResponse getRevenueReport(LocalDate fromDate, LocalDate toDate, String groupBy);
+}
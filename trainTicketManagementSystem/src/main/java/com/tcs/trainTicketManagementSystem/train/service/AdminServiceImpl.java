@@ -1,19 +1,23 @@
 package com.tcs.trainTicketManagementSystem.train.service;
 
+import com.tcs.trainTicketManagementSystem.booking.repository.BookingRollupRepository;
+import com.tcs.trainTicketManagementSystem.booking.repository.BookingRollupRepository.StatusTotals;
 import com.tcs.trainTicketManagementSystem.train.dto.AdminDashboardResponse;
-import com.tcs.trainTicketManagementSystem.train.model.TrainStatus;
-import com.tcs.trainTicketManagementSystem.train.repository.TrainRepository;
-import com.tcs.trainTicketManagementSystem.booking.repository.BookingRepository;
-import com.tcs.trainTicketManagementSystem.booking.model.BookingStatus;
-import com.tcs.trainTicketManagementSystem.users.repository.UserRepository;
-import com.tcs.trainTicketManagementSystem.users.model.UserRole;
-import com.tcs.trainTicketManagementSystem.booking.repository.PassengerRepository;
+import com.tcs.trainTicketManagementSystem.train.dto.RevenueReportGroupBy;
+import com.tcs.trainTicketManagementSystem.train.dto.RevenueReportResponse;
+import com.tcs.trainTicketManagementSystem.train.dto.RevenueReportRow;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 
 /**
  * Service implementation for Admin operations.
@@ -24,65 +28,94 @@ public class AdminServiceImpl implements AdminService {
 
     private static final Logger logger = LoggerFactory.getLogger(AdminServiceImpl.class);
 
-    private final TrainRepository trainRepository;
-    private final BookingRepository bookingRepository;
-    private final UserRepository userRepository;
-    private final PassengerRepository passengerRepository;
+    private final AdminDashboardCounters dashboardCounters;
+    private final BookingRollupRepository bookingRollupRepository;
 
-    public AdminServiceImpl(TrainRepository trainRepository, 
-                           BookingRepository bookingRepository,
-                           UserRepository userRepository,
-                           PassengerRepository passengerRepository) {
-        this.trainRepository = trainRepository;
-        this.bookingRepository = bookingRepository;
-        this.userRepository = userRepository;
-        this.passengerRepository = passengerRepository;
+    public AdminServiceImpl(AdminDashboardCounters dashboardCounters,
+                           BookingRollupRepository bookingRollupRepository) {
+        this.dashboardCounters = dashboardCounters;
+        this.bookingRollupRepository = bookingRollupRepository;
     }
 
     @Override
-    @Transactional(readOnly = true)
+    // Served from counters; any queries run on the counters' own threads and transactions
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public AdminDashboardResponse getDashboardStatistics() {
         logger.info("Fetching admin dashboard statistics");
         
         try {
-            // Train statistics
-            Long totalTrains = trainRepository.count();
-            Long activeTrains = trainRepository.countByStatus(TrainStatus.ACTIVE);
-            Long inactiveTrains = trainRepository.countByStatus(TrainStatus.INACTIVE);
-            
-            // Booking statistics
-            Long totalBookings = bookingRepository.count();
-            Long confirmedBookings = bookingRepository.countByStatus(BookingStatus.CONFIRMED);
-            Long cancelledBookings = bookingRepository.countByStatus(BookingStatus.CANCELLED);
-            
-            // Sales calculation
-            BigDecimal totalSales = bookingRepository.sumTotalFareByStatus(BookingStatus.CONFIRMED);
-            if (totalSales == null) {
-                totalSales = BigDecimal.ZERO;
-            }
-            
-            // User and passenger statistics
-            Long totalUsers = userRepository.countByRole(UserRole.USER);
-            Long totalPassengers = passengerRepository.count();
+            AdminDashboardResponse response = dashboardCounters.snapshot();
             
             logger.info("Dashboard statistics calculated successfully: {} trains, {} bookings, {} users, {} passengers", 
-                       totalTrains, totalBookings, totalUsers, totalPassengers);
+                       response.getTotalTrains(), response.getTotalBookings(), response.getTotalUsers(),
+                       response.getTotalPassengers());
             
-            return new AdminDashboardResponse(
-                totalBookings,
-                totalSales,
-                confirmedBookings,
-                cancelledBookings,
-                activeTrains,
-                inactiveTrains,
-                totalTrains,
-                totalUsers,
-                totalPassengers
-            );
+            return response;
             
         } catch (Exception e) {
             logger.error("Error calculating dashboard statistics", e);
             throw new RuntimeException("Failed to calculate dashboard statistics", e);
         }
     }
-} 
\ No newline at end of file
+
+    @Override
+    @Transactional(readOnly = true)
+    public RevenueReportResponse getRevenueReport(LocalDate fromDate, LocalDate toDate, String groupBy) {
+        RevenueReportGroupBy grouping = RevenueReportGroupBy.fromValue(groupBy);
+        if (fromDate.isAfter(toDate)) {
+            throw new IllegalArgumentException("Report 'from' date must not be after 'to' date");
+        }
+        logger.info("Fetching revenue report from {} to {} by {}", fromDate, toDate, grouping);
+
+        List<RevenueReportRow> rows;
+        switch (grouping) {
+            case ROUTE:
+                rows = mergeByGroup(bookingRollupRepository.sumByRoute(fromDate, toDate),
+                        totals -> totals.getSource() + " - " + totals.getDestination());
+                break;
+            case CLASS:
+                rows = mergeByGroup(bookingRollupRepository.sumByClass(fromDate, toDate),
+                        totals -> totals.getClassType().getDbValue());
+                break;
+            default:
+                rows = mergeByGroup(bookingRollupRepository.sumByDay(fromDate, toDate),
+                        totals -> totals.getBookingDate().toString());
+                break;
+        }
+
+        RevenueReportRow total = new RevenueReportRow("TOTAL");
+        for (RevenueReportRow row : rows) {
+            total.setTotalBookings(total.getTotalBookings() + row.getTotalBookings());
+            total.setConfirmedBookings(total.getConfirmedBookings() + row.getConfirmedBookings());
+            total.setWaitlistedBookings(total.getWaitlistedBookings() + row.getWaitlistedBookings());
+            total.setCancelledBookings(total.getCancelledBookings() + row.getCancelledBookings());
+            total.setPassengers(total.getPassengers() + row.getPassengers());
+            total.setRevenue(total.getRevenue().add(row.getRevenue()));
+        }
+        return new RevenueReportResponse(fromDate, toDate, grouping.name().toLowerCase(), rows, total);
+    }
+
+    // Helper Methods
+    // Fold the per-status totals of each group into one row, keeping the order of the query
+    private <T extends StatusTotals> List<RevenueReportRow> mergeByGroup(List<T> totalsByStatus, Function<T, String> groupOf) {
+        Map<String, RevenueReportRow> rows = new LinkedHashMap<>();
+        for (T totals : totalsByStatus) {
+            RevenueReportRow row = rows.computeIfAbsent(groupOf.apply(totals), RevenueReportRow::new);
+            row.setTotalBookings(row.getTotalBookings() + totals.getBookings());
+            switch (totals.getStatus()) {
+                case CONFIRMED:
+                    row.setConfirmedBookings(row.getConfirmedBookings() + totals.getBookings());
+                    row.setPassengers(row.getPassengers() + totals.getPassengers());
+                    row.setRevenue(row.getRevenue().add(totals.getTotalFare()));
+                    break;
+                case WAITLISTED:
+                    row.setWaitlistedBookings(row.getWaitlistedBookings() + totals.getBookings());
+                    break;
+                default:
+                    row.setCancelledBookings(row.getCancelledBookings() + totals.getBookings());
+                    break;
+            }
+        }
+        return new ArrayList<>(rows.values());
+    }
+}
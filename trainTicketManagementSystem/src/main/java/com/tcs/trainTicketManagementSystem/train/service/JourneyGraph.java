@@ -0,0 +1,293 @@
+package com.tcs.trainTicketManagementSystem.train.service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import com.tcs.trainTicketManagementSystem.train.model.TrainStatus;
+import com.tcs.trainTicketManagementSystem.train.service.TrainCatalog.CatalogStop;
+import com.tcs.trainTicketManagementSystem.train.service.TrainCatalog.CatalogTrain;
+
+/**
+ * Immutable timetable graph of the active trains for multi-leg journey planning.
+ * Every hop between two consecutive stops of a train is a connection, kept in departure-time order
+ * so a query is a single connection scan over the run dates in the search window. When trains change,
+ * the graph is copied with their connections merged in instead of being re-sorted.
+ */
+public final class JourneyGraph {
+
+    private static final long UNREACHED = Long.MAX_VALUE;
+    private static final long SECONDS_PER_DAY = 86_400;
+
+    // Departure seconds after the run date's midnight, then train and stop, so a train's hops stay in route order
+    private static final Comparator<Connection> CONNECTION_ORDER = Comparator.comparingInt(Connection::departure)
+            .thenComparingLong(connection -> connection.train().trainId())
+            .thenComparingInt(Connection::stop);
+
+    static final JourneyGraph EMPTY = new JourneyGraph(Map.of(), new CatalogTrain[0], new int[0], new int[0],
+            new int[0], new int[0], new int[0], new int[0], 0);
+
+    private final Map<String, Integer> stationIds;
+    private final CatalogTrain[] trains;
+    private final int[] stops;
+    private final int[] fromStations;
+    private final int[] toStations;
+    private final int[] departureSeconds;
+    private final int[] arrivalSeconds;
+    private final int[] trainSlots;
+    private final int trainCount;
+
+    private JourneyGraph(Map<String, Integer> stationIds, CatalogTrain[] trains, int[] stops, int[] fromStations,
+            int[] toStations, int[] departureSeconds, int[] arrivalSeconds, int[] trainSlots, int trainCount) {
+        this.stationIds = stationIds;
+        this.trains = trains;
+        this.stops = stops;
+        this.fromStations = fromStations;
+        this.toStations = toStations;
+        this.departureSeconds = departureSeconds;
+        this.arrivalSeconds = arrivalSeconds;
+        this.trainSlots = trainSlots;
+        this.trainCount = trainCount;
+    }
+
+    static JourneyGraph of(Collection<CatalogTrain> trains) {
+        return EMPTY.withTrains(Set.of(), trains);
+    }
+
+    /**
+     * Copy of this graph with the given trains removed and their reloaded versions merged in.
+     */
+    JourneyGraph withTrains(Set<Long> changedTrainIds, Collection<CatalogTrain> reloaded) {
+        // Stations are only ever added, so existing connections keep their station IDs
+        Map<String, Integer> stations = new HashMap<>(stationIds);
+        List<Connection> added = new ArrayList<>();
+        for (CatalogTrain train : reloaded) {
+            if (train.status() != TrainStatus.ACTIVE) {
+                continue;
+            }
+            List<CatalogStop> trainStops = train.stops();
+            int departure = train.departureTime().toSecondOfDay();
+            for (int stop = 0; stop < trainStops.size() - 1; stop++) {
+                CatalogStop from = trainStops.get(stop);
+                CatalogStop to = trainStops.get(stop + 1);
+                added.add(new Connection(train, stop,
+                        stations.computeIfAbsent(normalize(from.station()), key -> stations.size()),
+                        stations.computeIfAbsent(normalize(to.station()), key -> stations.size()),
+                        departure + from.departureOffsetMinutes() * 60, departure + to.arrivalOffsetMinutes() * 60));
+            }
+        }
+        added.sort(CONNECTION_ORDER);
+
+        // Merge the kept connections (already in order) with the sorted additions
+        int capacity = trains.length + added.size();
+        CatalogTrain[] mergedTrains = new CatalogTrain[capacity];
+        int[] mergedStops = new int[capacity];
+        int[] mergedFrom = new int[capacity];
+        int[] mergedTo = new int[capacity];
+        int[] mergedDeparture = new int[capacity];
+        int[] mergedArrival = new int[capacity];
+        int size = 0;
+        int next = 0;
+        for (int i = 0; i < trains.length; i++) {
+            if (changedTrainIds.contains(trains[i].trainId())) {
+                continue;
+            }
+            Connection kept = new Connection(trains[i], stops[i], fromStations[i], toStations[i], departureSeconds[i], arrivalSeconds[i]);
+            for (; next < added.size() && CONNECTION_ORDER.compare(added.get(next), kept) < 0; next++) {
+                added.get(next).copyTo(size++, mergedTrains, mergedStops, mergedFrom, mergedTo, mergedDeparture, mergedArrival);
+            }
+            kept.copyTo(size++, mergedTrains, mergedStops, mergedFrom, mergedTo, mergedDeparture, mergedArrival);
+        }
+        for (; next < added.size(); next++) {
+            added.get(next).copyTo(size++, mergedTrains, mergedStops, mergedFrom, mergedTo, mergedDeparture, mergedArrival);
+        }
+
+        // Dense per-train slots address the trips (train runs) of a query
+        Map<Long, Integer> slots = new HashMap<>();
+        int[] mergedSlots = new int[size];
+        for (int i = 0; i < size; i++) {
+            mergedSlots[i] = slots.computeIfAbsent(mergedTrains[i].trainId(), key -> slots.size());
+        }
+
+        return new JourneyGraph(Map.copyOf(stations), Arrays.copyOf(mergedTrains, size), Arrays.copyOf(mergedStops, size),
+                Arrays.copyOf(mergedFrom, size), Arrays.copyOf(mergedTo, size), Arrays.copyOf(mergedDeparture, size),
+                Arrays.copyOf(mergedArrival, size), mergedSlots, slots.size());
+    }
+
+    /**
+     * Find journeys of at most {@code maxLegs} trains from {@code source} whose first train runs on {@code date},
+     * changing trains no faster than {@code minTransferMinutes} and boarding trains that run up to
+     * {@code searchDays} days later. One journey per number of legs is returned, fewest legs first,
+     * and only if it arrives earlier than every journey with fewer legs.
+     */
+    public List<Journey> search(String source, String destination, LocalDate date, int maxLegs,
+            int minTransferMinutes, int searchDays) {
+        Integer origin = stationIds.get(normalize(source));
+        Integer target = stationIds.get(normalize(destination));
+        if (origin == null || target == null || origin.equals(target)) {
+            return List.of();
+        }
+
+        // arrivals[k][s]: earliest arrival at station s on exactly k trains, in seconds after the start of date;
+        // connections are encoded as day * connections + index
+        int connections = trains.length;
+        int days = searchDays + 1;
+        long[][] arrivals = new long[maxLegs + 1][stationIds.size()];
+        int[][] alightedFrom = new int[maxLegs + 1][stationIds.size()];
+        int[][] boardedAt = new int[maxLegs + 1][stationIds.size()];
+        int[][] tripBoardedAt = new int[maxLegs + 1][days * trainCount];
+        for (int legs = 0; legs <= maxLegs; legs++) {
+            Arrays.fill(arrivals[legs], UNREACHED);
+            Arrays.fill(tripBoardedAt[legs], -1);
+        }
+        long transferSeconds = minTransferMinutes * 60L;
+        long targetArrival = UNREACHED;
+
+        // Each run date replays the same sorted connections shifted by a day; merge the replays by departure
+        int[] nextByDay = new int[days];
+        while (true) {
+            int day = -1;
+            long departure = UNREACHED;
+            for (int d = 0; d < days; d++) {
+                if (nextByDay[d] < connections) {
+                    long candidate = d * SECONDS_PER_DAY + departureSeconds[nextByDay[d]];
+                    if (candidate < departure) {
+                        departure = candidate;
+                        day = d;
+                    }
+                }
+            }
+            if (day < 0 || departure >= targetArrival) {
+                break;
+            }
+
+            int i = nextByDay[day]++;
+            int from = fromStations[i];
+            int to = toStations[i];
+            int trip = day * trainCount + trainSlots[i];
+            int connection = day * connections + i;
+            long arrival = day * SECONDS_PER_DAY + arrivalSeconds[i];
+            Boolean runs = null;
+            for (int legs = 1; legs <= maxLegs; legs++) {
+                // Staying on a train already boarded with this many legs needs no transfer
+                if (tripBoardedAt[legs][trip] < 0) {
+                    long ready = legs == 1
+                            ? (from == origin && day == 0 ? 0 : UNREACHED)
+                            : arrivals[legs - 1][from] == UNREACHED ? UNREACHED : arrivals[legs - 1][from] + transferSeconds;
+                    if (ready > departure) {
+                        continue;
+                    }
+                    // The run calendar is only consulted for trains a journey could board
+                    if (runs == null) {
+                        runs = trains[i].runsOn(LocalDate.ofEpochDay(date.toEpochDay() + day));
+                    }
+                    if (!runs) {
+                        break;
+                    }
+                    tripBoardedAt[legs][trip] = connection;
+                }
+                if (arrival < arrivals[legs][to]) {
+                    arrivals[legs][to] = arrival;
+                    alightedFrom[legs][to] = connection;
+                    boardedAt[legs][to] = tripBoardedAt[legs][trip];
+                    if (to == target) {
+                        targetArrival = Math.min(targetArrival, arrival);
+                    }
+                }
+            }
+        }
+
+        List<Journey> journeys = new ArrayList<>();
+        long bestArrival = UNREACHED;
+        for (int legs = 1; legs <= maxLegs; legs++) {
+            if (arrivals[legs][target] < bestArrival) {
+                bestArrival = arrivals[legs][target];
+                journeys.add(journey(date, legs, target, alightedFrom, boardedAt, connections));
+            }
+        }
+        return journeys;
+    }
+
+    public int size() {
+        return trains.length;
+    }
+
+    // Helper methods
+    private Journey journey(LocalDate date, int legCount, int target, int[][] alightedFrom, int[][] boardedAt,
+            int connections) {
+        List<Leg> legs = new ArrayList<>(legCount);
+        int station = target;
+        for (int leg = legCount; leg >= 1; leg--) {
+            int boarded = boardedAt[leg][station] % connections;
+            int alighted = alightedFrom[leg][station] % connections;
+            LocalDate runDate = date.plusDays(boardedAt[leg][station] / connections);
+            legs.add(Leg.of(trains[boarded], stops[boarded], stops[alighted] + 1, runDate));
+            station = fromStations[boarded];
+        }
+        Collections.reverse(legs);
+        return new Journey(List.copyOf(legs));
+    }
+
+    private static String normalize(String station) {
+        return station.toLowerCase(Locale.ROOT);
+    }
+
+    // One hop of a train between consecutive stops; times are seconds after the run date's midnight
+    private record Connection(CatalogTrain train, int stop, int from, int to, int departure, int arrival) {
+
+        void copyTo(int position, CatalogTrain[] trains, int[] stops, int[] fromStations, int[] toStations,
+                int[] departureSeconds, int[] arrivalSeconds) {
+            trains[position] = train;
+            stops[position] = stop;
+            fromStations[position] = from;
+            toStations[position] = to;
+            departureSeconds[position] = departure;
+            arrivalSeconds[position] = arrival;
+        }
+    }
+
+    /**
+     * A journey as its train legs in travel order.
+     */
+    public record Journey(List<Leg> legs) {
+
+        public LocalDateTime departure() {
+            return legs.get(0).departure();
+        }
+
+        public LocalDateTime arrival() {
+            return legs.get(legs.size() - 1).arrival();
+        }
+    }
+
+    /**
+     * One train ridden from one of its stops to a later one, on the train's run date.
+     */
+    public record Leg(CatalogTrain train, int fromStop, int toStop, LocalDate runDate,
+            LocalDateTime departure, LocalDateTime arrival) {
+
+        static Leg of(CatalogTrain train, int fromStop, int toStop, LocalDate runDate) {
+            LocalDateTime trainDeparture = runDate.atTime(train.departureTime());
+            return new Leg(train, fromStop, toStop, runDate,
+                    trainDeparture.plusMinutes(train.stops().get(fromStop).departureOffsetMinutes()),
+                    trainDeparture.plusMinutes(train.stops().get(toStop).arrivalOffsetMinutes()));
+        }
+
+        public String source() {
+            return train.stops().get(fromStop).station();
+        }
+
+        public String destination() {
+            return train.stops().get(toStop).station();
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.tcs.trainTicketManagementSystem.train.service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+
+import com.tcs.trainTicketManagementSystem.train.model.RunExceptionType;
+
+/**
+ * Immutable run calendar of one train: a 366-bit set per compiled year built from the weekly
+ * running-days mask with the dated run exceptions applied, so "does the train run on date D"
+ * is a single bit lookup. Dates outside the compiled years are answered from the mask and
+ * exceptions directly.
+ */
+public final class RunCalendar {
+
+    private final int runningDays;
+    private final Map<LocalDate, RunExceptionType> exceptions;
+    private final int firstYear;
+    private final BitSet[] years;
+
+    private RunCalendar(int runningDays, Map<LocalDate, RunExceptionType> exceptions, int firstYear, int yearCount) {
+        this.runningDays = runningDays;
+        this.exceptions = Map.copyOf(exceptions);
+        this.firstYear = firstYear;
+        this.years = new BitSet[yearCount];
+        for (int i = 0; i < yearCount; i++) {
+            years[i] = compileYear(firstYear + i);
+        }
+    }
+
+    /**
+     * Compile the calendar for {@code yearCount} years starting at {@code firstYear}.
+     */
+    static RunCalendar compile(int runningDays, Map<LocalDate, RunExceptionType> exceptions, int firstYear, int yearCount) {
+        return new RunCalendar(runningDays, exceptions, firstYear, yearCount);
+    }
+
+    public boolean runsOn(LocalDate date) {
+        int year = date.getYear() - firstYear;
+        if (year >= 0 && year < years.length) {
+            return years[year].get(date.getDayOfYear() - 1);
+        }
+
+        RunExceptionType exception = exceptions.get(date);
+        if (exception != null) {
+            return exception == RunExceptionType.ADDED;
+        }
+        return (runningDays & (1 << (date.getDayOfWeek().getValue() - 1))) != 0;
+    }
+
+    /**
+     * Dates between {@code from} and {@code to} (inclusive) the train runs on.
+     */
+    public List<LocalDate> runDates(LocalDate from, LocalDate to) {
+        List<LocalDate> dates = new ArrayList<>();
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            if (runsOn(date)) {
+                dates.add(date);
+            }
+        }
+        return dates;
+    }
+
+    public Map<LocalDate, RunExceptionType> exceptions() {
+        return exceptions;
+    }
+
+    // Helper methods
+    private BitSet compileYear(int year) {
+        LocalDate firstDay = LocalDate.of(year, 1, 1);
+        int length = firstDay.lengthOfYear();
+        BitSet days = new BitSet(366);
+
+        // Weekly pattern: every 7th bit from the first matching day of the year (bit 0 = MON)
+        int firstDayOfWeek = firstDay.getDayOfWeek().getValue() - 1;
+        for (int dayOfWeek = 0; dayOfWeek < 7; dayOfWeek++) {
+            if ((runningDays & (1 << dayOfWeek)) != 0) {
+                for (int day = Math.floorMod(dayOfWeek - firstDayOfWeek, 7); day < length; day += 7) {
+                    days.set(day);
+                }
+            }
+        }
+
+        exceptions.forEach((date, type) -> {
+            if (date.getYear() == year) {
+                days.set(date.getDayOfYear() - 1, type == RunExceptionType.ADDED);
+            }
+        });
+        return days;
+    }
+}
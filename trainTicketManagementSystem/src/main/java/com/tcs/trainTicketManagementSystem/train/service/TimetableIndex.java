@@ -0,0 +1,204 @@
+package com.tcs.trainTicketManagementSystem.train.service;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import com.tcs.trainTicketManagementSystem.train.model.TrainStatus;
+import com.tcs.trainTicketManagementSystem.train.service.TrainCatalog.CatalogStop;
+import com.tcs.trainTicketManagementSystem.train.service.TrainCatalog.CatalogTrain;
+
+/**
+ * Immutable timetable index over a catalog snapshot.
+ * Trains are grouped by route (every ordered pair of their stops), by boarding stop and by alighting
+ * stop (case-insensitive). Route and boarding groups are sorted by the departure time at the boarding
+ * stop, alighting groups by the departure time from the source, so departure windows are found by
+ * binary search, status and seat capacity are checked with bit operations and run dates with one
+ * lookup in each train's run calendar, shifted back by the days the train takes to reach the boarding stop.
+ * The seats left on a date change with every booking, so callers check those against seat inventory.
+ */
+public final class TimetableIndex {
+
+    private static final long NANOS_PER_MINUTE = 60_000_000_000L;
+    private static final long NANOS_PER_DAY = 24 * 60 * NANOS_PER_MINUTE;
+
+    private final Slice all;
+    private final Map<String, Slice> byRoute;
+    private final Map<String, Slice> bySource;
+    private final Map<String, Slice> byDestination;
+
+    TimetableIndex(List<CatalogTrain> trains) {
+        List<Entry> allEntries = new ArrayList<>(trains.size());
+        Map<String, List<Entry>> routes = new HashMap<>();
+        Map<String, List<Entry>> sources = new HashMap<>();
+        Map<String, List<Entry>> destinations = new HashMap<>();
+
+        for (CatalogTrain train : trains) {
+            boolean capacity = train.hasSeatCapacity();
+            long departure = train.departureTime().toNanoOfDay();
+            Entry fromSource = new Entry(train, departure, 0, capacity);
+            allEntries.add(fromSource);
+
+            // Derive every stop key once; a train joins one route group per ordered pair of its stops
+            List<CatalogStop> stops = train.stops();
+            String[] stations = new String[stops.size()];
+            for (int i = 0; i < stations.length; i++) {
+                stations[i] = normalize(stops.get(i).station());
+            }
+            for (int i = 0; i < stations.length - 1; i++) {
+                long boardingDeparture = departure + stops.get(i).departureOffsetMinutes() * NANOS_PER_MINUTE;
+                Entry boarding = i == 0 ? fromSource : new Entry(train, boardingDeparture % NANOS_PER_DAY,
+                        (int) (boardingDeparture / NANOS_PER_DAY), capacity);
+                sources.computeIfAbsent(stations[i], key -> new ArrayList<>()).add(boarding);
+                for (int j = i + 1; j < stations.length; j++) {
+                    routes.computeIfAbsent(stations[i] + '\n' + stations[j], key -> new ArrayList<>()).add(boarding);
+                }
+            }
+            for (int j = 1; j < stations.length; j++) {
+                destinations.computeIfAbsent(stations[j], key -> new ArrayList<>()).add(fromSource);
+            }
+        }
+
+        this.all = new Slice(allEntries);
+        this.byRoute = group(routes);
+        this.bySource = group(sources);
+        this.byDestination = group(destinations);
+    }
+
+    public Slice all() {
+        return all;
+    }
+
+    public Slice route(String source, String destination) {
+        return byRoute.getOrDefault(normalize(source) + '\n' + normalize(destination), Slice.EMPTY);
+    }
+
+    public Slice source(String source) {
+        return bySource.getOrDefault(normalize(source), Slice.EMPTY);
+    }
+
+    public Slice destination(String destination) {
+        return byDestination.getOrDefault(normalize(destination), Slice.EMPTY);
+    }
+
+    // Helper methods
+    private static Map<String, Slice> group(Map<String, List<Entry>> entries) {
+        Map<String, Slice> slices = new HashMap<>(entries.size() * 2);
+        entries.forEach((key, members) -> slices.put(key, new Slice(members)));
+        return Map.copyOf(slices);
+    }
+
+    private static String normalize(String station) {
+        return station.toLowerCase(Locale.ROOT);
+    }
+
+    // A train in a group, with its departure time of day at the group's boarding stop and the days after
+    // leaving the source it gets there
+    private record Entry(CatalogTrain train, long departureNanos, int dayOffset, boolean capacity) {
+    }
+
+    /**
+     * Trains of one index group in departure order, with one bitmap per status and for seat capacity.
+     */
+    public static final class Slice {
+
+        static final Slice EMPTY = new Slice(List.of());
+
+        private final CatalogTrain[] trains;
+        private final long[] departureNanos;
+        private final int[] dayOffsets;
+        private final Map<TrainStatus, BitSet> statusBits = new EnumMap<>(TrainStatus.class);
+        private final BitSet withCapacity = new BitSet();
+
+        private Slice(List<Entry> members) {
+            Entry[] sorted = members.toArray(new Entry[0]);
+            Arrays.sort(sorted, Comparator.comparingLong(Entry::departureNanos)
+                    .thenComparingLong(entry -> entry.train().trainId()));
+
+            this.trains = new CatalogTrain[sorted.length];
+            this.departureNanos = new long[sorted.length];
+            this.dayOffsets = new int[sorted.length];
+            for (TrainStatus status : TrainStatus.values()) {
+                statusBits.put(status, new BitSet(sorted.length));
+            }
+            for (int i = 0; i < sorted.length; i++) {
+                trains[i] = sorted[i].train();
+                departureNanos[i] = sorted[i].departureNanos();
+                dayOffsets[i] = sorted[i].dayOffset();
+                statusBits.get(trains[i].status()).set(i);
+                if (sorted[i].capacity()) {
+                    withCapacity.set(i);
+                }
+            }
+        }
+
+        /**
+         * Find trains departing (from the group's boarding stop) strictly between the given times (null for no bound) on the
+         * given date (null for any date), have the given status (null for any) and, if requested, seat capacity.
+         */
+        public List<CatalogTrain> find(LocalTime departureAfter, LocalTime departureBefore, LocalDate runDate,
+                TrainStatus status, boolean capacityRequired) {
+            int from = departureAfter == null ? 0 : firstIndexAfter(departureAfter.toNanoOfDay());
+            int to = departureBefore == null ? trains.length : firstIndexAtOrAfter(departureBefore.toNanoOfDay());
+            if (from >= to) {
+                return List.of();
+            }
+
+            BitSet statusMatches = status != null ? statusBits.get(status) : null;
+            List<CatalogTrain> matches = new ArrayList<>();
+            for (int i = from; i < to; i++) {
+                if (statusMatches != null) {
+                    i = statusMatches.nextSetBit(i);
+                    if (i < 0 || i >= to) {
+                        break;
+                    }
+                }
+                if ((!capacityRequired || withCapacity.get(i)) && (runDate == null || trains[i].runsOn(runDate.minusDays(dayOffsets[i])))) {
+                    matches.add(trains[i]);
+                }
+            }
+            return matches;
+        }
+
+        public int size() {
+            return trains.length;
+        }
+
+        // Binary searches over the sorted departure times
+        private int firstIndexAfter(long nanos) {
+            int low = 0;
+            int high = departureNanos.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (departureNanos[mid] <= nanos) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        private int firstIndexAtOrAfter(long nanos) {
+            int low = 0;
+            int high = departureNanos.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (departureNanos[mid] < nanos) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+}
@@ -0,0 +1,340 @@
+package com.tcs.trainTicketManagementSystem.train.service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.tcs.trainTicketManagementSystem.train.dto.FareTypeResponse;
+import com.tcs.trainTicketManagementSystem.train.dto.TrainStopResponse;
+import com.tcs.trainTicketManagementSystem.train.dto.TrainResponse;
+import com.tcs.trainTicketManagementSystem.train.model.ClassType;
+import com.tcs.trainTicketManagementSystem.train.model.DayOfWeek;
+import com.tcs.trainTicketManagementSystem.train.model.FareType;
+import com.tcs.trainTicketManagementSystem.train.model.RunExceptionType;
+import com.tcs.trainTicketManagementSystem.train.model.Train;
+import com.tcs.trainTicketManagementSystem.train.model.TrainRunException;
+import com.tcs.trainTicketManagementSystem.train.model.TrainStatus;
+import com.tcs.trainTicketManagementSystem.train.model.TrainStop;
+import com.tcs.trainTicketManagementSystem.train.repository.FareTypeRepository;
+import com.tcs.trainTicketManagementSystem.train.repository.TrainRepository;
+import com.tcs.trainTicketManagementSystem.train.repository.TrainRunExceptionRepository;
+import com.tcs.trainTicketManagementSystem.train.repository.TrainStopRepository;
+
+/**
+ * Immutable in-memory snapshot of the train catalog: trains, stops, schedule days, run calendars, fares and statuses.
+ * Catalog reads never touch JPA. When a train change commits, the snapshot is copied with the changed
+ * trains reloaded and swapped in atomically, so readers always see one consistent version.
+ */
+@Component
+public class TrainCatalog {
+
+    private static final Logger logger = LoggerFactory.getLogger(TrainCatalog.class);
+
+    // Run calendars are compiled for the current and the next year
+    private static final int CALENDAR_YEARS = 2;
+
+    private final TrainRepository trainRepository;
+    private final FareTypeRepository fareTypeRepository;
+    private final TrainRunExceptionRepository runExceptionRepository;
+    private final TrainStopRepository stopRepository;
+    private final TransactionTemplate readTransaction;
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+
+    public TrainCatalog(TrainRepository trainRepository,
+            FareTypeRepository fareTypeRepository,
+            TrainRunExceptionRepository runExceptionRepository,
+            TrainStopRepository stopRepository,
+            PlatformTransactionManager transactionManager) {
+        this.trainRepository = trainRepository;
+        this.fareTypeRepository = fareTypeRepository;
+        this.runExceptionRepository = runExceptionRepository;
+        this.stopRepository = stopRepository;
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+        // Change events arrive after commit while the finished transaction is still bound
+        this.readTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * Get the current catalog snapshot, loading it on first use.
+     */
+    public Snapshot snapshot() {
+        Snapshot current = snapshot.get();
+        if (current == null) {
+            refresh();
+            current = snapshot.get();
+        }
+        return current;
+    }
+
+    /**
+     * Reload the whole catalog from the database.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void refresh() {
+        long started = System.nanoTime();
+        Snapshot loaded = readTransaction.execute(status -> loadAll());
+        snapshot.set(loaded);
+        logger.info("Loaded train catalog with {} trains in {} ms", loaded.trains().size(),
+                (System.nanoTime() - started) / 1_000_000);
+    }
+
+    /**
+     * Reload the changed trains once the transaction that changed them has committed.
+     */
+    @TransactionalEventListener
+    public synchronized void onTrainChanged(TrainChangedEvent event) {
+        if (snapshot.get() == null) {
+            refresh();
+            return;
+        }
+
+        List<CatalogTrain> trains = readTransaction.execute(status -> loadTrains(event.trainIds()));
+        snapshot.set(snapshot.get().withTrains(event.trainIds(), trains));
+        logger.debug("Train catalog updated for train IDs: {}", event.trainIds());
+    }
+
+    // Helper methods
+    private Snapshot loadAll() {
+        Map<Long, List<FareType>> fareTypes = fareTypeRepository.findAll(Sort.by("fareTypeId")).stream()
+                .collect(Collectors.groupingBy(fareType -> fareType.getTrain().getTrainId()));
+        Map<Long, Map<LocalDate, RunExceptionType>> exceptions = groupExceptions(runExceptionRepository.findAll());
+        Map<Long, List<TrainStop>> stops = groupStops(stopRepository.findAll(Sort.by("stopSequence")));
+
+        int firstYear = LocalDate.now().getYear();
+        List<CatalogTrain> trains = new ArrayList<>();
+        for (Train train : trainRepository.findAll(Sort.by("trainId"))) {
+            trains.add(CatalogTrain.of(train, stops.getOrDefault(train.getTrainId(), List.of()),
+                    fareTypes.getOrDefault(train.getTrainId(), List.of()),
+                    exceptions.getOrDefault(train.getTrainId(), Map.of()), firstYear));
+        }
+        return new Snapshot(trains);
+    }
+
+    private List<CatalogTrain> loadTrains(Set<Long> trainIds) {
+        Map<Long, List<FareType>> fareTypes = fareTypeRepository.findByTrainTrainIdIn(trainIds).stream()
+                .sorted(Comparator.comparing(FareType::getFareTypeId))
+                .collect(Collectors.groupingBy(fareType -> fareType.getTrain().getTrainId()));
+        Map<Long, Map<LocalDate, RunExceptionType>> exceptions =
+                groupExceptions(runExceptionRepository.findByTrainTrainIdInOrderByRunDate(trainIds));
+        Map<Long, List<TrainStop>> stops = groupStops(stopRepository.findByTrainTrainIdInOrderByStopSequence(trainIds));
+
+        int firstYear = LocalDate.now().getYear();
+        return trainRepository.findAllById(trainIds).stream()
+                .map(train -> CatalogTrain.of(train, stops.getOrDefault(train.getTrainId(), List.of()),
+                        fareTypes.getOrDefault(train.getTrainId(), List.of()),
+                        exceptions.getOrDefault(train.getTrainId(), Map.of()), firstYear))
+                .toList();
+    }
+
+    private Map<Long, List<TrainStop>> groupStops(List<TrainStop> stops) {
+        return stops.stream().collect(Collectors.groupingBy(stop -> stop.getTrain().getTrainId()));
+    }
+
+    private Map<Long, Map<LocalDate, RunExceptionType>> groupExceptions(List<TrainRunException> exceptions) {
+        return exceptions.stream().collect(Collectors.groupingBy(exception -> exception.getTrain().getTrainId(),
+                Collectors.toMap(TrainRunException::getRunDate, TrainRunException::getExceptionType)));
+    }
+
+    /**
+     * One immutable version of the catalog, with trains ordered by ID.
+     */
+    public static final class Snapshot {
+
+        private final List<CatalogTrain> trains;
+        private final Map<Long, CatalogTrain> trainsById;
+        private final Map<String, CatalogTrain> trainsByName;
+        private final List<String> sourceStations;
+        private final List<String> destinationStations;
+        private final TimetableIndex timetable;
+        private final JourneyGraph journeyGraph;
+
+        private Snapshot(List<CatalogTrain> trains) {
+            this(trains, JourneyGraph.of(trains));
+        }
+
+        private Snapshot(List<CatalogTrain> trains, JourneyGraph journeyGraph) {
+            this.trains = trains.stream().sorted(Comparator.comparing(CatalogTrain::trainId)).toList();
+            Map<Long, CatalogTrain> byId = new HashMap<>();
+            Map<String, CatalogTrain> byName = new HashMap<>();
+            for (CatalogTrain train : this.trains) {
+                byId.put(train.trainId(), train);
+                byName.put(train.trainName().toLowerCase(Locale.ROOT), train);
+            }
+            this.trainsById = Map.copyOf(byId);
+            this.trainsByName = Map.copyOf(byName);
+            this.sourceStations = this.trains.stream().map(CatalogTrain::source).distinct().sorted().toList();
+            this.destinationStations = this.trains.stream().map(CatalogTrain::destination).distinct().sorted().toList();
+            this.timetable = new TimetableIndex(this.trains);
+            this.journeyGraph = journeyGraph;
+        }
+
+        public List<CatalogTrain> trains() {
+            return trains;
+        }
+
+        public Optional<CatalogTrain> findById(Long trainId) {
+            return Optional.ofNullable(trainsById.get(trainId));
+        }
+
+        public Optional<CatalogTrain> findByName(String trainName) {
+            return Optional.ofNullable(trainsByName.get(trainName.toLowerCase(Locale.ROOT)));
+        }
+
+        public List<String> sourceStations() {
+            return sourceStations;
+        }
+
+        public List<String> destinationStations() {
+            return destinationStations;
+        }
+
+        public TimetableIndex timetable() {
+            return timetable;
+        }
+
+        public JourneyGraph journeyGraph() {
+            return journeyGraph;
+        }
+
+        // Replace the given trains with their reloaded versions; trains that were not reloaded are gone
+        private Snapshot withTrains(Set<Long> trainIds, List<CatalogTrain> reloaded) {
+            List<CatalogTrain> copy = new ArrayList<>(trains.size() + reloaded.size());
+            trains.stream().filter(existing -> !trainIds.contains(existing.trainId())).forEach(copy::add);
+            copy.addAll(reloaded);
+            return new Snapshot(copy, journeyGraph.withTrains(trainIds, reloaded));
+        }
+    }
+
+    /**
+     * Immutable catalog view of a train with its stops (source first, destination last), schedule days
+     * (Monday first, also as a running-days mask), its compiled run calendar and fares.
+     */
+    public record CatalogTrain(Long trainId, String trainName, String source, String destination,
+            LocalTime departureTime, int journeyHours, int journeyMinutes, TrainStatus status, List<CatalogStop> stops,
+            List<DayOfWeek> scheduleDays, int runningDays, RunCalendar calendar, List<CatalogFare> fares) {
+
+        static CatalogTrain of(Train train, List<TrainStop> stops, List<FareType> fareTypes,
+                Map<LocalDate, RunExceptionType> exceptions, int firstYear) {
+            return new CatalogTrain(train.getTrainId(), train.getTrainName(), train.getSource(), train.getDestination(),
+                    train.getDepartureTime(), train.getJourneyHours(), train.getJourneyMinutes(), train.getStatus(),
+                    CatalogStop.of(train, stops), List.copyOf(train.getRunningDays()), train.getRunningDaysMask(),
+                    RunCalendar.compile(train.getRunningDaysMask(), exceptions, firstYear, CALENDAR_YEARS),
+                    fareTypes.stream().map(CatalogFare::of).toList());
+        }
+
+        // Position of the station in the stop list (case-insensitive), or -1
+        public int stopIndex(String station) {
+            for (int i = 0; i < stops.size(); i++) {
+                if (stops.get(i).station().equalsIgnoreCase(station)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        public boolean servesInOrder(String from, String to) {
+            int fromStop = stopIndex(from);
+            return fromStop >= 0 && stopIndex(to) > fromStop;
+        }
+
+        // Date the train left its source to depart the given stop on the given date
+        public LocalDate sourceDate(String station, LocalDate departureDate) {
+            int minutes = departureTime.toSecondOfDay() / 60 + stops.get(Math.max(0, stopIndex(station))).departureOffsetMinutes();
+            return departureDate.minusDays(minutes / (24 * 60));
+        }
+
+        // Weekly schedule only
+        public boolean runsOn(DayOfWeek dayOfWeek) {
+            return (runningDays & dayOfWeek.mask()) != 0;
+        }
+
+        // Weekly schedule with dated exceptions applied
+        public boolean runsOn(LocalDate date) {
+            return calendar.runsOn(date);
+        }
+
+        // Seats per run only; the seats left on a journey date are kept in seat inventory
+        public boolean hasSeatCapacity() {
+            return fares.stream().anyMatch(fare -> fare.seatsAvailable() != null && fare.seatsAvailable() > 0);
+        }
+
+        public TrainResponse toResponse() {
+            return toResponse(Map.of());
+        }
+
+        // Fares listed with the given seats left (by fare type ID) instead of their seats per run
+        public TrainResponse toResponse(Map<Long, Integer> seatsLeft) {
+            TrainResponse response = new TrainResponse(trainId, trainName, source, destination,
+                    departureTime, journeyHours, journeyMinutes, status);
+            response.setScheduleDays(scheduleDays.stream().map(DayOfWeek::name).collect(Collectors.toList()));
+            response.setFareTypes(fares.stream()
+                    .map(fare -> fare.toResponse(trainId, seatsLeft.getOrDefault(fare.fareTypeId(), fare.seatsAvailable())))
+                    .collect(Collectors.toList()));
+            List<TrainStopResponse> stopResponses = new ArrayList<>(stops.size());
+            for (int i = 0; i < stops.size(); i++) {
+                stopResponses.add(stops.get(i).toResponse(i));
+            }
+            response.setStops(stopResponses);
+            return response;
+        }
+    }
+
+    /**
+     * Immutable catalog view of a train stop; offsets are minutes after the train's departure.
+     */
+    public record CatalogStop(String station, int arrivalOffsetMinutes, int departureOffsetMinutes) {
+
+        // Trains without stored stops still stop at their source and destination
+        static List<CatalogStop> of(Train train, List<TrainStop> stops) {
+            if (stops.size() < 2) {
+                int journeyMinutes = train.getJourneyHours() * 60 + train.getJourneyMinutes();
+                return List.of(new CatalogStop(train.getSource(), 0, 0),
+                        new CatalogStop(train.getDestination(), journeyMinutes, journeyMinutes));
+            }
+            return stops.stream()
+                    .map(stop -> new CatalogStop(stop.getStation(), stop.getArrivalOffsetMinutes(), stop.getDepartureOffsetMinutes()))
+                    .toList();
+        }
+
+        TrainStopResponse toResponse(int stopSequence) {
+            return new TrainStopResponse(stopSequence, station, arrivalOffsetMinutes, departureOffsetMinutes);
+        }
+    }
+
+    /**
+     * Immutable catalog view of a fare type; seatsAvailable is the seats per run.
+     */
+    public record CatalogFare(Long fareTypeId, ClassType classType, BigDecimal price, Integer seatsAvailable) {
+
+        static CatalogFare of(FareType fareType) {
+            return new CatalogFare(fareType.getFareTypeId(), fareType.getClassType(), fareType.getPrice(),
+                    fareType.getSeatsAvailable());
+        }
+
+        FareTypeResponse toResponse(Long trainId, Integer seats) {
+            return new FareTypeResponse(fareTypeId, trainId, classType, price, seats);
+        }
+    }
+}
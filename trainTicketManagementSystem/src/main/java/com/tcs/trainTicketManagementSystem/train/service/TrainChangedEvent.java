@@ -0,0 +1,18 @@
+package com.tcs.trainTicketManagementSystem.train.service;
+
+import java.util.Set;
+
+/**
+ * Event published when trains, their schedules, run exceptions or fares are created, changed or deleted.
+ * Listeners that mirror train data should react after the publishing transaction commits.
+ */
+public record TrainChangedEvent(Set<Long> trainIds) {
+
+    public TrainChangedEvent {
+        trainIds = Set.copyOf(trainIds);
+    }
+
+    public TrainChangedEvent(Long trainId) {
+        this(Set.of(trainId));
+    }
+}
@@ -1,7 +1,12 @@
 package com.tcs.trainTicketManagementSystem.train.service;
 
+import com.tcs.trainTicketManagementSystem.train.dto.BulkRunExceptionRequest;
+import com.tcs.trainTicketManagementSystem.train.dto.BulkRunExceptionResponse;
+import com.tcs.trainTicketManagementSystem.train.dto.JourneyResponse;
 import com.tcs.trainTicketManagementSystem.train.dto.TrainRequest;
 import com.tcs.trainTicketManagementSystem.train.dto.TrainResponse;
+import com.tcs.trainTicketManagementSystem.train.dto.TrainRunExceptionRequest;
+import com.tcs.trainTicketManagementSystem.train.dto.TrainRunExceptionResponse;
 import com.tcs.trainTicketManagementSystem.train.dto.TrainSearchRequest;
 import com.tcs.trainTicketManagementSystem.train.dto.StationListResponse;
 import com.tcs.trainTicketManagementSystem.train.model.TrainStatus;
@@ -128,4 +133,39 @@ public interface TrainService {
      * Get all distinct source and destination stations.
      */
     StationListResponse getDistinctStations();
-} 
\ No newline at end of file
+
+    /**
+     * Plan journeys of up to maxLegs trains from source to destination starting on the given date.
+     */
+    List<JourneyResponse> planJourneys(String source, String destination, LocalDate journeyDate, int maxLegs);
+
+    /**
+     * Get the dates a train runs on between two dates, run exceptions included.
+     */
+    List<LocalDate> getRunDates(Long trainId, LocalDate fromDate, LocalDate toDate);
+
+    /**
+     * Get the run exceptions of a train.
+     */
+    List<TrainRunExceptionResponse> getRunExceptions(Long trainId);
+
+    /**
+     * Add or replace the run exception of a train on a date.
+     */
+    TrainRunExceptionResponse addRunException(Long trainId, TrainRunExceptionRequest request);
+
+    /**
+     * Remove the run exception of a train on a date.
+     */
+    void removeRunException(Long trainId, LocalDate runDate);
+
+    /**
+     * Add or replace the same run exception for many trains and dates in one transaction.
+     */
+    BulkRunExceptionResponse applyRunExceptions(BulkRunExceptionRequest request);
+
+    /**
+     * Remove the run exceptions on a date, for the given trains or for all trains if none are given.
+     */
+    int clearRunExceptions(LocalDate runDate, List<Long> trainIds);
+}
@@ -2,51 +2,119 @@ package com.tcs.trainTicketManagementSystem.train.service;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.tcs.trainTicketManagementSystem.booking.repository.BookingRepository;
+import com.tcs.trainTicketManagementSystem.booking.repository.SeatSegmentRepository;
+import com.tcs.trainTicketManagementSystem.booking.service.SeatInventoryService;
+import com.tcs.trainTicketManagementSystem.train.dto.BulkRunExceptionRequest;
+import com.tcs.trainTicketManagementSystem.train.dto.BulkRunExceptionResponse;
+import com.tcs.trainTicketManagementSystem.train.dto.JourneyResponse;
 import com.tcs.trainTicketManagementSystem.train.dto.StationListResponse;
 import com.tcs.trainTicketManagementSystem.train.dto.TrainRequest;
 import com.tcs.trainTicketManagementSystem.train.dto.TrainResponse;
+import com.tcs.trainTicketManagementSystem.train.dto.TrainRunExceptionRequest;
+import com.tcs.trainTicketManagementSystem.train.dto.TrainRunExceptionResponse;
 import com.tcs.trainTicketManagementSystem.train.dto.TrainSearchRequest;
+import com.tcs.trainTicketManagementSystem.train.dto.TrainStopRequest;
 import com.tcs.trainTicketManagementSystem.train.exception.TrainAlreadyExistsException;
 import com.tcs.trainTicketManagementSystem.train.exception.TrainNotFoundException;
+import com.tcs.trainTicketManagementSystem.train.model.CoachLayout;
 import com.tcs.trainTicketManagementSystem.train.model.DayOfWeek;
 import com.tcs.trainTicketManagementSystem.train.model.FareType;
 import com.tcs.trainTicketManagementSystem.train.model.Train;
+import com.tcs.trainTicketManagementSystem.train.model.TrainRunException;
 import com.tcs.trainTicketManagementSystem.train.model.TrainSchedule;
 import com.tcs.trainTicketManagementSystem.train.model.TrainStatus;
+import com.tcs.trainTicketManagementSystem.train.model.TrainStop;
+import com.tcs.trainTicketManagementSystem.train.repository.CoachRepository;
 import com.tcs.trainTicketManagementSystem.train.repository.FareTypeRepository;
 import com.tcs.trainTicketManagementSystem.train.repository.TrainRepository;
+import com.tcs.trainTicketManagementSystem.train.repository.TrainRunExceptionRepository;
 import com.tcs.trainTicketManagementSystem.train.repository.TrainScheduleRepository;
+import com.tcs.trainTicketManagementSystem.train.repository.TrainStopRepository;
+import com.tcs.trainTicketManagementSystem.train.service.TrainCatalog.CatalogFare;
+import com.tcs.trainTicketManagementSystem.train.service.TrainCatalog.CatalogTrain;
 
 /**
  * Service implementation for Train operations.
+ * Read methods are served from the in-memory TrainCatalog; writes go to the database
+ * and publish a TrainChangedEvent so the catalog picks them up after commit.
+ * Seats left are read from seat inventory, since the catalog only knows the seats per run.
  */
 @Service
-@Transactional
 public class TrainServiceImpl implements TrainService {
 
     private static final Logger logger = LoggerFactory.getLogger(TrainServiceImpl.class);
 
+    // Longest range served by getRunDates
+    private static final int MAX_RUN_DATE_RANGE_DAYS = 366;
+
     private final TrainRepository trainRepository;
     private final TrainScheduleRepository scheduleRepository;
     private final FareTypeRepository fareTypeRepository;
+    private final TrainRunExceptionRepository runExceptionRepository;
+    private final TrainStopRepository stopRepository;
+    private final CoachRepository coachRepository;
+    private final TrainCatalog trainCatalog;
+    private final SeatInventoryService seatInventoryService;
+    private final BookingRepository bookingRepository;
+    private final SeatSegmentRepository seatSegmentRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${train.journeys.max-legs:4}")
+    private int journeyMaxLegs;
+
+    @Value("${train.journeys.min-transfer-minutes:30}")
+    private int journeyMinTransferMinutes;
+
+    @Value("${train.journeys.search-days:2}")
+    private int journeySearchDays;
 
     public TrainServiceImpl(TrainRepository trainRepository,
             TrainScheduleRepository scheduleRepository,
-            FareTypeRepository fareTypeRepository) {
+            FareTypeRepository fareTypeRepository,
+            TrainRunExceptionRepository runExceptionRepository,
+            TrainStopRepository stopRepository,
+            CoachRepository coachRepository,
+            TrainCatalog trainCatalog,
+            SeatInventoryService seatInventoryService,
+            BookingRepository bookingRepository,
+            SeatSegmentRepository seatSegmentRepository,
+            ApplicationEventPublisher eventPublisher) {
         this.trainRepository = trainRepository;
         this.scheduleRepository = scheduleRepository;
         this.fareTypeRepository = fareTypeRepository;
+        this.runExceptionRepository = runExceptionRepository;
+        this.stopRepository = stopRepository;
+        this.coachRepository = coachRepository;
+        this.trainCatalog = trainCatalog;
+        this.seatInventoryService = seatInventoryService;
+        this.bookingRepository = bookingRepository;
+        this.seatSegmentRepository = seatSegmentRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
+    @Transactional
     public TrainResponse createTrain(TrainRequest request) {
         logger.info("Creating new train: {}", request.getTrainName());
 
@@ -73,6 +141,9 @@ public class TrainServiceImpl implements TrainService {
 
         Train savedTrain = trainRepository.save(train);
 
+        // Source, intermediate stops and destination
+        createStops(savedTrain, request.getStops() != null ? request.getStops() : List.of());
+
         // Create schedules if provided
         if (request.getScheduleDays() != null && !request.getScheduleDays().isEmpty()) {
             createSchedules(savedTrain, request.getScheduleDays());
@@ -83,122 +154,92 @@ public class TrainServiceImpl implements TrainService {
             createFareTypes(savedTrain, request.getFareTypes());
         }
 
+        eventPublisher.publishEvent(new TrainChangedEvent(savedTrain.getTrainId()));
         logger.info("Train created successfully with ID: {}", savedTrain.getTrainId());
         return new TrainResponse(savedTrain);
     }
 
     @Override
-    @Transactional(readOnly = true)
     public TrainResponse getTrainById(Long trainId) {
         logger.debug("Fetching train by ID: {}", trainId);
 
-        Train train = trainRepository.findById(trainId)
+        return trainCatalog.snapshot().findById(trainId)
+                .map(CatalogTrain::toResponse)
                 .orElseThrow(() -> TrainNotFoundException.withId(trainId));
-
-        return new TrainResponse(train);
     }
 
     @Override
-    @Transactional(readOnly = true)
     public TrainResponse getTrainByName(String trainName) {
         logger.debug("Fetching train by name: {}", trainName);
 
-        Train train = trainRepository.findByTrainNameIgnoreCase(trainName)
+        return trainCatalog.snapshot().findByName(trainName)
+                .map(CatalogTrain::toResponse)
                 .orElseThrow(() -> TrainNotFoundException.withName(trainName));
-
-        return new TrainResponse(train);
     }
 
     @Override
-    @Transactional(readOnly = true)
     public List<TrainResponse> getAllTrains() {
         logger.debug("Fetching all trains");
 
-        return trainRepository.findAll().stream()
-                .map(TrainResponse::new)
-                .collect(Collectors.toList());
+        return findTrains(train -> true);
     }
 
     @Override
-    @Transactional(readOnly = true)
     public List<TrainResponse> getTrainsByStatus(TrainStatus status) {
         logger.debug("Fetching trains by status: {}", status);
 
-        return trainRepository.findByStatus(status).stream()
-                .map(TrainResponse::new)
-                .collect(Collectors.toList());
+        return findTrains(train -> train.status() == status);
     }
 
     @Override
-    @Transactional(readOnly = true)
     public List<TrainResponse> getTrainsByRoute(String source, String destination) {
         logger.debug("Fetching trains for route: {} to {}", source, destination);
 
-        return trainRepository.findBySourceIgnoreCaseAndDestinationIgnoreCase(source, destination).stream()
-                .map(TrainResponse::new)
-                .collect(Collectors.toList());
+        return findTrains(train -> isOnRoute(train, source, destination));
     }
 
     @Override
-    @Transactional(readOnly = true)
     public List<TrainResponse> getTrainsBySource(String source) {
         logger.debug("Fetching trains by source: {}", source);
 
-        return trainRepository.findBySourceIgnoreCase(source).stream()
-                .map(TrainResponse::new)
-                .collect(Collectors.toList());
+        return findTrains(train -> train.source().equalsIgnoreCase(source));
     }
 
     @Override
-    @Transactional(readOnly = true)
     public List<TrainResponse> getTrainsByDestination(String destination) {
         logger.debug("Fetching trains by destination: {}", destination);
 
-        return trainRepository.findByDestinationIgnoreCase(destination).stream()
-                .map(TrainResponse::new)
-                .collect(Collectors.toList());
+        return findTrains(train -> train.destination().equalsIgnoreCase(destination));
     }
 
     @Override
-    @Transactional(readOnly = true)
     public List<TrainResponse> searchTrainsByName(String trainName) {
         logger.debug("Searching trains by name pattern: {}", trainName);
 
-        return trainRepository.findByTrainNameContainingIgnoreCase(trainName).stream()
-                .map(TrainResponse::new)
-                .collect(Collectors.toList());
+        return findTrains(train -> containsIgnoreCase(train.trainName(), trainName));
     }
 
     @Override
-    @Transactional(readOnly = true)
     public List<TrainResponse> searchTrainsBySource(String source) {
         logger.debug("Searching trains by source pattern: {}", source);
 
-        return trainRepository.findBySourceContainingIgnoreCase(source).stream()
-                .map(TrainResponse::new)
-                .collect(Collectors.toList());
+        return findTrains(train -> containsIgnoreCase(train.source(), source));
     }
 
     @Override
-    @Transactional(readOnly = true)
     public List<TrainResponse> searchTrainsByDestination(String destination) {
         logger.debug("Searching trains by destination pattern: {}", destination);
 
-        return trainRepository.findByDestinationContainingIgnoreCase(destination).stream()
-                .map(TrainResponse::new)
-                .collect(Collectors.toList());
+        return findTrains(train -> containsIgnoreCase(train.destination(), destination));
     }
 
     @Override
-    @Transactional(readOnly = true)
     public List<TrainResponse> getTrainsByScheduleDay(String dayOfWeek) {
         logger.debug("Fetching trains by schedule day: {}", dayOfWeek);
 
         try {
             DayOfWeek dayOfWeekEnum = DayOfWeek.valueOf(dayOfWeek.toUpperCase());
-            return trainRepository.findTrainsByScheduleDay(dayOfWeekEnum).stream()
-                    .map(TrainResponse::new)
-                    .collect(Collectors.toList());
+            return findTrains(train -> train.runsOn(dayOfWeekEnum));
         } catch (IllegalArgumentException e) {
             logger.warn("Invalid day of week: {}", dayOfWeek);
             return new ArrayList<>();
@@ -206,15 +247,12 @@ public class TrainServiceImpl implements TrainService {
     }
 
     @Override
-    @Transactional(readOnly = true)
     public List<TrainResponse> getTrainsByScheduleDayAndRoute(String dayOfWeek, String source, String destination) {
         logger.debug("Fetching trains by schedule day: {} and route: {} to {}", dayOfWeek, source, destination);
 
         try {
             DayOfWeek dayOfWeekEnum = DayOfWeek.valueOf(dayOfWeek.toUpperCase());
-            return trainRepository.findTrainsByScheduleDayAndRoute(dayOfWeekEnum, source, destination).stream()
-                    .map(TrainResponse::new)
-                    .collect(Collectors.toList());
+            return findTrains(train -> train.runsOn(dayOfWeekEnum) && isOnRoute(train, source, destination));
         } catch (IllegalArgumentException e) {
             logger.warn("Invalid day of week: {}", dayOfWeek);
             return new ArrayList<>();
@@ -222,102 +260,60 @@ public class TrainServiceImpl implements TrainService {
     }
 
     @Override
-    @Transactional(readOnly = true)
     public List<TrainResponse> getTrainsWithAvailableSeats() {
         logger.debug("Fetching trains with available seats");
 
-        return trainRepository.findTrainsWithAvailableSeats().stream()
-                .map(TrainResponse::new)
-                .collect(Collectors.toList());
+        Set<Long> fareTypesWithSeats = seatInventoryService.findFareTypesWithSeats(LocalDate.now());
+        return findTrains(train -> hasFareIn(train, fareTypesWithSeats));
     }
 
     @Override
-    @Transactional(readOnly = true)
     public List<TrainResponse> getTrainsWithAvailableSeatsForRoute(String source, String destination) {
         logger.debug("Fetching trains with available seats for route: {} to {}", source, destination);
 
-        return trainRepository.findTrainsWithAvailableSeatsForRoute(source, destination).stream()
-                .map(TrainResponse::new)
-                .collect(Collectors.toList());
+        Set<Long> fareTypesWithSeats = seatInventoryService.findFareTypesWithSeats(LocalDate.now());
+        return findTrains(train -> isOnRoute(train, source, destination) && hasFareIn(train, fareTypesWithSeats));
     }
 
     @Override
-    @Transactional(readOnly = true)
     public List<TrainResponse> searchTrains(TrainSearchRequest searchRequest) {
         logger.debug("Searching trains with criteria: {}", searchRequest);
 
-        List<Train> trains = new ArrayList<>();
-
-        // Apply filters based on search criteria (case-insensitive)
+        // Pick the timetable group from the search criteria (case-insensitive)
+        TimetableIndex timetable = trainCatalog.snapshot().timetable();
+        TimetableIndex.Slice candidates;
+        TrainStatus status = null;
         if (searchRequest.getSource() != null && searchRequest.getDestination() != null) {
-            trains = trainRepository.findBySourceIgnoreCaseAndDestinationIgnoreCaseAndStatus(
-                    searchRequest.getSource(),
-                    searchRequest.getDestination(),
-                    searchRequest.getStatus() != null ? searchRequest.getStatus() : TrainStatus.ACTIVE
-            );
+            candidates = timetable.route(searchRequest.getSource(), searchRequest.getDestination());
+            status = searchRequest.getStatus() != null ? searchRequest.getStatus() : TrainStatus.ACTIVE;
         } else if (searchRequest.getSource() != null) {
-            trains = trainRepository.findBySourceIgnoreCase(searchRequest.getSource());
+            candidates = timetable.source(searchRequest.getSource());
         } else if (searchRequest.getDestination() != null) {
-            trains = trainRepository.findByDestinationIgnoreCase(searchRequest.getDestination());
-        } else if (searchRequest.getStatus() != null) {
-            trains = trainRepository.findByStatus(searchRequest.getStatus());
+            candidates = timetable.destination(searchRequest.getDestination());
         } else {
-            trains = trainRepository.findAll();
-        }
-
-        // Apply journey date filter if provided
-        if (searchRequest.getJourneyDate() != null) {
-            // Get day of week for the journey date
-            java.time.DayOfWeek javaDayOfWeek = searchRequest.getJourneyDate().getDayOfWeek();
-            String dayOfWeekStr = javaDayOfWeek.name().substring(0, 3).toUpperCase();
-
-            try {
-                DayOfWeek dayOfWeekEnum = DayOfWeek.valueOf(dayOfWeekStr);
-                // Filter trains that run on this specific day
-                trains = trains.stream()
-                        .filter(train -> train.getSchedules().stream()
-                        .anyMatch(schedule -> schedule.getDayOfWeek() == dayOfWeekEnum))
-                        .collect(Collectors.toList());
-                logger.debug("Filtered trains for day of week: {} ({} trains found)", dayOfWeekStr, trains.size());
-            } catch (IllegalArgumentException e) {
-                logger.warn("Invalid day of week conversion: {}", dayOfWeekStr);
-                return new ArrayList<>();
-            }
+            candidates = timetable.all();
+            status = searchRequest.getStatus();
         }
 
-        // Apply additional filters
-        if (searchRequest.getDepartureTimeAfter() != null) {
-            trains = trains.stream()
-                    .filter(train -> train.getDepartureTime().isAfter(searchRequest.getDepartureTimeAfter()))
-                    .collect(Collectors.toList());
-        }
-
-        if (searchRequest.getDepartureTimeBefore() != null) {
-            trains = trains.stream()
-                    .filter(train -> train.getDepartureTime().isBefore(searchRequest.getDepartureTimeBefore()))
-                    .collect(Collectors.toList());
-        }
+        // A journey date keeps trains that run on that date and still have seats on the run that date belongs to
+        LocalDate journeyDate = searchRequest.getJourneyDate();
+        List<CatalogTrain> trains = candidates.find(searchRequest.getDepartureTimeAfter(),
+                searchRequest.getDepartureTimeBefore(), journeyDate, status, journeyDate != null);
 
+        Stream<CatalogTrain> results = trains.stream();
         if (searchRequest.getTrainName() != null) {
-            trains = trains.stream()
-                    .filter(train -> train.getTrainName().toLowerCase().contains(searchRequest.getTrainName().toLowerCase()))
-                    .collect(Collectors.toList());
+            results = results.filter(train -> containsIgnoreCase(train.trainName(), searchRequest.getTrainName()));
         }
-
-        // Filter trains with available seats if journey date is provided
-        if (searchRequest.getJourneyDate() != null) {
-            trains = trains.stream()
-                    .filter(train -> train.getFareTypes().stream().anyMatch(fare -> fare.getSeatsAvailable() > 0))
-                    .collect(Collectors.toList());
-            logger.debug("Filtered trains with available seats: {} trains found", trains.size());
+        if (journeyDate == null) {
+            return results.map(CatalogTrain::toResponse).collect(Collectors.toList());
         }
-
-        return trains.stream()
-                .map(TrainResponse::new)
-                .collect(Collectors.toList());
+        String boardingStation = searchRequest.getSource();
+        return withSeatsLeft(results.toList(), boardingStation == null ? train -> journeyDate
+                : train -> train.sourceDate(boardingStation, journeyDate));
     }
 
     @Override
+    @Transactional
     public TrainResponse updateTrain(Long trainId, TrainRequest request) {
         logger.info("Updating train with ID: {}", trainId);
 
@@ -346,6 +342,9 @@ public class TrainServiceImpl implements TrainService {
 
         Train updatedTrain = trainRepository.save(train);
 
+        // Bring the stop list in line with the request; without new intermediate stops the current ones are kept
+        updateStops(updatedTrain, request.getStops());
+
         // Update schedules if provided
         if (request.getScheduleDays() != null) {
             updateSchedules(updatedTrain, request.getScheduleDays());
@@ -356,11 +355,13 @@ public class TrainServiceImpl implements TrainService {
             updateFareTypes(updatedTrain, request.getFareTypes());
         }
 
+        eventPublisher.publishEvent(new TrainChangedEvent(trainId));
         logger.info("Train updated successfully with ID: {}", updatedTrain.getTrainId());
         return new TrainResponse(updatedTrain);
     }
 
     @Override
+    @Transactional
     public TrainResponse updateTrainStatus(Long trainId, TrainStatus status) {
         logger.info("Updating train status for ID: {} to {}", trainId, status);
 
@@ -370,11 +371,13 @@ public class TrainServiceImpl implements TrainService {
         train.setStatus(status);
         Train updatedTrain = trainRepository.save(train);
 
+        eventPublisher.publishEvent(new TrainChangedEvent(trainId));
         logger.info("Train status updated successfully for ID: {}", trainId);
         return new TrainResponse(updatedTrain);
     }
 
     @Override
+    @Transactional
     public void deleteTrain(Long trainId) {
         logger.info("Deleting train with ID: {}", trainId);
 
@@ -383,75 +386,296 @@ public class TrainServiceImpl implements TrainService {
         }
 
         trainRepository.deleteById(trainId);
+        eventPublisher.publishEvent(new TrainChangedEvent(trainId));
         logger.info("Train deleted successfully with ID: {}", trainId);
     }
 
     @Override
-    @Transactional(readOnly = true)
     public boolean existsByTrainName(String trainName) {
-        return trainRepository.existsByTrainNameIgnoreCase(trainName);
+        return trainCatalog.snapshot().findByName(trainName).isPresent();
     }
 
     @Override
-    @Transactional(readOnly = true)
     public boolean existsByRoute(String source, String destination) {
-        return trainRepository.existsBySourceIgnoreCaseAndDestinationIgnoreCase(source, destination);
+        return trainCatalog.snapshot().trains().stream().anyMatch(train -> isOnRoute(train, source, destination));
     }
 
     @Override
-    @Transactional(readOnly = true)
     public List<TrainResponse> getAvailableTrainsForDate(String source, String destination, LocalDate journeyDate) {
         logger.debug("Fetching available trains for date: {} from {} to {}", journeyDate, source, destination);
 
-        // Get day of week for the journey date
-        java.time.DayOfWeek javaDayOfWeek = journeyDate.getDayOfWeek();
-        String dayOfWeekStr = javaDayOfWeek.name().substring(0, 3).toUpperCase();
-
-        try {
-            DayOfWeek dayOfWeekEnum = DayOfWeek.valueOf(dayOfWeekStr);
-            // Get trains that run on this day and have the specified route (case-insensitive)
-            List<Train> trains = trainRepository.findTrainsByScheduleDayAndRoute(dayOfWeekEnum, source, destination);
-
-            // Filter trains with available seats
-            return trains.stream()
-                    .filter(train -> train.getFareTypes().stream().anyMatch(fare -> fare.getSeatsAvailable() > 0))
-                    .map(TrainResponse::new)
-                    .collect(Collectors.toList());
-        } catch (IllegalArgumentException e) {
-            logger.warn("Invalid day of week conversion: {}", dayOfWeekStr);
-            return new ArrayList<>();
-        }
+        // Trains on the route (case-insensitive) that run on this date and have seats left on it
+        List<CatalogTrain> trains = trainCatalog.snapshot().trains().stream()
+                .filter(train -> isOnRoute(train, source, destination) && train.runsOn(journeyDate) && train.hasSeatCapacity())
+                .toList();
+        return withSeatsLeft(trains, train -> journeyDate);
     }
 
     @Override
-    @Transactional(readOnly = true)
     public StationListResponse getDistinctStations() {
         logger.debug("Fetching distinct source and destination stations");
 
-        List<String> sourceStations = trainRepository.findDistinctSourceStations();
-        List<String> destinationStations = trainRepository.findDistinctDestinationStations();
+        TrainCatalog.Snapshot catalog = trainCatalog.snapshot();
+        List<String> sourceStations = catalog.sourceStations();
+        List<String> destinationStations = catalog.destinationStations();
 
         logger.debug("Found {} source stations and {} destination stations", sourceStations.size(), destinationStations.size());
-        return new StationListResponse(sourceStations, destinationStations);
+        return new StationListResponse(new ArrayList<>(sourceStations), new ArrayList<>(destinationStations));
+    }
+
+    @Override
+    public List<JourneyResponse> planJourneys(String source, String destination, LocalDate journeyDate, int maxLegs) {
+        logger.debug("Planning journeys from {} to {} on {} with at most {} legs", source, destination, journeyDate, maxLegs);
+
+        if (maxLegs < 1 || maxLegs > journeyMaxLegs) {
+            throw new IllegalArgumentException("Maximum legs must be between 1 and " + journeyMaxLegs);
+        }
+        if (source.equalsIgnoreCase(destination)) {
+            throw new IllegalArgumentException("Source and destination must be different");
+        }
+
+        return trainCatalog.snapshot().journeyGraph()
+                .search(source, destination, journeyDate, maxLegs, journeyMinTransferMinutes, journeySearchDays).stream()
+                .map(JourneyResponse::new)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<LocalDate> getRunDates(Long trainId, LocalDate fromDate, LocalDate toDate) {
+        logger.debug("Fetching run dates for train ID: {} from {} to {}", trainId, fromDate, toDate);
+
+        if (toDate.isBefore(fromDate) || fromDate.plusDays(MAX_RUN_DATE_RANGE_DAYS).isBefore(toDate)) {
+            throw new IllegalArgumentException("Run date range must be ordered and at most " + MAX_RUN_DATE_RANGE_DAYS + " days long");
+        }
+
+        return trainCatalog.snapshot().findById(trainId)
+                .map(train -> train.calendar().runDates(fromDate, toDate))
+                .orElseThrow(() -> TrainNotFoundException.withId(trainId));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<TrainRunExceptionResponse> getRunExceptions(Long trainId) {
+        logger.debug("Fetching run exceptions for train ID: {}", trainId);
+
+        if (!trainRepository.existsById(trainId)) {
+            throw TrainNotFoundException.withId(trainId);
+        }
+
+        return runExceptionRepository.findByTrainTrainIdOrderByRunDate(trainId).stream()
+                .map(TrainRunExceptionResponse::new)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional
+    public TrainRunExceptionResponse addRunException(Long trainId, TrainRunExceptionRequest request) {
+        logger.info("Adding {} run exception for train ID: {} on {}", request.getExceptionType(), trainId, request.getRunDate());
+
+        Train train = trainRepository.findById(trainId)
+                .orElseThrow(() -> TrainNotFoundException.withId(trainId));
+
+        // One exception per train and date; a new one replaces the old
+        TrainRunException exception = runExceptionRepository.findByTrainTrainIdAndRunDate(trainId, request.getRunDate())
+                .orElseGet(() -> new TrainRunException(train, request.getRunDate(), request.getExceptionType(), request.getReason()));
+        exception.setExceptionType(request.getExceptionType());
+        exception.setReason(request.getReason());
+        TrainRunException savedException = runExceptionRepository.save(exception);
+
+        eventPublisher.publishEvent(new TrainChangedEvent(trainId));
+        logger.info("Run exception saved with ID: {}", savedException.getExceptionId());
+        return new TrainRunExceptionResponse(savedException);
+    }
+
+    @Override
+    @Transactional
+    public void removeRunException(Long trainId, LocalDate runDate) {
+        logger.info("Removing run exception for train ID: {} on {}", trainId, runDate);
+
+        if (!trainRepository.existsById(trainId)) {
+            throw TrainNotFoundException.withId(trainId);
+        }
+
+        if (runExceptionRepository.deleteForTrains(List.of(trainId), runDate) > 0) {
+            eventPublisher.publishEvent(new TrainChangedEvent(trainId));
+        }
+    }
+
+    @Override
+    @Transactional
+    public BulkRunExceptionResponse applyRunExceptions(BulkRunExceptionRequest request) {
+        Set<Long> trainIds = new LinkedHashSet<>(request.getTrainIds());
+        Set<LocalDate> runDates = new LinkedHashSet<>(request.getRunDates());
+        logger.info("Applying {} run exceptions for {} trains on {} dates", request.getExceptionType(), trainIds.size(), runDates.size());
+
+        // Reject the whole batch if any train is unknown
+        Set<Long> missingTrainIds = new LinkedHashSet<>(trainIds);
+        trainRepository.findAllById(trainIds).forEach(train -> missingTrainIds.remove(train.getTrainId()));
+        if (!missingTrainIds.isEmpty()) {
+            throw TrainNotFoundException.withIds(missingTrainIds);
+        }
+
+        // One set-based upsert per date; the catalog reloads all trains once after commit
+        int applied = 0;
+        for (LocalDate runDate : runDates) {
+            applied += runExceptionRepository.upsertForTrains(trainIds, runDate, request.getExceptionType().name(), request.getReason());
+        }
+
+        eventPublisher.publishEvent(new TrainChangedEvent(trainIds));
+        logger.info("Applied {} run exceptions", applied);
+        return new BulkRunExceptionResponse(trainIds.size(), runDates.size(), applied);
+    }
+
+    @Override
+    @Transactional
+    public int clearRunExceptions(LocalDate runDate, List<Long> trainIds) {
+        logger.info("Clearing run exceptions on {} for trains: {}", runDate, trainIds == null || trainIds.isEmpty() ? "all" : trainIds);
+
+        Set<Long> affectedTrainIds = new HashSet<>(trainIds == null || trainIds.isEmpty()
+                ? runExceptionRepository.findTrainIdsByRunDate(runDate) : trainIds);
+        if (affectedTrainIds.isEmpty()) {
+            return 0;
+        }
+
+        int removed = runExceptionRepository.deleteForTrains(affectedTrainIds, runDate);
+        if (removed > 0) {
+            eventPublisher.publishEvent(new TrainChangedEvent(affectedTrainIds));
+        }
+        logger.info("Cleared {} run exceptions on {}", removed, runDate);
+        return removed;
     }
 
     // Helper methods
+    private List<TrainResponse> findTrains(Predicate<CatalogTrain> filter) {
+        return trainCatalog.snapshot().trains().stream()
+                .filter(filter)
+                .map(CatalogTrain::toResponse)
+                .collect(Collectors.toList());
+    }
+
+    private boolean hasFareIn(CatalogTrain train, Set<Long> fareTypeIds) {
+        return train.fares().stream().anyMatch(fare -> fareTypeIds.contains(fare.fareTypeId()));
+    }
+
+    // Keep the trains with seats left on their run, read in one lookup per run date, and list their fares with them
+    private List<TrainResponse> withSeatsLeft(List<CatalogTrain> trains, Function<CatalogTrain, LocalDate> runDate) {
+        Map<LocalDate, List<CatalogTrain>> trainsByRunDate = trains.stream().collect(Collectors.groupingBy(runDate));
+        Map<Long, Integer> seatsLeft = new HashMap<>();
+        trainsByRunDate.forEach((date, runs) -> seatsLeft.putAll(seatInventoryService.getAvailableSeats(runs.stream()
+                .flatMap(train -> train.fares().stream())
+                .map(CatalogFare::fareTypeId)
+                .toList(), date)));
+
+        return trains.stream()
+                .filter(train -> train.fares().stream().anyMatch(fare -> seatsLeft.getOrDefault(fare.fareTypeId(), 0) > 0))
+                .map(train -> train.toResponse(seatsLeft))
+                .collect(Collectors.toList());
+    }
+
+    // A train is on a route when it calls at the source and later at the destination
+    private boolean isOnRoute(CatalogTrain train, String source, String destination) {
+        return train.servesInOrder(source, destination);
+    }
+
+    private boolean containsIgnoreCase(String value, String pattern) {
+        return value.toLowerCase().contains(pattern.toLowerCase());
+    }
+
     private void createSchedules(Train train, List<String> scheduleDays) {
-        List<TrainSchedule> schedules = new ArrayList<>();
+        Set<DayOfWeek> runningDays = EnumSet.noneOf(DayOfWeek.class);
 
         for (String day : scheduleDays) {
             try {
-                DayOfWeek dayOfWeek = DayOfWeek.valueOf(day.toUpperCase());
-                TrainSchedule schedule = new TrainSchedule(train, dayOfWeek);
-                schedules.add(schedule);
+                runningDays.add(DayOfWeek.valueOf(day.toUpperCase()));
             } catch (IllegalArgumentException e) {
                 logger.warn("Invalid day of week: {}", day);
             }
         }
 
+        // running_days is the source of truth; train_schedule rows are still written for older readers
+        train.setRunningDays(runningDays);
+        List<TrainSchedule> schedules = new ArrayList<>();
+        for (DayOfWeek dayOfWeek : runningDays) {
+            schedules.add(new TrainSchedule(train, dayOfWeek));
+        }
         scheduleRepository.saveAll(schedules);
     }
 
+    private void createStops(Train train, List<TrainStopRequest> intermediateStops) {
+        train.setStops(stopRepository.saveAll(buildStops(train, intermediateStops)));
+    }
+
+    private List<TrainStop> buildStops(Train train, List<TrainStopRequest> intermediateStops) {
+        int journeyMinutes = train.getJourneyHours() * 60 + train.getJourneyMinutes();
+        Set<String> stations = new HashSet<>();
+        stations.add(train.getSource().toLowerCase(Locale.ROOT));
+        stations.add(train.getDestination().toLowerCase(Locale.ROOT));
+
+        List<TrainStop> stops = new ArrayList<>();
+        stops.add(new TrainStop(train, 0, train.getSource(), 0, 0));
+        int previousDeparture = 0;
+        for (TrainStopRequest stop : intermediateStops) {
+            if (!stations.add(stop.getStation().toLowerCase(Locale.ROOT))) {
+                throw new IllegalArgumentException("Station " + stop.getStation() + " appears more than once on the route");
+            }
+            if (stop.getArrivalOffsetMinutes() <= previousDeparture || stop.getDepartureOffsetMinutes() < stop.getArrivalOffsetMinutes()
+                    || stop.getDepartureOffsetMinutes() >= journeyMinutes) {
+                throw new IllegalArgumentException("Stop offsets must increase along the route and end before the journey does: " + stop.getStation());
+            }
+            stops.add(new TrainStop(train, stops.size(), stop.getStation(), stop.getArrivalOffsetMinutes(), stop.getDepartureOffsetMinutes()));
+            previousDeparture = stop.getDepartureOffsetMinutes();
+        }
+        stops.add(new TrainStop(train, stops.size(), train.getDestination(), journeyMinutes, journeyMinutes));
+        return stops;
+    }
+
+    // Bookings and sold seats refer to stops by sequence, so the stations of a route with upcoming bookings are
+    // fixed; only the timings of its stops can change, and those are updated in place
+    private void updateStops(Train train, List<TrainStopRequest> intermediateStops) {
+        List<TrainStop> currentStops = stopRepository.findByTrainTrainIdOrderByStopSequence(train.getTrainId());
+        List<TrainStopRequest> stops = intermediateStops;
+        if (stops == null) {
+            stops = currentStops.stream()
+                    .skip(1)
+                    .limit(Math.max(0, currentStops.size() - 2))
+                    .map(stop -> new TrainStopRequest(stop.getStation(), stop.getArrivalOffsetMinutes(), stop.getDepartureOffsetMinutes()))
+                    .toList();
+        }
+        List<TrainStop> newStops = buildStops(train, stops);
+
+        if (sameStations(currentStops, newStops)) {
+            for (int i = 0; i < newStops.size(); i++) {
+                TrainStop current = currentStops.get(i);
+                current.setStation(newStops.get(i).getStation());
+                current.setArrivalOffsetMinutes(newStops.get(i).getArrivalOffsetMinutes());
+                current.setDepartureOffsetMinutes(newStops.get(i).getDepartureOffsetMinutes());
+            }
+            train.setStops(currentStops);
+            return;
+        }
+
+        LocalDate today = LocalDate.now();
+        if (bookingRepository.existsActiveByTrainIdFrom(train.getTrainId(), today)
+                || seatSegmentRepository.existsByTrainIdFrom(train.getTrainId(), today)) {
+            throw new IllegalArgumentException("The stations of train " + train.getTrainId()
+                    + " cannot change while it has upcoming bookings");
+        }
+        stopRepository.deleteByTrainId(train.getTrainId());
+        train.setStops(stopRepository.saveAll(newStops));
+    }
+
+    private static boolean sameStations(List<TrainStop> currentStops, List<TrainStop> newStops) {
+        if (currentStops.size() != newStops.size()) {
+            return false;
+        }
+        for (int i = 0; i < newStops.size(); i++) {
+            if (!currentStops.get(i).getStation().equalsIgnoreCase(newStops.get(i).getStation())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     private void createFareTypes(Train train, List<com.tcs.trainTicketManagementSystem.train.dto.FareTypeRequest> fareTypeRequests) {
         List<FareType> fareTypes = new ArrayList<>();
 
@@ -461,6 +685,11 @@ public class TrainServiceImpl implements TrainService {
         }
 
         fareTypeRepository.saveAll(fareTypes);
+
+        // Every fare type is laid out in coaches of its class
+        for (FareType fareType : fareTypes) {
+            coachRepository.saveAll(CoachLayout.of(fareType.getClassType()).coachesFor(fareType));
+        }
     }
 
     private void updateSchedules(Train train, List<String> scheduleDays) {
@@ -470,6 +699,8 @@ public class TrainServiceImpl implements TrainService {
         // Create new schedules
         if (!scheduleDays.isEmpty()) {
             createSchedules(train, scheduleDays);
+        } else {
+            train.setRunningDays(EnumSet.noneOf(DayOfWeek.class));
         }
     }
 
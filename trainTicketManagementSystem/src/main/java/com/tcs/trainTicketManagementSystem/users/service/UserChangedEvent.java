@@ -0,0 +1,11 @@
+package com.tcs.trainTicketManagementSystem.users.service;
+
+import com.tcs.trainTicketManagementSystem.users.model.UserRole;
+
+/**
+ * Event published when a user registers, changes role or is deleted.
+ * The previous role is null for a new user and the role is null for a deleted one.
+ * Listeners should react after the publishing transaction commits.
+ */
+public record UserChangedEvent(UserRole previousRole, UserRole role) {
+}
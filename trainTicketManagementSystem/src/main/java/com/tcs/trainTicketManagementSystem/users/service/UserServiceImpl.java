@@ -12,6 +12,7 @@ import com.tcs.trainTicketManagementSystem.users.model.UserRole;
 import com.tcs.trainTicketManagementSystem.users.repository.UserRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -30,10 +31,13 @@ public class UserServiceImpl implements UserService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public UserServiceImpl(UserRepository userRepository, PasswordEncoder passwordEncoder) {
+    public UserServiceImpl(UserRepository userRepository, PasswordEncoder passwordEncoder,
+            ApplicationEventPublisher eventPublisher) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
@@ -60,6 +64,7 @@ public class UserServiceImpl implements UserService {
         user.setRole(request.getRole());
 
         User savedUser = userRepository.save(user);
+        eventPublisher.publishEvent(new UserChangedEvent(null, savedUser.getRole()));
         logger.info("User registered successfully with ID: {}", savedUser.getUserId());
 
         return new UserResponse(savedUser);
@@ -214,6 +219,7 @@ public class UserServiceImpl implements UserService {
         }
 
         // Update user fields
+        UserRole previousRole = user.getRole();
         user.setUsername(request.getUsername());
         user.setEmail(request.getEmail());
         user.setPhone(request.getPhone());
@@ -225,6 +231,9 @@ public class UserServiceImpl implements UserService {
         }
 
         User updatedUser = userRepository.save(user);
+        if (previousRole != updatedUser.getRole()) {
+            eventPublisher.publishEvent(new UserChangedEvent(previousRole, updatedUser.getRole()));
+        }
         logger.info("User updated successfully with ID: {}", updatedUser.getUserId());
 
         return new UserResponse(updatedUser);
@@ -252,12 +261,14 @@ public class UserServiceImpl implements UserService {
     public void deleteUser(Long userId) {
         logger.info("Deleting user with ID: {}", userId);
         
-        if (!userRepository.existsById(userId)) {
-            logger.warn("User not found with ID: {}", userId);
-            throw UserNotFoundException.withId(userId);
-        }
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> {
+                    logger.warn("User not found with ID: {}", userId);
+                    return UserNotFoundException.withId(userId);
+                });
         
         userRepository.deleteById(userId);
+        eventPublisher.publishEvent(new UserChangedEvent(user.getRole(), null));
         logger.info("User deleted successfully with ID: {}", userId);
     }
 
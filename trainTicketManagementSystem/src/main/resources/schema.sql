@@ -2,9 +2,18 @@
 -- This file contains all the SQL DDL statements for creating the database tables
 
 -- Drop tables if they exist (for clean startup)
+DROP TABLE IF EXISTS booking_rollup;
+DROP TABLE IF EXISTS idempotency_record;
+DROP TABLE IF EXISTS seat_hold;
+DROP TABLE IF EXISTS seat_quota;
+DROP TABLE IF EXISTS seat_segment;
+DROP TABLE IF EXISTS seat_inventory;
 DROP TABLE IF EXISTS passenger;
 DROP TABLE IF EXISTS booking;
+DROP TABLE IF EXISTS coach;
 DROP TABLE IF EXISTS fare_type;
+DROP TABLE IF EXISTS train_run_exception;
+DROP TABLE IF EXISTS train_stop;
 DROP TABLE IF EXISTS train_schedule;
 DROP TABLE IF EXISTS train;
 DROP TABLE IF EXISTS users;
@@ -29,7 +38,8 @@ CREATE TABLE train (
     departure_time TIME NOT NULL,
     journey_hours INT NOT NULL,
     journey_minutes INT NOT NULL,
-    status VARCHAR(10) DEFAULT 'ACTIVE'
+    status VARCHAR(10) DEFAULT 'ACTIVE',
+    running_days INT DEFAULT 0 NOT NULL -- days the train runs on, bit 0 = MON ... bit 6 = SUN
 );
 
 -- 3. TrainSchedule table
@@ -40,6 +50,29 @@ CREATE TABLE train_schedule (
     FOREIGN KEY (train_id) REFERENCES train(train_id) ON DELETE CASCADE
 );
 
+-- 3a. TrainRunException table (dated runs added to or cancelled from the weekly schedule)
+CREATE TABLE train_run_exception (
+    exception_id INT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    train_id INT NOT NULL,
+    run_date DATE NOT NULL,
+    exception_type VARCHAR(10) NOT NULL,
+    reason VARCHAR(200),
+    CONSTRAINT uk_train_run_exception_train_date UNIQUE (train_id, run_date),
+    FOREIGN KEY (train_id) REFERENCES train(train_id) ON DELETE CASCADE
+);
+
+-- 3b. TrainStop table (ordered stops, first = source and last = destination; offsets in minutes from departure)
+CREATE TABLE train_stop (
+    stop_id INT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    train_id INT NOT NULL,
+    stop_sequence INT NOT NULL,
+    station VARCHAR(100) NOT NULL,
+    arrival_offset_minutes INT NOT NULL,
+    departure_offset_minutes INT NOT NULL,
+    CONSTRAINT uk_train_stop_train_sequence UNIQUE (train_id, stop_sequence),
+    FOREIGN KEY (train_id) REFERENCES train(train_id) ON DELETE CASCADE
+);
+
 -- 4. FareType table
 CREATE TABLE fare_type (
     fare_type_id INT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
@@ -50,6 +83,17 @@ CREATE TABLE fare_type (
     FOREIGN KEY (train_id) REFERENCES train(train_id) ON DELETE CASCADE
 );
 
+-- 4a. Coach table (coaches of a fare type; berth types follow the class layout)
+CREATE TABLE coach (
+    coach_id INT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    fare_type_id INT NOT NULL,
+    coach_sequence INT NOT NULL,
+    coach_number VARCHAR(5) NOT NULL,
+    berth_count INT NOT NULL,
+    CONSTRAINT uk_coach_fare_type_sequence UNIQUE (fare_type_id, coach_sequence),
+    FOREIGN KEY (fare_type_id) REFERENCES fare_type(fare_type_id) ON DELETE CASCADE
+);
+
 -- 5. Booking table
 CREATE TABLE booking (
     booking_id INT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
@@ -60,6 +104,9 @@ CREATE TABLE booking (
     booking_date DATE DEFAULT CURRENT_DATE,
     total_fare DECIMAL(10,2) NOT NULL,
     status VARCHAR(15) DEFAULT 'CONFIRMED',
+    from_stop INT, -- boarding stop sequence, NULL for the whole route
+    to_stop INT, -- alighting stop sequence, NULL for the whole route
+    quota VARCHAR(10) DEFAULT 'GENERAL' NOT NULL,
     FOREIGN KEY (user_id) REFERENCES users(user_id),
     FOREIGN KEY (train_id) REFERENCES train(train_id),
     FOREIGN KEY (fare_type_id) REFERENCES fare_type(fare_type_id)
@@ -73,20 +120,110 @@ CREATE TABLE passenger (
     age INT NOT NULL,
     gender VARCHAR(10),
     id_proof VARCHAR(50) NOT NULL,
+    seat_number INT, -- seat across the fare type's coaches (NULL for bookings made before seat allocation)
+    coach VARCHAR(5),
+    berth_number INT,
+    berth_type VARCHAR(12),
+    berth_preference VARCHAR(10),
     FOREIGN KEY (booking_id) REFERENCES booking(booking_id) ON DELETE CASCADE
 );
 
+-- 7. SeatInventory table (seats per fare type and journey date)
+CREATE TABLE seat_inventory (
+    inventory_id INT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    fare_type_id INT NOT NULL,
+    journey_date DATE NOT NULL,
+    total_seats INT NOT NULL,
+    seats_available INT NOT NULL,
+    segment_version BIGINT DEFAULT 0 NOT NULL, -- changes with every seat_segment write of the fare type and date
+    quotas_carved BOOLEAN DEFAULT FALSE NOT NULL, -- seats_available is the general pool once the seat_quota rows are carved out
+    CONSTRAINT uk_seat_inventory_fare_date UNIQUE (fare_type_id, journey_date),
+    CONSTRAINT chk_seat_inventory_available CHECK (seats_available >= 0 AND seats_available <= total_seats),
+    FOREIGN KEY (fare_type_id) REFERENCES fare_type(fare_type_id) ON DELETE CASCADE
+);
+
+-- 7a. SeatSegment table (seats sold for a journey date; bit i = segment from stop i to stop i + 1, all bits for the whole route)
+CREATE TABLE seat_segment (
+    fare_type_id INT NOT NULL,
+    journey_date DATE NOT NULL,
+    seat_number INT NOT NULL,
+    occupied_segments BIGINT NOT NULL,
+    PRIMARY KEY (fare_type_id, journey_date, seat_number),
+    FOREIGN KEY (fare_type_id) REFERENCES fare_type(fare_type_id) ON DELETE CASCADE
+);
+
+-- 7b. SeatQuota table (unsold seats of each quota per fare type and journey date; closed quotas went back to general)
+CREATE TABLE seat_quota (
+    seat_quota_id INT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    fare_type_id INT NOT NULL,
+    journey_date DATE NOT NULL,
+    quota VARCHAR(10) NOT NULL,
+    total_seats INT NOT NULL,
+    seats_available INT NOT NULL,
+    closed BOOLEAN DEFAULT FALSE NOT NULL,
+    CONSTRAINT uk_seat_quota_fare_date_quota UNIQUE (fare_type_id, journey_date, quota),
+    CONSTRAINT chk_seat_quota_available CHECK (seats_available >= 0 AND seats_available <= total_seats),
+    FOREIGN KEY (fare_type_id) REFERENCES fare_type(fare_type_id) ON DELETE CASCADE
+);
+
+-- 8. SeatHold table (seats reserved ahead of a booking)
+CREATE TABLE seat_hold (
+    hold_id INT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    user_id INT NOT NULL,
+    train_id INT NOT NULL,
+    fare_type_id INT NOT NULL,
+    journey_date DATE NOT NULL,
+    seats INT NOT NULL,
+    status VARCHAR(15) NOT NULL DEFAULT 'HELD',
+    created_at TIMESTAMP NOT NULL,
+    expires_at TIMESTAMP NOT NULL,
+    booking_id INT,
+    FOREIGN KEY (user_id) REFERENCES users(user_id),
+    FOREIGN KEY (train_id) REFERENCES train(train_id),
+    FOREIGN KEY (fare_type_id) REFERENCES fare_type(fare_type_id),
+    FOREIGN KEY (booking_id) REFERENCES booking(booking_id) ON DELETE SET NULL
+);
+
+-- 9. IdempotencyRecord table (stored responses of retried write requests)
+CREATE TABLE idempotency_record (
+    idempotency_key VARCHAR(100) PRIMARY KEY,
+    request_hash VARCHAR(64) NOT NULL,
+    http_status INT NOT NULL,
+    response_body CLOB,
+    created_at TIMESTAMP NOT NULL
+);
+
+-- 10. BookingRollup table (bookings, passengers and fares per booking date, fare type and status; rebuilt from booking on startup)
+CREATE TABLE booking_rollup (
+    rollup_id INT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    bucket_date DATE NOT NULL,
+    fare_type_id INT NOT NULL,
+    status VARCHAR(15) NOT NULL,
+    bookings INT NOT NULL,
+    passengers INT NOT NULL,
+    total_fare DECIMAL(14,2) NOT NULL,
+    CONSTRAINT uk_booking_rollup_bucket UNIQUE (bucket_date, fare_type_id, status)
+);
+
 -- Create indexes for better performance
 CREATE INDEX idx_users_username ON users(username);
 CREATE INDEX idx_users_email ON users(email);
 CREATE INDEX idx_users_role ON users(role);
 CREATE INDEX idx_train_source_destination ON train(source, destination);
 CREATE INDEX idx_train_schedule_train_day ON train_schedule(train_id, day_of_week);
+CREATE INDEX idx_train_run_exception_date ON train_run_exception(run_date);
+CREATE INDEX idx_train_stop_station ON train_stop(station);
 CREATE INDEX idx_fare_type_train ON fare_type(train_id);
 CREATE INDEX idx_booking_user ON booking(user_id);
 CREATE INDEX idx_booking_train ON booking(train_id);
 CREATE INDEX idx_booking_journey_date ON booking(journey_date);
+CREATE INDEX idx_booking_booking_date ON booking(booking_date);
+CREATE INDEX idx_booking_fare_type ON booking(fare_type_id);
+CREATE INDEX idx_booking_status ON booking(status);
 CREATE INDEX idx_passenger_booking ON passenger(booking_id);
+CREATE INDEX idx_seat_quota_quota_date ON seat_quota(quota, journey_date);
+CREATE INDEX idx_seat_hold_status ON seat_hold(status);
+CREATE INDEX idx_idempotency_record_created ON idempotency_record(created_at);
 
 -- Insert sample data for testing (optional)
 -- Sample admin user (password: Admin@123 - BCrypt encrypted)
@@ -229,6 +366,29 @@ INSERT INTO train_schedule (train_id, day_of_week) VALUES (21, 'TUE');
 INSERT INTO train_schedule (train_id, day_of_week) VALUES (21, 'SUN');
 INSERT INTO train_schedule (train_id, day_of_week) VALUES (21, 'FRI');
 
+-- Migrate train_schedule rows into the running_days bitmask (safe to re-run)
+UPDATE train t SET running_days = (
+    SELECT COALESCE(SUM(DISTINCT CASE s.day_of_week
+        WHEN 'MON' THEN 1 WHEN 'TUE' THEN 2 WHEN 'WED' THEN 4 WHEN 'THU' THEN 8
+        WHEN 'FRI' THEN 16 WHEN 'SAT' THEN 32 WHEN 'SUN' THEN 64 ELSE 0 END), 0)
+    FROM train_schedule s WHERE s.train_id = t.train_id);
+
+-- Every train stops at its source and destination
+INSERT INTO train_stop (train_id, stop_sequence, station, arrival_offset_minutes, departure_offset_minutes)
+SELECT train_id, 0, source, 0, 0 FROM train;
+INSERT INTO train_stop (train_id, stop_sequence, station, arrival_offset_minutes, departure_offset_minutes)
+SELECT train_id, 1, destination, journey_hours * 60 + journey_minutes, journey_hours * 60 + journey_minutes FROM train;
+
+-- Lay every fare type out in full coaches of its class, the last coach holding the remainder
+INSERT INTO coach (fare_type_id, coach_sequence, coach_number, berth_count)
+SELECT f.fare_type_id, r.X, CONCAT(f.prefix, r.X), LEAST(f.capacity, f.seats_available - (r.X - 1) * f.capacity)
+FROM (SELECT fare_type_id, seats_available,
+        CASE class_type WHEN '1AC' THEN 'H' WHEN '2AC' THEN 'A' WHEN '3AC' THEN 'B' WHEN 'SL' THEN 'S'
+            WHEN 'Sleeper-AC' THEN 'M' WHEN 'Sleeper-NonAC' THEN 'N' ELSE 'D' END AS prefix,
+        CASE class_type WHEN '1AC' THEN 24 WHEN '2AC' THEN 48 WHEN '3AC' THEN 64 WHEN 'Seat' THEN 108 ELSE 72 END AS capacity
+      FROM fare_type) f
+JOIN SYSTEM_RANGE(1, 100) r ON (r.X - 1) * f.capacity < f.seats_available;
+
 -- Sample booking data with Indian names and cities
 -- Booking 1: Kovil Kumar & Priya Sharma - Delhi to Mumbai
 INSERT INTO booking (user_id, train_id, fare_type_id, journey_date, booking_date, total_fare, status) 
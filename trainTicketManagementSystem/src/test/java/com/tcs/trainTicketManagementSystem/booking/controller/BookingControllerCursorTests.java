@@ -0,0 +1,118 @@
+package com.tcs.trainTicketManagementSystem.booking.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.ResponseEntity;
+
+import com.tcs.trainTicketManagementSystem.booking.dto.BookingCursorPage;
+import com.tcs.trainTicketManagementSystem.booking.dto.BookingRequest;
+import com.tcs.trainTicketManagementSystem.booking.dto.BookingResponse;
+import com.tcs.trainTicketManagementSystem.booking.dto.PassengerRequest;
+import com.tcs.trainTicketManagementSystem.booking.exception.BookingValidationException;
+import com.tcs.trainTicketManagementSystem.booking.service.BookingService;
+import com.tcs.trainTicketManagementSystem.users.dto.UserRegistrationRequest;
+import com.tcs.trainTicketManagementSystem.users.model.UserRole;
+import com.tcs.trainTicketManagementSystem.users.service.UserService;
+
+/**
+ * Verifies that the booking list endpoints page with keyset cursors: the cursor encodes the sort and the last
+ * booking's keys, bookings with equal sort keys are ordered by ID without gaps or repeats across pages, and the
+ * last page carries no cursor.
+ */
+@SpringBootTest
+class BookingControllerCursorTests {
+
+    // Rajdhani Express SL, running on Mondays
+    private static final long TRAIN_ID = 1L;
+    private static final long FARE_TYPE_ID = 3L;
+
+    @Autowired
+    private BookingController bookingController;
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private UserService userService;
+
+    @Test
+    void pagesFollowTheCursorToTheLastPage() {
+        long userId = userService.registerUser(new UserRegistrationRequest("cursor.tester", "Secret@123",
+                "cursor.tester@example.com", "9876500002", UserRole.USER)).getUserId();
+        LocalDate journeyDate = LocalDate.now().plusWeeks(11).with(TemporalAdjusters.next(DayOfWeek.MONDAY));
+        // Five bookings share the journey date and all six share the booking date, so only the ID tells them apart
+        List<Long> bookingIds = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            bookingIds.add(book(userId, journeyDate, i));
+        }
+        bookingIds.add(book(userId, journeyDate.plusWeeks(1), 5));
+
+        List<BookingResponse> seen = new ArrayList<>();
+        String after = null;
+        int pages = 0;
+        do {
+            ResponseEntity<BookingCursorPage> response = bookingController.getBookingsByUserId(userId, after, 2,
+                    "journeyDate,asc");
+            BookingCursorPage page = response.getBody();
+            assertThat(page.getContent()).hasSize(2);
+            assertThat(response.getHeaders().getFirst("X-Next-Cursor")).isEqualTo(page.getNextCursor());
+            if (page.getNextCursor() != null) {
+                BookingResponse last = page.getContent().get(1);
+                assertThat(decode(page.getNextCursor()))
+                        .isEqualTo("journeyDate:ASC:" + last.getJourneyDate() + ":" + last.getBookingId());
+            }
+            seen.addAll(page.getContent());
+            after = page.getNextCursor();
+            pages++;
+        } while (after != null);
+
+        // A full last page still ends the list
+        assertThat(pages).isEqualTo(3);
+        assertThat(seen).extracting(BookingResponse::getBookingId).containsExactlyElementsOf(bookingIds);
+
+        // Newest first by default, ties broken by the newest ID
+        BookingCursorPage newest = bookingController.getBookingsByUserId(userId, null, 10, null).getBody();
+        assertThat(newest.getContent()).extracting(BookingResponse::getBookingId)
+                .containsExactlyElementsOf(bookingIds.stream().sorted(Comparator.reverseOrder()).toList());
+        assertThat(newest.getNextCursor()).isNull();
+        assertThat(newest.isHasMore()).isFalse();
+    }
+
+    @Test
+    void cursorIsOnlyAcceptedForItsOwnSort() {
+        BookingCursorPage page = bookingController.getAllBookings(null, 1, "journeyDate,desc").getBody();
+        String cursor = page.getNextCursor();
+        assertThat(cursor).isNotNull();
+
+        assertThatThrownBy(() -> bookingController.getAllBookings(cursor, 1, "journeyDate,asc"))
+                .isInstanceOf(BookingValidationException.class);
+        assertThatThrownBy(() -> bookingController.getAllBookings(cursor, 1, "bookingDate,desc"))
+                .isInstanceOf(BookingValidationException.class);
+        assertThatThrownBy(() -> bookingController.getAllBookings("not a cursor", 1, "journeyDate,desc"))
+                .isInstanceOf(BookingValidationException.class);
+    }
+
+    private long book(long userId, LocalDate journeyDate, int index) {
+        return bookingService.createBooking(new BookingRequest(userId, TRAIN_ID, FARE_TYPE_ID, journeyDate,
+                new BigDecimal("800.00"), List.of(new PassengerRequest("Cursor Passenger " + index, 30 + index, "MALE",
+                        "90000000100" + index)))).getBookingId();
+    }
+
+    private static String decode(String cursor) {
+        return new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,116 @@
+package com.tcs.trainTicketManagementSystem.booking.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.tcs.trainTicketManagementSystem.booking.dto.BookingRequest;
+import com.tcs.trainTicketManagementSystem.booking.dto.BookingResponse;
+import com.tcs.trainTicketManagementSystem.booking.dto.PassengerRequest;
+import com.tcs.trainTicketManagementSystem.booking.dto.PassengerResponse;
+import com.tcs.trainTicketManagementSystem.booking.model.BookingRollup;
+import com.tcs.trainTicketManagementSystem.booking.model.BookingStatus;
+import com.tcs.trainTicketManagementSystem.booking.repository.BookingRollupRepository;
+import com.tcs.trainTicketManagementSystem.train.dto.FareTypeRequest;
+import com.tcs.trainTicketManagementSystem.train.dto.TrainRequest;
+import com.tcs.trainTicketManagementSystem.train.model.ClassType;
+import com.tcs.trainTicketManagementSystem.train.model.TrainStatus;
+import com.tcs.trainTicketManagementSystem.train.repository.FareTypeRepository;
+import com.tcs.trainTicketManagementSystem.train.service.TrainService;
+
+/**
+ * Verifies that the rollup buckets follow booking creation, passenger changes and cancellation once flushed,
+ * and agree with a rebuild from the booking table.
+ */
+@SpringBootTest
+class BookingRollupWriterTests {
+
+    private static final BigDecimal FARE = new BigDecimal("600.00");
+
+    @Autowired
+    private BookingRollupWriter bookingRollupWriter;
+
+    @Autowired
+    private BookingRollupRepository bookingRollupRepository;
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private TrainService trainService;
+
+    @Autowired
+    private FareTypeRepository fareTypeRepository;
+
+    @Test
+    void bucketsFollowBookingChangesAndMatchRebuild() {
+        // A fare type of its own keeps other tests' bookings out of these buckets
+        long trainId = trainService.createTrain(rollupTrain()).getTrainId();
+        long fareTypeId = fareTypeRepository.findByTrainTrainId(trainId).get(0).getFareTypeId();
+        LocalDate journeyDate = LocalDate.now().plusWeeks(2).with(TemporalAdjusters.next(DayOfWeek.MONDAY));
+
+        BookingResponse booking = bookingService.createBooking(new BookingRequest(2L, trainId, fareTypeId, journeyDate,
+                FARE, List.of(new PassengerRequest("Meera Iyer", 41, "FEMALE", "900000000701"),
+                        new PassengerRequest("Ravi Iyer", 44, "MALE", "900000000702"))));
+        bookingRollupWriter.flush();
+        assertBucket(fareTypeId, BookingStatus.CONFIRMED, 1, 2, FARE);
+
+        PassengerResponse added = bookingService.addPassengerToBooking(booking.getBookingId(),
+                new PassengerRequest("Anu Iyer", 12, "FEMALE", "900000000703"));
+        bookingRollupWriter.flush();
+        assertBucket(fareTypeId, BookingStatus.CONFIRMED, 1, 3, FARE);
+
+        // Deltas collected across several changes are written in one flush
+        bookingService.deletePassenger(added.getPassengerId());
+        bookingService.cancelBooking(booking.getBookingId());
+        bookingRollupWriter.flush();
+        assertBucket(fareTypeId, BookingStatus.CONFIRMED, 0, 0, BigDecimal.ZERO);
+        BookingRollup cancelled = bucket(fareTypeId, BookingStatus.CANCELLED);
+        assertThat(cancelled.getBookings()).isEqualTo(1);
+        assertThat(cancelled.getPassengers()).isEqualTo(2);
+
+        // A rebuild only keeps buckets with bookings in them, and otherwise finds nothing to correct
+        bookingRollupWriter.reconcile();
+        assertThat(buckets(fareTypeId)).singleElement().usingRecursiveComparison()
+                .ignoringFields("rollupId")
+                .withComparatorForType(BigDecimal::compareTo, BigDecimal.class)
+                .isEqualTo(cancelled);
+    }
+
+    private void assertBucket(long fareTypeId, BookingStatus status, int bookings, int passengers, BigDecimal totalFare) {
+        BookingRollup bucket = bucket(fareTypeId, status);
+        assertThat(bucket.getBookings()).isEqualTo(bookings);
+        assertThat(bucket.getPassengers()).isEqualTo(passengers);
+        assertThat(bucket.getTotalFare()).isEqualByComparingTo(totalFare);
+    }
+
+    private BookingRollup bucket(long fareTypeId, BookingStatus status) {
+        return buckets(fareTypeId).stream()
+                .filter(bucket -> bucket.getStatus() == status)
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private List<BookingRollup> buckets(long fareTypeId) {
+        return bookingRollupRepository.findAll().stream()
+                .filter(bucket -> bucket.getFareTypeId() == fareTypeId && LocalDate.now().equals(bucket.getBucketDate()))
+                .toList();
+    }
+
+    private static TrainRequest rollupTrain() {
+        TrainRequest request = new TrainRequest("Rollup Test Express", "Madurai", "Rameswaram", LocalTime.of(6, 0), 4, 0,
+                TrainStatus.ACTIVE);
+        request.setScheduleDays(List.of("MONDAY"));
+        request.setFareTypes(List.of(new FareTypeRequest(ClassType.SL, new BigDecimal("300.00"), 50)));
+        return request;
+    }
+}
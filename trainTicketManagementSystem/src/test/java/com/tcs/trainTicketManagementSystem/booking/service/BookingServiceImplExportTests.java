@@ -0,0 +1,112 @@
+package com.tcs.trainTicketManagementSystem.booking.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tcs.trainTicketManagementSystem.booking.dto.BookingExportFormat;
+import com.tcs.trainTicketManagementSystem.booking.dto.BookingRequest;
+import com.tcs.trainTicketManagementSystem.booking.dto.PassengerRequest;
+import com.tcs.trainTicketManagementSystem.booking.exception.BookingValidationException;
+import com.tcs.trainTicketManagementSystem.train.dto.FareTypeRequest;
+import com.tcs.trainTicketManagementSystem.train.dto.TrainRequest;
+import com.tcs.trainTicketManagementSystem.train.model.ClassType;
+import com.tcs.trainTicketManagementSystem.train.model.TrainStatus;
+import com.tcs.trainTicketManagementSystem.train.repository.FareTypeRepository;
+import com.tcs.trainTicketManagementSystem.train.service.TrainService;
+
+/**
+ * Verifies that the booking export writes one row per passenger for bookings booked in the range, as one JSON
+ * object per line or as CSV with a header and RFC 4180 quoting, and that an unknown format is refused.
+ */
+@SpringBootTest
+class BookingServiceImplExportTests {
+
+    private static final String TRAIN_NAME = "Export, Test Express";
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private TrainService trainService;
+
+    @Autowired
+    private FareTypeRepository fareTypeRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void exportWritesOneRowPerPassenger() throws IOException {
+        TrainRequest train = new TrainRequest(TRAIN_NAME, "Jammu", "Katra", LocalTime.of(5, 0), 2, 0, TrainStatus.ACTIVE);
+        train.setScheduleDays(List.of("MON", "TUE", "WED", "THU", "FRI", "SAT", "SUN"));
+        train.setFareTypes(List.of(new FareTypeRequest(ClassType.SL, new BigDecimal("90.00"), 20)));
+        long trainId = trainService.createTrain(train).getTrainId();
+        long fareTypeId = fareTypeRepository.findByTrainTrainId(trainId).get(0).getFareTypeId();
+        long bookingId = bookingService.createBooking(new BookingRequest(2L, trainId, fareTypeId,
+                LocalDate.now().plusWeeks(3), new BigDecimal("180.00"),
+                List.of(new PassengerRequest("Ravi \"R\" Nair", 52, "MALE", "900000001201"),
+                        new PassengerRequest("Lata Nair", 49, "FEMALE", "900000001202")))).getBookingId();
+        LocalDate today = LocalDate.now();
+
+        ByteArrayOutputStream ndjson = new ByteArrayOutputStream();
+        long rows = bookingService.exportBookings(today, today, BookingExportFormat.NDJSON, ndjson);
+        List<String> lines = lines(ndjson);
+        assertThat(lines).hasSize((int) rows);
+        List<JsonNode> ours = new ArrayList<>();
+        for (String line : lines) {
+            JsonNode row = objectMapper.readTree(line);
+            if (row.get("bookingId").asLong() == bookingId) {
+                ours.add(row);
+            }
+        }
+        assertThat(ours).extracting(row -> row.get("passengerName").asText())
+                .containsExactly("Ravi \"R\" Nair", "Lata Nair");
+        assertThat(ours).allSatisfy(row -> {
+            assertThat(row.get("trainName").asText()).isEqualTo(TRAIN_NAME);
+            assertThat(row.get("totalFare").decimalValue()).isEqualByComparingTo("180.00");
+        });
+
+        ByteArrayOutputStream csv = new ByteArrayOutputStream();
+        assertThat(bookingService.exportBookings(today, today, BookingExportFormat.CSV, csv)).isEqualTo(rows);
+        List<String> csvLines = lines(csv);
+        assertThat(csvLines).hasSize((int) rows + 1);
+        assertThat(csvLines.get(0)).startsWith("bookingId,bookingDate,journeyDate,status,totalFare");
+        assertThat(csvLines).filteredOn(line -> line.startsWith(bookingId + ","))
+                .hasSize(2)
+                .allSatisfy(line -> assertThat(line).contains(",\"" + TRAIN_NAME + "\",Jammu,Katra,"))
+                .anySatisfy(line -> assertThat(line).endsWith(",\"Ravi \"\"R\"\" Nair\",52,MALE"));
+
+        // Bookings made today are outside a range that ends yesterday
+        ByteArrayOutputStream before = new ByteArrayOutputStream();
+        bookingService.exportBookings(today.minusDays(7), today.minusDays(1), BookingExportFormat.NDJSON, before);
+        assertThat(lines(before)).noneSatisfy(line -> assertThat(line).contains(TRAIN_NAME));
+    }
+
+    @Test
+    void unknownFormatIsRefused() {
+        assertThat(BookingExportFormat.fromValue("csv")).isEqualTo(BookingExportFormat.CSV);
+        assertThatThrownBy(() -> BookingExportFormat.fromValue("xml"))
+                .isInstanceOf(BookingValidationException.class)
+                .hasMessageContaining("ndjson, csv");
+    }
+
+    private static List<String> lines(ByteArrayOutputStream output) {
+        String text = output.toString(StandardCharsets.UTF_8);
+        return text.isEmpty() ? List.of() : List.of(text.split("\n"));
+    }
+}
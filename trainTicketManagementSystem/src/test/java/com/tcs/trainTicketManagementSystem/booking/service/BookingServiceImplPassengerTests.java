@@ -0,0 +1,80 @@
+package com.tcs.trainTicketManagementSystem.booking.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.tcs.trainTicketManagementSystem.booking.dto.BookingRequest;
+import com.tcs.trainTicketManagementSystem.booking.dto.BookingResponse;
+import com.tcs.trainTicketManagementSystem.booking.dto.PassengerRequest;
+import com.tcs.trainTicketManagementSystem.booking.dto.PassengerResponse;
+import com.tcs.trainTicketManagementSystem.booking.model.SeatSegment;
+import com.tcs.trainTicketManagementSystem.booking.repository.PassengerRepository;
+import com.tcs.trainTicketManagementSystem.booking.repository.SeatSegmentRepository;
+
+/**
+ * Verifies that adding and removing passengers keeps passenger rows and seat inventory in step.
+ */
+@SpringBootTest
+class BookingServiceImplPassengerTests {
+
+    // Rajdhani Express SL, running on Mondays
+    private static final long TRAIN_ID = 1L;
+    private static final long FARE_TYPE_ID = 3L;
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private PassengerRepository passengerRepository;
+
+    @Autowired
+    private SeatSegmentRepository seatSegmentRepository;
+
+    @Test
+    void deletePassengerRemovesRowAndFreesSeat() {
+        LocalDate journeyDate = LocalDate.now().plusWeeks(3).with(TemporalAdjusters.next(DayOfWeek.MONDAY));
+        BookingResponse booking = bookingService.createBooking(bookingRequest(journeyDate,
+                new PassengerRequest("Asha Rao", 34, "FEMALE", "900000000001"),
+                new PassengerRequest("Vivek Rao", 36, "MALE", "900000000002")));
+        int availableAfterBooking = bookingService.getAvailableSeats(FARE_TYPE_ID, journeyDate);
+        PassengerResponse removed = booking.getPassengers().get(0);
+
+        bookingService.deletePassenger(removed.getPassengerId());
+
+        assertThat(passengerRepository.existsById(removed.getPassengerId())).isFalse();
+        assertThat(passengerRepository.countByBooking_BookingId(booking.getBookingId())).isEqualTo(1);
+        assertThat(bookingService.getAvailableSeats(FARE_TYPE_ID, journeyDate)).isEqualTo(availableAfterBooking + 1);
+        assertThat(seatSegmentRepository.findByFareTypeIdAndJourneyDate(FARE_TYPE_ID, journeyDate))
+                .extracting(SeatSegment::getSeatNumber)
+                .doesNotContain(removed.getSeatNumber())
+                .contains(booking.getPassengers().get(1).getSeatNumber());
+    }
+
+    @Test
+    void addPassengerTakesSeat() {
+        LocalDate journeyDate = LocalDate.now().plusWeeks(4).with(TemporalAdjusters.next(DayOfWeek.MONDAY));
+        BookingResponse booking = bookingService.createBooking(bookingRequest(journeyDate,
+                new PassengerRequest("Meena Pillai", 41, "FEMALE", "900000000003")));
+        int availableAfterBooking = bookingService.getAvailableSeats(FARE_TYPE_ID, journeyDate);
+
+        PassengerResponse added = bookingService.addPassengerToBooking(booking.getBookingId(),
+                new PassengerRequest("Gopal Pillai", 44, "MALE", "900000000004"));
+
+        assertThat(added.getSeatNumber()).isNotNull().isNotEqualTo(booking.getPassengers().get(0).getSeatNumber());
+        assertThat(passengerRepository.countByBooking_BookingId(booking.getBookingId())).isEqualTo(2);
+        assertThat(bookingService.getAvailableSeats(FARE_TYPE_ID, journeyDate)).isEqualTo(availableAfterBooking - 1);
+    }
+
+    private BookingRequest bookingRequest(LocalDate journeyDate, PassengerRequest... passengers) {
+        return new BookingRequest(2L, TRAIN_ID, FARE_TYPE_ID, journeyDate, new BigDecimal("800.00"), List.of(passengers));
+    }
+}
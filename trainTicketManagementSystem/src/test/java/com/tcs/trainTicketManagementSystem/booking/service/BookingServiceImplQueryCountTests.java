@@ -0,0 +1,74 @@
+package com.tcs.trainTicketManagementSystem.booking.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.tcs.trainTicketManagementSystem.booking.dto.BookingResponse;
+import com.tcs.trainTicketManagementSystem.booking.dto.BookingSearchRequest;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Verifies that booking list reads run a constant number of SQL statements.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class BookingServiceImplQueryCountTests {
+
+    // One statement for bookings with user, train and fare type, one for all their passengers
+    private static final long LIST_STATEMENTS = 2;
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void getAllBookingsRunsConstantStatements() {
+        List<BookingResponse> bookings = countStatements(() -> bookingService.getAllBookings());
+
+        assertThat(bookings).hasSizeGreaterThan(1);
+        assertThat(bookings).allSatisfy(booking -> assertThat(booking.getPassengers()).isNotNull());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(LIST_STATEMENTS);
+    }
+
+    @Test
+    void getBookingsByUserIdRunsConstantStatements() {
+        List<BookingResponse> bookings = countStatements(() -> bookingService.getBookingsByUserId(2L));
+
+        assertThat(bookings).hasSizeGreaterThan(1);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(LIST_STATEMENTS);
+    }
+
+    @Test
+    void searchBookingsRunsConstantStatements() {
+        BookingSearchRequest searchRequest = new BookingSearchRequest();
+        searchRequest.setStatus("CONFIRMED");
+
+        List<BookingResponse> bookings = countStatements(() -> bookingService.searchBookings(searchRequest));
+
+        assertThat(bookings).hasSizeGreaterThan(1);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(LIST_STATEMENTS);
+    }
+
+    private <T> T countStatements(Supplier<T> action) {
+        statistics.clear();
+        return action.get();
+    }
+}
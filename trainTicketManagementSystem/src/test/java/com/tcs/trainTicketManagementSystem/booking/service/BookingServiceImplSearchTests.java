@@ -0,0 +1,99 @@
+package com.tcs.trainTicketManagementSystem.booking.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.tcs.trainTicketManagementSystem.booking.dto.BookingPageResponse;
+import com.tcs.trainTicketManagementSystem.booking.dto.BookingRequest;
+import com.tcs.trainTicketManagementSystem.booking.dto.BookingResponse;
+import com.tcs.trainTicketManagementSystem.booking.dto.BookingSearchRequest;
+import com.tcs.trainTicketManagementSystem.booking.dto.PassengerRequest;
+import com.tcs.trainTicketManagementSystem.booking.exception.BookingValidationException;
+import com.tcs.trainTicketManagementSystem.train.dto.FareTypeRequest;
+import com.tcs.trainTicketManagementSystem.train.dto.TrainRequest;
+import com.tcs.trainTicketManagementSystem.train.model.ClassType;
+import com.tcs.trainTicketManagementSystem.train.model.TrainStatus;
+import com.tcs.trainTicketManagementSystem.train.repository.FareTypeRepository;
+import com.tcs.trainTicketManagementSystem.train.service.TrainService;
+
+/**
+ * Verifies that the booking search applies every given field together, matches text fields by containment,
+ * pages its results newest first, and refuses an unknown status.
+ */
+@SpringBootTest
+class BookingServiceImplSearchTests {
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private TrainService trainService;
+
+    @Autowired
+    private FareTypeRepository fareTypeRepository;
+
+    @Test
+    void searchAppliesEveryGivenField() {
+        TrainRequest train = new TrainRequest("Search Test Express", "Siliguri", "Gangtok", LocalTime.of(6, 30), 4, 0,
+                TrainStatus.ACTIVE);
+        train.setScheduleDays(List.of("MON", "TUE", "WED", "THU", "FRI", "SAT", "SUN"));
+        train.setFareTypes(List.of(new FareTypeRequest(ClassType.SL, new BigDecimal("200.00"), 30)));
+        long trainId = trainService.createTrain(train).getTrainId();
+        long fareTypeId = fareTypeRepository.findByTrainTrainId(trainId).get(0).getFareTypeId();
+        LocalDate early = LocalDate.now().plusWeeks(4);
+        LocalDate late = early.plusWeeks(2);
+
+        long earlyBooking = book(trainId, fareTypeId, early);
+        long lateBooking = book(trainId, fareTypeId, late);
+        long cancelled = book(trainId, fareTypeId, late);
+        bookingService.cancelBooking(cancelled);
+
+        BookingSearchRequest byTrain = new BookingSearchRequest();
+        byTrain.setTrainName("Search Test");
+        assertThat(ids(bookingService.searchBookings(byTrain))).containsExactly(cancelled, lateBooking, earlyBooking);
+
+        BookingSearchRequest combined = new BookingSearchRequest();
+        combined.setSource(" Silig ");
+        combined.setDestination("tok");
+        combined.setStatus("confirmed");
+        combined.setJourneyDateFrom(early.plusDays(1));
+        combined.setUsername("user");
+        assertThat(ids(bookingService.searchBookings(combined))).containsExactly(lateBooking);
+
+        BookingSearchRequest byFareType = new BookingSearchRequest();
+        byFareType.setFareTypeId(fareTypeId);
+        byFareType.setJourneyDateTo(early);
+        assertThat(ids(bookingService.searchBookings(byFareType))).containsExactly(earlyBooking);
+
+        // Pages run newest first across the whole match
+        BookingSearchRequest byTrainId = new BookingSearchRequest();
+        byTrainId.setTrainId(trainId);
+        BookingPageResponse second = bookingService.searchBookings(byTrainId, 1, 2);
+        assertThat(second.getTotalElements()).isEqualTo(3);
+        assertThat(second.getTotalPages()).isEqualTo(2);
+        assertThat(ids(second.getContent())).containsExactly(earlyBooking);
+
+        BookingSearchRequest unknownStatus = new BookingSearchRequest();
+        unknownStatus.setStatus("LOST");
+        assertThatThrownBy(() -> bookingService.searchBookings(unknownStatus))
+                .isInstanceOf(BookingValidationException.class);
+    }
+
+    private long book(long trainId, long fareTypeId, LocalDate journeyDate) {
+        return bookingService.createBooking(new BookingRequest(2L, trainId, fareTypeId, journeyDate, new BigDecimal("200.00"),
+                List.of(new PassengerRequest("Search Passenger", 36, "FEMALE", "900000001101")))).getBookingId();
+    }
+
+    private static List<Long> ids(List<BookingResponse> bookings) {
+        return bookings.stream().map(BookingResponse::getBookingId).toList();
+    }
+}
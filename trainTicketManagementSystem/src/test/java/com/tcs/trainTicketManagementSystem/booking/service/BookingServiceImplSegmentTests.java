@@ -0,0 +1,106 @@
+package com.tcs.trainTicketManagementSystem.booking.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.tcs.trainTicketManagementSystem.booking.dto.BookingRequest;
+import com.tcs.trainTicketManagementSystem.booking.dto.BookingResponse;
+import com.tcs.trainTicketManagementSystem.booking.dto.PassengerRequest;
+import com.tcs.trainTicketManagementSystem.booking.model.SeatSegment;
+import com.tcs.trainTicketManagementSystem.booking.repository.SeatSegmentRepository;
+import com.tcs.trainTicketManagementSystem.train.dto.FareTypeRequest;
+import com.tcs.trainTicketManagementSystem.train.dto.TrainRequest;
+import com.tcs.trainTicketManagementSystem.train.dto.TrainStopRequest;
+import com.tcs.trainTicketManagementSystem.train.model.ClassType;
+import com.tcs.trainTicketManagementSystem.train.model.TrainStatus;
+import com.tcs.trainTicketManagementSystem.train.repository.FareTypeRepository;
+import com.tcs.trainTicketManagementSystem.train.service.TrainService;
+
+/**
+ * Verifies that part-route bookings share a seat across journeys that do not overlap, take a fresh seat when they
+ * do, and that cancelling frees only the cancelled segments.
+ */
+@SpringBootTest
+class BookingServiceImplSegmentTests {
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private TrainService trainService;
+
+    @Autowired
+    private FareTypeRepository fareTypeRepository;
+
+    @Autowired
+    private SeatSegmentRepository seatSegmentRepository;
+
+    @Test
+    void partRouteBookingsShareSeatsAndReleaseTheirSegments() {
+        // Ahmedpur -> Bhojpur -> Chandpur -> Devgarh, Mondays
+        long trainId = trainService.createTrain(segmentTrain()).getTrainId();
+        long fareTypeId = fareTypeRepository.findByTrainTrainId(trainId).get(0).getFareTypeId();
+        LocalDate journeyDate = LocalDate.now().plusWeeks(5).with(TemporalAdjusters.next(DayOfWeek.MONDAY));
+        int fullyFree = bookingService.getAvailableSeats(fareTypeId, journeyDate);
+
+        BookingResponse firstLeg = book(trainId, fareTypeId, journeyDate, "Ahmedpur", "Bhojpur", "Lata Joshi");
+        int seat = seatNumber(firstLeg);
+        assertThat(bookingService.getAvailableSeats(fareTypeId, journeyDate)).isEqualTo(fullyFree - 1);
+
+        // Chandpur -> Devgarh fits the same seat, so no fully free seat is split
+        BookingResponse lastLeg = book(trainId, fareTypeId, journeyDate, "Chandpur", "Devgarh", "Mohan Das");
+        assertThat(seatNumber(lastLeg)).isEqualTo(seat);
+        assertThat(bookingService.getAvailableSeats(fareTypeId, journeyDate)).isEqualTo(fullyFree - 1);
+
+        // Bhojpur -> Devgarh overlaps Chandpur -> Devgarh and needs another seat
+        BookingResponse overlapping = book(trainId, fareTypeId, journeyDate, "Bhojpur", "Devgarh", "Irfan Ali");
+        assertThat(seatNumber(overlapping)).isNotEqualTo(seat);
+        assertThat(bookingService.getAvailableSeats(fareTypeId, journeyDate)).isEqualTo(fullyFree - 2);
+
+        // Cancelling the first leg leaves the seat partly sold, and Ahmedpur -> Chandpur now fits it
+        bookingService.cancelBooking(firstLeg.getBookingId());
+        assertThat(bookingService.getAvailableSeats(fareTypeId, journeyDate)).isEqualTo(fullyFree - 2);
+        BookingResponse reused = book(trainId, fareTypeId, journeyDate, "Ahmedpur", "Chandpur", "Pooja Nair");
+        assertThat(seatNumber(reused)).isEqualTo(seat);
+
+        // Once every journey on the seat is cancelled it is fully free again
+        bookingService.cancelBooking(lastLeg.getBookingId());
+        bookingService.cancelBooking(reused.getBookingId());
+        assertThat(bookingService.getAvailableSeats(fareTypeId, journeyDate)).isEqualTo(fullyFree - 1);
+        assertThat(seatSegmentRepository.findByFareTypeIdAndJourneyDate(fareTypeId, journeyDate))
+                .extracting(SeatSegment::getSeatNumber)
+                .containsExactly(seatNumber(overlapping));
+    }
+
+    private BookingResponse book(long trainId, long fareTypeId, LocalDate journeyDate, String boarding, String alighting,
+            String passengerName) {
+        BookingRequest request = new BookingRequest(2L, trainId, fareTypeId, journeyDate, new BigDecimal("300.00"),
+                List.of(new PassengerRequest(passengerName, 40, "FEMALE", "900000000301")));
+        request.setBoardingStation(boarding);
+        request.setAlightingStation(alighting);
+        return bookingService.createBooking(request);
+    }
+
+    private static int seatNumber(BookingResponse booking) {
+        return booking.getPassengers().get(0).getSeatNumber();
+    }
+
+    private static TrainRequest segmentTrain() {
+        TrainRequest request = new TrainRequest("Segment Test Express", "Ahmedpur", "Devgarh", LocalTime.of(6, 0), 6, 0,
+                TrainStatus.ACTIVE);
+        request.setStops(List.of(new TrainStopRequest("Bhojpur", 120, 125), new TrainStopRequest("Chandpur", 240, 245)));
+        request.setScheduleDays(List.of("MONDAY"));
+        request.setFareTypes(List.of(new FareTypeRequest(ClassType.SL, new BigDecimal("300.00"), 20)));
+        return request;
+    }
+}
@@ -0,0 +1,121 @@
+package com.tcs.trainTicketManagementSystem.booking.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.tcs.trainTicketManagementSystem.booking.dto.BookingRequest;
+import com.tcs.trainTicketManagementSystem.booking.dto.PassengerRequest;
+import com.tcs.trainTicketManagementSystem.booking.model.Passenger;
+import com.tcs.trainTicketManagementSystem.booking.repository.PassengerRepository;
+import com.tcs.trainTicketManagementSystem.booking.service.BookingService.BookingStatistics;
+import com.tcs.trainTicketManagementSystem.booking.service.BookingService.PassengerStatistics;
+import com.tcs.trainTicketManagementSystem.train.dto.FareTypeRequest;
+import com.tcs.trainTicketManagementSystem.train.dto.TrainRequest;
+import com.tcs.trainTicketManagementSystem.train.model.ClassType;
+import com.tcs.trainTicketManagementSystem.train.model.TrainStatus;
+import com.tcs.trainTicketManagementSystem.train.repository.FareTypeRepository;
+import com.tcs.trainTicketManagementSystem.train.service.TrainService;
+import com.tcs.trainTicketManagementSystem.users.dto.UserRegistrationRequest;
+import com.tcs.trainTicketManagementSystem.users.model.UserRole;
+import com.tcs.trainTicketManagementSystem.users.service.UserService;
+
+/**
+ * Verifies that the booking and passenger statistics count the same rows the per-field queries do, and that with a
+ * cache TTL configured they are served from the cache until it expires.
+ */
+@SpringBootTest(properties = {
+        "booking.statistics.cache-ttl-ms=600000",
+        // A database of its own, so this context does not reset the one the other tests share
+        "spring.datasource.url=jdbc:h2:mem:statistics"
+})
+class BookingServiceImplStatisticsTests {
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private TrainService trainService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private FareTypeRepository fareTypeRepository;
+
+    @Autowired
+    private PassengerRepository passengerRepository;
+
+    @Test
+    void bookingStatisticsCountTheUsersBookings() {
+        long userId = userService.registerUser(new UserRegistrationRequest("statistics.tester", "Secret@123",
+                "statistics.tester@example.com", "9876500003", UserRole.USER)).getUserId();
+        long fareTypeId = createFareType("Statistics Booking Express");
+        LocalDate journeyDate = LocalDate.now().plusWeeks(3);
+        book(userId, fareTypeId, journeyDate, new PassengerRequest("Stats Passenger", 41, "MALE", "900000001301"));
+        long cancelled = book(userId, fareTypeId, journeyDate,
+                new PassengerRequest("Stats Passenger", 41, "MALE", "900000001302"));
+        bookingService.cancelBooking(cancelled);
+
+        BookingStatistics statistics = bookingService.getBookingStatisticsByUserId(userId);
+        assertThat(statistics.getTotalBookings()).isEqualTo(2);
+        assertThat(statistics.getConfirmedBookings()).isEqualTo(1);
+        assertThat(statistics.getCancelledBookings()).isEqualTo(1);
+        assertThat(statistics.getUpcomingBookings()).isEqualTo(2);
+        assertThat(statistics.getPastBookings()).isZero();
+
+        // A new booking is not counted until the cached entry expires
+        book(userId, fareTypeId, journeyDate, new PassengerRequest("Stats Passenger", 41, "MALE", "900000001303"));
+        assertThat(bookingService.getBookingStatisticsByUserId(userId)).isSameAs(statistics);
+
+        // A user without bookings gets zeros rather than nulls
+        BookingStatistics empty = bookingService.getBookingStatisticsByUserId(Long.MAX_VALUE);
+        assertThat(empty.getTotalBookings()).isZero();
+        assertThat(empty.getUpcomingBookings()).isZero();
+    }
+
+    @Test
+    void passengerStatisticsMatchThePassengerRows() {
+        long fareTypeId = createFareType("Statistics Passenger Express");
+        book(2L, fareTypeId, LocalDate.now().plusWeeks(4),
+                new PassengerRequest("Stats Male", 44, "MALE", "900000001311"),
+                new PassengerRequest("Stats Female", 23, "FEMALE", "900000001312"),
+                new PassengerRequest("Stats Other", 35, "OTHER", "900000001313"));
+
+        PassengerStatistics statistics = bookingService.getPassengerStatistics();
+        List<Passenger> passengers = passengerRepository.findAll();
+        assertThat(statistics.getTotalPassengers()).isEqualTo(passengers.size());
+        assertThat(statistics.getMalePassengers()).isEqualTo(passengerRepository.countByGender("MALE"));
+        assertThat(statistics.getFemalePassengers()).isEqualTo(passengerRepository.countByGender("FEMALE"));
+        assertThat(statistics.getOtherPassengers()).isEqualTo(passengerRepository.countByGender("OTHER")).isPositive();
+        assertThat(statistics.getAverageAge())
+                .isCloseTo(passengers.stream().mapToInt(Passenger::getAge).average().orElseThrow(), within(0.01));
+
+        book(2L, fareTypeId, LocalDate.now().plusWeeks(4), new PassengerRequest("Stats Late", 60, "MALE", "900000001314"));
+        assertThat(bookingService.getPassengerStatistics()).isSameAs(statistics);
+    }
+
+    private long createFareType(String trainName) {
+        TrainRequest request = new TrainRequest(trainName, "Madurai", "Rameswaram", LocalTime.of(6, 0), 4, 0,
+                TrainStatus.ACTIVE);
+        request.setScheduleDays(List.of("MON", "TUE", "WED", "THU", "FRI", "SAT", "SUN"));
+        request.setFareTypes(List.of(new FareTypeRequest(ClassType.SL, new BigDecimal("150.00"), 30)));
+        long trainId = trainService.createTrain(request).getTrainId();
+        return fareTypeRepository.findByTrainTrainId(trainId).get(0).getFareTypeId();
+    }
+
+    private long book(long userId, long fareTypeId, LocalDate journeyDate, PassengerRequest... passengers) {
+        long trainId = fareTypeRepository.findById(fareTypeId).orElseThrow().getTrain().getTrainId();
+        return bookingService.createBooking(new BookingRequest(userId, trainId, fareTypeId, journeyDate,
+                new BigDecimal("150.00").multiply(BigDecimal.valueOf(passengers.length)), List.of(passengers)))
+                .getBookingId();
+    }
+}
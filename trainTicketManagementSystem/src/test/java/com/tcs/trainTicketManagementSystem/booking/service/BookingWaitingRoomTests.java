@@ -0,0 +1,144 @@
+package com.tcs.trainTicketManagementSystem.booking.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.tcs.trainTicketManagementSystem.booking.exception.BookingQueuedException;
+import com.tcs.trainTicketManagementSystem.booking.exception.BookingValidationException;
+import com.tcs.trainTicketManagementSystem.train.service.TrainCatalog;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Verifies the waiting room's token flow: the burst is admitted, later requests get a signed token and their
+ * position, the token is admitted once the gate reaches it, forged or foreign tokens are refused, unknown
+ * trains get no gate, and idle gates are dropped once their tokens have expired.
+ */
+@SpringBootTest
+class BookingWaitingRoomTests {
+
+    private static final long TRAIN_ID = 1L;
+
+    @Autowired
+    private TrainCatalog trainCatalog;
+
+    private BookingWaitingRoom slowRoom;
+
+    @BeforeEach
+    void createRoom() {
+        // One admission every 100 seconds, so nothing queued here reaches the gate during a test
+        slowRoom = new BookingWaitingRoom(new SimpleMeterRegistry(), trainCatalog, 0.01, 2, 3, 30);
+    }
+
+    @Test
+    void requestsBeyondTheBurstAreQueuedInOrder() {
+        slowRoom.admit(TRAIN_ID, null);
+        slowRoom.admit(TRAIN_ID, null);
+
+        BookingQueuedException first = queued(() -> slowRoom.admit(TRAIN_ID, null));
+        BookingQueuedException second = queued(() -> slowRoom.admit(TRAIN_ID, null));
+
+        assertThat(first.getQueueToken()).isNotBlank();
+        assertThat(first.getPosition()).isEqualTo(1);
+        assertThat(second.getPosition()).isEqualTo(2);
+        assertThat(second.getRetryAfterSeconds()).isGreaterThan(first.getRetryAfterSeconds());
+
+        // Retrying early keeps the same place in the queue
+        BookingQueuedException retried = queued(() -> slowRoom.admit(TRAIN_ID, first.getQueueToken()));
+        assertThat(retried.getQueueToken()).isEqualTo(first.getQueueToken());
+        assertThat(retried.getPosition()).isEqualTo(1);
+
+        // Trains have separate gates
+        assertThatCode(() -> slowRoom.admit(2L, null)).doesNotThrowAnyException();
+    }
+
+    @Test
+    void fullQueueTurnsRequestsAwayWithoutToken() {
+        slowRoom.admit(TRAIN_ID, null);
+        slowRoom.admit(TRAIN_ID, null);
+        for (int i = 0; i < 3; i++) {
+            queued(() -> slowRoom.admit(TRAIN_ID, null));
+        }
+
+        BookingQueuedException rejected = queued(() -> slowRoom.admit(TRAIN_ID, null));
+
+        assertThat(rejected.getQueueToken()).isNull();
+        assertThat(rejected.getRetryAfterSeconds()).isPositive();
+    }
+
+    @Test
+    void forgedOrForeignTokensAreRefused() {
+        slowRoom.admit(TRAIN_ID, null);
+        slowRoom.admit(TRAIN_ID, null);
+        String token = queued(() -> slowRoom.admit(TRAIN_ID, null)).getQueueToken();
+        String forged = TRAIN_ID + "-0" + token.substring(token.lastIndexOf('-'));
+
+        assertThatThrownBy(() -> slowRoom.admit(TRAIN_ID, forged)).isInstanceOf(BookingValidationException.class);
+        assertThatThrownBy(() -> slowRoom.admit(2L, token)).isInstanceOf(BookingValidationException.class);
+        assertThatThrownBy(() -> slowRoom.admit(TRAIN_ID, "not-a-token")).isInstanceOf(BookingValidationException.class);
+    }
+
+    @Test
+    void tokenIsAdmittedOnceItsTurnComes() throws InterruptedException {
+        // Two admissions a second with no burst beyond the first request
+        BookingWaitingRoom room = new BookingWaitingRoom(new SimpleMeterRegistry(), trainCatalog, 2, 1, 10, 30);
+        room.admit(TRAIN_ID, null);
+        String token = queued(() -> room.admit(TRAIN_ID, null)).getQueueToken();
+
+        Thread.sleep(700);
+
+        assertThatCode(() -> room.admit(TRAIN_ID, token)).doesNotThrowAnyException();
+    }
+
+    @Test
+    void unknownTrainGetsNoGate() {
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        BookingWaitingRoom room = new BookingWaitingRoom(meterRegistry, trainCatalog, 2, 1, 10, 30);
+
+        assertThatThrownBy(() -> room.admit(999_999L, null))
+                .isInstanceOf(BookingValidationException.class)
+                .hasMessageContaining("not found");
+        assertThat(gates(meterRegistry)).isZero();
+    }
+
+    @Test
+    void idleGateIsDroppedOnceItsTokensExpire() throws InterruptedException {
+        // Two admissions a second, and tokens redeemable for a second after their turn
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        BookingWaitingRoom room = new BookingWaitingRoom(meterRegistry, trainCatalog, 2, 1, 10, 1);
+        room.admit(TRAIN_ID, null);
+        String token = queued(() -> room.admit(TRAIN_ID, null)).getQueueToken();
+
+        // The queued ticket's turn came half a second in, so its token is still live
+        Thread.sleep(1100);
+        room.evictIdleGates();
+        assertThat(gates(meterRegistry)).isEqualTo(1);
+        assertThatCode(() -> room.admit(TRAIN_ID, token)).doesNotThrowAnyException();
+
+        Thread.sleep(1100);
+        room.evictIdleGates();
+        assertThat(gates(meterRegistry)).isZero();
+
+        // A token of the dropped gate rejoins a fresh gate instead of keeping its old place
+        assertThatCode(() -> room.admit(TRAIN_ID, token)).doesNotThrowAnyException();
+        assertThat(gates(meterRegistry)).isEqualTo(1);
+    }
+
+    private static double gates(MeterRegistry meterRegistry) {
+        return meterRegistry.get("booking.admission.gates").gauge().value();
+    }
+
+    private static BookingQueuedException queued(Runnable admission) {
+        BookingQueuedException queued = catchThrowableOfType(BookingQueuedException.class, admission::run);
+        assertThat(queued).isNotNull();
+        return queued;
+    }
+}
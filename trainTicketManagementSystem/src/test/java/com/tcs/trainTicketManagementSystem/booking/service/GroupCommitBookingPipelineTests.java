@@ -0,0 +1,165 @@
+package com.tcs.trainTicketManagementSystem.booking.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataAccessException;
+
+import com.tcs.trainTicketManagementSystem.booking.dto.BookingRequest;
+import com.tcs.trainTicketManagementSystem.booking.dto.BookingResponse;
+import com.tcs.trainTicketManagementSystem.booking.dto.PassengerRequest;
+import com.tcs.trainTicketManagementSystem.booking.exception.SeatsUnavailableException;
+import com.tcs.trainTicketManagementSystem.booking.model.BookingStatus;
+import com.tcs.trainTicketManagementSystem.booking.model.Quota;
+import com.tcs.trainTicketManagementSystem.train.dto.FareTypeRequest;
+import com.tcs.trainTicketManagementSystem.train.dto.TrainRequest;
+import com.tcs.trainTicketManagementSystem.train.model.ClassType;
+import com.tcs.trainTicketManagementSystem.train.model.TrainStatus;
+import com.tcs.trainTicketManagementSystem.train.repository.FareTypeRepository;
+import com.tcs.trainTicketManagementSystem.train.service.TrainService;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Verifies that concurrent bookings are committed together, that a member rejected after it wrote seats is
+ * rolled back while the rest of its batch still commits, and that other failures fall back to committing the
+ * members one by one.
+ */
+@SpringBootTest(properties = {
+        "booking.group-commit.enabled=true",
+        // A window wide enough for all requests of a test to land in one batch
+        "booking.group-commit.window-ms=300",
+        // A database of its own, so this context does not reset the one the other tests share
+        "spring.datasource.url=jdbc:h2:mem:groupcommit"
+})
+class GroupCommitBookingPipelineTests {
+
+    private static final int SEATS = 50;
+
+    @Autowired
+    private GroupCommitBookingPipeline pipeline;
+
+    @Autowired
+    private SeatInventoryService seatInventoryService;
+
+    @Autowired
+    private TrainService trainService;
+
+    @Autowired
+    private FareTypeRepository fareTypeRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void concurrentBookingsAreCommittedTogether() {
+        long fareTypeId = createFareType("Group Commit Batch Express");
+        LocalDate journeyDate = LocalDate.now().plusWeeks(6);
+        int available = seatInventoryService.getAvailableSeats(fareTypeId, journeyDate);
+        DistributionSummary batchSize = batchSize();
+        long batches = batchSize.count();
+        double committed = batchSize.totalAmount();
+
+        List<Object> outcomes = submit(List.of(booking(fareTypeId, journeyDate, null, 2),
+                booking(fareTypeId, journeyDate, null, 1), booking(fareTypeId, journeyDate, null, 3),
+                booking(fareTypeId, journeyDate, null, 1)));
+
+        assertThat(outcomes).allSatisfy(outcome -> assertThat(outcome).isInstanceOfSatisfying(BookingResponse.class,
+                response -> assertThat(response.getStatus()).isEqualTo(BookingStatus.CONFIRMED.name())));
+        assertThat(seatInventoryService.getAvailableSeats(fareTypeId, journeyDate)).isEqualTo(available - 7);
+        assertThat(batchSize.totalAmount() - committed).isEqualTo(4);
+        assertThat(batchSize.count() - batches).isLessThan(4);
+    }
+
+    @Test
+    void rejectedMemberIsRolledBackAndTheRestCommits() {
+        long fareTypeId = createFareType("Group Commit Isolation Express");
+        LocalDate journeyDate = LocalDate.now().plusWeeks(7);
+        int available = seatInventoryService.getAvailableSeats(fareTypeId, journeyDate);
+        int tatkal = seatInventoryService.getAvailableSeats(fareTypeId, journeyDate, Quota.TATKAL);
+
+        // One more than the TATKAL pool: rejected only after its seats were picked and its version claimed
+        List<Object> outcomes = submit(List.of(booking(fareTypeId, journeyDate, null, 2),
+                booking(fareTypeId, journeyDate, "TATKAL", tatkal + 1), booking(fareTypeId, journeyDate, null, 3)));
+
+        assertThat(outcomes.get(0)).isInstanceOf(BookingResponse.class);
+        assertThat(outcomes.get(1)).isInstanceOf(SeatsUnavailableException.class);
+        assertThat(outcomes.get(2)).isInstanceOf(BookingResponse.class);
+        assertThat(seatInventoryService.getAvailableSeats(fareTypeId, journeyDate)).isEqualTo(available - 5);
+        assertThat(seatInventoryService.getAvailableSeats(fareTypeId, journeyDate, Quota.TATKAL)).isEqualTo(tatkal);
+    }
+
+    @Test
+    void failedBatchIsRetriedOneByOne() {
+        long fareTypeId = createFareType("Group Commit Fallback Express");
+        LocalDate journeyDate = LocalDate.now().plusWeeks(8);
+        int available = seatInventoryService.getAvailableSeats(fareTypeId, journeyDate);
+        BookingRequest broken = booking(fareTypeId, journeyDate, null, 1);
+        // Longer than the id_proof column, so the insert fails with a database error rather than a validation one
+        broken.getPassengers().get(0).setIdProof("9".repeat(60));
+
+        List<Object> outcomes = submit(List.of(booking(fareTypeId, journeyDate, null, 2), broken,
+                booking(fareTypeId, journeyDate, null, 1)));
+
+        assertThat(outcomes.get(0)).isInstanceOf(BookingResponse.class);
+        assertThat(outcomes.get(1)).isInstanceOf(DataAccessException.class);
+        assertThat(outcomes.get(2)).isInstanceOf(BookingResponse.class);
+        assertThat(seatInventoryService.getAvailableSeats(fareTypeId, journeyDate)).isEqualTo(available - 3);
+    }
+
+    // Submits the requests at once and returns each one's response or exception, in request order
+    private List<Object> submit(List<BookingRequest> requests) {
+        ExecutorService executor = Executors.newFixedThreadPool(requests.size());
+        try {
+            List<CompletableFuture<Object>> results = new ArrayList<>();
+            for (BookingRequest request : requests) {
+                results.add(CompletableFuture.supplyAsync(() -> {
+                    try {
+                        return pipeline.createBooking(request);
+                    } catch (RuntimeException e) {
+                        return e;
+                    }
+                }, executor));
+            }
+            return results.stream().map(CompletableFuture::join).toList();
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private DistributionSummary batchSize() {
+        return meterRegistry.get("booking.group-commit.batch.size").summary();
+    }
+
+    private long createFareType(String trainName) {
+        TrainRequest request = new TrainRequest(trainName, "Hubli", "Dharwad", LocalTime.of(9, 0), 1, 0, TrainStatus.ACTIVE);
+        request.setScheduleDays(List.of("MON", "TUE", "WED", "THU", "FRI", "SAT", "SUN"));
+        request.setFareTypes(List.of(new FareTypeRequest(ClassType.SL, new BigDecimal("70.00"), SEATS)));
+        long trainId = trainService.createTrain(request).getTrainId();
+        return fareTypeRepository.findByTrainTrainId(trainId).get(0).getFareTypeId();
+    }
+
+    private BookingRequest booking(long fareTypeId, LocalDate journeyDate, String quota, int passengers) {
+        long trainId = fareTypeRepository.findById(fareTypeId).orElseThrow().getTrain().getTrainId();
+        List<PassengerRequest> passengerRequests = new ArrayList<>();
+        for (int i = 0; i < passengers; i++) {
+            passengerRequests.add(new PassengerRequest("Grouped Passenger " + i, 30 + i, "FEMALE", "90000000110" + i));
+        }
+        BookingRequest request = new BookingRequest(2L, trainId, fareTypeId, journeyDate,
+                new BigDecimal("70.00").multiply(BigDecimal.valueOf(passengers)), passengerRequests);
+        request.setQuota(quota);
+        return request;
+    }
+}
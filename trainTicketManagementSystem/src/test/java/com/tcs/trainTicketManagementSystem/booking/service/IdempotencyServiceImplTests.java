@@ -0,0 +1,164 @@
+package com.tcs.trainTicketManagementSystem.booking.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.math.BigDecimal;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tcs.trainTicketManagementSystem.booking.dto.BookingRequest;
+import com.tcs.trainTicketManagementSystem.booking.dto.BookingResponse;
+import com.tcs.trainTicketManagementSystem.booking.dto.PassengerRequest;
+import com.tcs.trainTicketManagementSystem.booking.repository.BookingRepository;
+
+/**
+ * Verifies that a retried write with the same Idempotency-Key is answered from the stored response, that reusing
+ * a key for a different request is refused with 422, and that a duplicate arriving mid-request waits for the
+ * original instead of running again.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class IdempotencyServiceImplTests {
+
+    // Rajdhani Express 2AC, running on Mondays
+    private static final long TRAIN_ID = 1L;
+    private static final long FARE_TYPE_ID = 2L;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private IdempotencyService idempotencyService;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Test
+    void retryReplaysStoredResponse() throws Exception {
+        LocalDate journeyDate = monday(8);
+        String key = UUID.randomUUID().toString();
+        String body = objectMapper.writeValueAsString(bookingRequest(journeyDate,
+                new PassengerRequest("Ritu Sharma", 38, "FEMALE", "900000000201")));
+        long bookingsBefore = bookingRepository.countByJourneyDate(journeyDate);
+        int availableBefore = bookingService.getAvailableSeats(FARE_TYPE_ID, journeyDate);
+
+        MvcResult first = createBooking(key, body)
+                .andExpect(status().isCreated())
+                .andExpect(header().doesNotExist(IdempotencyServiceImpl.REPLAYED_HEADER))
+                .andReturn();
+        MvcResult retry = createBooking(key, body)
+                .andExpect(status().isCreated())
+                .andExpect(header().string(IdempotencyServiceImpl.REPLAYED_HEADER, "true"))
+                .andReturn();
+
+        BookingResponse created = objectMapper.readValue(first.getResponse().getContentAsString(), BookingResponse.class);
+        BookingResponse replayed = objectMapper.readValue(retry.getResponse().getContentAsString(), BookingResponse.class);
+        assertThat(replayed.getBookingId()).isEqualTo(created.getBookingId());
+        assertThat(bookingRepository.countByJourneyDate(journeyDate)).isEqualTo(bookingsBefore + 1);
+        assertThat(bookingService.getAvailableSeats(FARE_TYPE_ID, journeyDate)).isEqualTo(availableBefore - 1);
+    }
+
+    @Test
+    void keyReusedForDifferentRequestIsRejected() throws Exception {
+        LocalDate journeyDate = monday(8);
+        String key = UUID.randomUUID().toString();
+        createBooking(key, objectMapper.writeValueAsString(bookingRequest(journeyDate,
+                new PassengerRequest("Sameer Khan", 45, "MALE", "900000000202"))))
+                .andExpect(status().isCreated());
+        long bookingsBefore = bookingRepository.countByJourneyDate(journeyDate);
+
+        createBooking(key, objectMapper.writeValueAsString(bookingRequest(journeyDate,
+                new PassengerRequest("Sana Khan", 43, "FEMALE", "900000000203"))))
+                .andExpect(status().isUnprocessableEntity());
+
+        assertThat(bookingRepository.countByJourneyDate(journeyDate)).isEqualTo(bookingsBefore);
+    }
+
+    @Test
+    void duplicateInFlightWaitsForOriginal() throws Exception {
+        String key = UUID.randomUUID().toString();
+        AtomicInteger runs = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<ResponseEntity<String>> original = CompletableFuture.supplyAsync(() ->
+                idempotencyService.execute(key, "test", "request", String.class, () -> {
+                    runs.incrementAndGet();
+                    started.countDown();
+                    await(release);
+                    return ResponseEntity.ok("done");
+                }));
+        assertThat(started.await(10, TimeUnit.SECONDS)).isTrue();
+
+        CompletableFuture<ResponseEntity<String>> duplicate = new CompletableFuture<>();
+        Thread duplicateThread = new Thread(() -> duplicate.complete(idempotencyService.execute(key, "test", "request",
+                String.class, () -> {
+                    runs.incrementAndGet();
+                    return ResponseEntity.ok("ran again");
+                })));
+        duplicateThread.start();
+        // Parked on the original's result
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (duplicateThread.getState() != Thread.State.WAITING && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(duplicateThread.getState()).isEqualTo(Thread.State.WAITING);
+        release.countDown();
+
+        assertThat(original.get(10, TimeUnit.SECONDS).getBody()).isEqualTo("done");
+        ResponseEntity<String> replayed = duplicate.get(10, TimeUnit.SECONDS);
+        assertThat(replayed.getBody()).isEqualTo("done");
+        assertThat(replayed.getHeaders().getFirst(IdempotencyServiceImpl.REPLAYED_HEADER)).isEqualTo("true");
+        assertThat(runs).hasValue(1);
+    }
+
+    private ResultActions createBooking(String key, String body) throws Exception {
+        return mockMvc.perform(post("/api/v1/bookings")
+                .header("Idempotency-Key", key)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static LocalDate monday(int weeksAhead) {
+        return LocalDate.now().plusWeeks(weeksAhead).with(TemporalAdjusters.next(DayOfWeek.MONDAY));
+    }
+
+    private static BookingRequest bookingRequest(LocalDate journeyDate, PassengerRequest... passengers) {
+        return new BookingRequest(2L, TRAIN_ID, FARE_TYPE_ID, journeyDate, new BigDecimal("2500.00"), List.of(passengers));
+    }
+}
@@ -0,0 +1,235 @@
+package com.tcs.trainTicketManagementSystem.booking.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.tcs.trainTicketManagementSystem.booking.dto.BookingRequest;
+import com.tcs.trainTicketManagementSystem.booking.dto.PassengerRequest;
+import com.tcs.trainTicketManagementSystem.booking.dto.SeatHoldConfirmRequest;
+import com.tcs.trainTicketManagementSystem.booking.dto.SeatHoldRequest;
+import com.tcs.trainTicketManagementSystem.booking.dto.SeatHoldResponse;
+import com.tcs.trainTicketManagementSystem.booking.exception.BookingValidationException;
+import com.tcs.trainTicketManagementSystem.booking.model.SeatInventory;
+import com.tcs.trainTicketManagementSystem.booking.repository.SeatInventoryRepository;
+import com.tcs.trainTicketManagementSystem.train.dto.FareTypeRequest;
+import com.tcs.trainTicketManagementSystem.train.dto.TrainRequest;
+import com.tcs.trainTicketManagementSystem.train.model.ClassType;
+import com.tcs.trainTicketManagementSystem.train.model.TrainStatus;
+import com.tcs.trainTicketManagementSystem.train.repository.FareTypeRepository;
+import com.tcs.trainTicketManagementSystem.train.service.TrainService;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Verifies the in-memory seat inventory: concurrent reservations never oversell, rolled back reservations
+ * are undone, committed changes reach seat_inventory with the flush, a restart recounts the counters from
+ * bookings and live holds, and counters of past dates are dropped.
+ */
+@SpringBootTest(properties = {
+        "booking.inventory.in-memory.enabled=true",
+        // A database of its own, so this context does not reset the one the other tests share
+        "spring.datasource.url=jdbc:h2:mem:inmemoryinventory"
+})
+class InMemorySeatInventoryServiceTests {
+
+    private static final LocalTime DEPARTURE = LocalTime.of(10, 0);
+
+    @Autowired
+    private InMemorySeatInventoryService seatInventoryService;
+
+    @Autowired
+    private SeatInventoryRepository seatInventoryRepository;
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private SeatHoldServiceImpl seatHoldService;
+
+    @Autowired
+    private TrainService trainService;
+
+    @Autowired
+    private FareTypeRepository fareTypeRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void concurrentReservationsNeverOversell() throws Exception {
+        long fareTypeId = createFareType("In-Memory Contention Express");
+        LocalDate journeyDate = LocalDate.now().plusDays(20);
+        int available = seatInventoryService.getAvailableSeats(fareTypeId, journeyDate);
+
+        AtomicInteger reserved = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<CompletableFuture<Void>> clients = new ArrayList<>();
+            for (int i = 0; i < available * 3; i++) {
+                clients.add(CompletableFuture.runAsync(() -> {
+                    try {
+                        seatInventoryService.reserveSeats(fareTypeId, journeyDate, 1);
+                        reserved.incrementAndGet();
+                    } catch (BookingValidationException e) {
+                        // Sold out
+                    }
+                }, executor));
+            }
+            CompletableFuture.allOf(clients.toArray(new CompletableFuture[0])).join();
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(reserved.get()).isEqualTo(available);
+        assertThat(seatInventoryService.getAvailableSeats(fareTypeId, journeyDate)).isZero();
+        assertThatThrownBy(() -> seatInventoryService.reserveSeats(fareTypeId, journeyDate, 1))
+                .isInstanceOf(BookingValidationException.class);
+
+        // Releases never take the counter past the row's total seats
+        seatInventoryService.releaseSeats(fareTypeId, journeyDate, available);
+        int total = inventory(fareTypeId, journeyDate).getTotalSeats();
+        seatInventoryService.releaseSeats(fareTypeId, journeyDate, total);
+        assertThat(seatInventoryService.getAvailableSeats(fareTypeId, journeyDate)).isEqualTo(available);
+    }
+
+    @Test
+    void rolledBackReservationIsUndone() {
+        long fareTypeId = createFareType("In-Memory Rollback Express");
+        LocalDate journeyDate = LocalDate.now().plusDays(21);
+        int available = seatInventoryService.getAvailableSeats(fareTypeId, journeyDate);
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            seatInventoryService.reserveSeats(fareTypeId, journeyDate, 2);
+            assertThat(seatInventoryService.getAvailableSeats(fareTypeId, journeyDate)).isEqualTo(available - 2);
+            status.setRollbackOnly();
+        });
+
+        assertThat(seatInventoryService.getAvailableSeats(fareTypeId, journeyDate)).isEqualTo(available);
+        seatInventoryService.flush();
+        assertThat(inventory(fareTypeId, journeyDate).getSeatsAvailable()).isEqualTo(available);
+    }
+
+    @Test
+    void committedChangesAreWrittenBehindOnFlush() {
+        long fareTypeId = createFareType("In-Memory Flush Express");
+        LocalDate journeyDate = LocalDate.now().plusDays(22);
+        int available = seatInventoryService.getAvailableSeats(fareTypeId, journeyDate);
+        seatInventoryService.flush();
+
+        seatInventoryService.reserveSeats(fareTypeId, journeyDate, 3);
+        seatInventoryService.releaseSeats(fareTypeId, journeyDate, 1);
+        seatInventoryService.flush();
+
+        assertThat(inventory(fareTypeId, journeyDate).getSeatsAvailable()).isEqualTo(available - 2);
+    }
+
+    @Test
+    void restartRecountsCountersFromBookings() {
+        long fareTypeId = createFareType("In-Memory Restart Express");
+        LocalDate journeyDate = LocalDate.now().plusDays(23);
+        bookingService.createBooking(booking(fareTypeId, journeyDate, 2));
+        int available = seatInventoryService.getAvailableSeats(fareTypeId, journeyDate);
+        seatInventoryService.flush();
+
+        // Changes lost with a crashed instance: the row and a counter no longer match the bookings
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                seatInventoryRepository.applySeatDelta(fareTypeId, journeyDate, 2));
+        seatInventoryService.reserveSeats(fareTypeId, journeyDate, 1);
+
+        seatInventoryService.rebuild();
+
+        assertThat(seatInventoryService.getAvailableSeats(fareTypeId, journeyDate)).isEqualTo(available);
+        assertThat(inventory(fareTypeId, journeyDate).getSeatsAvailable()).isEqualTo(available);
+    }
+
+    @Test
+    void restartKeepsSeatsOfLiveHoldsOffSale() {
+        long fareTypeId = createFareType("In-Memory Hold Restart Express");
+        LocalDate journeyDate = LocalDate.now().plusDays(25);
+        int available = seatInventoryService.getAvailableSeats(fareTypeId, journeyDate);
+        SeatHoldResponse hold = seatHoldService.createHold(holdRequest(fareTypeId, journeyDate, 2));
+        seatInventoryService.flush();
+
+        seatInventoryService.rebuild();
+        seatHoldService.rescheduleLiveHolds();
+
+        assertThat(seatInventoryService.getAvailableSeats(fareTypeId, journeyDate)).isEqualTo(available - 2);
+
+        // Confirming takes no more seats, and the seats left cannot be sold twice
+        SeatHoldConfirmRequest confirm = new SeatHoldConfirmRequest();
+        confirm.setTotalFare(new BigDecimal("180.00"));
+        confirm.setPassengers(booking(fareTypeId, journeyDate, 2).getPassengers());
+        seatHoldService.confirmHold(hold.getHoldId(), confirm);
+        assertThat(seatInventoryService.getAvailableSeats(fareTypeId, journeyDate)).isEqualTo(available - 2);
+        assertThatThrownBy(() -> seatInventoryService.reserveSeats(fareTypeId, journeyDate, available - 1))
+                .isInstanceOf(BookingValidationException.class);
+    }
+
+    @Test
+    void countersOfPastDatesAreEvicted() {
+        long fareTypeId = createFareType("In-Memory Eviction Express");
+        seatInventoryService.getAvailableSeats(fareTypeId, LocalDate.now().minusDays(1));
+        seatInventoryService.getAvailableSeats(fareTypeId, LocalDate.now().plusDays(24));
+        double loaded = loadedKeys();
+
+        seatInventoryService.evictPastDates();
+
+        assertThat(loadedKeys()).isLessThanOrEqualTo(loaded - 1);
+        assertThat(seatInventoryService.getAvailableSeats(fareTypeId, LocalDate.now().plusDays(24))).isPositive();
+    }
+
+    private double loadedKeys() {
+        return meterRegistry.get("booking.inventory.memory.keys").gauge().value();
+    }
+
+    private SeatInventory inventory(long fareTypeId, LocalDate journeyDate) {
+        return seatInventoryRepository.findByFareTypeIdAndJourneyDate(fareTypeId, journeyDate).orElseThrow();
+    }
+
+    private long createFareType(String trainName) {
+        TrainRequest request = new TrainRequest(trainName, "Vasco", "Margao", DEPARTURE, 1, 0, TrainStatus.ACTIVE);
+        request.setScheduleDays(List.of("MON", "TUE", "WED", "THU", "FRI", "SAT", "SUN"));
+        request.setFareTypes(List.of(new FareTypeRequest(ClassType.SL, new BigDecimal("90.00"), 20)));
+        long trainId = trainService.createTrain(request).getTrainId();
+        return fareTypeRepository.findByTrainTrainId(trainId).get(0).getFareTypeId();
+    }
+
+    private SeatHoldRequest holdRequest(long fareTypeId, LocalDate journeyDate, int seats) {
+        SeatHoldRequest request = new SeatHoldRequest();
+        request.setUserId(2L);
+        request.setTrainId(fareTypeRepository.findById(fareTypeId).orElseThrow().getTrain().getTrainId());
+        request.setFareTypeId(fareTypeId);
+        request.setJourneyDate(journeyDate);
+        request.setSeats(seats);
+        return request;
+    }
+
+    private BookingRequest booking(long fareTypeId, LocalDate journeyDate, int passengers) {
+        long trainId = fareTypeRepository.findById(fareTypeId).orElseThrow().getTrain().getTrainId();
+        List<PassengerRequest> passengerRequests = new ArrayList<>();
+        for (int i = 0; i < passengers; i++) {
+            passengerRequests.add(new PassengerRequest("Restart Passenger " + i, 40 + i, "MALE", "90000000090" + i));
+        }
+        return new BookingRequest(2L, trainId, fareTypeId, journeyDate, new BigDecimal("90.00").multiply(BigDecimal.valueOf(passengers)),
+                passengerRequests);
+    }
+}
@@ -0,0 +1,185 @@
+package com.tcs.trainTicketManagementSystem.booking.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.tcs.trainTicketManagementSystem.booking.exception.SeatsUnavailableException;
+import com.tcs.trainTicketManagementSystem.booking.model.BerthPreference;
+import com.tcs.trainTicketManagementSystem.booking.model.Quota;
+import com.tcs.trainTicketManagementSystem.booking.repository.SeatSegmentRepository;
+import com.tcs.trainTicketManagementSystem.booking.service.SeatAllocationService.SeatAssignment;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Verifies that concurrent seat allocation on one train-date never hands out a seat twice, that a seat map
+ * made stale by another writer is reloaded instead of trusted, that a transaction reuses the map its own
+ * changes were applied to, and that maps are only evicted with no change in flight.
+ */
+@SpringBootTest
+class SeatAllocationServiceImplTests {
+
+    // Rajdhani Express 2AC, running on Mondays
+    private static final long FARE_TYPE_ID = 2L;
+
+    private static final List<BerthPreference> ONE_PASSENGER = Collections.singletonList(null);
+
+    @Autowired
+    private SeatAllocationServiceImpl seatAllocationService;
+
+    @Autowired
+    private SeatInventoryService seatInventoryService;
+
+    @Autowired
+    private SeatSegmentRepository seatSegmentRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void concurrentAllocationsNeverShareSeats() throws Exception {
+        LocalDate journeyDate = LocalDate.now().plusWeeks(6).with(TemporalAdjusters.next(DayOfWeek.MONDAY));
+        int initiallyAvailable = seatInventoryService.getAvailableSeats(FARE_TYPE_ID, journeyDate);
+        List<Integer> assigned = Collections.synchronizedList(new ArrayList<>());
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> bookings = new ArrayList<>();
+            for (int i = 0; i < 40; i++) {
+                int passengers = 1 + i % 3;
+                bookings.add(executor.submit(() -> {
+                    try {
+                        seatAllocationService.allocateSeats(FARE_TYPE_ID, journeyDate, null, null, Quota.GENERAL,
+                                Collections.nCopies(passengers, (BerthPreference) null), false)
+                                .forEach(seat -> assigned.add(seat.seatNumber()));
+                    } catch (SeatsUnavailableException e) {
+                        // Sold out; the remaining bookings must still leave consistent seats behind
+                    }
+                }));
+            }
+            for (Future<?> booking : bookings) {
+                booking.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(assigned).isNotEmpty().doesNotHaveDuplicates();
+        assertThat(seatSegmentRepository.findByFareTypeIdAndJourneyDate(FARE_TYPE_ID, journeyDate)).hasSize(assigned.size());
+        assertThat(seatInventoryService.getAvailableSeats(FARE_TYPE_ID, journeyDate))
+                .isEqualTo(initiallyAvailable - assigned.size());
+    }
+
+    @Test
+    void seatSoldByAnotherWriterIsNotReassigned() {
+        LocalDate journeyDate = LocalDate.now().plusWeeks(7).with(TemporalAdjusters.next(DayOfWeek.MONDAY));
+
+        // Warm the cached seat map, then hand the seat back so the map would pick it again
+        int seatNumber = seatAllocationService.allocateSeats(FARE_TYPE_ID, journeyDate, null, null, Quota.GENERAL,
+                ONE_PASSENGER, false).get(0).seatNumber();
+        seatAllocationService.releaseSeats(FARE_TYPE_ID, journeyDate, null, null, Quota.GENERAL, List.of(seatNumber));
+
+        // Another instance sells that seat and moves the segment version on
+        jdbcTemplate.update("INSERT INTO seat_segment (fare_type_id, journey_date, seat_number, occupied_segments) "
+                + "VALUES (?, ?, ?, -1)", FARE_TYPE_ID, journeyDate, seatNumber);
+        jdbcTemplate.update("UPDATE seat_inventory SET seats_available = seats_available - 1, segment_version = segment_version + 1 "
+                + "WHERE fare_type_id = ? AND journey_date = ?", FARE_TYPE_ID, journeyDate);
+
+        SeatAssignment seat = seatAllocationService.allocateSeats(FARE_TYPE_ID, journeyDate, null, null, Quota.GENERAL,
+                ONE_PASSENGER, false).get(0);
+
+        assertThat(seat.seatNumber()).isNotEqualTo(seatNumber);
+        assertThat(seatSegmentRepository.findByFareTypeIdAndJourneyDate(FARE_TYPE_ID, journeyDate)).hasSize(2);
+    }
+
+    @Test
+    void transactionReusesTheSeatMapOfItsOwnChanges() {
+        LocalDate journeyDate = LocalDate.now().plusWeeks(8).with(TemporalAdjusters.next(DayOfWeek.MONDAY));
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        try {
+            // A warm map that matches the committed version is planned on without reading the seats again
+            allocateOne(journeyDate);
+            statistics.clear();
+            allocateOne(journeyDate);
+            long warmStatements = statistics.getPrepareStatementCount();
+
+            // Once the transaction has claimed the train-date, its next change plans on the same map
+            new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                int first = allocateOne(journeyDate);
+                statistics.clear();
+                int second = allocateOne(journeyDate);
+
+                assertThat(second).isNotEqualTo(first);
+                assertThat(statistics.getPrepareStatementCount()).isEqualTo(warmStatements);
+                status.setRollbackOnly();
+            });
+        } finally {
+            statistics.setStatisticsEnabled(false);
+        }
+
+        // The rolled back changes do not linger in the map
+        int seat = allocateOne(journeyDate);
+        assertThat(seatSegmentRepository.findByFareTypeIdAndJourneyDate(FARE_TYPE_ID, journeyDate))
+                .extracting(segment -> segment.getSeatNumber())
+                .hasSize(3)
+                .contains(seat);
+    }
+
+    @Test
+    void seatMapWithChangesInFlightIsNotEvicted() {
+        // Maps of past journey dates are evicted at the next sweep, unless a change is still in flight on them
+        LocalDate journeyDate = LocalDate.now().minusDays(1);
+        seatAllocationService.evictIdleSeatMaps();
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            allocateOne(journeyDate);
+            double cached = cachedSeatMaps();
+            seatAllocationService.evictIdleSeatMaps();
+            assertThat(cachedSeatMaps()).isEqualTo(cached);
+            status.setRollbackOnly();
+        });
+
+        double cached = cachedSeatMaps();
+        seatAllocationService.evictIdleSeatMaps();
+        assertThat(cachedSeatMaps()).isEqualTo(cached - 1);
+    }
+
+    private int allocateOne(LocalDate journeyDate) {
+        return seatAllocationService.allocateSeats(FARE_TYPE_ID, journeyDate, null, null, Quota.GENERAL, ONE_PASSENGER,
+                false).get(0).seatNumber();
+    }
+
+    private double cachedSeatMaps() {
+        return meterRegistry.get("booking.segments.cached").gauge().value();
+    }
+}
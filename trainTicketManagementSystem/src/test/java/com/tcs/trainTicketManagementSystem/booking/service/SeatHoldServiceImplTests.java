@@ -0,0 +1,140 @@
+package com.tcs.trainTicketManagementSystem.booking.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.math.BigDecimal;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.tcs.trainTicketManagementSystem.booking.dto.BookingResponse;
+import com.tcs.trainTicketManagementSystem.booking.dto.PassengerRequest;
+import com.tcs.trainTicketManagementSystem.booking.dto.SeatHoldConfirmRequest;
+import com.tcs.trainTicketManagementSystem.booking.dto.SeatHoldRequest;
+import com.tcs.trainTicketManagementSystem.booking.dto.SeatHoldResponse;
+import com.tcs.trainTicketManagementSystem.booking.exception.BookingValidationException;
+import com.tcs.trainTicketManagementSystem.booking.model.HoldStatus;
+
+/**
+ * Verifies that a seat hold takes seats from inventory, and that confirming keeps them for the booking while
+ * releasing or expiring returns them.
+ */
+@SpringBootTest
+class SeatHoldServiceImplTests {
+
+    // Rajdhani Express 1AC, running on Mondays
+    private static final long TRAIN_ID = 1L;
+    private static final long FARE_TYPE_ID = 1L;
+
+    @Autowired
+    private SeatHoldService seatHoldService;
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Test
+    void confirmTurnsHoldIntoBooking() {
+        LocalDate journeyDate = monday(3);
+        int availableBefore = bookingService.getAvailableSeats(FARE_TYPE_ID, journeyDate);
+
+        SeatHoldResponse hold = seatHoldService.createHold(holdRequest(journeyDate, 2));
+        assertThat(hold.getStatus()).isEqualTo(HoldStatus.HELD.name());
+        assertThat(bookingService.getAvailableSeats(FARE_TYPE_ID, journeyDate)).isEqualTo(availableBefore - 2);
+
+        BookingResponse booking = seatHoldService.confirmHold(hold.getHoldId(), confirmRequest(
+                new PassengerRequest("Kavya Menon", 29, "FEMALE", "900000000101"),
+                new PassengerRequest("Arun Menon", 31, "MALE", "900000000102")));
+
+        assertThat(booking.getPassengers()).hasSize(2).allSatisfy(passenger -> assertThat(passenger.getSeatNumber()).isNotNull());
+        assertThat(bookingService.getAvailableSeats(FARE_TYPE_ID, journeyDate)).isEqualTo(availableBefore - 2);
+        SeatHoldResponse confirmed = seatHoldService.getHoldById(hold.getHoldId());
+        assertThat(confirmed.getStatus()).isEqualTo(HoldStatus.CONFIRMED.name());
+        assertThat(confirmed.getBookingId()).isEqualTo(booking.getBookingId());
+
+        assertThatThrownBy(() -> seatHoldService.confirmHold(hold.getHoldId(), confirmRequest(
+                new PassengerRequest("Kavya Menon", 29, "FEMALE", "900000000101"),
+                new PassengerRequest("Arun Menon", 31, "MALE", "900000000102"))))
+                .isInstanceOf(BookingValidationException.class);
+    }
+
+    @Test
+    void confirmRejectsWrongPassengerCount() {
+        LocalDate journeyDate = monday(3);
+        SeatHoldResponse hold = seatHoldService.createHold(holdRequest(journeyDate, 2));
+
+        assertThatThrownBy(() -> seatHoldService.confirmHold(hold.getHoldId(),
+                confirmRequest(new PassengerRequest("Nisha Iyer", 27, "FEMALE", "900000000103"))))
+                .isInstanceOf(BookingValidationException.class);
+        assertThat(seatHoldService.getHoldById(hold.getHoldId()).getStatus()).isEqualTo(HoldStatus.HELD.name());
+
+        seatHoldService.releaseHold(hold.getHoldId());
+    }
+
+    @Test
+    void releaseReturnsSeats() {
+        LocalDate journeyDate = monday(4);
+        int availableBefore = bookingService.getAvailableSeats(FARE_TYPE_ID, journeyDate);
+        SeatHoldResponse hold = seatHoldService.createHold(holdRequest(journeyDate, 3));
+
+        SeatHoldResponse released = seatHoldService.releaseHold(hold.getHoldId());
+
+        assertThat(released.getStatus()).isEqualTo(HoldStatus.RELEASED.name());
+        assertThat(bookingService.getAvailableSeats(FARE_TYPE_ID, journeyDate)).isEqualTo(availableBefore);
+        assertThatThrownBy(() -> seatHoldService.releaseHold(hold.getHoldId()))
+                .isInstanceOf(BookingValidationException.class);
+    }
+
+    @Test
+    void unconfirmedHoldExpires() throws InterruptedException {
+        LocalDate journeyDate = monday(5);
+        int availableBefore = bookingService.getAvailableSeats(FARE_TYPE_ID, journeyDate);
+        Object target = AopTestUtils.getTargetObject(seatHoldService);
+        Object ttlSeconds = ReflectionTestUtils.getField(target, "ttlSeconds");
+        SeatHoldResponse hold;
+        try {
+            ReflectionTestUtils.setField(target, "ttlSeconds", 1L);
+            hold = seatHoldService.createHold(holdRequest(journeyDate, 2));
+        } finally {
+            ReflectionTestUtils.setField(target, "ttlSeconds", ttlSeconds);
+        }
+        assertThat(bookingService.getAvailableSeats(FARE_TYPE_ID, journeyDate)).isEqualTo(availableBefore - 2);
+
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (!HoldStatus.EXPIRED.name().equals(seatHoldService.getHoldById(hold.getHoldId()).getStatus())
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(100);
+        }
+
+        assertThat(seatHoldService.getHoldById(hold.getHoldId()).getStatus()).isEqualTo(HoldStatus.EXPIRED.name());
+        assertThat(bookingService.getAvailableSeats(FARE_TYPE_ID, journeyDate)).isEqualTo(availableBefore);
+    }
+
+    private static LocalDate monday(int weeksAhead) {
+        return LocalDate.now().plusWeeks(weeksAhead).with(TemporalAdjusters.next(DayOfWeek.MONDAY));
+    }
+
+    private static SeatHoldRequest holdRequest(LocalDate journeyDate, int seats) {
+        SeatHoldRequest request = new SeatHoldRequest();
+        request.setUserId(2L);
+        request.setTrainId(TRAIN_ID);
+        request.setFareTypeId(FARE_TYPE_ID);
+        request.setJourneyDate(journeyDate);
+        request.setSeats(seats);
+        return request;
+    }
+
+    private static SeatHoldConfirmRequest confirmRequest(PassengerRequest... passengers) {
+        SeatHoldConfirmRequest request = new SeatHoldConfirmRequest();
+        request.setTotalFare(new BigDecimal("4500.00"));
+        request.setPassengers(List.of(passengers));
+        return request;
+    }
+}
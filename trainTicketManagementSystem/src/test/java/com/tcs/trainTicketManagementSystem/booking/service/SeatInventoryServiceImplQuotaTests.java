@@ -0,0 +1,128 @@
+package com.tcs.trainTicketManagementSystem.booking.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.tcs.trainTicketManagementSystem.booking.dto.BookingRequest;
+import com.tcs.trainTicketManagementSystem.booking.dto.BookingResponse;
+import com.tcs.trainTicketManagementSystem.booking.dto.PassengerRequest;
+import com.tcs.trainTicketManagementSystem.booking.exception.BookingValidationException;
+import com.tcs.trainTicketManagementSystem.booking.model.Quota;
+import com.tcs.trainTicketManagementSystem.train.dto.FareTypeRequest;
+import com.tcs.trainTicketManagementSystem.train.dto.TrainRequest;
+import com.tcs.trainTicketManagementSystem.train.model.ClassType;
+import com.tcs.trainTicketManagementSystem.train.model.TrainStatus;
+import com.tcs.trainTicketManagementSystem.train.repository.FareTypeRepository;
+import com.tcs.trainTicketManagementSystem.train.service.TrainService;
+
+/**
+ * Verifies that quota pools are carved out of a 100-seat fare type at the configured 10/4/6 percent, that quota
+ * bookings draw on their own pool, and that pools past their cut-off go back to the general pool.
+ */
+@SpringBootTest
+class SeatInventoryServiceImplQuotaTests {
+
+    private static final List<String> EVERY_DAY = List.of("MONDAY", "TUESDAY", "WEDNESDAY", "THURSDAY", "FRIDAY",
+            "SATURDAY", "SUNDAY");
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private SeatInventoryService seatInventoryService;
+
+    @Autowired
+    private QuotaRebalanceJob quotaRebalanceJob;
+
+    @Autowired
+    private TrainService trainService;
+
+    @Autowired
+    private FareTypeRepository fareTypeRepository;
+
+    private long trainId;
+    private long fareTypeId;
+
+    @BeforeEach
+    void createTrain() {
+        // Midnight departures are always inside every quota's cut-off on the day of travel
+        TrainRequest request = new TrainRequest("Quota Test Express " + System.nanoTime(), "Madurai", "Rameswaram",
+                LocalTime.MIDNIGHT, 4, 0, TrainStatus.ACTIVE);
+        request.setScheduleDays(EVERY_DAY);
+        request.setFareTypes(List.of(new FareTypeRequest(ClassType.SL, new BigDecimal("250.00"), 100)));
+        trainId = trainService.createTrain(request).getTrainId();
+        fareTypeId = fareTypeRepository.findByTrainTrainId(trainId).get(0).getFareTypeId();
+    }
+
+    @Test
+    void quotaBookingsDrawOnTheirOwnPool() {
+        LocalDate journeyDate = LocalDate.now().plusWeeks(5);
+        assertThat(available(journeyDate, Quota.GENERAL)).isEqualTo(80);
+        assertThat(available(journeyDate, Quota.TATKAL)).isEqualTo(10);
+        assertThat(available(journeyDate, Quota.LADIES)).isEqualTo(4);
+        assertThat(available(journeyDate, Quota.SENIOR)).isEqualTo(6);
+
+        BookingResponse ladies = bookingService.createBooking(bookingRequest(journeyDate, Quota.LADIES,
+                new PassengerRequest("Deepa Kulkarni", 33, "FEMALE", "900000000501"),
+                new PassengerRequest("Shalini Kulkarni", 35, "FEMALE", "900000000502")));
+        assertThat(available(journeyDate, Quota.LADIES)).isEqualTo(2);
+        assertThat(available(journeyDate, Quota.GENERAL)).isEqualTo(80);
+
+        bookingService.cancelBooking(ladies.getBookingId());
+        assertThat(available(journeyDate, Quota.LADIES)).isEqualTo(4);
+        assertThat(available(journeyDate, Quota.GENERAL)).isEqualTo(80);
+    }
+
+    @Test
+    void ineligiblePassengersAreRefused() {
+        LocalDate journeyDate = LocalDate.now().plusWeeks(5);
+
+        assertThatThrownBy(() -> bookingService.createBooking(bookingRequest(journeyDate, Quota.LADIES,
+                new PassengerRequest("Rakesh Gupta", 40, "MALE", "900000000503"))))
+                .isInstanceOf(BookingValidationException.class);
+        assertThatThrownBy(() -> bookingService.createBooking(bookingRequest(journeyDate, Quota.SENIOR,
+                new PassengerRequest("Neha Gupta", 59, "FEMALE", "900000000504"))))
+                .isInstanceOf(BookingValidationException.class);
+        assertThat(available(journeyDate, Quota.LADIES)).isEqualTo(4);
+        assertThat(available(journeyDate, Quota.SENIOR)).isEqualTo(6);
+    }
+
+    @Test
+    void poolsPastCutoffReturnToGeneral() {
+        LocalDate today = LocalDate.now();
+        LocalDate later = today.plusWeeks(5);
+        bookingService.createBooking(bookingRequest(today, Quota.TATKAL,
+                new PassengerRequest("Harish Reddy", 50, "MALE", "900000000505")));
+        assertThat(available(today, Quota.TATKAL)).isEqualTo(9);
+        assertThat(available(later, Quota.GENERAL)).isEqualTo(80);
+
+        quotaRebalanceJob.rebalance();
+
+        // Unsold quota seats (9 + 4 + 6) join the 80 general seats; closed quotas book from general
+        assertThat(available(today, Quota.GENERAL)).isEqualTo(99);
+        assertThat(available(today, Quota.TATKAL)).isEqualTo(99);
+        assertThat(available(later, Quota.GENERAL)).isEqualTo(80);
+        assertThat(available(later, Quota.TATKAL)).isEqualTo(10);
+    }
+
+    private int available(LocalDate journeyDate, Quota quota) {
+        return seatInventoryService.getAvailableSeats(fareTypeId, journeyDate, quota);
+    }
+
+    private BookingRequest bookingRequest(LocalDate journeyDate, Quota quota, PassengerRequest... passengers) {
+        BookingRequest request = new BookingRequest(2L, trainId, fareTypeId, journeyDate, new BigDecimal("250.00"),
+                List.of(passengers));
+        request.setQuota(quota.name());
+        return request;
+    }
+}
@@ -0,0 +1,112 @@
+package com.tcs.trainTicketManagementSystem.booking.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.tcs.trainTicketManagementSystem.booking.dto.BookingRequest;
+import com.tcs.trainTicketManagementSystem.booking.dto.BookingResponse;
+import com.tcs.trainTicketManagementSystem.booking.dto.PassengerRequest;
+import com.tcs.trainTicketManagementSystem.booking.model.BookingStatus;
+import com.tcs.trainTicketManagementSystem.train.dto.FareTypeRequest;
+import com.tcs.trainTicketManagementSystem.train.dto.TrainRequest;
+import com.tcs.trainTicketManagementSystem.train.model.ClassType;
+import com.tcs.trainTicketManagementSystem.train.model.TrainStatus;
+import com.tcs.trainTicketManagementSystem.train.repository.FareTypeRepository;
+import com.tcs.trainTicketManagementSystem.train.service.TrainService;
+
+/**
+ * Verifies that seats coming back on a sold-out train go to the earliest waitlisted booking that fits them,
+ * including bookings moved to WAITLISTED by a status update.
+ */
+@SpringBootTest
+class WaitlistPromotionWorkerTests {
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private TrainService trainService;
+
+    @Autowired
+    private FareTypeRepository fareTypeRepository;
+
+    @Test
+    void releasedSeatsGoToEarliestWaitlistedBookingThatFits() throws InterruptedException {
+        long trainId = trainService.createTrain(waitlistTrain()).getTrainId();
+        long fareTypeId = fareTypeRepository.findByTrainTrainId(trainId).get(0).getFareTypeId();
+        LocalDate journeyDate = LocalDate.now().plusWeeks(5).with(TemporalAdjusters.next(DayOfWeek.MONDAY));
+
+        // Sell out the general pool: one pair, the rest singles
+        int general = bookingService.getAvailableSeats(fareTypeId, journeyDate);
+        BookingResponse pair = book(trainId, fareTypeId, journeyDate, 2);
+        List<BookingResponse> singles = new ArrayList<>();
+        IntStream.range(0, general - 2).forEach(i -> singles.add(book(trainId, fareTypeId, journeyDate, 1)));
+        assertThat(bookingService.getAvailableSeats(fareTypeId, journeyDate)).isZero();
+
+        BookingResponse waitingPair = book(trainId, fareTypeId, journeyDate, 2);
+        BookingResponse firstWaitingSingle = book(trainId, fareTypeId, journeyDate, 1);
+        BookingResponse secondWaitingSingle = book(trainId, fareTypeId, journeyDate, 1);
+        assertThat(List.of(waitingPair, firstWaitingSingle, secondWaitingSingle))
+                .extracting(BookingResponse::getStatus)
+                .containsOnly(BookingStatus.WAITLISTED.name());
+
+        // One seat back: the waiting pair does not fit, so the earliest single takes it
+        bookingService.cancelBooking(singles.get(0).getBookingId());
+        awaitStatus(firstWaitingSingle, BookingStatus.CONFIRMED);
+        assertThat(status(waitingPair)).isEqualTo(BookingStatus.WAITLISTED.name());
+        assertThat(status(secondWaitingSingle)).isEqualTo(BookingStatus.WAITLISTED.name());
+
+        // Two seats back: the waiting pair was waitlisted before the remaining single
+        bookingService.cancelBooking(pair.getBookingId());
+        awaitStatus(waitingPair, BookingStatus.CONFIRMED);
+        assertThat(status(secondWaitingSingle)).isEqualTo(BookingStatus.WAITLISTED.name());
+        assertThat(bookingService.getAvailableSeats(fareTypeId, journeyDate)).isZero();
+
+        // A cancelled booking put back on the waitlist keeps its place by booking ID
+        bookingService.updateBookingStatus(singles.get(0).getBookingId(), BookingStatus.WAITLISTED);
+        bookingService.cancelBooking(singles.get(1).getBookingId());
+        awaitStatus(singles.get(0), BookingStatus.CONFIRMED);
+        assertThat(status(secondWaitingSingle)).isEqualTo(BookingStatus.WAITLISTED.name());
+    }
+
+    private BookingResponse book(long trainId, long fareTypeId, LocalDate journeyDate, int passengers) {
+        List<PassengerRequest> passengerRequests = IntStream.range(0, passengers)
+                .mapToObj(i -> new PassengerRequest("Waitlist Passenger " + i, 30 + i, "MALE", "90000000040" + i))
+                .toList();
+        return bookingService.createBooking(new BookingRequest(2L, trainId, fareTypeId, journeyDate,
+                new BigDecimal("400.00"), passengerRequests));
+    }
+
+    private String status(BookingResponse booking) {
+        return bookingService.getBookingById(booking.getBookingId()).getStatus();
+    }
+
+    // Promotion runs on the worker thread once the releasing transaction commits
+    private void awaitStatus(BookingResponse booking, BookingStatus expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (!expected.name().equals(status(booking)) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+        assertThat(status(booking)).isEqualTo(expected.name());
+    }
+
+    private static TrainRequest waitlistTrain() {
+        TrainRequest request = new TrainRequest("Waitlist Test Express", "Kotagiri", "Ooty", LocalTime.of(9, 0), 2, 0,
+                TrainStatus.ACTIVE);
+        request.setScheduleDays(List.of("MONDAY"));
+        request.setFareTypes(List.of(new FareTypeRequest(ClassType.SL, new BigDecimal("200.00"), 10)));
+        return request;
+    }
+}
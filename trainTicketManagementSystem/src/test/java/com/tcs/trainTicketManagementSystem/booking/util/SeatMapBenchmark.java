@@ -0,0 +1,146 @@
+package com.tcs.trainTicketManagementSystem.booking.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.tcs.trainTicketManagementSystem.booking.model.BerthPreference;
+import com.tcs.trainTicketManagementSystem.booking.model.SeatSegment;
+import com.tcs.trainTicketManagementSystem.train.model.Coach;
+import com.tcs.trainTicketManagementSystem.train.model.CoachLayout;
+
+/**
+ * Fills a 512-berth 3AC fare type to 95% with random 1-6 passenger bookings and 25% cancellation churn, and
+ * compares how well groups booked above 90% occupancy are seated against lowest-free-seat first fit.
+ * Run with mvn test -Pbenchmarks -Dtest=SeatMapBenchmark.
+ */
+@Tag("benchmark")
+class SeatMapBenchmark {
+
+    private static final Logger logger = LoggerFactory.getLogger(SeatMapBenchmark.class);
+
+    private static final int RUNS = 200;
+    private static final int COACHES = 8;
+    private static final double TARGET_OCCUPANCY = 0.95;
+    private static final double MEASURED_OCCUPANCY = 0.90;
+    private static final double CANCELLATION_RATE = 0.25;
+
+    @Test
+    void groupSeatingNearlyFull() {
+        Result seatMap = new Result();
+        Result firstFit = new Result();
+        for (int run = 0; run < RUNS; run++) {
+            simulate(new Random(run), seatMap, false);
+            simulate(new Random(run), firstFit, true);
+        }
+
+        logger.info("Seat map:  {}", seatMap);
+        logger.info("First fit: {}", firstFit);
+        assertThat(seatMap.contiguousRate()).isGreaterThanOrEqualTo(firstFit.contiguousRate());
+    }
+
+    // Helper methods
+    private static void simulate(Random random, Result result, boolean firstFit) {
+        SeatMap seatMap = newSeatMap();
+        int target = (int) (seatMap.seats() * TARGET_OCCUPANCY);
+        List<int[]> bookings = new ArrayList<>();
+        int sold = 0;
+        int failures = 0;
+        while (sold < target && failures < 20) {
+            if (!bookings.isEmpty() && random.nextDouble() < CANCELLATION_RATE) {
+                for (int seat : bookings.remove(random.nextInt(bookings.size()))) {
+                    seatMap.vacate(seat, SeatSegment.WHOLE_ROUTE);
+                    sold--;
+                }
+                continue;
+            }
+
+            BerthPreference[] preferences = new BerthPreference[1 + random.nextInt(6)];
+            for (int i = 0; i < preferences.length; i++) {
+                preferences[i] = random.nextBoolean() ? null : BerthPreference.values()[random.nextInt(BerthPreference.values().length)];
+            }
+            long started = System.nanoTime();
+            int[] seats = firstFit ? firstFit(seatMap, preferences.length) : seatMap.allocate(SeatSegment.WHOLE_ROUTE, preferences);
+            result.allocationNanos += System.nanoTime() - started;
+            result.allocations++;
+            if (seats == null) {
+                failures++;
+                continue;
+            }
+
+            if (preferences.length > 1 && sold >= seatMap.seats() * MEASURED_OCCUPANCY) {
+                result.record(seatMap, seats, preferences);
+            }
+            for (int seat : seats) {
+                seatMap.occupy(seat, SeatSegment.WHOLE_ROUTE);
+            }
+            sold += seats.length;
+            bookings.add(seats);
+        }
+    }
+
+    private static int[] firstFit(SeatMap seatMap, int passengers) {
+        int[] seats = new int[passengers];
+        int found = 0;
+        for (int seat = 0; seat < seatMap.seats() && found < passengers; seat++) {
+            if (seatMap.isFree(seat)) {
+                seats[found++] = seat;
+            }
+        }
+        return found == passengers ? seats : null;
+    }
+
+    private static SeatMap newSeatMap() {
+        CoachLayout layout = CoachLayout.THIRD_AC;
+        List<Coach> coaches = new ArrayList<>();
+        for (int sequence = 1; sequence <= COACHES; sequence++) {
+            coaches.add(new Coach(null, sequence, layout.getPrefix() + sequence, layout.getBerthsPerCoach()));
+        }
+        return new SeatMap(coaches, layout);
+    }
+
+    private static final class Result {
+        private int groups;
+        private int contiguousGroups;
+        private int preferences;
+        private int preferencesMet;
+        private long allocations;
+        private long allocationNanos;
+
+        // A group is seated together when it fills adjacent berths of one coach
+        void record(SeatMap seatMap, int[] seats, BerthPreference[] wanted) {
+            groups++;
+            int[] sorted = seats.clone();
+            Arrays.sort(sorted);
+            boolean oneCoach = Arrays.stream(sorted).mapToObj(seatMap::coachNumber).distinct().count() == 1;
+            if (oneCoach && sorted[sorted.length - 1] - sorted[0] == sorted.length - 1) {
+                contiguousGroups++;
+            }
+            for (int i = 0; i < wanted.length; i++) {
+                if (wanted[i] != null) {
+                    preferences++;
+                    preferencesMet += wanted[i].matches(seatMap.berthType(seats[i])) ? 1 : 0;
+                }
+            }
+        }
+
+        double contiguousRate() {
+            return (double) contiguousGroups / Math.max(1, groups);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("groups seated together %d/%d (%.1f%%), preferences met %d/%d (%.1f%%), %.1f us per allocation",
+                    contiguousGroups, groups, 100 * contiguousRate(), preferencesMet, preferences,
+                    100.0 * preferencesMet / Math.max(1, preferences), allocationNanos / 1_000.0 / Math.max(1, allocations));
+        }
+    }
+}
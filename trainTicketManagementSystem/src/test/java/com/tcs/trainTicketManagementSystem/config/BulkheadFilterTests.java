@@ -0,0 +1,132 @@
+package com.tcs.trainTicketManagementSystem.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+
+/**
+ * Verifies that a saturated bulkhead answers 503 with Retry-After once its queue is full or the wait times out,
+ * without affecting the other traffic classes, and that permits come back when requests finish.
+ */
+class BulkheadFilterTests {
+
+    private static final String REPORT_PATH = "/api/v1/admin/dashboard";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CountDownLatch finishReport = new CountDownLatch(1);
+
+    @AfterEach
+    void finishReports() {
+        finishReport.countDown();
+    }
+
+    @Test
+    void requestWaitingTooLongGets503() throws Exception {
+        BulkheadFilter filter = filter(100);
+        CompletableFuture<MockHttpServletResponse> running = runReport(filter);
+
+        MockHttpServletResponse rejected = send(filter, "GET", REPORT_PATH, new MockFilterChain());
+
+        assertThat(rejected.getStatus()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE.value());
+        assertThat(rejected.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+        assertThat(rejected("timeout")).isEqualTo(1);
+
+        finishReport.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS).getStatus()).isEqualTo(200);
+        assertThat(send(filter, "GET", REPORT_PATH, new MockFilterChain()).getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void requestBeyondTheQueueIsRejectedStraightAway() throws Exception {
+        BulkheadFilter filter = filter(10_000);
+        CompletableFuture<MockHttpServletResponse> running = runReport(filter);
+        CompletableFuture<MockHttpServletResponse> queued = CompletableFuture.supplyAsync(
+                () -> send(filter, "GET", REPORT_PATH, new MockFilterChain()));
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (meterRegistry.get("api.bulkhead.queued").tag("bulkhead", "admin").gauge().value() < 1
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+
+        long started = System.nanoTime();
+        MockHttpServletResponse rejected = send(filter, "GET", REPORT_PATH, new MockFilterChain());
+
+        assertThat(rejected.getStatus()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE.value());
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started)).isLessThan(1_000);
+        assertThat(rejected("queue-full")).isEqualTo(1);
+
+        // The queued request runs once the report finishes
+        finishReport.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS).getStatus()).isEqualTo(200);
+        assertThat(queued.get(5, TimeUnit.SECONDS).getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void saturatedBulkheadDoesNotHoldUpOtherClasses() throws Exception {
+        BulkheadFilter filter = filter(100);
+        CompletableFuture<MockHttpServletResponse> running = runReport(filter);
+
+        assertThat(send(filter, "GET", "/api/v1/trains/1", new MockFilterChain()).getStatus()).isEqualTo(200);
+        assertThat(send(filter, "POST", "/api/v1/bookings", new MockFilterChain()).getStatus()).isEqualTo(200);
+        assertThat(send(filter, "GET", "/api/v1/bookings", new MockFilterChain()).getStatus())
+                .isEqualTo(HttpStatus.SERVICE_UNAVAILABLE.value());
+
+        finishReport.countDown();
+        running.get(5, TimeUnit.SECONDS);
+    }
+
+    // One admin request at a time with one more waiting, browse and booking unconstrained for these tests
+    private BulkheadFilter filter(long adminTimeoutMs) {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("api.bulkhead.admin.max-concurrent", "1")
+                .withProperty("api.bulkhead.admin.max-queue", "1")
+                .withProperty("api.bulkhead.admin.timeout-ms", String.valueOf(adminTimeoutMs));
+        return new BulkheadFilter(environment, Jackson2ObjectMapperBuilder.json().build(), meterRegistry, 10);
+    }
+
+    // Starts a report that holds the admin permit until the test lets it finish
+    private CompletableFuture<MockHttpServletResponse> runReport(BulkheadFilter filter) throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        FilterChain report = (request, response) -> {
+            started.countDown();
+            try {
+                finishReport.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+        CompletableFuture<MockHttpServletResponse> running = CompletableFuture.supplyAsync(
+                () -> send(filter, "GET", REPORT_PATH, report));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        return running;
+    }
+
+    private double rejected(String reason) {
+        return meterRegistry.get("api.bulkhead.rejected").tags("bulkhead", "admin", "reason", reason).counter().count();
+    }
+
+    private static MockHttpServletResponse send(BulkheadFilter filter, String method, String path, FilterChain chain) {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        try {
+            filter.doFilter(new MockHttpServletRequest(method, path), response, chain);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+        return response;
+    }
+}
@@ -0,0 +1,99 @@
+package com.tcs.trainTicketManagementSystem.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Verifies that a client over its limit for an endpoint class gets 429 with Retry-After before the request
+ * reaches a controller, while other clients, other endpoint classes and unlimited paths are unaffected.
+ */
+class RateLimitFilterTests {
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    // Three reads and two searches per client, refilling one token every 1000 seconds
+    private final RateLimitFilter filter = new RateLimitFilter(new MockEnvironment()
+            .withProperty("api.rate-limit.read.capacity", "3")
+            .withProperty("api.rate-limit.read.refill-per-second", "0.001")
+            .withProperty("api.rate-limit.search.capacity", "2")
+            .withProperty("api.rate-limit.search.refill-per-second", "0.001"),
+            objectMapper, meterRegistry, 100);
+
+    @Test
+    void clientOverItsLimitGets429WithRetryAfter() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            assertThat(send("GET", "/api/v1/bookings/1", "7", null).getStatus()).isEqualTo(HttpStatus.OK.value());
+        }
+
+        MockFilterChain chain = new MockFilterChain();
+        MockHttpServletResponse response = send("GET", "/api/v1/bookings/1", "7", chain);
+
+        assertThat(chain.getRequest()).isNull();
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS.value());
+        assertThat(Long.parseLong(response.getHeader(HttpHeaders.RETRY_AFTER))).isBetween(900L, 1000L);
+        JsonNode body = objectMapper.readTree(response.getContentAsString());
+        assertThat(body.get("status").asInt()).isEqualTo(429);
+        assertThat(meterRegistry.get("api.rate-limit.rejected").tag("class", "read").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("api.rate-limit.allowed").tag("class", "read").counter().count()).isEqualTo(3);
+    }
+
+    @Test
+    void limitsAreKeptPerClientAndEndpointClass() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            send("GET", "/api/v1/bookings/1", "7", null);
+        }
+        assertThat(send("GET", "/api/v1/bookings/1", "7", null).getStatus()).isEqualTo(429);
+
+        // Another user, and the same user's searches, have buckets of their own
+        assertThat(send("GET", "/api/v1/bookings/1", "8", null).getStatus()).isEqualTo(200);
+        assertThat(send("GET", "/api/v1/trains/route", "7", null).getStatus()).isEqualTo(200);
+        assertThat(send("GET", "/api/v1/trains/route", "7", null).getStatus()).isEqualTo(200);
+        assertThat(send("GET", "/api/v1/trains/route", "7", null).getStatus()).isEqualTo(429);
+    }
+
+    @Test
+    void clientsWithoutUserIdAreKeyedByAddress() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            send("GET", "/api/v1/trains/1", null, null);
+        }
+        assertThat(send("GET", "/api/v1/trains/1", null, null).getStatus()).isEqualTo(429);
+
+        MockHttpServletRequest otherAddress = new MockHttpServletRequest("GET", "/api/v1/trains/1");
+        otherAddress.setRemoteAddr("10.0.0.2");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(otherAddress, response, new MockFilterChain());
+        assertThat(response.getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void pathsOutsideTheApisAreNotLimited() throws Exception {
+        for (int i = 0; i < 10; i++) {
+            assertThat(send("GET", "/actuator/health", "7", null).getStatus()).isEqualTo(200);
+        }
+        assertThat(meterRegistry.get("api.rate-limit.allowed").tag("class", "read").counter().count()).isZero();
+    }
+
+    private MockHttpServletResponse send(String method, String path, String userId, MockFilterChain chain) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, path);
+        if (userId != null) {
+            request.addHeader(RateLimitFilter.USER_ID_HEADER, userId);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain != null ? chain : new MockFilterChain());
+        return response;
+    }
+}
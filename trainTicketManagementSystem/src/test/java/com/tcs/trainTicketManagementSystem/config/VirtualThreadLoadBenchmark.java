@@ -0,0 +1,152 @@
+package com.tcs.trainTicketManagementSystem.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.core.env.Environment;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Drives the running app with concurrent HTTP clients, half route searches and half booking list reads, and
+ * reports throughput, latency percentiles, bulkhead rejections and carrier pins. The rate limiter is off so every
+ * client is limited only by the server's threads, JDBC pool and bulkheads.
+ * Run with mvn test -Pbenchmarks -Dtest=VirtualThreadLoadBenchmark for platform threads, and on Java 21 with
+ * -Pbenchmarks,virtual-threads -Dspring.profiles.active=virtual-threads for virtual threads. The client count and
+ * duration are set with -Dbenchmark.clients and -Dbenchmark.seconds.
+ */
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "api.rate-limit.enabled=false")
+class VirtualThreadLoadBenchmark {
+
+    private static final Logger logger = LoggerFactory.getLogger(VirtualThreadLoadBenchmark.class);
+
+    private static final int CLIENTS = Integer.getInteger("benchmark.clients", 200);
+    private static final int SECONDS = Integer.getInteger("benchmark.seconds", 20);
+    private static final int WARMUP_SECONDS = 5;
+    private static final List<String> PATHS = List.of(
+            "/api/v1/trains/route?source=Delhi&destination=Mumbai",
+            "/api/v1/bookings/user/2?limit=20");
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private Environment environment;
+
+    @Test
+    void concurrentClients() throws Exception {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        run(httpClient, Math.min(CLIENTS, 50), WARMUP_SECONDS);
+
+        double pinnedBefore = pinnedCount();
+        long started = System.nanoTime();
+        Result result = run(httpClient, CLIENTS, SECONDS);
+        double elapsedSeconds = (System.nanoTime() - started) / 1e9;
+        double pinned = pinnedCount() - pinnedBefore;
+
+        long[] nanos = result.latencies();
+        logger.info("{} clients for {} s on {} threads: {} requests/s, p50 {} ms, p99 {} ms, responses {}, "
+                + "errors {}, pinned {}", CLIENTS, SECONDS,
+                environment.getProperty("spring.threads.virtual.enabled", Boolean.class, false) ? "virtual" : "platform",
+                String.format("%.0f", nanos.length / elapsedSeconds), percentile(nanos, 50), percentile(nanos, 99),
+                result.statuses(), result.errors().sum(),
+                Double.isNaN(pinned) ? "n/a (monitor off; needs Java 21 and the virtual-threads profile)" : (long) pinned);
+
+        assertThat(result.statuses().getOrDefault(200, new LongAdder()).sum()).isPositive();
+        assertThat(result.statuses().keySet()).allMatch(status -> status == 200 || status == 503);
+    }
+
+    // Helper methods
+    private Result run(HttpClient httpClient, int clients, int seconds) throws Exception {
+        Result result = new Result(new ConcurrentHashMap<>(), new ArrayList<>(), new LongAdder());
+        long deadline = System.nanoTime() + seconds * 1_000_000_000L;
+        ExecutorService executor = Executors.newFixedThreadPool(clients);
+        try {
+            List<Future<long[]>> futures = new ArrayList<>();
+            for (int client = 0; client < clients; client++) {
+                int offset = client;
+                futures.add(executor.submit(() -> client(httpClient, offset, deadline, result)));
+            }
+            for (Future<long[]> future : futures) {
+                result.perClient().add(future.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        return result;
+    }
+
+    // One client sends requests back to back until the deadline, alternating between the two paths
+    private long[] client(HttpClient httpClient, int offset, long deadline, Result result) {
+        long[] nanos = new long[1024];
+        int count = 0;
+        for (int i = offset; System.nanoTime() < deadline; i++) {
+            HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + PATHS.get(i % PATHS.size())))
+                    .timeout(Duration.ofSeconds(30))
+                    .GET()
+                    .build();
+            long started = System.nanoTime();
+            try {
+                HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+                result.statuses().computeIfAbsent(response.statusCode(), status -> new LongAdder()).increment();
+            } catch (Exception e) {
+                result.errors().increment();
+                continue;
+            }
+            if (count == nanos.length) {
+                nanos = Arrays.copyOf(nanos, count * 2);
+            }
+            nanos[count++] = System.nanoTime() - started;
+        }
+        return Arrays.copyOf(nanos, count);
+    }
+
+    // NaN when the pinning monitor is not running
+    private double pinnedCount() {
+        Counter counter = meterRegistry.find("jvm.threads.virtual.pinned").counter();
+        return counter == null ? Double.NaN : counter.count();
+    }
+
+    private static double percentile(long[] sorted, int percentile) {
+        return sorted.length == 0 ? 0 : sorted[Math.min(sorted.length - 1, sorted.length * percentile / 100)] / 1_000_000.0;
+    }
+
+    private record Result(Map<Integer, LongAdder> statuses, List<long[]> perClient, LongAdder errors) {
+
+        long[] latencies() {
+            long[] all = perClient.stream().flatMapToLong(Arrays::stream).toArray();
+            Arrays.sort(all);
+            return all;
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.tcs.trainTicketManagementSystem.train.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.tcs.trainTicketManagementSystem.booking.dto.BookingRequest;
+import com.tcs.trainTicketManagementSystem.booking.dto.BookingResponse;
+import com.tcs.trainTicketManagementSystem.booking.dto.PassengerRequest;
+import com.tcs.trainTicketManagementSystem.booking.dto.PassengerResponse;
+import com.tcs.trainTicketManagementSystem.booking.service.BookingService;
+import com.tcs.trainTicketManagementSystem.train.dto.AdminDashboardResponse;
+import com.tcs.trainTicketManagementSystem.train.dto.TrainRequest;
+import com.tcs.trainTicketManagementSystem.train.model.TrainStatus;
+import com.tcs.trainTicketManagementSystem.users.dto.UserRegistrationRequest;
+import com.tcs.trainTicketManagementSystem.users.model.UserRole;
+import com.tcs.trainTicketManagementSystem.users.service.UserService;
+
+/**
+ * Verifies that the dashboard counters follow booking, passenger, user and train changes without a recount,
+ * and agree with a full recount afterwards.
+ */
+@SpringBootTest
+class AdminDashboardCountersTests {
+
+    // Rajdhani Express SL, running on Mondays
+    private static final long TRAIN_ID = 1L;
+    private static final long FARE_TYPE_ID = 3L;
+    private static final BigDecimal FARE = new BigDecimal("800.00");
+
+    @Autowired
+    private AdminDashboardCounters dashboardCounters;
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private TrainService trainService;
+
+    @Test
+    void countersFollowChangesAndMatchRecount() {
+        dashboardCounters.reconcile();
+        AdminDashboardResponse before = dashboardCounters.snapshot();
+        LocalDate journeyDate = LocalDate.now().plusWeeks(9).with(TemporalAdjusters.next(DayOfWeek.MONDAY));
+
+        BookingResponse booking = bookingService.createBooking(new BookingRequest(2L, TRAIN_ID, FARE_TYPE_ID, journeyDate,
+                FARE, List.of(new PassengerRequest("Farah Sheikh", 32, "FEMALE", "900000000601"),
+                        new PassengerRequest("Imran Sheikh", 35, "MALE", "900000000602"))));
+        AdminDashboardResponse created = dashboardCounters.snapshot();
+        assertThat(created.getTotalBookings()).isEqualTo(before.getTotalBookings() + 1);
+        assertThat(created.getConfirmedBookings()).isEqualTo(before.getConfirmedBookings() + 1);
+        assertThat(created.getTotalSales()).isEqualByComparingTo(before.getTotalSales().add(FARE));
+        assertThat(created.getTotalPassengers()).isEqualTo(before.getTotalPassengers() + 2);
+
+        PassengerResponse added = bookingService.addPassengerToBooking(booking.getBookingId(),
+                new PassengerRequest("Zoya Sheikh", 8, "FEMALE", "900000000603"));
+        assertThat(dashboardCounters.snapshot().getTotalPassengers()).isEqualTo(before.getTotalPassengers() + 3);
+        bookingService.deletePassenger(added.getPassengerId());
+        assertThat(dashboardCounters.snapshot().getTotalPassengers()).isEqualTo(before.getTotalPassengers() + 2);
+
+        bookingService.cancelBooking(booking.getBookingId());
+        AdminDashboardResponse cancelled = dashboardCounters.snapshot();
+        assertThat(cancelled.getTotalBookings()).isEqualTo(before.getTotalBookings() + 1);
+        assertThat(cancelled.getConfirmedBookings()).isEqualTo(before.getConfirmedBookings());
+        assertThat(cancelled.getCancelledBookings()).isEqualTo(before.getCancelledBookings() + 1);
+        assertThat(cancelled.getTotalSales()).isEqualByComparingTo(before.getTotalSales());
+
+        userService.registerUser(new UserRegistrationRequest("dashboard.tester", "Secret@123", "dashboard.tester@example.com",
+                "9876500001", UserRole.USER));
+        trainService.createTrain(new TrainRequest("Dashboard Test Express", "Agra", "Gwalior", LocalTime.of(7, 30), 2, 0,
+                TrainStatus.ACTIVE));
+        AdminDashboardResponse changed = dashboardCounters.snapshot();
+        assertThat(changed.getTotalUsers()).isEqualTo(before.getTotalUsers() + 1);
+        assertThat(changed.getTotalTrains()).isEqualTo(before.getTotalTrains() + 1);
+        assertThat(changed.getActiveTrains()).isEqualTo(before.getActiveTrains() + 1);
+
+        dashboardCounters.reconcile();
+        assertThat(dashboardCounters.snapshot()).usingRecursiveComparison()
+                .withComparatorForType(BigDecimal::compareTo, BigDecimal.class)
+                .isEqualTo(changed);
+    }
+}
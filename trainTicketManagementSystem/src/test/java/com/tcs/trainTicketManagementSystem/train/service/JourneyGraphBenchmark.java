@@ -0,0 +1,110 @@
+package com.tcs.trainTicketManagementSystem.train.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.tcs.trainTicketManagementSystem.train.service.JourneyGraph.Journey;
+import com.tcs.trainTicketManagementSystem.train.service.JourneyGraph.Leg;
+import com.tcs.trainTicketManagementSystem.train.service.TrainCatalog.CatalogTrain;
+
+/**
+ * Times connecting-journey searches and graph builds over 10k synthetic trains, checking that every journey
+ * found is one a passenger could actually make. Run with mvn test -Pbenchmarks -Dtest=JourneyGraphBenchmark.
+ */
+@Tag("benchmark")
+class JourneyGraphBenchmark {
+
+    private static final Logger logger = LoggerFactory.getLogger(JourneyGraphBenchmark.class);
+
+    private static final int TRAINS = 10_000;
+    private static final int STATIONS = 800;
+    private static final int MIN_TRANSFER_MINUTES = 30;
+    private static final int SEARCH_DAYS = 2;
+    private static final int WARMUP_QUERIES = 500;
+    private static final int MEASURED_QUERIES = 500;
+
+    private final List<CatalogTrain> trains = SyntheticTrains.generate(TRAINS, STATIONS, 42);
+
+    @Test
+    void buildGraph() {
+        long[] builds = new long[5];
+        long[] updates = new long[5];
+        Random random = new Random(3);
+        for (int i = 0; i < builds.length; i++) {
+            long started = System.nanoTime();
+            JourneyGraph graph = JourneyGraph.of(trains);
+            builds[i] = System.nanoTime() - started;
+
+            // Ten trains edited at once, merged into the existing graph
+            List<CatalogTrain> changed = random.ints(10, 0, TRAINS).mapToObj(trains::get).toList();
+            Set<Long> changedIds = changed.stream().map(CatalogTrain::trainId).collect(Collectors.toSet());
+            started = System.nanoTime();
+            graph.withTrains(changedIds, changed);
+            updates[i] = System.nanoTime() - started;
+        }
+        Arrays.sort(builds);
+        Arrays.sort(updates);
+        logger.info("Journey graph over {} trains: full build median {} ms, 10-train update median {} ms", TRAINS,
+                builds[builds.length / 2] / 1_000_000, updates[updates.length / 2] / 1_000_000);
+    }
+
+    @Test
+    void search() {
+        JourneyGraph graph = JourneyGraph.of(trains);
+        Random random = new Random(5);
+        LocalDate today = LocalDate.now();
+        for (int maxLegs = 1; maxLegs <= 4; maxLegs++) {
+            for (int i = 0; i < WARMUP_QUERIES; i++) {
+                graph.search(SyntheticTrains.station(random.nextInt(STATIONS)), SyntheticTrains.station(random.nextInt(STATIONS)),
+                        today.plusDays(random.nextInt(30)), maxLegs, MIN_TRANSFER_MINUTES, SEARCH_DAYS);
+            }
+
+            long[] nanos = new long[MEASURED_QUERIES];
+            int found = 0;
+            for (int i = 0; i < MEASURED_QUERIES; i++) {
+                String source = SyntheticTrains.station(random.nextInt(STATIONS));
+                String destination = SyntheticTrains.station(random.nextInt(STATIONS));
+                LocalDate date = today.plusDays(random.nextInt(30));
+                long started = System.nanoTime();
+                List<Journey> journeys = graph.search(source, destination, date, maxLegs, MIN_TRANSFER_MINUTES, SEARCH_DAYS);
+                nanos[i] = System.nanoTime() - started;
+                found += journeys.isEmpty() ? 0 : 1;
+                journeys.forEach(journey -> assertFeasible(journey, source, destination, date));
+            }
+
+            Arrays.sort(nanos);
+            logger.info("Journey search, up to {} legs: p50 {} ms, p99 {} ms, {}% of searches found a journey", maxLegs,
+                    nanos[nanos.length / 2] / 1_000_000.0, nanos[nanos.length * 99 / 100] / 1_000_000.0,
+                    found * 100 / MEASURED_QUERIES);
+        }
+    }
+
+    // The legs connect, leave enough time to change and ride trains on days they run
+    private static void assertFeasible(Journey journey, String source, String destination, LocalDate date) {
+        List<Leg> legs = journey.legs();
+        assertThat(legs.get(0).source()).isEqualTo(source);
+        assertThat(legs.get(0).runDate()).isEqualTo(date);
+        assertThat(legs.get(legs.size() - 1).destination()).isEqualTo(destination);
+        for (int i = 0; i < legs.size(); i++) {
+            Leg leg = legs.get(i);
+            assertThat(leg.train().runsOn(leg.runDate())).isTrue();
+            assertThat(leg.toStop()).isGreaterThan(leg.fromStop());
+            if (i > 0) {
+                Leg previous = legs.get(i - 1);
+                assertThat(leg.source()).isEqualTo(previous.destination());
+                assertThat(leg.departure()).isAfterOrEqualTo(previous.arrival().plusMinutes(MIN_TRANSFER_MINUTES));
+            }
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.tcs.trainTicketManagementSystem.train.service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import com.tcs.trainTicketManagementSystem.train.model.ClassType;
+import com.tcs.trainTicketManagementSystem.train.model.DayOfWeek;
+import com.tcs.trainTicketManagementSystem.train.model.TrainStatus;
+import com.tcs.trainTicketManagementSystem.train.service.TrainCatalog.CatalogFare;
+import com.tcs.trainTicketManagementSystem.train.service.TrainCatalog.CatalogStop;
+import com.tcs.trainTicketManagementSystem.train.service.TrainCatalog.CatalogTrain;
+
+/**
+ * Random catalog trains for the timetable benchmarks: 2-8 distinct stops out of a fixed set of stations,
+ * any departure time and running days, 5% inactive and 10% without seats.
+ */
+final class SyntheticTrains {
+
+    private SyntheticTrains() {
+    }
+
+    static String station(int id) {
+        return "Station " + id;
+    }
+
+    static List<CatalogTrain> generate(int count, int stations, long seed) {
+        Random random = new Random(seed);
+        int year = LocalDate.now().getYear();
+        List<CatalogTrain> trains = new ArrayList<>(count);
+        for (int id = 1; id <= count; id++) {
+            int[] stationIds = random.ints(0, stations).distinct().limit(2 + random.nextInt(7)).toArray();
+            List<CatalogStop> stops = new ArrayList<>(stationIds.length);
+            int minutes = 0;
+            for (int i = 0; i < stationIds.length; i++) {
+                int arrival = minutes;
+                int departure = i == 0 || i == stationIds.length - 1 ? arrival : arrival + 5;
+                stops.add(new CatalogStop(station(stationIds[i]), arrival, departure));
+                minutes = departure + 30 + random.nextInt(211);
+            }
+            int journeyMinutes = stops.get(stops.size() - 1).arrivalOffsetMinutes();
+
+            int runningDays = 1 + random.nextInt(127);
+            List<DayOfWeek> scheduleDays = Arrays.stream(DayOfWeek.values())
+                    .filter(day -> (runningDays & day.mask()) != 0)
+                    .toList();
+            TrainStatus status = random.nextInt(20) == 0 ? TrainStatus.INACTIVE : TrainStatus.ACTIVE;
+            int seats = random.nextInt(10) == 0 ? 0 : 1 + random.nextInt(100);
+
+            trains.add(new CatalogTrain((long) id, "Train " + id, stops.get(0).station(),
+                    stops.get(stops.size() - 1).station(), LocalTime.ofSecondOfDay(random.nextInt(24 * 60) * 60L),
+                    journeyMinutes / 60, journeyMinutes % 60, status, stops, scheduleDays, runningDays,
+                    RunCalendar.compile(runningDays, Map.of(), year, 2),
+                    List.of(new CatalogFare((long) id, ClassType.SL, BigDecimal.valueOf(500), seats))));
+        }
+        return trains;
+    }
+}
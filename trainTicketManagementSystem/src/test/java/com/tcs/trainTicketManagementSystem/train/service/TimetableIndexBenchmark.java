@@ -0,0 +1,135 @@
+package com.tcs.trainTicketManagementSystem.train.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.tcs.trainTicketManagementSystem.train.model.TrainStatus;
+import com.tcs.trainTicketManagementSystem.train.service.TrainCatalog.CatalogStop;
+import com.tcs.trainTicketManagementSystem.train.service.TrainCatalog.CatalogTrain;
+
+/**
+ * Times timetable index searches over 50k synthetic trains and checks every measured search against a
+ * brute-force scan of the same trains. Run with mvn test -Pbenchmarks -Dtest=TimetableIndexBenchmark.
+ */
+@Tag("benchmark")
+class TimetableIndexBenchmark {
+
+    private static final Logger logger = LoggerFactory.getLogger(TimetableIndexBenchmark.class);
+
+    private static final int TRAINS = 50_000;
+    private static final int STATIONS = 800;
+    private static final int WARMUP_QUERIES = 20_000;
+    private static final int MEASURED_QUERIES = 2_000;
+    private static final long NANOS_PER_MINUTE = 60_000_000_000L;
+    private static final long NANOS_PER_DAY = 24 * 60 * NANOS_PER_MINUTE;
+
+    private final List<CatalogTrain> trains = SyntheticTrains.generate(TRAINS, STATIONS, 42);
+    private final LocalDate today = LocalDate.now();
+
+    @Test
+    void buildIndex() {
+        long[] nanos = new long[5];
+        for (int i = 0; i < nanos.length; i++) {
+            long started = System.nanoTime();
+            new TimetableIndex(trains);
+            nanos[i] = System.nanoTime() - started;
+        }
+        Arrays.sort(nanos);
+        logger.info("Index build over {} trains: median {} ms", TRAINS, nanos[nanos.length / 2] / 1_000_000);
+    }
+
+    @Test
+    void routeSearch() {
+        TimetableIndex index = new TimetableIndex(trains);
+        Random random = new Random(7);
+        measure("Route search", () -> {
+            CatalogTrain train = trains.get(random.nextInt(TRAINS));
+            int from = random.nextInt(train.stops().size() - 1);
+            int to = from + 1 + random.nextInt(train.stops().size() - from - 1);
+            String source = train.stops().get(from).station();
+            String destination = train.stops().get(to).station();
+            LocalDate date = today.plusDays(random.nextInt(60));
+            return new Query(() -> index.route(source, destination).find(null, null, date, TrainStatus.ACTIVE, true),
+                    () -> scan(source, destination, null, null, date, TrainStatus.ACTIVE));
+        });
+    }
+
+    @Test
+    void sourceSearchWithinThreeHours() {
+        TimetableIndex index = new TimetableIndex(trains);
+        Random random = new Random(11);
+        measure("Source search, 3-hour window", () -> {
+            String source = SyntheticTrains.station(random.nextInt(STATIONS));
+            LocalTime after = LocalTime.ofSecondOfDay(random.nextInt(21 * 60) * 60L);
+            LocalTime before = after.plusHours(3);
+            LocalDate date = today.plusDays(random.nextInt(60));
+            return new Query(() -> index.source(source).find(after, before, date, null, true),
+                    () -> scan(source, null, after, before, date, null));
+        });
+    }
+
+    // Helper methods
+    private void measure(String name, Supplier<Query> queries) {
+        for (int i = 0; i < WARMUP_QUERIES; i++) {
+            queries.get().indexed().get();
+        }
+
+        long[] nanos = new long[MEASURED_QUERIES];
+        long matches = 0;
+        for (int i = 0; i < MEASURED_QUERIES; i++) {
+            Query query = queries.get();
+            long started = System.nanoTime();
+            List<CatalogTrain> found = query.indexed().get();
+            nanos[i] = System.nanoTime() - started;
+            matches += found.size();
+            assertThat(ids(found)).isEqualTo(ids(query.bruteForce().get()));
+        }
+
+        Arrays.sort(nanos);
+        logger.info("{} over {} trains: mean {} us, p50 {} us, p99 {} us, {} matches per search", name, TRAINS,
+                Arrays.stream(nanos).average().orElse(0) / 1_000, nanos[nanos.length / 2] / 1_000.0,
+                nanos[nanos.length * 99 / 100] / 1_000.0, (double) matches / MEASURED_QUERIES);
+    }
+
+    // Trains boarding at the source (and reaching the destination after it) strictly inside the window, with seat capacity
+    private List<CatalogTrain> scan(String source, String destination, LocalTime after, LocalTime before,
+            LocalDate date, TrainStatus status) {
+        List<CatalogTrain> matches = new ArrayList<>();
+        for (CatalogTrain train : trains) {
+            int from = train.stopIndex(source);
+            int to = destination == null ? train.stops().size() - 1 : train.stopIndex(destination);
+            if (from < 0 || to <= from || (status != null && train.status() != status) || !train.hasSeatCapacity()) {
+                continue;
+            }
+            CatalogStop boarding = train.stops().get(from);
+            long departure = train.departureTime().toNanoOfDay() + boarding.departureOffsetMinutes() * NANOS_PER_MINUTE;
+            long timeOfDay = departure % NANOS_PER_DAY;
+            if ((after != null && timeOfDay <= after.toNanoOfDay()) || (before != null && timeOfDay >= before.toNanoOfDay())) {
+                continue;
+            }
+            if (train.runsOn(date.minusDays(departure / NANOS_PER_DAY))) {
+                matches.add(train);
+            }
+        }
+        return matches;
+    }
+
+    private static long[] ids(List<CatalogTrain> trains) {
+        return trains.stream().mapToLong(CatalogTrain::trainId).sorted().toArray();
+    }
+
+    private record Query(Supplier<List<CatalogTrain>> indexed, Supplier<List<CatalogTrain>> bruteForce) {
+    }
+}
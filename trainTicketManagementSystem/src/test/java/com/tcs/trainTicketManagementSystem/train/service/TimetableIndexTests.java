@@ -0,0 +1,48 @@
+package com.tcs.trainTicketManagementSystem.train.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.tcs.trainTicketManagementSystem.train.model.TrainStatus;
+import com.tcs.trainTicketManagementSystem.train.service.TrainCatalog.CatalogStop;
+import com.tcs.trainTicketManagementSystem.train.service.TrainCatalog.CatalogTrain;
+
+/**
+ * Verifies that run dates are matched against the day a train leaves the searched boarding stop.
+ */
+class TimetableIndexTests {
+
+    // Leaves Pune at 22:00 on Mondays only and reaches Nagpur after midnight
+    private static final int MONDAY_ONLY = 1;
+
+    private final TimetableIndex timetable = new TimetableIndex(List.of(new CatalogTrain(1L, "Night Mail", "Pune",
+            "Nagpur", LocalTime.of(22, 0), 10, 0, TrainStatus.ACTIVE,
+            List.of(new CatalogStop("Pune", 0, 0), new CatalogStop("Bhusawal", 175, 180), new CatalogStop("Nagpur", 600, 600)),
+            List.of(), MONDAY_ONLY, RunCalendar.compile(MONDAY_ONLY, Map.of(), LocalDate.now().getYear(), 2), List.of())));
+
+    private final LocalDate monday = LocalDate.now().with(TemporalAdjusters.next(DayOfWeek.MONDAY));
+
+    @Test
+    void intermediateStopPastMidnightMatchesTheNextDay() {
+        TimetableIndex.Slice route = timetable.route("Bhusawal", "Nagpur");
+
+        assertThat(route.find(LocalTime.of(0, 30), LocalTime.of(1, 30), monday.plusDays(1), null, false)).hasSize(1);
+        assertThat(route.find(null, null, monday, null, false)).isEmpty();
+    }
+
+    @Test
+    void sourceStopMatchesItsOwnDay() {
+        TimetableIndex.Slice route = timetable.route("Pune", "Bhusawal");
+
+        assertThat(route.find(null, null, monday, null, false)).hasSize(1);
+        assertThat(route.find(null, null, monday.plusDays(1), null, false)).isEmpty();
+    }
+}
@@ -0,0 +1,83 @@
+package com.tcs.trainTicketManagementSystem.train.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.tcs.trainTicketManagementSystem.train.dto.FareTypeRequest;
+import com.tcs.trainTicketManagementSystem.train.dto.JourneyLegResponse;
+import com.tcs.trainTicketManagementSystem.train.dto.JourneyResponse;
+import com.tcs.trainTicketManagementSystem.train.dto.TrainRequest;
+import com.tcs.trainTicketManagementSystem.train.model.ClassType;
+import com.tcs.trainTicketManagementSystem.train.model.TrainStatus;
+
+/**
+ * Verifies that the journey planner returns the direct journey and each connecting journey that arrives
+ * earlier with more trains, skips connections shorter than the minimum transfer time, and validates its
+ * parameters.
+ */
+@SpringBootTest
+class TrainServiceImplJourneyTests {
+
+    @Autowired
+    private TrainService trainService;
+
+    @Test
+    void connectingJourneysMustArriveEarlierThanFewerLegs() {
+        long direct = createTrain("Journey Test Direct", "Pondicherry", "Tiruvannamalai", LocalTime.of(6, 0), 5);
+        long feeder = createTrain("Journey Test Feeder", "Pondicherry", "Villupuram", LocalTime.of(6, 0), 1);
+        // Leaves 15 minutes after the feeder arrives, less than the 30-minute minimum transfer
+        createTrain("Journey Test Tight Link", "Villupuram", "Tiruvannamalai", LocalTime.of(7, 15), 1);
+        long link = createTrain("Journey Test Link", "Villupuram", "Tiruvannamalai", LocalTime.of(8, 0), 2);
+        LocalDate date = LocalDate.now().plusWeeks(2);
+
+        List<JourneyResponse> journeys = trainService.planJourneys("pondicherry", "TIRUVANNAMALAI", date, 3);
+
+        assertThat(journeys).hasSize(2);
+        assertThat(journeys.get(0).getTransfers()).isZero();
+        assertThat(journeys.get(0).getLegs()).extracting(JourneyLegResponse::getTrainId).containsExactly(direct);
+        assertThat(journeys.get(0).getArrivalTime()).isEqualTo(date.atTime(11, 0));
+
+        JourneyResponse connecting = journeys.get(1);
+        assertThat(connecting.getTransfers()).isEqualTo(1);
+        assertThat(connecting.getLegs()).extracting(JourneyLegResponse::getTrainId).containsExactly(feeder, link);
+        assertThat(connecting.getLegs()).extracting(JourneyLegResponse::getDestination)
+                .containsExactly("Villupuram", "Tiruvannamalai");
+        assertThat(connecting.getDepartureTime()).isEqualTo(date.atTime(6, 0));
+        assertThat(connecting.getArrivalTime()).isEqualTo(date.atTime(10, 0));
+        assertThat(connecting.getDurationMinutes()).isEqualTo(240);
+
+        assertThat(trainService.planJourneys("Pondicherry", "Tiruvannamalai", date, 1))
+                .singleElement()
+                .satisfies(journey -> assertThat(journey.getLegs()).extracting(JourneyLegResponse::getTrainId)
+                        .containsExactly(direct));
+        assertThat(trainService.planJourneys("Pondicherry", "Nowhere", date, 3)).isEmpty();
+    }
+
+    @Test
+    void invalidSearchIsRefused() {
+        LocalDate date = LocalDate.now().plusWeeks(2);
+
+        assertThatThrownBy(() -> trainService.planJourneys("Pondicherry", "Villupuram", date, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> trainService.planJourneys("Pondicherry", "Villupuram", date, 5))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> trainService.planJourneys("Pondicherry", "pondicherry", date, 2))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private long createTrain(String trainName, String source, String destination, LocalTime departure, int hours) {
+        TrainRequest request = new TrainRequest(trainName, source, destination, departure, hours, 0, TrainStatus.ACTIVE);
+        request.setScheduleDays(List.of("MON", "TUE", "WED", "THU", "FRI", "SAT", "SUN"));
+        request.setFareTypes(List.of(new FareTypeRequest(ClassType.SL, new BigDecimal("80.00"), 30)));
+        return trainService.createTrain(request).getTrainId();
+    }
+}
@@ -0,0 +1,126 @@
+package com.tcs.trainTicketManagementSystem.train.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.math.BigDecimal;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.tcs.trainTicketManagementSystem.booking.repository.SeatInventoryRepository;
+import com.tcs.trainTicketManagementSystem.booking.service.SeatInventoryService;
+import com.tcs.trainTicketManagementSystem.train.dto.BulkRunExceptionRequest;
+import com.tcs.trainTicketManagementSystem.train.dto.BulkRunExceptionResponse;
+import com.tcs.trainTicketManagementSystem.train.dto.FareTypeRequest;
+import com.tcs.trainTicketManagementSystem.train.dto.TrainRequest;
+import com.tcs.trainTicketManagementSystem.train.dto.TrainResponse;
+import com.tcs.trainTicketManagementSystem.train.dto.TrainRunExceptionRequest;
+import com.tcs.trainTicketManagementSystem.train.dto.TrainRunExceptionResponse;
+import com.tcs.trainTicketManagementSystem.train.exception.TrainNotFoundException;
+import com.tcs.trainTicketManagementSystem.train.model.ClassType;
+import com.tcs.trainTicketManagementSystem.train.model.RunExceptionType;
+import com.tcs.trainTicketManagementSystem.train.model.TrainStatus;
+import com.tcs.trainTicketManagementSystem.train.repository.FareTypeRepository;
+
+/**
+ * Verifies that dated run exceptions cancel or add runs on top of the weekly schedule for run dates, date
+ * searches and inventory materialization, that a new exception replaces the old one on its date, and that bulk
+ * changes apply to every train and date or to none.
+ */
+@SpringBootTest
+class TrainServiceImplRunExceptionTests {
+
+    private static final String SOURCE = "Bikaner";
+    private static final String DESTINATION = "Jaisalmer";
+    private static final long UNKNOWN_TRAIN_ID = 999_999L;
+
+    @Autowired
+    private TrainService trainService;
+
+    @Autowired
+    private FareTypeRepository fareTypeRepository;
+
+    @Autowired
+    private SeatInventoryService seatInventoryService;
+
+    @Autowired
+    private SeatInventoryRepository seatInventoryRepository;
+
+    private final LocalDate monday = LocalDate.now().plusWeeks(2).with(TemporalAdjusters.next(DayOfWeek.MONDAY));
+
+    @Test
+    void exceptionsCancelAndAddRuns() {
+        long trainId = createMondayTrain("Run Exception Test Express");
+        long fareTypeId = fareTypeRepository.findByTrainTrainId(trainId).get(0).getFareTypeId();
+        LocalDate tuesday = monday.plusDays(1);
+        assertThat(trainService.getRunDates(trainId, monday, monday.plusDays(13))).containsExactly(monday, monday.plusWeeks(1));
+
+        TrainRunExceptionResponse cancelled = trainService.addRunException(trainId,
+                new TrainRunExceptionRequest(monday, RunExceptionType.CANCELLED, "Track work"));
+        trainService.addRunException(trainId, new TrainRunExceptionRequest(tuesday, RunExceptionType.ADDED, "Fair special"));
+
+        assertThat(trainService.getRunDates(trainId, monday, monday.plusDays(13))).containsExactly(tuesday, monday.plusWeeks(1));
+        assertThat(trainIds(trainService.getAvailableTrainsForDate(SOURCE, DESTINATION, monday))).doesNotContain(trainId);
+        assertThat(trainIds(trainService.getAvailableTrainsForDate(SOURCE, DESTINATION, tuesday))).contains(trainId);
+
+        seatInventoryService.materializeHorizon();
+        assertThat(seatInventoryRepository.findByFareTypeIdAndJourneyDate(fareTypeId, monday)).isEmpty();
+        assertThat(seatInventoryRepository.findByFareTypeIdAndJourneyDate(fareTypeId, tuesday)).isPresent();
+
+        // One exception per date: a new one replaces the old in place
+        trainService.addRunException(trainId, new TrainRunExceptionRequest(monday, RunExceptionType.CANCELLED, "Flooding"));
+        assertThat(trainService.getRunExceptions(trainId))
+                .extracting(TrainRunExceptionResponse::getExceptionId, TrainRunExceptionResponse::getReason)
+                .hasSize(2)
+                .contains(tuple(cancelled.getExceptionId(), "Flooding"));
+
+        trainService.removeRunException(trainId, tuesday);
+        assertThat(trainService.getRunExceptions(trainId)).extracting(TrainRunExceptionResponse::getRunDate)
+                .containsExactly(monday);
+        assertThat(trainService.getRunDates(trainId, monday, monday.plusDays(13))).containsExactly(monday.plusWeeks(1));
+
+        assertThatThrownBy(() -> trainService.getRunExceptions(UNKNOWN_TRAIN_ID)).isInstanceOf(TrainNotFoundException.class);
+    }
+
+    @Test
+    void bulkExceptionsApplyToEveryTrainOrNone() {
+        long first = createMondayTrain("Bulk Run Exception Express");
+        long second = createMondayTrain("Bulk Run Exception Mail");
+        LocalDate date = monday.plusWeeks(3);
+
+        assertThatThrownBy(() -> trainService.applyRunExceptions(new BulkRunExceptionRequest(List.of(first, UNKNOWN_TRAIN_ID),
+                List.of(date), RunExceptionType.CANCELLED, "Unknown train")))
+                .isInstanceOf(TrainNotFoundException.class);
+        assertThat(trainService.getRunExceptions(first)).isEmpty();
+
+        // Repeated trains and dates count once
+        BulkRunExceptionResponse applied = trainService.applyRunExceptions(new BulkRunExceptionRequest(
+                List.of(first, second, first), List.of(date, date), RunExceptionType.CANCELLED, "Line block"));
+        assertThat(applied.getTrainCount()).isEqualTo(2);
+        assertThat(applied.getDateCount()).isEqualTo(1);
+        assertThat(applied.getExceptionsApplied()).isEqualTo(2);
+        assertThat(trainIds(trainService.getAvailableTrainsForDate(SOURCE, DESTINATION, date))).doesNotContain(first, second);
+
+        assertThat(trainService.clearRunExceptions(date, List.of(first, second))).isEqualTo(2);
+        assertThat(trainIds(trainService.getAvailableTrainsForDate(SOURCE, DESTINATION, date))).contains(first, second);
+    }
+
+    private long createMondayTrain(String trainName) {
+        TrainRequest request = new TrainRequest(trainName, SOURCE, DESTINATION, LocalTime.of(23, 0), 6, 0, TrainStatus.ACTIVE);
+        request.setScheduleDays(List.of("MON"));
+        request.setFareTypes(List.of(new FareTypeRequest(ClassType.SL, new BigDecimal("210.00"), 30)));
+        return trainService.createTrain(request).getTrainId();
+    }
+
+    private static List<Long> trainIds(List<TrainResponse> trains) {
+        return trains.stream().map(TrainResponse::getTrainId).toList();
+    }
+}
@@ -0,0 +1,86 @@
+package com.tcs.trainTicketManagementSystem.train.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.tcs.trainTicketManagementSystem.booking.repository.SeatInventoryRepository;
+import com.tcs.trainTicketManagementSystem.booking.service.SeatInventoryService;
+import com.tcs.trainTicketManagementSystem.train.dto.FareTypeRequest;
+import com.tcs.trainTicketManagementSystem.train.dto.TrainRequest;
+import com.tcs.trainTicketManagementSystem.train.dto.TrainResponse;
+import com.tcs.trainTicketManagementSystem.train.model.ClassType;
+import com.tcs.trainTicketManagementSystem.train.model.DayOfWeek;
+import com.tcs.trainTicketManagementSystem.train.model.TrainStatus;
+import com.tcs.trainTicketManagementSystem.train.repository.FareTypeRepository;
+import com.tcs.trainTicketManagementSystem.train.repository.TrainRepository;
+
+/**
+ * Verifies that schedule days are stored as a running-days mask with duplicates collapsed and unknown days
+ * skipped, and that day searches and seat inventory materialization follow the mask as it is updated.
+ */
+@SpringBootTest
+class TrainServiceImplRunningDaysTests {
+
+    @Autowired
+    private TrainService trainService;
+
+    @Autowired
+    private TrainRepository trainRepository;
+
+    @Autowired
+    private FareTypeRepository fareTypeRepository;
+
+    @Autowired
+    private SeatInventoryService seatInventoryService;
+
+    @Autowired
+    private SeatInventoryRepository seatInventoryRepository;
+
+    @Test
+    void runningDaysFollowTheScheduleDays() {
+        TrainRequest request = new TrainRequest("Running Days Test Express", "Udaipur", "Ajmer", LocalTime.of(8, 0), 5, 0,
+                TrainStatus.ACTIVE);
+        request.setScheduleDays(List.of("mon", "WED", "WED", "FUNDAY"));
+        request.setFareTypes(List.of(new FareTypeRequest(ClassType.SL, new BigDecimal("160.00"), 30)));
+        long trainId = trainService.createTrain(request).getTrainId();
+        long fareTypeId = fareTypeRepository.findByTrainTrainId(trainId).get(0).getFareTypeId();
+
+        assertThat(trainRepository.findById(trainId).orElseThrow().getRunningDaysMask())
+                .isEqualTo(DayOfWeek.MON.mask() | DayOfWeek.WED.mask());
+        assertThat(trainService.getTrainById(trainId).getScheduleDays()).containsExactly("MON", "WED");
+        assertThat(trainIds(trainService.getTrainsByScheduleDay("wed"))).contains(trainId);
+        assertThat(trainIds(trainService.getTrainsByScheduleDay("TUE"))).doesNotContain(trainId);
+
+        // Inventory rows are materialized for running days only
+        LocalDate monday = LocalDate.now().with(TemporalAdjusters.next(java.time.DayOfWeek.MONDAY));
+        seatInventoryService.materializeHorizon();
+        assertThat(seatInventoryRepository.findByFareTypeIdAndJourneyDate(fareTypeId, monday)).isPresent();
+        assertThat(seatInventoryRepository.findByFareTypeIdAndJourneyDate(fareTypeId, monday.plusDays(1))).isEmpty();
+        assertThat(seatInventoryRepository.findByFareTypeIdAndJourneyDate(fareTypeId, monday.plusDays(2))).isPresent();
+
+        request.setFareTypes(null);
+        request.setScheduleDays(List.of("SUN"));
+        trainService.updateTrain(trainId, request);
+        assertThat(trainRepository.findById(trainId).orElseThrow().getRunningDaysMask()).isEqualTo(DayOfWeek.SUN.mask());
+        assertThat(trainIds(trainService.getTrainsByScheduleDay("MON"))).doesNotContain(trainId);
+        assertThat(trainIds(trainService.getTrainsByScheduleDayAndRoute("SUN", "Udaipur", "Ajmer"))).containsExactly(trainId);
+
+        request.setScheduleDays(List.of());
+        trainService.updateTrain(trainId, request);
+        assertThat(trainRepository.findById(trainId).orElseThrow().getRunningDays()).isEmpty();
+        assertThat(trainService.getTrainById(trainId).getScheduleDays()).isEmpty();
+    }
+
+    private static List<Long> trainIds(List<TrainResponse> trains) {
+        return trains.stream().map(TrainResponse::getTrainId).toList();
+    }
+}
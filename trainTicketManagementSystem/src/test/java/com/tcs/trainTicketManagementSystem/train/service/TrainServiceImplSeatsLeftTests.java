@@ -0,0 +1,90 @@
+package com.tcs.trainTicketManagementSystem.train.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.tcs.trainTicketManagementSystem.booking.dto.BookingRequest;
+import com.tcs.trainTicketManagementSystem.booking.dto.PassengerRequest;
+import com.tcs.trainTicketManagementSystem.booking.service.BookingService;
+import com.tcs.trainTicketManagementSystem.train.dto.FareTypeRequest;
+import com.tcs.trainTicketManagementSystem.train.dto.TrainRequest;
+import com.tcs.trainTicketManagementSystem.train.dto.TrainResponse;
+import com.tcs.trainTicketManagementSystem.train.dto.TrainSearchRequest;
+import com.tcs.trainTicketManagementSystem.train.model.ClassType;
+import com.tcs.trainTicketManagementSystem.train.model.TrainStatus;
+import com.tcs.trainTicketManagementSystem.train.repository.FareTypeRepository;
+
+/**
+ * Verifies that date searches read the seats left on that date, so a train sold out on one date is still
+ * found on the others and its fares show the seats left rather than the seats per run.
+ */
+@SpringBootTest
+class TrainServiceImplSeatsLeftTests {
+
+    @Autowired
+    private TrainService trainService;
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private FareTypeRepository fareTypeRepository;
+
+    @Test
+    void soldOutDateIsLeftOutOfDateSearches() {
+        long trainId = trainService.createTrain(seatsLeftTrain()).getTrainId();
+        long fareTypeId = fareTypeRepository.findByTrainTrainId(trainId).get(0).getFareTypeId();
+        LocalDate soldOut = LocalDate.now().plusWeeks(10).with(TemporalAdjusters.next(DayOfWeek.TUESDAY));
+        LocalDate open = soldOut.plusWeeks(1);
+
+        bookingService.createBooking(booking(trainId, fareTypeId, soldOut));
+        int left = bookingService.getAvailableSeats(fareTypeId, soldOut);
+        assertThat(seatsShown(trainService.getAvailableTrainsForDate("Kochi", "Kollam", soldOut))).containsExactly(left);
+        assertThat(seatsShown(trainService.searchTrains(new TrainSearchRequest("Kochi", "Kollam", soldOut))))
+                .containsExactly(left);
+
+        for (int i = 0; i < left; i++) {
+            bookingService.createBooking(booking(trainId, fareTypeId, soldOut));
+        }
+
+        assertThat(trainService.getAvailableTrainsForDate("Kochi", "Kollam", soldOut)).isEmpty();
+        assertThat(trainService.searchTrains(new TrainSearchRequest("Kochi", "Kollam", soldOut))).isEmpty();
+        assertThat(seatsShown(trainService.searchTrains(new TrainSearchRequest("Kochi", "Kollam", open))))
+                .containsExactly(bookingService.getAvailableSeats(fareTypeId, open));
+
+        // Without a date a train is listed while any upcoming run has seats left
+        assertThat(trainService.getTrainsWithAvailableSeatsForRoute("Kochi", "Kollam"))
+                .extracting(TrainResponse::getTrainId)
+                .containsExactly(trainId);
+    }
+
+    private static List<Integer> seatsShown(List<TrainResponse> trains) {
+        return trains.stream()
+                .flatMap(train -> train.getFareTypes().stream())
+                .map(fare -> fare.getSeatsAvailable())
+                .toList();
+    }
+
+    private static BookingRequest booking(long trainId, long fareTypeId, LocalDate journeyDate) {
+        return new BookingRequest(2L, trainId, fareTypeId, journeyDate, new BigDecimal("150.00"),
+                List.of(new PassengerRequest("Seats Left Passenger", 29, "MALE", "900000000801")));
+    }
+
+    private static TrainRequest seatsLeftTrain() {
+        TrainRequest request = new TrainRequest("Seats Left Test Express", "Kochi", "Kollam", LocalTime.of(8, 0), 3, 0,
+                TrainStatus.ACTIVE);
+        request.setScheduleDays(List.of("TUE"));
+        request.setFareTypes(List.of(new FareTypeRequest(ClassType.SL, new BigDecimal("150.00"), 10)));
+        return request;
+    }
+}
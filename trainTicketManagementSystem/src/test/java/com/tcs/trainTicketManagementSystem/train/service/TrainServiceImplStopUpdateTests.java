@@ -0,0 +1,106 @@
+package com.tcs.trainTicketManagementSystem.train.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.tcs.trainTicketManagementSystem.booking.dto.BookingRequest;
+import com.tcs.trainTicketManagementSystem.booking.dto.BookingResponse;
+import com.tcs.trainTicketManagementSystem.booking.dto.PassengerRequest;
+import com.tcs.trainTicketManagementSystem.booking.service.BookingService;
+import com.tcs.trainTicketManagementSystem.train.dto.FareTypeRequest;
+import com.tcs.trainTicketManagementSystem.train.dto.TrainRequest;
+import com.tcs.trainTicketManagementSystem.train.dto.TrainStopRequest;
+import com.tcs.trainTicketManagementSystem.train.model.ClassType;
+import com.tcs.trainTicketManagementSystem.train.model.TrainStatus;
+import com.tcs.trainTicketManagementSystem.train.model.TrainStop;
+import com.tcs.trainTicketManagementSystem.train.repository.FareTypeRepository;
+import com.tcs.trainTicketManagementSystem.train.repository.TrainStopRepository;
+
+/**
+ * Verifies that updating a train keeps its stop rows when the stations do not change, updates stop timings in
+ * place, and refuses to change the stations while part-route bookings refer to them by sequence.
+ */
+@SpringBootTest
+class TrainServiceImplStopUpdateTests {
+
+    @Autowired
+    private TrainService trainService;
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private FareTypeRepository fareTypeRepository;
+
+    @Autowired
+    private TrainStopRepository stopRepository;
+
+    @Test
+    void stationsAreFixedWhileUpcomingBookingsReferToThem() {
+        TrainRequest request = stopsTrain(List.of(new TrainStopRequest("Kottayam", 60, 65),
+                new TrainStopRequest("Alappuzha", 120, 125)));
+        long trainId = trainService.createTrain(request).getTrainId();
+        long fareTypeId = fareTypeRepository.findByTrainTrainId(trainId).get(0).getFareTypeId();
+        List<Long> stopIds = stopIds(trainId);
+
+        // Updating anything else leaves the stop rows alone
+        request.setFareTypes(null);
+        request.setStops(null);
+        request.setStatus(TrainStatus.INACTIVE);
+        trainService.updateTrain(trainId, request);
+        assertThat(stopIds(trainId)).isEqualTo(stopIds);
+        request.setStatus(TrainStatus.ACTIVE);
+        trainService.updateTrain(trainId, request);
+
+        BookingRequest booking = new BookingRequest(2L, trainId, fareTypeId, LocalDate.now().plusWeeks(3),
+                new BigDecimal("120.00"), List.of(new PassengerRequest("Stop Update Passenger", 38, "MALE", "900000000901")));
+        booking.setBoardingStation("Kottayam");
+        booking.setAlightingStation("Alappuzha");
+        BookingResponse booked = bookingService.createBooking(booking);
+
+        // New timings for the same stations are written to the same rows
+        request.setStops(List.of(new TrainStopRequest("Kottayam", 70, 75), new TrainStopRequest("Alappuzha", 130, 135)));
+        trainService.updateTrain(trainId, request);
+        assertThat(stopIds(trainId)).isEqualTo(stopIds);
+        assertThat(stopRepository.findByTrainTrainIdOrderByStopSequence(trainId))
+                .extracting(TrainStop::getArrivalOffsetMinutes)
+                .containsExactly(0, 70, 130, 240);
+
+        request.setStops(List.of(new TrainStopRequest("Alappuzha", 130, 135)));
+        assertThatThrownBy(() -> trainService.updateTrain(trainId, request))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("upcoming bookings");
+        assertThat(stopIds(trainId)).isEqualTo(stopIds);
+
+        // Once nothing refers to the stops, the stations can change
+        bookingService.cancelBooking(booked.getBookingId());
+        trainService.updateTrain(trainId, request);
+        assertThat(stopRepository.findByTrainTrainIdOrderByStopSequence(trainId))
+                .extracting(TrainStop::getStation)
+                .containsExactly("Ernakulam", "Alappuzha", "Kayamkulam");
+    }
+
+    private List<Long> stopIds(long trainId) {
+        return stopRepository.findByTrainTrainIdOrderByStopSequence(trainId).stream()
+                .map(TrainStop::getStopId)
+                .toList();
+    }
+
+    private static TrainRequest stopsTrain(List<TrainStopRequest> stops) {
+        TrainRequest request = new TrainRequest("Stop Update Test Express", "Ernakulam", "Kayamkulam", LocalTime.of(7, 0), 4, 0,
+                TrainStatus.ACTIVE);
+        request.setScheduleDays(List.of("MON", "TUE", "WED", "THU", "FRI", "SAT", "SUN"));
+        request.setFareTypes(List.of(new FareTypeRequest(ClassType.SL, new BigDecimal("120.00"), 20)));
+        request.setStops(stops);
+        return request;
+    }
+}